@@ -44,6 +44,7 @@ abstract class AbstractNamedObject implements NamedObject {
 
   private final String name;
   private transient NamedObjectKey key;
+  private transient volatile long fingerprint;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -104,6 +105,19 @@ abstract class AbstractNamedObject implements NamedObject {
     return getFullName();
   }
 
+  /**
+   * Cached content fingerprint.
+   *
+   * @return Fingerprint, or 0 if it has not been computed
+   */
+  long getFingerprint() {
+    return fingerprint;
+  }
+
+  void setFingerprint(final long fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
   private void buildKey() {
     if (key != null) {
       return;
@@ -35,7 +35,13 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -49,12 +55,23 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.utility.TypeMap;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
 
 /** Base class for retriever that uses database metadata to get the details about the schema. */
 @Retriever
 abstract class AbstractRetriever {
 
+  /** Retrieval of metadata for all the tables in a single schema. */
+  @FunctionalInterface
+  interface SchemaRetrieval {
+    void retrieve(Schema schema, List<MutableTable> schemaTables) throws SQLException;
+  }
+
   private static final Logger LOGGER = Logger.getLogger(AbstractRetriever.class.getName());
   final MutableCatalog catalog;
   private final SchemaCrawlerOptions options;
@@ -101,6 +118,14 @@ abstract class AbstractRetriever {
     return belongsToCatalog && belongsToSchema;
   }
 
+  /** Counts a catalog object created by the retrieval task running on the current thread. */
+  final void countObject() {
+    final MutableRetrievalMetrics retrievalMetrics = getRetrievalMetrics();
+    if (retrievalMetrics != null) {
+      retrievalMetrics.countObject();
+    }
+  }
+
   final Statement createStatement() throws SQLException {
     return retrieverConnection.getConnection().createStatement();
   }
@@ -113,6 +138,10 @@ abstract class AbstractRetriever {
     return retrieverConnection.getMetaData();
   }
 
+  final MutableRetrievalMetrics getRetrievalMetrics() {
+    return retrieverConnection.lookupRetrievalMetrics();
+  }
+
   final RetrieverConnection getRetrieverConnection() {
     return retrieverConnection;
   }
@@ -172,31 +201,36 @@ abstract class AbstractRetriever {
       final int javaSqlTypeInt,
       final String databaseSpecificTypeName,
       final String mappedClassName) {
-    MutableColumnDataType columnDataType =
-        catalog
-            .lookupColumnDataType(schema, databaseSpecificTypeName)
-            .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null) {
-      columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName)) {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName)) {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+    // Schemas may be retrieved in parallel, so creation of data types is serialized
+    synchronized (catalog) {
+      MutableColumnDataType columnDataType =
+          catalog
+              .lookupColumnDataType(schema, databaseSpecificTypeName)
+              .orElse(catalog.lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null) {
+        columnDataType = new MutableColumnDataType(schema, databaseSpecificTypeName, type);
+        final JavaSqlType javaSqlType =
+            retrieverConnection.getJavaSqlTypes().valueOf(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName)) {
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName)) {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          } else {
+            mappedClass = typeMap.get(javaSqlType.getName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         } else {
-          mappedClass = typeMap.get(javaSqlType.getName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      } else {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+        countObject();
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(
@@ -213,6 +247,98 @@ abstract class AbstractRetriever {
     return catalog.lookupTable(new NamedObjectKey(catalogName, schemaName, tableName));
   }
 
+  /**
+   * Runs a retrieval once for each schema that contains at least one of the provided tables, and
+   * passes in the tables for that schema. If worker connections are available, schemas are
+   * retrieved in parallel, with each schema retrieval using its own worker connection. Otherwise,
+   * schemas are retrieved one after another on the current thread.
+   *
+   * @param retrievalName Name of the retrieval, for logging
+   * @param allTables Tables to find schemas for
+   * @param schemaRetrieval Retrieval to run for each schema
+   * @throws SQLException On an exception that the schema retrieval does not handle
+   */
+  final void retrieveForEachSchema(
+      final String retrievalName,
+      final NamedObjectList<MutableTable> allTables,
+      final SchemaRetrieval schemaRetrieval)
+      throws SQLException {
+    requireNonNull(schemaRetrieval, "No schema retrieval provided");
+
+    final Map<Schema, List<MutableTable>> schemaTables = new LinkedHashMap<>();
+    for (final MutableTable table : allTables) {
+      schemaTables.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+
+    if (!retrieverConnection.hasWorkerConnections() || schemaTables.size() < 2) {
+      for (final Entry<Schema, List<MutableTable>> schemaEntry : schemaTables.entrySet()) {
+        final Schema schema = schemaEntry.getKey();
+        LOGGER.log(
+            Level.FINE, new StringFormat("Running <%s> for schema <%s>", retrievalName, schema));
+        schemaRetrieval.retrieve(schema, schemaEntry.getValue());
+      }
+      return;
+    }
+
+    // Schema retrievals that run on other threads check out their own worker connections, and
+    // count towards the metrics of the retrieval that is running on the current thread
+    final Thread callingThread = Thread.currentThread();
+    final MutableRetrievalMetrics retrievalMetrics = getRetrievalMetrics();
+    final List<TaskDefinition> taskDefinitions = new ArrayList<>();
+    int schemaIndex = 0;
+    for (final Entry<Schema, List<MutableTable>> schemaEntry : schemaTables.entrySet()) {
+      final Schema schema = schemaEntry.getKey();
+      final List<MutableTable> tables = schemaEntry.getValue();
+      schemaIndex++;
+      taskDefinitions.add(
+          new TaskDefinition(
+              String.format("%sForSchema%d", retrievalName, schemaIndex),
+              () -> {
+                final boolean isWorkerThread = Thread.currentThread() != callingThread;
+                if (isWorkerThread && retrievalMetrics != null) {
+                  retrieverConnection.startRetrieval(retrievalMetrics);
+                }
+                try {
+                  LOGGER.log(
+                      Level.FINE,
+                      new StringFormat("Running <%s> for schema <%s>", retrievalName, schema));
+                  schemaRetrieval.retrieve(schema, tables);
+                } finally {
+                  if (isWorkerThread) {
+                    retrieverConnection.completeRetrieval();
+                  }
+                }
+              }));
+    }
+
+    final TaskRunner taskRunner =
+        TaskRunners.getConcurrentTaskRunner(
+            retrievalName, options.getLoadOptions().getMaxThreads());
+    try {
+      taskRunner.run(taskDefinitions.toArray(new TaskDefinition[taskDefinitions.size()]));
+    } catch (final Exception e) {
+      // Rethrow the exception from the schema retrieval, the same way as a sequential retrieval
+      // would, rather than the exception from the task runner that wraps it
+      for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+        if (cause instanceof SQLException) {
+          throw (SQLException) cause;
+        }
+      }
+      if (e instanceof RuntimeException) {
+        throw (RuntimeException) e;
+      } else {
+        throw new ExecutionRuntimeException(e);
+      }
+    } finally {
+      try {
+        taskRunner.stop();
+      } catch (final ExecutionException e) {
+        LOGGER.log(Level.WARNING, e, new StringFormat("Could not stop <%s>", retrievalName));
+      }
+      LOGGER.log(Level.FINE, taskRunner.report());
+    }
+  }
+
   final String normalizeCatalogName(final String name) {
     if (retrieverConnection.isSupportsCatalogs()) {
       return name;
@@ -0,0 +1,835 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.IOException;
+import java.sql.DriverPropertyInfo;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Reads a catalog from JSON or YAML that was written by {@link CatalogJsonWriter}. The top level
+ * arrays are streamed, and only one table or routine is held as a tree at any time. Objects are
+ * expected in the order that they are written, since foreign keys, weak associations and synonyms
+ * are resolved against tables and routines that have already been read.
+ */
+public final class CatalogJsonReader {
+
+  @FunctionalInterface
+  private interface NodeReader {
+    void read(JsonNode node) throws IOException;
+  }
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private final JsonParser parser;
+  private String catalogName;
+  private JsonNode catalogAttributes;
+  private JsonNode crawlInfoNode;
+  private JsonNode databaseInfoNode;
+  private JsonNode jdbcDriverInfoNode;
+  private JsonNode databaseUsersNode;
+  private MutableCatalog catalog;
+  private final List<Schema> schemas;
+  private final List<MutableColumnDataType> columnDataTypes;
+  private final Map<MutableView, JsonNode> viewTableUsage;
+  private final Map<MutableTable, JsonNode> tableReferencedConstraints;
+
+  /**
+   * Reads a catalog from a parser. The parser is not closed.
+   *
+   * @param parser JSON or YAML parser
+   */
+  public CatalogJsonReader(final JsonParser parser) {
+    this.parser = requireNonNull(parser, "No JSON parser provided");
+    if (parser.getCodec() == null) {
+      parser.setCodec(mapper);
+    }
+    schemas = new ArrayList<>();
+    columnDataTypes = new ArrayList<>();
+    viewTableUsage = new LinkedHashMap<>();
+    tableReferencedConstraints = new LinkedHashMap<>();
+  }
+
+  /**
+   * Reads the catalog.
+   *
+   * @return Catalog
+   * @throws IOException On an exception reading the input, or if it is not a catalog that can be
+   *     read by this version of SchemaCrawler
+   */
+  public Catalog read() throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Not a SchemaCrawler catalog");
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "format-version":
+          final int formatVersion = parser.getIntValue();
+          if (formatVersion > CatalogJsonWriter.FORMAT_VERSION) {
+            throw new IOException(
+                String.format(
+                    "Cannot read catalog format version <%d>, expected version <%d> or earlier",
+                    formatVersion, CatalogJsonWriter.FORMAT_VERSION));
+          }
+          break;
+        case "name":
+          catalogName = parser.getValueAsString();
+          break;
+        case "attributes":
+          catalogAttributes = parser.readValueAsTree();
+          break;
+        case "crawl-info":
+          crawlInfoNode = parser.readValueAsTree();
+          break;
+        case "database-info":
+          databaseInfoNode = parser.readValueAsTree();
+          break;
+        case "jdbc-driver-info":
+          jdbcDriverInfoNode = parser.readValueAsTree();
+          break;
+        case "database-users":
+          databaseUsersNode = parser.readValueAsTree();
+          break;
+        case "schemas":
+          createCatalog();
+          readArray(this::readSchema);
+          break;
+        case "column-data-types":
+          readColumnDataTypes();
+          break;
+        case "tables":
+          readArray(this::readTable);
+          break;
+        case "routines":
+          readArray(this::readRoutine);
+          break;
+        case "sequences":
+          readArray(this::readSequence);
+          break;
+        case "synonyms":
+          readArray(this::readSynonym);
+          break;
+        case "foreign-keys":
+          readArray(this::readForeignKey);
+          break;
+        case "weak-associations":
+          readArray(this::readWeakAssociation);
+          break;
+        default:
+          parser.skipChildren();
+          break;
+      }
+    }
+    if (catalog == null) {
+      throw new IOException("No schemas in catalog");
+    }
+
+    linkViewTableUsage();
+    linkTableConstraints();
+
+    return catalog;
+  }
+
+  private Schema schema(final JsonNode node) throws IOException {
+    final int schemaId = node.path("schema").asInt(-1);
+    if (schemaId < 0 || schemaId >= schemas.size()) {
+      throw new IOException(String.format("Unknown schema <%d> in catalog", schemaId));
+    }
+    return schemas.get(schemaId);
+  }
+
+  private void createCatalog() throws IOException {
+    if (crawlInfoNode == null || databaseInfoNode == null || jdbcDriverInfoNode == null) {
+      throw new IOException("No crawl, database or JDBC driver information in catalog");
+    }
+
+    final ImmutableConnectionInfo connectionInfo =
+        new ImmutableConnectionInfo(
+            text(databaseInfoNode, "product-name"),
+            text(databaseInfoNode, "product-version"),
+            text(jdbcDriverInfoNode, "connection-url"),
+            text(databaseInfoNode, "user-name"),
+            text(jdbcDriverInfoNode, "product-name"),
+            text(jdbcDriverInfoNode, "product-version"),
+            jdbcDriverInfoNode.path("driver-major-version").asInt(),
+            jdbcDriverInfoNode.path("driver-minor-version").asInt(),
+            jdbcDriverInfoNode.path("jdbc-major-version").asInt(),
+            jdbcDriverInfoNode.path("jdbc-minor-version").asInt());
+
+    final List<RetrievalMetrics> retrievalMetrics = new ArrayList<>();
+    for (final JsonNode metricsNode : crawlInfoNode.path("retrieval-metrics")) {
+      retrievalMetrics.add(
+          MutableRetrievalMetrics.restore(
+              text(metricsNode, "retrieval-name"),
+              text(metricsNode, "thread-name"),
+              Duration.parse(metricsNode.path("duration").asText("PT0S")),
+              metricsNode.path("object-count").asLong(),
+              metricsNode.path("query-count").asLong(),
+              metricsNode.path("row-count").asLong()));
+    }
+    final MutableCrawlInfo crawlInfo =
+        new MutableCrawlInfo(
+            Instant.parse(crawlInfoNode.path("crawl-timestamp").asText()),
+            UUID.fromString(crawlInfoNode.path("run-id").asText()),
+            productVersion(crawlInfoNode.path("schemacrawler-version")),
+            productVersion(crawlInfoNode.path("operating-system-version")),
+            productVersion(crawlInfoNode.path("jvm-version")),
+            productVersion(crawlInfoNode.path("database-version")),
+            productVersion(crawlInfoNode.path("jdbc-driver-version")),
+            retrievalMetrics);
+
+    catalog = new MutableCatalog(catalogName, connectionInfo, crawlInfo);
+    readAttributes(catalogAttributes, catalog);
+
+    final MutableDatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    for (final JsonNode propertyNode : databaseInfoNode.path("server-info")) {
+      databaseInfo.addServerInfo(
+          new ImmutableServerInfoProperty(
+              text(propertyNode, "name"),
+              text(propertyNode, "value"),
+              text(propertyNode, "description")));
+    }
+    final List<ImmutableDatabaseProperty> databaseProperties = new ArrayList<>();
+    for (final JsonNode propertyNode : databaseInfoNode.path("properties")) {
+      databaseProperties.add(
+          new ImmutableDatabaseProperty(
+              text(propertyNode, "name"), value(propertyNode.get("value"))));
+    }
+    databaseInfo.addAll(databaseProperties);
+
+    final MutableJdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    jdbcDriverInfo.setJdbcDriverClassName(text(jdbcDriverInfoNode, "driver-class-name"));
+    jdbcDriverInfo.setJdbcCompliant(jdbcDriverInfoNode.path("jdbc-compliant").asBoolean());
+    for (final JsonNode propertyNode : jdbcDriverInfoNode.path("driver-properties")) {
+      final DriverPropertyInfo driverPropertyInfo =
+          new DriverPropertyInfo(text(propertyNode, "name"), text(propertyNode, "value"));
+      driverPropertyInfo.description = text(propertyNode, "description");
+      driverPropertyInfo.required = propertyNode.path("required").asBoolean();
+      final List<String> choices = texts(propertyNode.path("choices"));
+      if (!choices.isEmpty()) {
+        driverPropertyInfo.choices = choices.toArray(new String[0]);
+      }
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    if (databaseUsersNode != null) {
+      for (final JsonNode databaseUserNode : databaseUsersNode) {
+        final ImmutableDatabaseUser databaseUser =
+            new ImmutableDatabaseUser(text(databaseUserNode, "name"));
+        readAttributes(databaseUserNode.get("attributes"), databaseUser);
+        catalog.addDatabaseUser(databaseUser);
+      }
+    }
+  }
+
+  private <E extends Enum<E>> E enumValue(
+      final JsonNode node, final String fieldName, final E defaultValue) {
+    final String name = text(node, fieldName);
+    if (name == null) {
+      return defaultValue;
+    }
+    try {
+      return Enum.valueOf(defaultValue.getDeclaringClass(), name);
+    } catch (final IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  /** Links views to the tables that they use, once all tables have been read. */
+  private void linkViewTableUsage() throws IOException {
+    for (final Entry<MutableView, JsonNode> entry : viewTableUsage.entrySet()) {
+      for (final JsonNode tableNode : entry.getValue()) {
+        final Optional<MutableTable> optionalTable =
+            catalog.lookupTable(schema(tableNode), text(tableNode, "name"));
+        if (optionalTable.isPresent()) {
+          entry.getKey().addTableUsage(optionalTable.get());
+        }
+      }
+    }
+  }
+
+  /**
+   * Table constraints that are foreign keys or weak associations can only be linked to their tables
+   * once the references have been read.
+   */
+  private void linkTableConstraints() {
+    for (final Entry<MutableTable, JsonNode> entry : tableReferencedConstraints.entrySet()) {
+      final MutableTable table = entry.getKey();
+      for (final JsonNode constraintNode : entry.getValue()) {
+        final String kind = text(constraintNode, "kind");
+        final String constraintName = text(constraintNode, "name");
+        if (CatalogJsonWriter.CONSTRAINT_FOREIGN_KEY.equals(kind)) {
+          table.lookupForeignKey(constraintName).ifPresent(table::addTableConstraint);
+        } else if (CatalogJsonWriter.CONSTRAINT_WEAK_ASSOCIATION.equals(kind)) {
+          for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+            if (weakAssociation.getName().equals(constraintName)) {
+              table.addTableConstraint(weakAssociation);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private Column lookupOrCreateColumn(final JsonNode node) throws IOException {
+    return RetrieverUtility.lookupOrCreateColumn(
+        catalog, schema(node), text(node, "table"), text(node, "name"));
+  }
+
+  private Column lookupOrCreateColumn(final MutableTable table, final String columnName) {
+    final Optional<MutableColumn> optionalColumn = table.lookupColumn(columnName);
+    if (optionalColumn.isPresent()) {
+      return optionalColumn.get();
+    }
+    return new ColumnPartial(table, columnName);
+  }
+
+  /** Reads each element of an array as a tree, so only one element is held at any time. */
+  private void readArray(final NodeReader nodeReader) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return;
+    }
+    if (token != JsonToken.START_ARRAY) {
+      throw new IOException("Expected an array in catalog, but found " + token);
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      nodeReader.read(parser.readValueAsTree());
+    }
+  }
+
+  private ProductVersion productVersion(final JsonNode node) {
+    return new BaseProductVersion(text(node, "product-name"), text(node, "product-version"));
+  }
+
+  private void readAttributes(final JsonNode node, final AttributedObject object) {
+    if (node == null) {
+      return;
+    }
+    final Iterator<Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      final Entry<String, JsonNode> field = fields.next();
+      object.setAttribute(field.getKey(), value(field.getValue()));
+    }
+  }
+
+  private void readColumnDataTypes() throws IOException {
+    final List<Integer> baseTypeIds = new ArrayList<>();
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    readArray(
+        node -> {
+          final MutableColumnDataType columnDataType =
+              new MutableColumnDataType(
+                  schema(node), text(node, "name"), enumValue(node, "type", DataTypeType.system));
+          baseTypeIds.add(node.path("base-type").asInt(-1));
+          columnDataType.setAutoIncrementable(node.path("auto-incrementable").asBoolean());
+          columnDataType.setCaseSensitive(node.path("case-sensitive").asBoolean());
+          columnDataType.setCreateParameters(text(node, "create-parameters"));
+          columnDataType.setEnumValues(texts(node.path("enum-values")));
+          columnDataType.setFixedPrecisionScale(node.path("fixed-precision-scale").asBoolean());
+          columnDataType.setJavaSqlType(javaSqlTypes.valueOf(node.path("java-sql-type").asInt()));
+          columnDataType.setLiteralPrefix(text(node, "literal-prefix"));
+          columnDataType.setLiteralSuffix(text(node, "literal-suffix"));
+          columnDataType.setLocalTypeName(text(node, "local-type-name"));
+          columnDataType.setMaximumScale(node.path("maximum-scale").asInt());
+          columnDataType.setMinimumScale(node.path("minimum-scale").asInt());
+          columnDataType.setNullable(node.path("nullable").asBoolean());
+          columnDataType.setNumPrecisionRadix(node.path("num-precision-radix").asInt());
+          columnDataType.setPrecision(node.path("precision").asLong());
+          columnDataType.setSearchable(enumValue(node, "searchable", SearchableType.unknown));
+          columnDataType.setTypeMappedClass(text(node, "type-mapped-class"));
+          columnDataType.setUnsigned(node.path("unsigned").asBoolean());
+          readAttributes(node.get("attributes"), columnDataType);
+          if (node.path("in-catalog").asBoolean()) {
+            catalog.addColumnDataType(columnDataType);
+          }
+          columnDataTypes.add(columnDataType);
+        });
+    for (int i = 0; i < baseTypeIds.size(); i++) {
+      final int baseTypeId = baseTypeIds.get(i);
+      if (baseTypeId >= 0 && baseTypeId < columnDataTypes.size()) {
+        columnDataTypes.get(i).setBaseType(columnDataTypes.get(baseTypeId));
+      }
+    }
+  }
+
+  private void readColumnFields(final JsonNode node, final AbstractColumn<?> column) {
+    final int columnDataTypeId = node.path("column-data-type").asInt(-1);
+    if (columnDataTypeId >= 0 && columnDataTypeId < columnDataTypes.size()) {
+      column.setColumnDataType(columnDataTypes.get(columnDataTypeId));
+    }
+    column.setSize(node.path("size").asInt());
+    column.setDecimalDigits(node.path("decimal-digits").asInt());
+    column.setNullable(node.path("nullable").asBoolean());
+    column.setOrdinalPosition(node.path("ordinal-position").asInt());
+    readAttributes(node.get("attributes"), column);
+  }
+
+  private MutableTableConstraint readConstraint(
+      final JsonNode node, final MutableTable table, final MutableTableConstraint constraint) {
+    if (!(constraint instanceof MutablePrimaryKey)) {
+      constraint.setTableConstraintType(
+          enumValue(node, "constraint-type", TableConstraintType.unknown));
+      constraint.setDeferrable(node.path("deferrable").asBoolean());
+      constraint.setInitiallyDeferred(node.path("initially-deferred").asBoolean());
+    }
+    constraint.appendDefinition(text(node, "definition"));
+    readAttributes(node.get("attributes"), constraint);
+    for (final JsonNode columnNode : node.path("columns")) {
+      final Column column = lookupOrCreateColumn(table, text(columnNode, "name"));
+      final MutableTableConstraintColumn constraintColumn =
+          new MutableTableConstraintColumn(constraint, column);
+      constraintColumn.setKeyOrdinalPosition(columnNode.path("key-ordinal-position").asInt());
+      constraintColumn.appendDefinition(text(columnNode, "definition"));
+      readAttributes(columnNode.get("attributes"), constraintColumn);
+      constraint.addColumn(constraintColumn);
+    }
+    return constraint;
+  }
+
+  private void readForeignKey(final JsonNode node) throws IOException {
+    final String foreignKeyName = text(node, "name");
+    MutableForeignKey foreignKey = null;
+    for (final JsonNode columnReferenceNode : node.path("column-references")) {
+      final int keySequence = columnReferenceNode.path("key-sequence").asInt();
+      final Column fkColumn = lookupOrCreateColumn(columnReferenceNode.path("foreign-key-column"));
+      final Column pkColumn = lookupOrCreateColumn(columnReferenceNode.path("primary-key-column"));
+
+      final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
+      final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
+      if (isFkColumnPartial && isPkColumnPartial) {
+        continue;
+      }
+
+      final ColumnReference columnReference =
+          new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+      if (foreignKey == null) {
+        foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
+      } else {
+        foreignKey.addColumnReference(columnReference);
+      }
+
+      final Table fkTable = fkColumn.getParent();
+      final Table pkTable = pkColumn.getParent();
+      if (fkColumn instanceof MutableColumn) {
+        ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
+        ((MutableTable) fkTable).addForeignKey(foreignKey);
+      } else if (isFkColumnPartial) {
+        ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+        ((TablePartial) fkTable).addForeignKey(foreignKey);
+      }
+      if (pkColumn instanceof MutableColumn) {
+        ((MutableTable) pkTable).addForeignKey(foreignKey);
+      } else if (isPkColumnPartial) {
+        ((TablePartial) pkTable).addForeignKey(foreignKey);
+      }
+    }
+    if (foreignKey == null) {
+      return;
+    }
+    foreignKey.setUpdateRule(enumValue(node, "update-rule", ForeignKeyUpdateRule.unknown));
+    foreignKey.setDeleteRule(enumValue(node, "delete-rule", ForeignKeyUpdateRule.unknown));
+    foreignKey.setDeferrability(enumValue(node, "deferrability", ForeignKeyDeferrability.unknown));
+    foreignKey.appendDefinition(text(node, "definition"));
+    readAttributes(node.get("attributes"), foreignKey);
+  }
+
+  private void readIndex(final JsonNode node, final MutableTable table) {
+    final MutableIndex index = new MutableIndex(table, text(node, "name"));
+    index.setIndexType(enumValue(node, "index-type", IndexType.unknown));
+    index.setUnique(node.path("unique").asBoolean());
+    index.setCardinality(node.path("cardinality").asLong());
+    index.setPages(node.path("pages").asLong());
+    index.appendDefinition(text(node, "definition"));
+    readAttributes(node.get("attributes"), index);
+    for (final JsonNode columnNode : node.path("columns")) {
+      final Column column = lookupOrCreateColumn(table, text(columnNode, "name"));
+      final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
+      indexColumn.setKeyOrdinalPosition(columnNode.path("key-ordinal-position").asInt());
+      indexColumn.setSortSequence(
+          enumValue(columnNode, "sort-sequence", IndexColumnSortSequence.unknown));
+      indexColumn.appendDefinition(text(columnNode, "definition"));
+      readAttributes(columnNode.get("attributes"), indexColumn);
+      index.addColumn(indexColumn);
+    }
+    table.addIndex(index);
+  }
+
+  private <D extends DatabaseObject> List<MutablePrivilege<D>> readPrivileges(
+      final JsonNode node, final DatabaseObjectReference<D> parent) {
+    final List<MutablePrivilege<D>> privileges = new ArrayList<>();
+    for (final JsonNode privilegeNode : node.path("privileges")) {
+      final MutablePrivilege<D> privilege =
+          new MutablePrivilege<>(parent, text(privilegeNode, "name"));
+      readAttributes(privilegeNode.get("attributes"), privilege);
+      for (final JsonNode grantNode : privilegeNode.path("grants")) {
+        privilege.addGrant(
+            text(grantNode, "grantor"),
+            text(grantNode, "grantee"),
+            grantNode.path("grantable").asBoolean());
+      }
+      privileges.add(privilege);
+    }
+    return privileges;
+  }
+
+  private void readRoutine(final JsonNode node) throws IOException {
+    final Schema schema = schema(node);
+    final String name = text(node, "name");
+    final String specificName = text(node, "specific-name");
+    final MutableRoutine routine;
+    if (CatalogJsonWriter.FUNCTION.equals(text(node, "routine-type"))) {
+      routine = new MutableFunction(schema, name, specificName);
+    } else {
+      routine = new MutableProcedure(schema, name, specificName);
+    }
+    routine.setRoutineBodyType(enumValue(node, "routine-body-type", RoutineBodyType.unknown));
+    routine.appendDefinition(text(node, "definition"));
+    readAttributes(node.get("attributes"), routine);
+
+    if (routine instanceof MutableFunction) {
+      final MutableFunction function = (MutableFunction) routine;
+      function.setReturnType(enumValue(node, "return-type", FunctionReturnType.unknown));
+      for (final JsonNode parameterNode : node.path("parameters")) {
+        final MutableFunctionParameter parameter =
+            new MutableFunctionParameter(function, text(parameterNode, "name"));
+        readColumnFields(parameterNode, parameter);
+        parameter.setParameterMode(
+            enumValue(parameterNode, "parameter-mode", ParameterModeType.unknown));
+        function.addParameter(parameter);
+      }
+    } else {
+      final MutableProcedure procedure = (MutableProcedure) routine;
+      procedure.setReturnType(enumValue(node, "return-type", ProcedureReturnType.unknown));
+      for (final JsonNode parameterNode : node.path("parameters")) {
+        final MutableProcedureParameter parameter =
+            new MutableProcedureParameter(procedure, text(parameterNode, "name"));
+        readColumnFields(parameterNode, parameter);
+        parameter.setParameterMode(
+            enumValue(parameterNode, "parameter-mode", ParameterModeType.unknown));
+        procedure.addParameter(parameter);
+      }
+    }
+
+    catalog.addRoutine(routine);
+  }
+
+  private void readSchema(final JsonNode node) {
+    final SchemaReference schema =
+        new SchemaReference(text(node, "catalog-name"), text(node, "name"));
+    readAttributes(node.get("attributes"), schema);
+    if (node.path("in-catalog").asBoolean()) {
+      catalog.addSchema(schema);
+    }
+    schemas.add(schema);
+  }
+
+  private void readSequence(final JsonNode node) throws IOException {
+    final MutableSequence sequence = new MutableSequence(schema(node), text(node, "name"));
+    sequence.setIncrement(node.path("increment").asLong());
+    if (node.hasNonNull("minimum-value")) {
+      sequence.setMinimumValue(node.get("minimum-value").bigIntegerValue());
+    }
+    if (node.hasNonNull("maximum-value")) {
+      sequence.setMaximumValue(node.get("maximum-value").bigIntegerValue());
+    }
+    if (node.hasNonNull("start-value")) {
+      sequence.setStartValue(node.get("start-value").bigIntegerValue());
+    }
+    sequence.setCycle(node.path("cycle").asBoolean());
+    readAttributes(node.get("attributes"), sequence);
+    catalog.addSequence(sequence);
+  }
+
+  private void readSynonym(final JsonNode node) throws IOException {
+    final MutableSynonym synonym = new MutableSynonym(schema(node), text(node, "name"));
+    readAttributes(node.get("attributes"), synonym);
+    final JsonNode referencedNode = node.path("referenced-object");
+    final String referencedObjectType = text(referencedNode, "object-type");
+    final Schema referencedSchema = schema(referencedNode);
+    final String referencedObjectName = text(referencedNode, "name");
+    DatabaseObject referencedObject = null;
+    if (CatalogJsonWriter.TABLE.equals(referencedObjectType)) {
+      referencedObject = catalog.lookupTable(referencedSchema, referencedObjectName).orElse(null);
+    } else if (CatalogJsonWriter.ROUTINE.equals(referencedObjectType)) {
+      final NamedObjectKey routineLookupKey =
+          referencedSchema
+              .key()
+              .with(referencedObjectName)
+              .with(text(referencedNode, "specific-name"));
+      referencedObject = catalog.lookupRoutine(routineLookupKey).orElse(null);
+    }
+    if (referencedObject == null) {
+      referencedObject =
+          new SynonymRetriever.UnknownDatabaseObject(referencedSchema, referencedObjectName);
+    }
+    synonym.setReferencedObject(referencedObject);
+    catalog.addSynonym(synonym);
+  }
+
+  private void readTable(final JsonNode node) throws IOException {
+    final Schema schema = schema(node);
+    final String name = text(node, "name");
+    final MutableTable table;
+    if (CatalogJsonWriter.VIEW.equals(text(node, "kind"))) {
+      table = new MutableView(schema, name);
+    } else {
+      table = new MutableTable(schema, name);
+    }
+    final String tableTypeName = text(node, "table-type");
+    if (!isBlank(tableTypeName)) {
+      table.setTableType(new TableType(tableTypeName));
+    }
+    table.appendDefinition(text(node, "definition"));
+    table.setSortIndex(node.path("sort-index").asInt());
+    readAttributes(node.get("attributes"), table);
+
+    for (final JsonNode columnNode : node.path("columns")) {
+      final MutableColumn column = new MutableColumn(table, text(columnNode, "name"));
+      readColumnFields(columnNode, column);
+      column.setDefaultValue(text(columnNode, "default-value"));
+      column.setAutoIncremented(columnNode.path("auto-incremented").asBoolean());
+      column.setGenerated(columnNode.path("generated").asBoolean());
+      if (columnNode.path("part-of-index").asBoolean()) {
+        column.markAsPartOfIndex();
+      }
+      if (columnNode.path("part-of-primary-key").asBoolean()) {
+        column.markAsPartOfPrimaryKey();
+      }
+      if (columnNode.path("part-of-unique-index").asBoolean()) {
+        column.markAsPartOfUniqueIndex();
+      }
+      for (final MutablePrivilege<Column> privilege :
+          readPrivileges(columnNode, new ColumnPointer(column))) {
+        column.addPrivilege(privilege);
+      }
+      if (columnNode.path("hidden").asBoolean()) {
+        table.addHiddenColumn(column);
+      } else {
+        table.addColumn(column);
+      }
+    }
+
+    final JsonNode primaryKeyNode = node.path("primary-key");
+    if (primaryKeyNode.isObject()) {
+      final MutablePrimaryKey primaryKey =
+          MutablePrimaryKey.newPrimaryKey(table, text(primaryKeyNode, "name"));
+      readConstraint(primaryKeyNode, table, primaryKey);
+      table.setPrimaryKey(primaryKey);
+    }
+    for (final JsonNode alternateKeyNode : node.path("alternate-keys")) {
+      final MutablePrimaryKey alternateKey =
+          MutablePrimaryKey.newAlternateKey(table, text(alternateKeyNode, "name"));
+      readConstraint(alternateKeyNode, table, alternateKey);
+      table.addAlternateKey(alternateKey);
+    }
+
+    for (final JsonNode indexNode : node.path("indexes")) {
+      readIndex(indexNode, table);
+    }
+
+    for (final JsonNode triggerNode : node.path("triggers")) {
+      final MutableTrigger trigger = new MutableTrigger(table, text(triggerNode, "name"));
+      trigger.setEventManipulationType(
+          enumValue(triggerNode, "event-manipulation-type", EventManipulationType.unknown));
+      trigger.setConditionTiming(
+          enumValue(triggerNode, "condition-timing", ConditionTimingType.unknown));
+      trigger.setActionOrientation(
+          enumValue(triggerNode, "action-orientation", ActionOrientationType.unknown));
+      trigger.setActionOrder(triggerNode.path("action-order").asInt());
+      trigger.appendActionCondition(text(triggerNode, "action-condition"));
+      trigger.appendActionStatement(text(triggerNode, "action-statement"));
+      readAttributes(triggerNode.get("attributes"), trigger);
+      table.addTrigger(trigger);
+    }
+
+    for (final MutablePrivilege<Table> privilege : readPrivileges(node, new TablePointer(table))) {
+      table.addPrivilege(privilege);
+    }
+
+    final JsonNode constraintsNode = node.path("table-constraints");
+    for (final JsonNode constraintNode : constraintsNode) {
+      final String kind = text(constraintNode, "kind");
+      final String constraintName = text(constraintNode, "name");
+      if (CatalogJsonWriter.CONSTRAINT_PRIMARY_KEY.equals(kind)) {
+        if (table.getPrimaryKey() != null) {
+          table.addTableConstraint(table.getPrimaryKey());
+        }
+      } else if (CatalogJsonWriter.CONSTRAINT_ALTERNATE_KEY.equals(kind)) {
+        table.lookupAlternateKey(constraintName).ifPresent(table::addTableConstraint);
+      } else if (CatalogJsonWriter.CONSTRAINT.equals(kind)) {
+        final MutableTableConstraint constraint = new MutableTableConstraint(table, constraintName);
+        readConstraint(constraintNode, table, constraint);
+        table.addTableConstraint(constraint);
+      } else {
+        tableReferencedConstraints.put(table, constraintsNode);
+      }
+    }
+
+    if (table instanceof MutableView) {
+      final MutableView view = (MutableView) table;
+      if (node.hasNonNull("check-option")) {
+        view.setCheckOption(enumValue(node, "check-option", CheckOptionType.unknown));
+      }
+      view.setUpdatable(node.path("updatable").asBoolean());
+      if (node.path("table-usage").size() > 0) {
+        viewTableUsage.put(view, node.path("table-usage"));
+      }
+    }
+
+    catalog.addTable(table);
+  }
+
+  private void readWeakAssociation(final JsonNode node) throws IOException {
+    final String weakAssociationName = text(node, "name");
+    MutableWeakAssociation weakAssociation = null;
+    for (final JsonNode columnReferenceNode : node.path("column-references")) {
+      final int keySequence = columnReferenceNode.path("key-sequence").asInt();
+      final Column fkColumn = lookupOrCreateColumn(columnReferenceNode.path("foreign-key-column"));
+      final Column pkColumn = lookupOrCreateColumn(columnReferenceNode.path("primary-key-column"));
+      if (fkColumn instanceof ColumnPartial && pkColumn instanceof ColumnPartial) {
+        continue;
+      }
+      final ColumnReference columnReference =
+          new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+      if (weakAssociation == null) {
+        weakAssociation = new MutableWeakAssociation(weakAssociationName, columnReference);
+      } else {
+        weakAssociation.addColumnReference(columnReference);
+      }
+    }
+    if (weakAssociation == null) {
+      return;
+    }
+    readAttributes(node.get("attributes"), weakAssociation);
+    final Table fkTable = weakAssociation.getForeignKeyTable();
+    final Table pkTable = weakAssociation.getPrimaryKeyTable();
+    if (fkTable instanceof MutableTable) {
+      ((MutableTable) fkTable).addWeakAssociation(weakAssociation);
+    }
+    if (pkTable instanceof MutableTable) {
+      ((MutableTable) pkTable).addWeakAssociation(weakAssociation);
+    }
+  }
+
+  private String text(final JsonNode node, final String fieldName) {
+    final JsonNode value = node.get(fieldName);
+    if (value == null || value.isNull()) {
+      return null;
+    }
+    return value.asText();
+  }
+
+  private List<String> texts(final JsonNode node) {
+    final List<String> values = new ArrayList<>();
+    for (final JsonNode value : node) {
+      values.add(value.asText());
+    }
+    return values;
+  }
+
+  /** Converts attribute and property values to core Java types. */
+  private Object value(final JsonNode node) {
+    if (node == null || node.isNull()) {
+      return null;
+    } else if (node.isTextual()) {
+      return node.asText();
+    } else if (node.isBoolean()) {
+      return node.asBoolean();
+    } else if (node.isInt()) {
+      return node.intValue();
+    } else if (node.isLong()) {
+      return node.longValue();
+    } else if (node.isBigInteger()) {
+      return node.bigIntegerValue();
+    } else if (node.isBigDecimal()) {
+      return node.decimalValue();
+    } else if (node.isNumber()) {
+      return node.doubleValue();
+    } else if (node.isArray()) {
+      final List<Object> values = new ArrayList<>();
+      for (final JsonNode valueNode : node) {
+        values.add(value(valueNode));
+      }
+      return values;
+    } else {
+      return node.toString();
+    }
+  }
+}
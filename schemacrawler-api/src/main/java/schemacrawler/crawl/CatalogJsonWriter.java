@@ -0,0 +1,830 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.WeakAssociation;
+
+/**
+ * Writes a catalog as JSON or YAML, in a single pass over the catalog, without building an object
+ * graph of the output. Schemas and column data types are written first, with numeric identifiers
+ * that are assigned in the order that they are written. All other objects refer to schemas and
+ * column data types by these identifiers, and to tables and columns by name. Foreign keys, weak
+ * associations and synonyms can refer to objects in other schemas, so they are written after all
+ * tables and routines.
+ */
+public final class CatalogJsonWriter {
+
+  /** Version of the JSON catalog format that is written. */
+  static final int FORMAT_VERSION = 1;
+
+  static final String CONSTRAINT = "table-constraint";
+  static final String CONSTRAINT_PRIMARY_KEY = "primary-key";
+  static final String CONSTRAINT_ALTERNATE_KEY = "alternate-key";
+  static final String CONSTRAINT_FOREIGN_KEY = "foreign-key";
+  static final String CONSTRAINT_WEAK_ASSOCIATION = "weak-association";
+
+  static final String TABLE = "table";
+  static final String VIEW = "view";
+  static final String PROCEDURE = "procedure";
+  static final String FUNCTION = "function";
+  static final String ROUTINE = "routine";
+  static final String UNKNOWN = "unknown";
+
+  private final MutableCatalog catalog;
+  private final Map<NamedObjectKey, Integer> schemaIds;
+  private final List<Schema> schemas;
+  private final int catalogSchemasCount;
+  private final Map<NamedObjectKey, Integer> columnDataTypeIds;
+  private final List<ColumnDataType> columnDataTypes;
+  private final int catalogColumnDataTypesCount;
+
+  public CatalogJsonWriter(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    if (!(catalog instanceof MutableCatalog)) {
+      throw new IllegalArgumentException(
+          "Cannot write JSON for catalog of type " + catalog.getClass().getName());
+    }
+    this.catalog = (MutableCatalog) catalog;
+
+    schemaIds = new HashMap<>();
+    schemas = new ArrayList<>();
+    columnDataTypeIds = new HashMap<>();
+    columnDataTypes = new ArrayList<>();
+
+    for (final Schema schema : this.catalog.getAllSchemas()) {
+      schemaId(schema);
+    }
+    catalogSchemasCount = schemas.size();
+    for (final ColumnDataType columnDataType : this.catalog.getColumnDataTypes()) {
+      columnDataTypeId(columnDataType);
+    }
+    catalogColumnDataTypesCount = columnDataTypes.size();
+    registerReferencedObjects();
+  }
+
+  /**
+   * Writes the catalog. The generator is flushed after each table, but is not closed.
+   *
+   * @param generator JSON generator
+   * @throws IOException On an exception writing the catalog
+   */
+  public void write(final JsonGenerator generator) throws IOException {
+    requireNonNull(generator, "No JSON generator provided");
+
+    generator.writeStartObject();
+    generator.writeNumberField("format-version", FORMAT_VERSION);
+    generator.writeStringField("name", catalog.getName());
+    writeAttributes(generator, catalog.getAttributes());
+    writeCrawlInfo(generator);
+    writeDatabaseInfo(generator);
+    writeJdbcDriverInfo(generator);
+
+    generator.writeArrayFieldStart("database-users");
+    for (final DatabaseUser databaseUser : catalog.getDatabaseUsers()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", databaseUser.getName());
+      writeAttributes(generator, databaseUser.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("schemas");
+    for (int i = 0; i < schemas.size(); i++) {
+      final Schema schema = schemas.get(i);
+      generator.writeStartObject();
+      generator.writeNumberField("@id", i);
+      generator.writeStringField("catalog-name", schema.getCatalogName());
+      generator.writeStringField("name", schema.getName());
+      generator.writeStringField("full-name", schema.getFullName());
+      generator.writeBooleanField("in-catalog", i < catalogSchemasCount);
+      writeAttributes(generator, schema.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("column-data-types");
+    for (int i = 0; i < columnDataTypes.size(); i++) {
+      writeColumnDataType(generator, i);
+    }
+    generator.writeEndArray();
+    generator.flush();
+
+    generator.writeArrayFieldStart("tables");
+    for (final MutableTable table : catalog.getAllTables()) {
+      writeTable(generator, table);
+      generator.flush();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("routines");
+    for (final MutableRoutine routine : catalog.getAllRoutines()) {
+      writeRoutine(generator, routine);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("sequences");
+    for (final Sequence sequence : catalog.getSequences()) {
+      generator.writeStartObject();
+      generator.writeNumberField("schema", schemaId(sequence.getSchema()));
+      generator.writeStringField("name", sequence.getName());
+      generator.writeStringField("full-name", sequence.getFullName());
+      generator.writeNumberField("increment", sequence.getIncrement());
+      writeBigInteger(generator, "minimum-value", sequence.getMinimumValue());
+      writeBigInteger(generator, "maximum-value", sequence.getMaximumValue());
+      writeBigInteger(generator, "start-value", sequence.getStartValue());
+      generator.writeBooleanField("cycle", sequence.isCycle());
+      writeAttributes(generator, sequence.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("synonyms");
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      writeSynonym(generator, synonym);
+    }
+    generator.writeEndArray();
+
+    final Set<ForeignKey> foreignKeys = new LinkedHashSet<>();
+    final Set<WeakAssociation> weakAssociations = new LinkedHashSet<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      foreignKeys.addAll(table.getForeignKeys());
+      weakAssociations.addAll(table.getWeakAssociations());
+    }
+
+    generator.writeArrayFieldStart("foreign-keys");
+    for (final ForeignKey foreignKey : foreignKeys) {
+      generator.writeStartObject();
+      generator.writeStringField("name", foreignKey.getName());
+      writeColumnReferences(generator, foreignKey.getColumnReferences());
+      writeEnum(generator, "update-rule", foreignKey.getUpdateRule());
+      writeEnum(generator, "delete-rule", foreignKey.getDeleteRule());
+      writeEnum(generator, "deferrability", foreignKey.getDeferrability());
+      generator.writeStringField("definition", foreignKey.getDefinition());
+      writeAttributes(generator, foreignKey.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("weak-associations");
+    for (final WeakAssociation weakAssociation : weakAssociations) {
+      generator.writeStartObject();
+      generator.writeStringField("name", weakAssociation.getName());
+      writeColumnReferences(generator, weakAssociation.getColumnReferences());
+      writeAttributes(generator, weakAssociation.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private int columnDataTypeId(final ColumnDataType columnDataType) {
+    final NamedObjectKey key = columnDataType.key();
+    final Integer id = columnDataTypeIds.get(key);
+    if (id != null) {
+      return id;
+    }
+    final int newId = columnDataTypes.size();
+    columnDataTypeIds.put(key, newId);
+    columnDataTypes.add(columnDataType);
+    schemaId(columnDataType.getSchema());
+    final ColumnDataType baseType = columnDataType.getBaseType();
+    if (baseType != null) {
+      columnDataTypeId(baseType);
+    }
+    return newId;
+  }
+
+  /**
+   * Finds schemas and column data types that are not in the catalog, but are referenced by other
+   * objects, so that they can be written before the objects that reference them.
+   */
+  private void registerReferencedObjects() {
+    for (final MutableTable table : catalog.getAllTables()) {
+      for (final Column column : table.getColumns()) {
+        registerReferencedObjects(column);
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        registerReferencedObjects(column);
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+          registerReferencedObjects(columnReference);
+        }
+      }
+      for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+        for (final ColumnReference columnReference : weakAssociation.getColumnReferences()) {
+          registerReferencedObjects(columnReference);
+        }
+      }
+      if (table instanceof MutableView) {
+        for (final Table usedTable : ((MutableView) table).getTableUsage()) {
+          schemaId(usedTable.getSchema());
+        }
+      }
+    }
+    for (final MutableRoutine routine : catalog.getAllRoutines()) {
+      for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+        registerReferencedObjects(parameter);
+      }
+    }
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      schemaId(synonym.getReferencedObject().getSchema());
+    }
+  }
+
+  private void registerReferencedObjects(final BaseColumn<?> column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType != null) {
+      columnDataTypeId(columnDataType);
+    }
+  }
+
+  private void registerReferencedObjects(final ColumnReference columnReference) {
+    schemaId(columnReference.getForeignKeyColumn().getParent().getSchema());
+    schemaId(columnReference.getPrimaryKeyColumn().getParent().getSchema());
+  }
+
+  private int schemaId(final Schema schema) {
+    final NamedObjectKey key = schema.key();
+    final Integer id = schemaIds.get(key);
+    if (id != null) {
+      return id;
+    }
+    final int newId = schemas.size();
+    schemaIds.put(key, newId);
+    schemas.add(schema);
+    return newId;
+  }
+
+  /**
+   * Routines without a specific name report their name as the specific name, but are looked up
+   * without it, so the specific name is only written if it is part of the key.
+   */
+  private String specificName(final Routine routine) {
+    final String specificName = routine.getSpecificName();
+    final NamedObjectKey keyWithSpecificName =
+        routine.getSchema().key().with(routine.getName()).with(specificName);
+    if (routine.key().equals(keyWithSpecificName)) {
+      return specificName;
+    } else {
+      return null;
+    }
+  }
+
+  /** Attributes are written in order of their names, so that the output is repeatable. */
+  private void writeAttributes(final JsonGenerator generator, final Map<String, Object> attributes)
+      throws IOException {
+    generator.writeObjectFieldStart("attributes");
+    for (final Entry<String, Object> attribute : new TreeMap<>(attributes).entrySet()) {
+      generator.writeFieldName(attribute.getKey());
+      writeValue(generator, attribute.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeBigInteger(
+      final JsonGenerator generator, final String fieldName, final BigInteger value)
+      throws IOException {
+    generator.writeFieldName(fieldName);
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      generator.writeNumber(value);
+    }
+  }
+
+  private void writeColumn(final JsonGenerator generator, final Column column) throws IOException {
+    generator.writeStartObject();
+    writeColumnFields(generator, column);
+    generator.writeBooleanField("hidden", column.isHidden());
+    generator.writeStringField("default-value", column.getDefaultValue());
+    generator.writeBooleanField("auto-incremented", column.isAutoIncremented());
+    generator.writeBooleanField("generated", column.isGenerated());
+    generator.writeBooleanField("part-of-index", column.isPartOfIndex());
+    generator.writeBooleanField("part-of-primary-key", column.isPartOfPrimaryKey());
+    generator.writeBooleanField("part-of-unique-index", column.isPartOfUniqueIndex());
+    writePrivileges(generator, column.getPrivileges());
+    generator.writeEndObject();
+  }
+
+  private void writeColumnDataType(final JsonGenerator generator, final int id) throws IOException {
+    final ColumnDataType columnDataType = columnDataTypes.get(id);
+    generator.writeStartObject();
+    generator.writeNumberField("@id", id);
+    generator.writeNumberField("schema", schemaId(columnDataType.getSchema()));
+    generator.writeStringField("name", columnDataType.getName());
+    writeEnum(generator, "type", columnDataType.getType());
+    generator.writeBooleanField("in-catalog", id < catalogColumnDataTypesCount);
+    final ColumnDataType baseType = columnDataType.getBaseType();
+    if (baseType == null) {
+      generator.writeNullField("base-type");
+    } else {
+      generator.writeNumberField("base-type", columnDataTypeId(baseType));
+    }
+    generator.writeBooleanField("auto-incrementable", columnDataType.isAutoIncrementable());
+    generator.writeBooleanField("case-sensitive", columnDataType.isCaseSensitive());
+    generator.writeStringField("create-parameters", columnDataType.getCreateParameters());
+    generator.writeArrayFieldStart("enum-values");
+    for (final String enumValue : columnDataType.getEnumValues()) {
+      generator.writeString(enumValue);
+    }
+    generator.writeEndArray();
+    generator.writeBooleanField("fixed-precision-scale", columnDataType.isFixedPrecisionScale());
+    generator.writeNumberField(
+        "java-sql-type", columnDataType.getJavaSqlType().getVendorTypeNumber());
+    generator.writeStringField("literal-prefix", columnDataType.getLiteralPrefix());
+    generator.writeStringField("literal-suffix", columnDataType.getLiteralSuffix());
+    generator.writeStringField("local-type-name", columnDataType.getLocalTypeName());
+    generator.writeNumberField("maximum-scale", columnDataType.getMaximumScale());
+    generator.writeNumberField("minimum-scale", columnDataType.getMinimumScale());
+    generator.writeBooleanField("nullable", columnDataType.isNullable());
+    generator.writeNumberField("num-precision-radix", columnDataType.getNumPrecisionRadix());
+    generator.writeNumberField("precision", columnDataType.getPrecision());
+    writeEnum(generator, "searchable", columnDataType.getSearchable());
+    generator.writeStringField("type-mapped-class", columnDataType.getTypeMappedClass().getName());
+    generator.writeBooleanField("unsigned", columnDataType.isUnsigned());
+    writeAttributes(generator, columnDataType.getAttributes());
+    generator.writeEndObject();
+  }
+
+  private void writeColumnFields(final JsonGenerator generator, final BaseColumn<?> column)
+      throws IOException {
+    generator.writeStringField("name", column.getName());
+    generator.writeStringField("full-name", column.getFullName());
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType == null) {
+      generator.writeNullField("column-data-type");
+    } else {
+      generator.writeNumberField("column-data-type", columnDataTypeId(columnDataType));
+    }
+    generator.writeNumberField("size", column.getSize());
+    generator.writeNumberField("decimal-digits", column.getDecimalDigits());
+    generator.writeBooleanField("nullable", column.isNullable());
+    generator.writeNumberField("ordinal-position", column.getOrdinalPosition());
+    writeAttributes(generator, column.getAttributes());
+  }
+
+  private void writeColumnReference(
+      final JsonGenerator generator, final String fieldName, final Column column)
+      throws IOException {
+    final Table table = column.getParent();
+    generator.writeObjectFieldStart(fieldName);
+    generator.writeNumberField("schema", schemaId(table.getSchema()));
+    generator.writeStringField("table", table.getName());
+    generator.writeStringField("name", column.getName());
+    generator.writeEndObject();
+  }
+
+  private void writeColumnReferences(
+      final JsonGenerator generator, final List<ColumnReference> columnReferences)
+      throws IOException {
+    generator.writeArrayFieldStart("column-references");
+    for (final ColumnReference columnReference : columnReferences) {
+      generator.writeStartObject();
+      generator.writeNumberField("key-sequence", columnReference.getKeySequence());
+      writeColumnReference(generator, "foreign-key-column", columnReference.getForeignKeyColumn());
+      writeColumnReference(generator, "primary-key-column", columnReference.getPrimaryKeyColumn());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeConstraintFields(
+      final JsonGenerator generator, final TableConstraint constraint) throws IOException {
+    generator.writeStringField("name", constraint.getName());
+    writeEnum(generator, "constraint-type", constraint.getType());
+    generator.writeBooleanField("deferrable", constraint.isDeferrable());
+    generator.writeBooleanField("initially-deferred", constraint.isInitiallyDeferred());
+    generator.writeStringField("definition", constraint.getDefinition());
+    writeAttributes(generator, constraint.getAttributes());
+    generator.writeArrayFieldStart("columns");
+    for (final TableConstraintColumn column : constraint.getConstrainedColumns()) {
+      final MutableKeyColumn keyColumn = (MutableKeyColumn) column;
+      generator.writeStartObject();
+      generator.writeStringField("name", column.getName());
+      generator.writeNumberField("key-ordinal-position", keyColumn.getKeyOrdinalPosition());
+      generator.writeStringField("definition", keyColumn.getDefinition());
+      writeAttributes(generator, column.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeCrawlInfo(final JsonGenerator generator) throws IOException {
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    generator.writeObjectFieldStart("crawl-info");
+    generator.writeStringField("run-id", crawlInfo.getRunId());
+    generator.writeStringField("crawl-timestamp", crawlInfo.getCrawlTimestampInstant().toString());
+    writeProductVersion(generator, "schemacrawler-version", crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(
+        generator, "operating-system-version", crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(generator, "jvm-version", crawlInfo.getJvmVersion());
+    writeProductVersion(generator, "database-version", crawlInfo.getDatabaseVersion());
+    writeProductVersion(generator, "jdbc-driver-version", crawlInfo.getJdbcDriverVersion());
+    generator.writeArrayFieldStart("retrieval-metrics");
+    for (final RetrievalMetrics metrics : crawlInfo.getRetrievalMetrics()) {
+      generator.writeStartObject();
+      generator.writeStringField("retrieval-name", metrics.getRetrievalName());
+      generator.writeStringField("thread-name", metrics.getThreadName());
+      generator.writeStringField("duration", metrics.getDuration().toString());
+      generator.writeNumberField("object-count", metrics.getObjectCount());
+      generator.writeNumberField("query-count", metrics.getQueryCount());
+      generator.writeNumberField("row-count", metrics.getRowCount());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeDatabaseInfo(final JsonGenerator generator) throws IOException {
+    final MutableDatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    generator.writeObjectFieldStart("database-info");
+    generator.writeStringField("product-name", databaseInfo.getProductName());
+    generator.writeStringField("product-version", databaseInfo.getProductVersion());
+    generator.writeStringField("user-name", databaseInfo.getUserName());
+    generator.writeArrayFieldStart("server-info");
+    for (final Property property : databaseInfo.getServerInfo()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", property.getName());
+      generator.writeStringField("value", String.valueOf(property.getValue()));
+      generator.writeStringField("description", property.getDescription());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart("properties");
+    for (final DatabaseProperty property : databaseInfo.getProperties()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", property.getName());
+      generator.writeFieldName("value");
+      writeValue(generator, property.getValue());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeEnum(final JsonGenerator generator, final String fieldName, final Enum<?> value)
+      throws IOException {
+    if (value == null) {
+      generator.writeNullField(fieldName);
+    } else {
+      generator.writeStringField(fieldName, value.name());
+    }
+  }
+
+  private void writeIndex(final JsonGenerator generator, final Index index) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", index.getName());
+    writeEnum(generator, "index-type", index.getIndexType());
+    generator.writeBooleanField("unique", index.isUnique());
+    generator.writeNumberField("cardinality", index.getCardinality());
+    generator.writeNumberField("pages", index.getPages());
+    generator.writeStringField("definition", index.getDefinition());
+    writeAttributes(generator, index.getAttributes());
+    generator.writeArrayFieldStart("columns");
+    for (final IndexColumn column : index.getColumns()) {
+      final MutableKeyColumn keyColumn = (MutableKeyColumn) column;
+      generator.writeStartObject();
+      generator.writeStringField("name", column.getName());
+      generator.writeNumberField("key-ordinal-position", keyColumn.getKeyOrdinalPosition());
+      writeEnum(generator, "sort-sequence", column.getSortSequence());
+      generator.writeStringField("definition", keyColumn.getDefinition());
+      writeAttributes(generator, column.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeJdbcDriverInfo(final JsonGenerator generator) throws IOException {
+    final MutableJdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    generator.writeObjectFieldStart("jdbc-driver-info");
+    generator.writeStringField("product-name", jdbcDriverInfo.getProductName());
+    generator.writeStringField("product-version", jdbcDriverInfo.getProductVersion());
+    generator.writeStringField("driver-class-name", jdbcDriverInfo.getDriverClassName());
+    generator.writeStringField("connection-url", jdbcDriverInfo.getConnectionUrl());
+    generator.writeNumberField("driver-major-version", jdbcDriverInfo.getDriverMajorVersion());
+    generator.writeNumberField("driver-minor-version", jdbcDriverInfo.getDriverMinorVersion());
+    generator.writeNumberField("jdbc-major-version", jdbcDriverInfo.getJdbcMajorVersion());
+    generator.writeNumberField("jdbc-minor-version", jdbcDriverInfo.getJdbcMinorVersion());
+    generator.writeBooleanField("jdbc-compliant", jdbcDriverInfo.isJdbcCompliant());
+    generator.writeArrayFieldStart("driver-properties");
+    for (final JdbcDriverProperty property : jdbcDriverInfo.getDriverProperties()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", property.getName());
+      generator.writeStringField("value", property.getValue());
+      generator.writeStringField("description", property.getDescription());
+      generator.writeBooleanField("required", property.isRequired());
+      generator.writeArrayFieldStart("choices");
+      for (final String choice : property.getChoices()) {
+        generator.writeString(choice);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private <D extends DatabaseObject> void writePrivileges(
+      final JsonGenerator generator, final Collection<Privilege<D>> privileges) throws IOException {
+    generator.writeArrayFieldStart("privileges");
+    for (final Privilege<D> privilege : privileges) {
+      generator.writeStartObject();
+      generator.writeStringField("name", privilege.getName());
+      writeAttributes(generator, privilege.getAttributes());
+      generator.writeArrayFieldStart("grants");
+      for (final Grant<D> grant : privilege.getGrants()) {
+        generator.writeStartObject();
+        generator.writeStringField("grantor", grant.getGrantor());
+        generator.writeStringField("grantee", grant.getGrantee());
+        generator.writeBooleanField("grantable", grant.isGrantable());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeProductVersion(
+      final JsonGenerator generator, final String fieldName, final ProductVersion productVersion)
+      throws IOException {
+    generator.writeObjectFieldStart(fieldName);
+    generator.writeStringField("product-name", productVersion.getProductName());
+    generator.writeStringField("product-version", productVersion.getProductVersion());
+    generator.writeEndObject();
+  }
+
+  private void writeRoutine(final JsonGenerator generator, final MutableRoutine routine)
+      throws IOException {
+    final boolean isFunction = routine instanceof MutableFunction;
+    generator.writeStartObject();
+    generator.writeNumberField("schema", schemaId(routine.getSchema()));
+    generator.writeStringField("name", routine.getName());
+    generator.writeStringField("specific-name", specificName(routine));
+    generator.writeStringField("full-name", routine.getFullName());
+    generator.writeStringField("routine-type", isFunction ? FUNCTION : PROCEDURE);
+    writeEnum(generator, "routine-body-type", routine.getRoutineBodyType());
+    generator.writeStringField("definition", routine.getDefinition());
+    writeAttributes(generator, routine.getAttributes());
+    if (isFunction) {
+      writeEnum(generator, "return-type", ((MutableFunction) routine).getReturnType());
+    } else {
+      writeEnum(generator, "return-type", ((MutableProcedure) routine).getReturnType());
+    }
+    generator.writeArrayFieldStart("parameters");
+    for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+      generator.writeStartObject();
+      writeColumnFields(generator, parameter);
+      writeEnum(generator, "parameter-mode", parameter.getParameterMode());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  private void writeSynonym(final JsonGenerator generator, final Synonym synonym)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("schema", schemaId(synonym.getSchema()));
+    generator.writeStringField("name", synonym.getName());
+    generator.writeStringField("full-name", synonym.getFullName());
+    writeAttributes(generator, synonym.getAttributes());
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    generator.writeObjectFieldStart("referenced-object");
+    if (referencedObject instanceof Table) {
+      generator.writeStringField("object-type", TABLE);
+    } else if (referencedObject instanceof Routine) {
+      generator.writeStringField("object-type", ROUTINE);
+    } else {
+      generator.writeStringField("object-type", UNKNOWN);
+    }
+    generator.writeNumberField("schema", schemaId(referencedObject.getSchema()));
+    generator.writeStringField("name", referencedObject.getName());
+    if (referencedObject instanceof Routine) {
+      generator.writeStringField("specific-name", specificName((Routine) referencedObject));
+    }
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  private void writeTable(final JsonGenerator generator, final MutableTable table)
+      throws IOException {
+    final boolean isView = table instanceof MutableView;
+    generator.writeStartObject();
+    generator.writeNumberField("schema", schemaId(table.getSchema()));
+    generator.writeStringField("name", table.getName());
+    generator.writeStringField("full-name", table.getFullName());
+    generator.writeStringField("kind", isView ? VIEW : TABLE);
+    generator.writeStringField("table-type", table.getTableType().getTableType());
+    generator.writeStringField("definition", table.getDefinition());
+    generator.writeNumberField("sort-index", table.getSortIndex());
+    writeAttributes(generator, table.getAttributes());
+
+    generator.writeArrayFieldStart("columns");
+    for (final Column column : table.getColumns()) {
+      writeColumn(generator, column);
+    }
+    for (final Column column : table.getHiddenColumns()) {
+      writeColumn(generator, column);
+    }
+    generator.writeEndArray();
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey == null) {
+      generator.writeNullField("primary-key");
+    } else {
+      generator.writeObjectFieldStart("primary-key");
+      writeConstraintFields(generator, primaryKey);
+      generator.writeEndObject();
+    }
+    generator.writeArrayFieldStart("alternate-keys");
+    for (final PrimaryKey alternateKey : table.getAlternateKeys()) {
+      generator.writeStartObject();
+      writeConstraintFields(generator, alternateKey);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("indexes");
+    for (final Index index : table.getIndexes()) {
+      writeIndex(generator, index);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("triggers");
+    for (final Trigger trigger : table.getTriggers()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", trigger.getName());
+      writeEnum(generator, "event-manipulation-type", trigger.getEventManipulationType());
+      writeEnum(generator, "condition-timing", trigger.getConditionTiming());
+      writeEnum(generator, "action-orientation", trigger.getActionOrientation());
+      generator.writeNumberField("action-order", trigger.getActionOrder());
+      generator.writeStringField("action-condition", trigger.getActionCondition());
+      generator.writeStringField("action-statement", trigger.getActionStatement());
+      writeAttributes(generator, trigger.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    writePrivileges(generator, table.getPrivileges());
+
+    // Keys, foreign keys and weak associations are written elsewhere, and only referenced by name
+    generator.writeArrayFieldStart("table-constraints");
+    for (final TableConstraint constraint : table.getTableConstraints()) {
+      generator.writeStartObject();
+      if (constraint == primaryKey) {
+        generator.writeStringField("kind", CONSTRAINT_PRIMARY_KEY);
+        generator.writeStringField("name", constraint.getName());
+      } else if (constraint instanceof PrimaryKey
+          && constraint.getType() == TableConstraintType.alternate_key) {
+        generator.writeStringField("kind", CONSTRAINT_ALTERNATE_KEY);
+        generator.writeStringField("name", constraint.getName());
+      } else if (constraint instanceof ForeignKey) {
+        generator.writeStringField("kind", CONSTRAINT_FOREIGN_KEY);
+        generator.writeStringField("name", constraint.getName());
+      } else if (constraint instanceof WeakAssociation) {
+        generator.writeStringField("kind", CONSTRAINT_WEAK_ASSOCIATION);
+        generator.writeStringField("name", constraint.getName());
+      } else {
+        generator.writeStringField("kind", CONSTRAINT);
+        writeConstraintFields(generator, constraint);
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    if (isView) {
+      final MutableView view = (MutableView) table;
+      writeEnum(generator, "check-option", view.getCheckOption());
+      generator.writeBooleanField("updatable", view.isUpdatable());
+      generator.writeArrayFieldStart("table-usage");
+      for (final Table usedTable : view.getTableUsage()) {
+        generator.writeStartObject();
+        generator.writeNumberField("schema", schemaId(usedTable.getSchema()));
+        generator.writeStringField("name", usedTable.getName());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    }
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * Writes attribute and property values. Values that do not have a JSON representation are written
+   * as strings.
+   */
+  private void writeValue(final JsonGenerator generator, final Object value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof String) {
+      generator.writeString((String) value);
+    } else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      generator.writeNumber(((Number) value).intValue());
+    } else if (value instanceof Long) {
+      generator.writeNumber((Long) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      generator.writeNumber(((Number) value).doubleValue());
+    } else if (value instanceof BigInteger) {
+      generator.writeNumber((BigInteger) value);
+    } else if (value instanceof BigDecimal) {
+      generator.writeNumber((BigDecimal) value);
+    } else if (value instanceof Enum) {
+      generator.writeString(((Enum<?>) value).name());
+    } else if (value instanceof Collection) {
+      generator.writeStartArray();
+      for (final Object listValue : (Collection<?>) value) {
+        writeValue(generator, listValue);
+      }
+      generator.writeEndArray();
+    } else if (value.getClass().isArray()) {
+      generator.writeStartArray();
+      for (int i = 0; i < Array.getLength(value); i++) {
+        writeValue(generator, Array.get(value, i));
+      }
+      generator.writeEndArray();
+    } else {
+      generator.writeString(String.valueOf(value));
+    }
+  }
+}
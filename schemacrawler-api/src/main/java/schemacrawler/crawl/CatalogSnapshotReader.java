@@ -0,0 +1,1049 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.DriverPropertyInfo;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.filter.FilterFactory;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Reads a catalog from a binary snapshot that was written by {@link CatalogSnapshotWriter}.
+ * Snapshots written by a newer version of the format cannot be read, and sections that are not
+ * known to this version of the reader are skipped.
+ */
+public final class CatalogSnapshotReader {
+
+  private static final class Section {
+
+    private final byte type;
+    private final int schemaIndex;
+    private final long offset;
+    private final long length;
+
+    Section(final byte type, final int schemaIndex, final long offset, final long length) {
+      this.type = type;
+      this.schemaIndex = schemaIndex;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /** Provides parts of a snapshot, either from memory or mapped from a file. */
+  private interface SnapshotSource {
+
+    ByteBuffer map(long offset, long length) throws IOException;
+
+    long size() throws IOException;
+  }
+
+  /**
+   * Checks whether an input stream has a catalog snapshot, without consuming any bytes from the
+   * stream.
+   *
+   * @param in Input stream, which needs to support mark and reset
+   * @return True if the input stream starts with a catalog snapshot header
+   * @throws IOException On an exception reading the input stream
+   */
+  public static boolean isCatalogSnapshot(final InputStream in) throws IOException {
+    requireNonNull(in, "No input stream provided");
+    if (!in.markSupported()) {
+      throw new IllegalArgumentException("Input stream does not support mark");
+    }
+
+    final byte[] header = new byte[SnapshotFormat.MAGIC.length];
+    in.mark(header.length);
+    try {
+      int read = 0;
+      while (read < header.length) {
+        final int count = in.read(header, read, header.length - read);
+        if (count < 0) {
+          return false;
+        }
+        read = read + count;
+      }
+      return SnapshotFormat.isSnapshotHeader(header);
+    } finally {
+      in.reset();
+    }
+  }
+
+  private static ByteBuffer readFully(final InputStream in) throws IOException {
+    requireNonNull(in, "No input stream provided");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[8192];
+    int count;
+    while ((count = in.read(buffer)) != -1) {
+      bytes.write(buffer, 0, count);
+    }
+    return ByteBuffer.wrap(bytes.toByteArray());
+  }
+
+  private final ByteBuffer buffer;
+  private final Path snapshotPath;
+  private int formatVersion;
+  private Predicate<Schema> schemaFilter;
+  private Predicate<Table> tableFilter;
+  private Predicate<Routine> routineFilter;
+  private Predicate<Sequence> sequenceFilter;
+  private Predicate<Synonym> synonymFilter;
+  private MutableCatalog catalog;
+  private List<Schema> schemas;
+  private List<MutableColumnDataType> columnDataTypes;
+  private Map<NamedObjectKey, String> tableChangeMarkers;
+  private Map<NamedObjectKey, String> routineChangeMarkers;
+  private Map<NamedObjectKey, String> fullNames;
+
+  /**
+   * Reads a snapshot from a buffer.
+   *
+   * @param buffer Buffer with the complete snapshot
+   */
+  public CatalogSnapshotReader(final ByteBuffer buffer) {
+    this.buffer = requireNonNull(buffer, "No snapshot buffer provided").duplicate();
+    snapshotPath = null;
+  }
+
+  /**
+   * Reads a snapshot from an input stream. The stream is read completely, but not closed.
+   *
+   * @param in Input stream
+   * @throws IOException On an exception reading the input stream
+   */
+  public CatalogSnapshotReader(final InputStream in) throws IOException {
+    this(readFully(in));
+  }
+
+  /**
+   * Reads a snapshot from a file. Each section of the snapshot is mapped into memory only when it
+   * is read, so sections for schemas that are not needed are never loaded from the file.
+   *
+   * @param snapshotPath Path to the snapshot file
+   */
+  public CatalogSnapshotReader(final Path snapshotPath) {
+    this.snapshotPath = requireNonNull(snapshotPath, "No snapshot file provided");
+    buffer = null;
+  }
+
+  /**
+   * Reads the catalog from the snapshot.
+   *
+   * @return Catalog
+   * @throws IOException On an exception reading the snapshot, or if the snapshot cannot be read by
+   *     this version of SchemaCrawler
+   */
+  public Catalog read() throws IOException {
+    schemaFilter = schema -> true;
+    tableFilter = table -> true;
+    routineFilter = routine -> true;
+    sequenceFilter = sequence -> true;
+    synonymFilter = synonym -> true;
+    return readSnapshot();
+  }
+
+  /**
+   * Reads the catalog from the snapshot, loading only database objects that are included by the
+   * limit options. Schemas, tables and routines that are excluded are skipped without being read.
+   * Foreign keys that reference skipped tables have partial tables, as they would for a database
+   * crawl. Grep options are not applied, since they need complete tables and routines, and tables
+   * are not skipped if related tables need to be included by the filter options.
+   *
+   * @param options SchemaCrawler options
+   * @return Catalog
+   * @throws IOException On an exception reading the snapshot, or if the snapshot cannot be read by
+   *     this version of SchemaCrawler
+   */
+  public Catalog read(final SchemaCrawlerOptions options) throws IOException {
+    requireNonNull(options, "No SchemaCrawler options provided");
+    final FilterOptions filterOptions = options.getFilterOptions();
+    schemaFilter = FilterFactory.schemaFilter(options);
+    if (filterOptions.getChildTableFilterDepth() == 0
+        && filterOptions.getParentTableFilterDepth() == 0) {
+      tableFilter = FilterFactory.tableInclusionFilter(options);
+    } else {
+      tableFilter = table -> true;
+    }
+    routineFilter = FilterFactory.routineInclusionFilter(options);
+    sequenceFilter = FilterFactory.sequenceFilter(options);
+    synonymFilter = FilterFactory.synonymFilter(options);
+    return readSnapshot();
+  }
+
+  private Catalog readSnapshot() throws IOException {
+    if (snapshotPath == null) {
+      return read(
+          new SnapshotSource() {
+            @Override
+            public ByteBuffer map(final long offset, final long length) {
+              final ByteBuffer section = buffer.duplicate();
+              final int start = buffer.position();
+              // Cast to Buffer, so that the methods are also found on Java 8
+              ((Buffer) section).position(start + (int) offset);
+              ((Buffer) section).limit(start + (int) (offset + length));
+              return section.slice();
+            }
+
+            @Override
+            public long size() {
+              return buffer.remaining();
+            }
+          });
+    }
+
+    // Mapped buffers stay valid after the channel is closed
+    try (final FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+      return read(
+          new SnapshotSource() {
+            @Override
+            public ByteBuffer map(final long offset, final long length) throws IOException {
+              if (length > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot section is too large to read");
+              }
+              return channel.map(MapMode.READ_ONLY, offset, length);
+            }
+
+            @Override
+            public long size() throws IOException {
+              return channel.size();
+            }
+          });
+    }
+  }
+
+  private Catalog read(final SnapshotSource source) throws IOException {
+    final List<Section> sections = readTableOfContents(source);
+
+    SnapshotInput.StringTable stringTable = null;
+    for (final Section section : sections) {
+      if (section.type == SnapshotFormat.SECTION_STRINGS) {
+        stringTable = new SnapshotInput.StringTable(source.map(section.offset, section.length));
+      }
+    }
+    if (stringTable == null) {
+      throw new IOException("No strings section in snapshot");
+    }
+
+    tableChangeMarkers = new HashMap<>();
+    routineChangeMarkers = new HashMap<>();
+    fullNames = new HashMap<>();
+
+    boolean[] changeMarkerFlags = null;
+    for (final Section section : sections) {
+      if (section.type == SnapshotFormat.SECTION_CATALOG) {
+        changeMarkerFlags =
+            readCatalogSection(
+                new SnapshotInput(source.map(section.offset, section.length), stringTable));
+      }
+    }
+    if (catalog == null) {
+      throw new IOException("No catalog section in snapshot");
+    }
+    for (final Section section : sections) {
+      if (section.type == SnapshotFormat.SECTION_SCHEMA) {
+        if (section.schemaIndex < 0 || section.schemaIndex >= schemas.size()) {
+          throw new IOException(
+              String.format("Unknown schema <%d> in snapshot", section.schemaIndex));
+        }
+        final Schema schema = schemas.get(section.schemaIndex);
+        if (!schemaFilter.test(schema)) {
+          continue;
+        }
+        readSchemaSection(
+            new SnapshotInput(source.map(section.offset, section.length), stringTable), schema);
+      }
+    }
+    for (final Section section : sections) {
+      if (section.type == SnapshotFormat.SECTION_REFERENCES) {
+        readReferencesSection(
+            new SnapshotInput(source.map(section.offset, section.length), stringTable));
+      }
+    }
+
+    if (changeMarkerFlags[0]) {
+      catalog.setChangeMarkers(
+          new ChangeMarkers(
+              tableChangeMarkers, changeMarkerFlags[1] ? routineChangeMarkers : null, fullNames));
+    }
+
+    return catalog;
+  }
+
+  private void checkBounds(final long snapshotLength, final long offset, final long length)
+      throws IOException {
+    if (offset < SnapshotFormat.HEADER_LENGTH || length < 0 || offset + length > snapshotLength) {
+      throw new IOException("Corrupt catalog snapshot");
+    }
+  }
+
+  private Column lookupOrCreateColumn(final SnapshotInput in) {
+    final Schema schema = schemas.get(in.readInt());
+    final String tableName = in.readString();
+    final String columnName = in.readString();
+    return RetrieverUtility.lookupOrCreateColumn(catalog, schema, tableName, columnName);
+  }
+
+  private Column lookupOrCreateColumn(final MutableTable table, final String columnName) {
+    final Optional<MutableColumn> optionalColumn = table.lookupColumn(columnName);
+    if (optionalColumn.isPresent()) {
+      return optionalColumn.get();
+    }
+    return new ColumnPartial(table, columnName);
+  }
+
+  /** Reads attributes, which are skipped if there is no object to set them on. */
+  private void readAttributes(final SnapshotInput in, final AttributedObject object)
+      throws IOException {
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final String name = in.readString();
+      final Object value = in.readValue();
+      if (object != null) {
+        object.setAttribute(name, value);
+      }
+    }
+  }
+
+  private boolean[] readCatalogSection(final SnapshotInput in) throws IOException {
+    final String catalogName = in.readString();
+    final Map<String, Object> catalogAttributes = new HashMap<>();
+    final int catalogAttributesCount = in.readInt();
+    for (int i = 0; i < catalogAttributesCount; i++) {
+      final String name = in.readString();
+      catalogAttributes.put(name, in.readValue());
+    }
+
+    final String databaseProductName = in.readString();
+    final String databaseProductVersion = in.readString();
+    final String userName = in.readString();
+    final String connectionUrl = in.readString();
+    final String driverName = in.readString();
+    final String driverVersion = in.readString();
+    final int driverMajorVersion = in.readInt();
+    final int driverMinorVersion = in.readInt();
+    final int jdbcMajorVersion = in.readInt();
+    final int jdbcMinorVersion = in.readInt();
+    final ImmutableConnectionInfo connectionInfo =
+        new ImmutableConnectionInfo(
+            databaseProductName,
+            databaseProductVersion,
+            connectionUrl,
+            userName,
+            driverName,
+            driverVersion,
+            driverMajorVersion,
+            driverMinorVersion,
+            jdbcMajorVersion,
+            jdbcMinorVersion);
+
+    final Instant crawlTimestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+    final UUID runId = UUID.fromString(in.readString());
+    final ProductVersion schemaCrawlerVersion = readProductVersion(in);
+    final ProductVersion operatingSystemVersion = readProductVersion(in);
+    final ProductVersion jvmVersion = readProductVersion(in);
+    final ProductVersion databaseVersion = readProductVersion(in);
+    final ProductVersion jdbcDriverVersion = readProductVersion(in);
+    final int retrievalMetricsCount = in.readInt();
+    final List<RetrievalMetrics> retrievalMetrics = new ArrayList<>(retrievalMetricsCount);
+    for (int i = 0; i < retrievalMetricsCount; i++) {
+      retrievalMetrics.add(
+          MutableRetrievalMetrics.restore(
+              in.readString(),
+              in.readString(),
+              Duration.ofNanos(in.readLong()),
+              in.readLong(),
+              in.readLong(),
+              in.readLong()));
+    }
+    final MutableCrawlInfo crawlInfo =
+        new MutableCrawlInfo(
+            crawlTimestamp,
+            runId,
+            schemaCrawlerVersion,
+            operatingSystemVersion,
+            jvmVersion,
+            databaseVersion,
+            jdbcDriverVersion,
+            retrievalMetrics);
+
+    catalog = new MutableCatalog(catalogName, connectionInfo, crawlInfo);
+    catalog.addAttributes(catalogAttributes);
+
+    final MutableDatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    final int serverInfoCount = in.readInt();
+    for (int i = 0; i < serverInfoCount; i++) {
+      databaseInfo.addServerInfo(
+          new ImmutableServerInfoProperty(in.readString(), in.readString(), in.readString()));
+    }
+    final int databasePropertiesCount = in.readInt();
+    final List<ImmutableDatabaseProperty> databaseProperties = new ArrayList<>();
+    for (int i = 0; i < databasePropertiesCount; i++) {
+      final String name = in.readString();
+      databaseProperties.add(new ImmutableDatabaseProperty(name, in.readValue()));
+    }
+    databaseInfo.addAll(databaseProperties);
+
+    final MutableJdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    jdbcDriverInfo.setJdbcDriverClassName(in.readString());
+    jdbcDriverInfo.setJdbcCompliant(in.readBoolean());
+    final int driverPropertiesCount = in.readInt();
+    for (int i = 0; i < driverPropertiesCount; i++) {
+      final DriverPropertyInfo driverPropertyInfo =
+          new DriverPropertyInfo(in.readString(), in.readString());
+      driverPropertyInfo.description = in.readString();
+      driverPropertyInfo.required = in.readBoolean();
+      final List<String> choices = in.readStrings();
+      if (!choices.isEmpty()) {
+        driverPropertyInfo.choices = choices.toArray(new String[0]);
+      }
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    final int databaseUsersCount = in.readInt();
+    for (int i = 0; i < databaseUsersCount; i++) {
+      final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(in.readString());
+      readAttributes(in, databaseUser);
+      catalog.addDatabaseUser(databaseUser);
+    }
+
+    final boolean[] changeMarkerFlags = new boolean[2];
+    changeMarkerFlags[0] = in.readBoolean();
+    if (changeMarkerFlags[0]) {
+      changeMarkerFlags[1] = in.readBoolean();
+    }
+
+    final int schemasCount = in.readInt();
+    schemas = new ArrayList<>(schemasCount);
+    for (int i = 0; i < schemasCount; i++) {
+      final SchemaReference schema = new SchemaReference(in.readString(), in.readString());
+      final boolean isInCatalog = in.readBoolean();
+      readAttributes(in, schema);
+      if (isInCatalog && schemaFilter.test(schema)) {
+        catalog.addSchema(schema);
+      }
+      schemas.add(schema);
+    }
+
+    final int columnDataTypesCount = in.readInt();
+    columnDataTypes = new ArrayList<>(columnDataTypesCount);
+    final int[] baseTypeIndexes = new int[columnDataTypesCount];
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    for (int i = 0; i < columnDataTypesCount; i++) {
+      final Schema schema = schemas.get(in.readInt());
+      final String name = in.readString();
+      final DataTypeType type = in.readEnum(DataTypeType.class, DataTypeType.system);
+      final MutableColumnDataType columnDataType = new MutableColumnDataType(schema, name, type);
+      baseTypeIndexes[i] = in.readInt();
+      columnDataType.setAutoIncrementable(in.readBoolean());
+      columnDataType.setCaseSensitive(in.readBoolean());
+      columnDataType.setCreateParameters(in.readString());
+      columnDataType.setEnumValues(in.readStrings());
+      columnDataType.setFixedPrecisionScale(in.readBoolean());
+      columnDataType.setJavaSqlType(javaSqlTypes.valueOf(in.readInt()));
+      columnDataType.setLiteralPrefix(in.readString());
+      columnDataType.setLiteralSuffix(in.readString());
+      columnDataType.setLocalTypeName(in.readString());
+      columnDataType.setMaximumScale(in.readInt());
+      columnDataType.setMinimumScale(in.readInt());
+      columnDataType.setNullable(in.readBoolean());
+      columnDataType.setNumPrecisionRadix(in.readInt());
+      columnDataType.setPrecision(in.readLong());
+      columnDataType.setSearchable(in.readEnum(SearchableType.class, SearchableType.unknown));
+      columnDataType.setTypeMappedClass(in.readString());
+      columnDataType.setUnsigned(in.readBoolean());
+      readAttributes(in, columnDataType);
+      if (in.readBoolean()) {
+        catalog.addColumnDataType(columnDataType);
+      }
+      columnDataTypes.add(columnDataType);
+    }
+    for (int i = 0; i < columnDataTypesCount; i++) {
+      if (baseTypeIndexes[i] >= 0) {
+        columnDataTypes.get(i).setBaseType(columnDataTypes.get(baseTypeIndexes[i]));
+      }
+    }
+
+    return changeMarkerFlags;
+  }
+
+  private void readColumnFields(final SnapshotInput in, final AbstractColumn<?> column)
+      throws IOException {
+    final int columnDataTypeIndex = in.readInt();
+    if (columnDataTypeIndex >= 0) {
+      column.setColumnDataType(columnDataTypes.get(columnDataTypeIndex));
+    }
+    column.setSize(in.readInt());
+    column.setDecimalDigits(in.readInt());
+    column.setNullable(in.readBoolean());
+    column.setOrdinalPosition(in.readInt());
+    readAttributes(in, column);
+  }
+
+  private MutableTableConstraint readConstraint(
+      final SnapshotInput in, final MutableTable table, final MutableTableConstraint constraint)
+      throws IOException {
+    final TableConstraintType constraintType =
+        in.readEnum(TableConstraintType.class, TableConstraintType.unknown);
+    final boolean isDeferrable = in.readBoolean();
+    final boolean isInitiallyDeferred = in.readBoolean();
+    if (!(constraint instanceof MutablePrimaryKey)) {
+      constraint.setTableConstraintType(constraintType);
+      constraint.setDeferrable(isDeferrable);
+      constraint.setInitiallyDeferred(isInitiallyDeferred);
+    }
+    constraint.appendDefinition(in.readString());
+    readAttributes(in, constraint);
+    final int columnsCount = in.readInt();
+    for (int i = 0; i < columnsCount; i++) {
+      final Column column = lookupOrCreateColumn(table, in.readString());
+      final MutableTableConstraintColumn constraintColumn =
+          new MutableTableConstraintColumn(constraint, column);
+      constraintColumn.setKeyOrdinalPosition(in.readInt());
+      constraintColumn.appendDefinition(in.readString());
+      readAttributes(in, constraintColumn);
+      constraint.addColumn(constraintColumn);
+    }
+    return constraint;
+  }
+
+  /**
+   * Reads a content fingerprint, if the snapshot has fingerprints, and caches it on the object, so
+   * that it does not need to be computed again.
+   *
+   * @param namedObject Object read from the snapshot, or null if it was not created
+   */
+  private void readFingerprint(final SnapshotInput in, final AbstractNamedObject namedObject) {
+    if (formatVersion < SnapshotFormat.FORMAT_VERSION_FINGERPRINTS) {
+      return;
+    }
+    final long fingerprint = in.readFixedLong();
+    if (namedObject != null) {
+      namedObject.setFingerprint(fingerprint);
+    }
+  }
+
+  private void readIndex(final SnapshotInput in, final MutableTable table) throws IOException {
+    final MutableIndex index = new MutableIndex(table, in.readString());
+    index.setIndexType(in.readEnum(IndexType.class, IndexType.unknown));
+    index.setUnique(in.readBoolean());
+    index.setCardinality(in.readLong());
+    index.setPages(in.readLong());
+    index.appendDefinition(in.readString());
+    readAttributes(in, index);
+    final int columnsCount = in.readInt();
+    for (int i = 0; i < columnsCount; i++) {
+      final Column column = lookupOrCreateColumn(table, in.readString());
+      final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
+      indexColumn.setKeyOrdinalPosition(in.readInt());
+      indexColumn.setSortSequence(
+          in.readEnum(IndexColumnSortSequence.class, IndexColumnSortSequence.unknown));
+      indexColumn.appendDefinition(in.readString());
+      readAttributes(in, indexColumn);
+      index.addColumn(indexColumn);
+    }
+    readFingerprint(in, index);
+    table.addIndex(index);
+  }
+
+  private <D extends DatabaseObject> List<MutablePrivilege<D>> readPrivileges(
+      final SnapshotInput in, final DatabaseObjectReference<D> parent) throws IOException {
+    final int count = in.readInt();
+    final List<MutablePrivilege<D>> privileges = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final MutablePrivilege<D> privilege = new MutablePrivilege<>(parent, in.readString());
+      readAttributes(in, privilege);
+      final int grantsCount = in.readInt();
+      for (int j = 0; j < grantsCount; j++) {
+        privilege.addGrant(in.readString(), in.readString(), in.readBoolean());
+      }
+      privileges.add(privilege);
+    }
+    return privileges;
+  }
+
+  private ProductVersion readProductVersion(final SnapshotInput in) {
+    return new BaseProductVersion(in.readString(), in.readString());
+  }
+
+  /**
+   * Reads the length of a table or routine record, if the snapshot has record lengths.
+   *
+   * @return Position after the end of the record, or -1 if the record cannot be skipped
+   */
+  private int readRecordEnd(final SnapshotInput in) {
+    if (formatVersion < SnapshotFormat.FORMAT_VERSION_RECORD_LENGTHS) {
+      return -1;
+    }
+    return in.readRecordEnd();
+  }
+
+  private void readReferencesSection(final SnapshotInput in) throws IOException {
+
+    final int foreignKeysCount = in.readInt();
+    for (int i = 0; i < foreignKeysCount; i++) {
+      final String foreignKeyName = in.readString();
+      MutableForeignKey foreignKey = null;
+      final int columnReferencesCount = in.readInt();
+      for (int j = 0; j < columnReferencesCount; j++) {
+        final int keySequence = in.readInt();
+        final Column fkColumn = lookupOrCreateColumn(in);
+        final Column pkColumn = lookupOrCreateColumn(in);
+
+        final boolean isFkColumnPartial = fkColumn instanceof ColumnPartial;
+        final boolean isPkColumnPartial = pkColumn instanceof ColumnPartial;
+        if (isFkColumnPartial && isPkColumnPartial) {
+          continue;
+        }
+
+        final ColumnReference columnReference =
+            new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+        if (foreignKey == null) {
+          foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
+        } else {
+          foreignKey.addColumnReference(columnReference);
+        }
+
+        final Table fkTable = fkColumn.getParent();
+        final Table pkTable = pkColumn.getParent();
+        if (fkColumn instanceof MutableColumn) {
+          ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
+          ((MutableTable) fkTable).addForeignKey(foreignKey);
+        } else if (isFkColumnPartial) {
+          ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+          ((TablePartial) fkTable).addForeignKey(foreignKey);
+        }
+        if (pkColumn instanceof MutableColumn) {
+          ((MutableTable) pkTable).addForeignKey(foreignKey);
+        } else if (isPkColumnPartial) {
+          ((TablePartial) pkTable).addForeignKey(foreignKey);
+        }
+      }
+      final ForeignKeyUpdateRule updateRule =
+          in.readEnum(ForeignKeyUpdateRule.class, ForeignKeyUpdateRule.unknown);
+      final ForeignKeyUpdateRule deleteRule =
+          in.readEnum(ForeignKeyUpdateRule.class, ForeignKeyUpdateRule.unknown);
+      final ForeignKeyDeferrability deferrability =
+          in.readEnum(ForeignKeyDeferrability.class, ForeignKeyDeferrability.unknown);
+      final String definition = in.readString();
+      readAttributes(in, foreignKey);
+      readFingerprint(in, foreignKey);
+      if (foreignKey != null) {
+        foreignKey.setUpdateRule(updateRule);
+        foreignKey.setDeleteRule(deleteRule);
+        foreignKey.setDeferrability(deferrability);
+        foreignKey.appendDefinition(definition);
+      }
+    }
+
+    final int weakAssociationsCount = in.readInt();
+    for (int i = 0; i < weakAssociationsCount; i++) {
+      final String weakAssociationName = in.readString();
+      MutableWeakAssociation weakAssociation = null;
+      final int columnReferencesCount = in.readInt();
+      for (int j = 0; j < columnReferencesCount; j++) {
+        final int keySequence = in.readInt();
+        final Column fkColumn = lookupOrCreateColumn(in);
+        final Column pkColumn = lookupOrCreateColumn(in);
+        if (fkColumn instanceof ColumnPartial && pkColumn instanceof ColumnPartial) {
+          continue;
+        }
+        final ColumnReference columnReference =
+            new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+        if (weakAssociation == null) {
+          weakAssociation = new MutableWeakAssociation(weakAssociationName, columnReference);
+        } else {
+          weakAssociation.addColumnReference(columnReference);
+        }
+      }
+      readAttributes(in, weakAssociation);
+      if (weakAssociation != null) {
+        final Table fkTable = weakAssociation.getForeignKeyTable();
+        final Table pkTable = weakAssociation.getPrimaryKeyTable();
+        if (fkTable instanceof MutableTable) {
+          ((MutableTable) fkTable).addWeakAssociation(weakAssociation);
+        }
+        if (pkTable instanceof MutableTable) {
+          ((MutableTable) pkTable).addWeakAssociation(weakAssociation);
+        }
+      }
+    }
+
+    final int viewsCount = in.readInt();
+    for (int i = 0; i < viewsCount; i++) {
+      final Optional<MutableTable> optionalView =
+          catalog.lookupTable(schemas.get(in.readInt()), in.readString());
+      final int tableUsageCount = in.readInt();
+      for (int j = 0; j < tableUsageCount; j++) {
+        final Optional<MutableTable> optionalTable =
+            catalog.lookupTable(schemas.get(in.readInt()), in.readString());
+        if (optionalView.isPresent()
+            && optionalView.get() instanceof MutableView
+            && optionalTable.isPresent()) {
+          ((MutableView) optionalView.get()).addTableUsage(optionalTable.get());
+        }
+      }
+    }
+
+    final int synonymsCount = in.readInt();
+    for (int i = 0; i < synonymsCount; i++) {
+      final MutableSynonym synonym = new MutableSynonym(schemas.get(in.readInt()), in.readString());
+      readAttributes(in, synonym);
+      final byte referencedObjectType = in.readByte();
+      final Schema referencedSchema = schemas.get(in.readInt());
+      final String referencedObjectName = in.readString();
+      DatabaseObject referencedObject = null;
+      if (referencedObjectType == SnapshotFormat.REFERENCED_TABLE) {
+        referencedObject = catalog.lookupTable(referencedSchema, referencedObjectName).orElse(null);
+      } else if (referencedObjectType == SnapshotFormat.REFERENCED_ROUTINE) {
+        final NamedObjectKey routineLookupKey =
+            referencedSchema.key().with(referencedObjectName).with(in.readString());
+        referencedObject = catalog.lookupRoutine(routineLookupKey).orElse(null);
+      }
+      if (!synonymFilter.test(synonym)) {
+        continue;
+      }
+      if (referencedObject == null) {
+        referencedObject =
+            new SynonymRetriever.UnknownDatabaseObject(referencedSchema, referencedObjectName);
+      }
+      synonym.setReferencedObject(referencedObject);
+      catalog.addSynonym(synonym);
+    }
+
+    while (in.readBoolean()) {
+      final Optional<MutableTable> optionalTable =
+          catalog.lookupTable(schemas.get(in.readInt()), in.readString());
+      final byte constraintType = in.readByte();
+      final String constraintName = in.readString();
+      if (!optionalTable.isPresent()) {
+        continue;
+      }
+      final MutableTable table = optionalTable.get();
+      if (constraintType == SnapshotFormat.CONSTRAINT_FOREIGN_KEY) {
+        table.lookupForeignKey(constraintName).ifPresent(table::addTableConstraint);
+      } else {
+        for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+          if (weakAssociation.getName().equals(constraintName)) {
+            table.addTableConstraint(weakAssociation);
+          }
+        }
+      }
+    }
+  }
+
+  private void readRoutine(final SnapshotInput in, final Schema schema) throws IOException {
+    final int recordEnd = readRecordEnd(in);
+    final byte routineType = in.readByte();
+    final String name = in.readString();
+    final String specificName = in.readString();
+    final MutableRoutine routine;
+    if (routineType == SnapshotFormat.FUNCTION) {
+      routine = new MutableFunction(schema, name, specificName);
+    } else {
+      routine = new MutableProcedure(schema, name, specificName);
+    }
+    if (recordEnd >= 0 && !routineFilter.test(routine)) {
+      in.skipTo(recordEnd);
+      return;
+    }
+    routine.setRoutineBodyType(in.readEnum(RoutineBodyType.class, RoutineBodyType.unknown));
+    routine.appendDefinition(in.readString());
+    readAttributes(in, routine);
+    final String changeMarker = in.readString();
+    if (changeMarker != null) {
+      final NamedObjectKey key = schema.key().with(name);
+      routineChangeMarkers.put(key, changeMarker);
+      fullNames.put(key, new TablePartial(schema, name).getFullName());
+    }
+
+    if (routine instanceof MutableFunction) {
+      final MutableFunction function = (MutableFunction) routine;
+      function.setReturnType(in.readEnum(FunctionReturnType.class, FunctionReturnType.unknown));
+      final int parametersCount = in.readInt();
+      for (int i = 0; i < parametersCount; i++) {
+        final MutableFunctionParameter parameter =
+            new MutableFunctionParameter(function, in.readString());
+        readColumnFields(in, parameter);
+        parameter.setParameterMode(in.readEnum(ParameterModeType.class, ParameterModeType.unknown));
+        function.addParameter(parameter);
+      }
+    } else {
+      final MutableProcedure procedure = (MutableProcedure) routine;
+      procedure.setReturnType(in.readEnum(ProcedureReturnType.class, ProcedureReturnType.unknown));
+      final int parametersCount = in.readInt();
+      for (int i = 0; i < parametersCount; i++) {
+        final MutableProcedureParameter parameter =
+            new MutableProcedureParameter(procedure, in.readString());
+        readColumnFields(in, parameter);
+        parameter.setParameterMode(in.readEnum(ParameterModeType.class, ParameterModeType.unknown));
+        procedure.addParameter(parameter);
+      }
+    }
+    readFingerprint(in, routine);
+
+    catalog.addRoutine(routine);
+  }
+
+  private void readSchemaSection(final SnapshotInput in, final Schema schema) throws IOException {
+    final int tablesCount = in.readInt();
+    for (int i = 0; i < tablesCount; i++) {
+      readTable(in, schema);
+    }
+
+    final int routinesCount = in.readInt();
+    for (int i = 0; i < routinesCount; i++) {
+      readRoutine(in, schema);
+    }
+
+    final int sequencesCount = in.readInt();
+    for (int i = 0; i < sequencesCount; i++) {
+      final MutableSequence sequence = new MutableSequence(schema, in.readString());
+      sequence.setIncrement(in.readLong());
+      sequence.setMinimumValue(in.readBigInteger());
+      sequence.setMaximumValue(in.readBigInteger());
+      sequence.setStartValue(in.readBigInteger());
+      sequence.setCycle(in.readBoolean());
+      readAttributes(in, sequence);
+      if (sequenceFilter.test(sequence)) {
+        catalog.addSequence(sequence);
+      }
+    }
+  }
+
+  private void readTable(final SnapshotInput in, final Schema schema) throws IOException {
+    final int recordEnd = readRecordEnd(in);
+    final byte tableType = in.readByte();
+    final String name = in.readString();
+    final MutableTable table;
+    if (tableType == SnapshotFormat.VIEW) {
+      table = new MutableView(schema, name);
+    } else {
+      table = new MutableTable(schema, name);
+    }
+    final String tableTypeName = in.readString();
+    if (!isBlank(tableTypeName)) {
+      table.setTableType(new TableType(tableTypeName));
+    }
+    if (recordEnd >= 0 && !tableFilter.test(table)) {
+      in.skipTo(recordEnd);
+      return;
+    }
+    table.appendDefinition(in.readString());
+    table.setSortIndex(in.readInt());
+    readAttributes(in, table);
+    final String changeMarker = in.readString();
+    if (changeMarker != null) {
+      tableChangeMarkers.put(table.key(), changeMarker);
+      fullNames.put(table.key(), table.getFullName());
+    }
+
+    final int columnsCount = in.readInt();
+    for (int i = 0; i < columnsCount; i++) {
+      final MutableColumn column = new MutableColumn(table, in.readString());
+      readColumnFields(in, column);
+      final boolean isHidden = in.readBoolean();
+      column.setDefaultValue(in.readString());
+      column.setAutoIncremented(in.readBoolean());
+      column.setGenerated(in.readBoolean());
+      if (in.readBoolean()) {
+        column.markAsPartOfIndex();
+      }
+      if (in.readBoolean()) {
+        column.markAsPartOfPrimaryKey();
+      }
+      if (in.readBoolean()) {
+        column.markAsPartOfUniqueIndex();
+      }
+      for (final MutablePrivilege<Column> privilege :
+          readPrivileges(in, new ColumnPointer(column))) {
+        column.addPrivilege(privilege);
+      }
+      readFingerprint(in, column);
+      if (isHidden) {
+        table.addHiddenColumn(column);
+      } else {
+        table.addColumn(column);
+      }
+    }
+
+    if (in.readBoolean()) {
+      final MutablePrimaryKey primaryKey = MutablePrimaryKey.newPrimaryKey(table, in.readString());
+      readConstraint(in, table, primaryKey);
+      table.setPrimaryKey(primaryKey);
+    }
+    final int alternateKeysCount = in.readInt();
+    for (int i = 0; i < alternateKeysCount; i++) {
+      final MutablePrimaryKey alternateKey =
+          MutablePrimaryKey.newAlternateKey(table, in.readString());
+      readConstraint(in, table, alternateKey);
+      table.addAlternateKey(alternateKey);
+    }
+
+    final int indexesCount = in.readInt();
+    for (int i = 0; i < indexesCount; i++) {
+      readIndex(in, table);
+    }
+
+    final int triggersCount = in.readInt();
+    for (int i = 0; i < triggersCount; i++) {
+      final MutableTrigger trigger = new MutableTrigger(table, in.readString());
+      trigger.setEventManipulationType(
+          in.readEnum(EventManipulationType.class, EventManipulationType.unknown));
+      trigger.setConditionTiming(
+          in.readEnum(ConditionTimingType.class, ConditionTimingType.unknown));
+      trigger.setActionOrientation(
+          in.readEnum(ActionOrientationType.class, ActionOrientationType.unknown));
+      trigger.setActionOrder(in.readInt());
+      trigger.appendActionCondition(in.readString());
+      trigger.appendActionStatement(in.readString());
+      readAttributes(in, trigger);
+      table.addTrigger(trigger);
+    }
+
+    for (final MutablePrivilege<Table> privilege : readPrivileges(in, new TablePointer(table))) {
+      table.addPrivilege(privilege);
+    }
+
+    final int constraintsCount = in.readInt();
+    for (int i = 0; i < constraintsCount; i++) {
+      final byte constraintType = in.readByte();
+      final String constraintName = in.readString();
+      if (constraintType == SnapshotFormat.CONSTRAINT_PRIMARY_KEY) {
+        if (table.getPrimaryKey() != null) {
+          table.addTableConstraint(table.getPrimaryKey());
+        }
+      } else if (constraintType == SnapshotFormat.CONSTRAINT_ALTERNATE_KEY) {
+        table.lookupAlternateKey(constraintName).ifPresent(table::addTableConstraint);
+      } else {
+        final MutableTableConstraint constraint = new MutableTableConstraint(table, constraintName);
+        readConstraint(in, table, constraint);
+        table.addTableConstraint(constraint);
+      }
+    }
+
+    if (table instanceof MutableView) {
+      final MutableView view = (MutableView) table;
+      view.setCheckOption(in.readEnum(CheckOptionType.class, CheckOptionType.unknown));
+      view.setUpdatable(in.readBoolean());
+    }
+    readFingerprint(in, table);
+
+    catalog.addTable(table);
+  }
+
+  private List<Section> readTableOfContents(final SnapshotSource source) throws IOException {
+    final long snapshotLength = source.size();
+    if (snapshotLength < SnapshotFormat.HEADER_LENGTH) {
+      throw new IOException("Not a catalog snapshot");
+    }
+    final ByteBuffer header = source.map(0, SnapshotFormat.HEADER_LENGTH);
+    final byte[] magic = new byte[SnapshotFormat.MAGIC.length];
+    header.get(magic);
+    if (!SnapshotFormat.isSnapshotHeader(magic)) {
+      throw new IOException("Not a catalog snapshot");
+    }
+    formatVersion = header.getInt();
+    if (formatVersion > SnapshotFormat.FORMAT_VERSION) {
+      throw new IOException(
+          String.format(
+              "Cannot read catalog snapshot format version <%d>, expected version <%d> or earlier",
+              formatVersion, SnapshotFormat.FORMAT_VERSION));
+    }
+    final long tableOfContentsOffset = header.getLong();
+    checkBounds(snapshotLength, tableOfContentsOffset, snapshotLength - tableOfContentsOffset);
+
+    final ByteBuffer tableOfContents =
+        source.map(tableOfContentsOffset, snapshotLength - tableOfContentsOffset);
+    final int sectionsCount = tableOfContents.getInt();
+    final List<Section> sections = new ArrayList<>(sectionsCount);
+    for (int i = 0; i < sectionsCount; i++) {
+      final byte type = tableOfContents.get();
+      final int schemaIndex = tableOfContents.getInt();
+      final long offset = tableOfContents.getLong();
+      final long length = tableOfContents.getLong();
+      checkBounds(snapshotLength, offset, length);
+      sections.add(new Section(type, schemaIndex, offset, length));
+    }
+    return sections;
+  }
+}
@@ -0,0 +1,776 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.WeakAssociation;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Writes a catalog to a compact binary snapshot, which can be read back with {@link
+ * CatalogSnapshotReader}. The snapshot has a string table, so that names, types and remarks are
+ * written only once, and a table of contents, so that the sections for each schema can be located
+ * without reading the others.
+ */
+public final class CatalogSnapshotWriter {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSnapshotWriter.class.getName());
+
+  private final MutableCatalog catalog;
+  private final SnapshotOutput.StringTable stringTable;
+  private final Map<NamedObjectKey, Integer> schemaIndexes;
+  private final List<Schema> schemas;
+  private final int catalogSchemasCount;
+  private final Map<NamedObjectKey, Integer> columnDataTypeIndexes;
+  private final List<ColumnDataType> columnDataTypes;
+  private final int catalogColumnDataTypesCount;
+  private final ChangeMarkers changeMarkers;
+
+  public CatalogSnapshotWriter(final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    if (!(catalog instanceof MutableCatalog)) {
+      throw new IllegalArgumentException(
+          "Cannot write snapshot for catalog of type " + catalog.getClass().getName());
+    }
+    this.catalog = (MutableCatalog) catalog;
+
+    stringTable = new SnapshotOutput.StringTable();
+    schemaIndexes = new HashMap<>();
+    schemas = new ArrayList<>();
+    columnDataTypeIndexes = new HashMap<>();
+    columnDataTypes = new ArrayList<>();
+    changeMarkers = this.catalog.getChangeMarkers().orElse(null);
+
+    for (final Schema schema : this.catalog.getAllSchemas()) {
+      schemaIndex(schema);
+    }
+    catalogSchemasCount = schemas.size();
+    for (final ColumnDataType columnDataType : this.catalog.getColumnDataTypes()) {
+      columnDataTypeIndex(columnDataType);
+    }
+    catalogColumnDataTypesCount = columnDataTypes.size();
+  }
+
+  /**
+   * Writes the snapshot to an output stream. The stream is not closed.
+   *
+   * @param out Output stream
+   * @throws IOException On an exception writing the snapshot
+   */
+  public void write(final OutputStream out) throws IOException {
+    requireNonNull(out, "No output stream provided");
+
+    // Objects are grouped by schema, and written in the order of the schemas in the catalog
+    final Map<Integer, List<MutableTable>> tablesBySchema = new HashMap<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      tablesBySchema
+          .computeIfAbsent(schemaIndex(table.getSchema()), index -> new ArrayList<>())
+          .add(table);
+    }
+    final Map<Integer, List<MutableRoutine>> routinesBySchema = new HashMap<>();
+    for (final MutableRoutine routine : catalog.getAllRoutines()) {
+      routinesBySchema
+          .computeIfAbsent(schemaIndex(routine.getSchema()), index -> new ArrayList<>())
+          .add(routine);
+    }
+    final Map<Integer, List<Sequence>> sequencesBySchema = new HashMap<>();
+    for (final Sequence sequence : catalog.getSequences()) {
+      sequencesBySchema
+          .computeIfAbsent(schemaIndex(sequence.getSchema()), index -> new ArrayList<>())
+          .add(sequence);
+    }
+
+    final List<Integer> sectionSchemaIndexes = new ArrayList<>();
+    final List<SnapshotOutput> schemaSections = new ArrayList<>();
+    for (int schemaIndex = 0; schemaIndex < schemas.size(); schemaIndex++) {
+      final List<MutableTable> tables = tablesBySchema.get(schemaIndex);
+      final List<MutableRoutine> routines = routinesBySchema.get(schemaIndex);
+      final List<Sequence> sequences = sequencesBySchema.get(schemaIndex);
+      if (tables == null && routines == null && sequences == null) {
+        continue;
+      }
+      sectionSchemaIndexes.add(schemaIndex);
+      schemaSections.add(writeSchemaSection(tables, routines, sequences));
+    }
+
+    final SnapshotOutput referencesSection = writeReferencesSection();
+    final SnapshotOutput catalogSection = writeCatalogSection();
+    final SnapshotOutput stringsSection = stringTable.toSection();
+
+    final List<Byte> sectionTypes = new ArrayList<>();
+    final List<Integer> sectionSchemas = new ArrayList<>();
+    final List<SnapshotOutput> sections = new ArrayList<>();
+    sectionTypes.add(SnapshotFormat.SECTION_STRINGS);
+    sectionSchemas.add(-1);
+    sections.add(stringsSection);
+    sectionTypes.add(SnapshotFormat.SECTION_CATALOG);
+    sectionSchemas.add(-1);
+    sections.add(catalogSection);
+    for (int i = 0; i < schemaSections.size(); i++) {
+      sectionTypes.add(SnapshotFormat.SECTION_SCHEMA);
+      sectionSchemas.add(sectionSchemaIndexes.get(i));
+      sections.add(schemaSections.get(i));
+    }
+    sectionTypes.add(SnapshotFormat.SECTION_REFERENCES);
+    sectionSchemas.add(-1);
+    sections.add(referencesSection);
+
+    final SnapshotOutput tableOfContents = new SnapshotOutput(null);
+    tableOfContents.writeFixedInt(sections.size());
+    long offset = SnapshotFormat.HEADER_LENGTH;
+    for (int i = 0; i < sections.size(); i++) {
+      final int length = sections.get(i).size();
+      tableOfContents.writeByte(sectionTypes.get(i));
+      tableOfContents.writeFixedInt(sectionSchemas.get(i));
+      tableOfContents.writeFixedLong(offset);
+      tableOfContents.writeFixedLong(length);
+      offset = offset + length;
+    }
+
+    final SnapshotOutput header = new SnapshotOutput(null);
+    header.writeBytes(SnapshotFormat.MAGIC);
+    header.writeFixedInt(SnapshotFormat.FORMAT_VERSION);
+    header.writeFixedLong(offset);
+
+    out.write(header.toByteArray());
+    for (final SnapshotOutput section : sections) {
+      out.write(section.toByteArray());
+    }
+    out.write(tableOfContents.toByteArray());
+    out.flush();
+  }
+
+  private int columnDataTypeIndex(final ColumnDataType columnDataType) {
+    final NamedObjectKey key = columnDataType.key();
+    final Integer index = columnDataTypeIndexes.get(key);
+    if (index != null) {
+      return index;
+    }
+    final int newIndex = columnDataTypes.size();
+    columnDataTypeIndexes.put(key, newIndex);
+    columnDataTypes.add(columnDataType);
+    return newIndex;
+  }
+
+  private int schemaIndex(final Schema schema) {
+    final NamedObjectKey key = schema.key();
+    final Integer index = schemaIndexes.get(key);
+    if (index != null) {
+      return index;
+    }
+    final int newIndex = schemas.size();
+    schemaIndexes.put(key, newIndex);
+    schemas.add(schema);
+    return newIndex;
+  }
+
+  /**
+   * Routines without a specific name report their name as the specific name, but are looked up
+   * without it, so the specific name is only written if it is part of the key.
+   */
+  private String specificName(final Routine routine) {
+    final String specificName = routine.getSpecificName();
+    final NamedObjectKey keyWithSpecificName =
+        routine.getSchema().key().with(routine.getName()).with(specificName);
+    if (routine.key().equals(keyWithSpecificName)) {
+      return specificName;
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Writes attributes. Attributes with values that cannot be read back from the snapshot, such as
+   * objects defined by plugins, are skipped.
+   */
+  private void writeAttributes(final SnapshotOutput out, final Map<String, Object> attributes)
+      throws IOException {
+    final SnapshotOutput attributesOut = new SnapshotOutput(stringTable);
+    int count = 0;
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      final String name = attribute.getKey();
+      final int start = attributesOut.size();
+      attributesOut.writeString(name);
+      if (attributesOut.writeValueIfSupported(attribute.getValue())) {
+        count++;
+      } else {
+        attributesOut.truncate(start);
+        LOGGER.log(Level.CONFIG, new StringFormat("Not writing attribute <%s> to snapshot", name));
+      }
+    }
+    out.writeInt(count);
+    out.writeBytes(attributesOut.toByteArray());
+  }
+
+  private SnapshotOutput writeCatalogSection() throws IOException {
+    final SnapshotOutput out = new SnapshotOutput(stringTable);
+
+    out.writeString(catalog.getName());
+    writeAttributes(out, catalog.getAttributes());
+
+    final MutableDatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    final MutableJdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    out.writeString(databaseInfo.getProductName());
+    out.writeString(databaseInfo.getProductVersion());
+    out.writeString(databaseInfo.getUserName());
+    out.writeString(jdbcDriverInfo.getConnectionUrl());
+    out.writeString(jdbcDriverInfo.getProductName());
+    out.writeString(jdbcDriverInfo.getProductVersion());
+    out.writeInt(jdbcDriverInfo.getDriverMajorVersion());
+    out.writeInt(jdbcDriverInfo.getDriverMinorVersion());
+    out.writeInt(jdbcDriverInfo.getJdbcMajorVersion());
+    out.writeInt(jdbcDriverInfo.getJdbcMinorVersion());
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    final Instant crawlTimestamp = crawlInfo.getCrawlTimestampInstant();
+    out.writeLong(crawlTimestamp.getEpochSecond());
+    out.writeInt(crawlTimestamp.getNano());
+    out.writeString(crawlInfo.getRunId());
+    writeProductVersion(out, crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(out, crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(out, crawlInfo.getJvmVersion());
+    writeProductVersion(out, crawlInfo.getDatabaseVersion());
+    writeProductVersion(out, crawlInfo.getJdbcDriverVersion());
+    final List<RetrievalMetrics> retrievalMetrics = crawlInfo.getRetrievalMetrics();
+    out.writeInt(retrievalMetrics.size());
+    for (final RetrievalMetrics metrics : retrievalMetrics) {
+      out.writeString(metrics.getRetrievalName());
+      out.writeString(metrics.getThreadName());
+      out.writeLong(metrics.getDuration().toNanos());
+      out.writeLong(metrics.getObjectCount());
+      out.writeLong(metrics.getQueryCount());
+      out.writeLong(metrics.getRowCount());
+    }
+
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    out.writeInt(serverInfo.size());
+    for (final Property property : serverInfo) {
+      out.writeString(property.getName());
+      out.writeString(String.valueOf(property.getValue()));
+      out.writeString(property.getDescription());
+    }
+    final Collection<DatabaseProperty> databaseProperties = databaseInfo.getProperties();
+    out.writeInt(databaseProperties.size());
+    for (final DatabaseProperty property : databaseProperties) {
+      out.writeString(property.getName());
+      if (!out.writeValueIfSupported(property.getValue())) {
+        LOGGER.log(
+            Level.CONFIG,
+            new StringFormat("Not writing database property <%s> to snapshot", property.getName()));
+        out.writeValue(null);
+      }
+    }
+
+    out.writeString(jdbcDriverInfo.getDriverClassName());
+    out.writeBoolean(jdbcDriverInfo.isJdbcCompliant());
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo.getDriverProperties();
+    out.writeInt(driverProperties.size());
+    for (final JdbcDriverProperty property : driverProperties) {
+      out.writeString(property.getName());
+      out.writeString((String) property.getValue());
+      out.writeString(property.getDescription());
+      out.writeBoolean(property.isRequired());
+      out.writeStrings(property.getChoices());
+    }
+
+    final Collection<DatabaseUser> databaseUsers = catalog.getDatabaseUsers();
+    out.writeInt(databaseUsers.size());
+    for (final DatabaseUser databaseUser : databaseUsers) {
+      out.writeString(databaseUser.getName());
+      writeAttributes(out, databaseUser.getAttributes());
+    }
+
+    if (changeMarkers == null) {
+      out.writeBoolean(false);
+    } else {
+      out.writeBoolean(true);
+      out.writeBoolean(changeMarkers.hasRoutineChangeMarkers());
+    }
+
+    // Base types may refer to types that are not used elsewhere, and column data types may be in
+    // schemas that are not in the catalog, so column data types are written before schemas are
+    // written, into a separate buffer
+    for (int i = 0; i < columnDataTypes.size(); i++) {
+      final ColumnDataType baseType = columnDataTypes.get(i).getBaseType();
+      if (baseType != null) {
+        columnDataTypeIndex(baseType);
+      }
+    }
+    final SnapshotOutput columnDataTypesOut = new SnapshotOutput(stringTable);
+    columnDataTypesOut.writeInt(columnDataTypes.size());
+    for (int i = 0; i < columnDataTypes.size(); i++) {
+      writeColumnDataType(columnDataTypesOut, columnDataTypes.get(i));
+      columnDataTypesOut.writeBoolean(i < catalogColumnDataTypesCount);
+    }
+
+    out.writeInt(schemas.size());
+    for (int i = 0; i < schemas.size(); i++) {
+      final Schema schema = schemas.get(i);
+      out.writeString(schema.getCatalogName());
+      out.writeString(schema.getName());
+      out.writeBoolean(i < catalogSchemasCount);
+      writeAttributes(out, schema.getAttributes());
+    }
+    out.writeBytes(columnDataTypesOut.toByteArray());
+
+    return out;
+  }
+
+  private void writeColumn(final SnapshotOutput out, final Column column) throws IOException {
+    writeColumnFields(out, column);
+    out.writeBoolean(column.isHidden());
+    out.writeString(column.getDefaultValue());
+    out.writeBoolean(column.isAutoIncremented());
+    out.writeBoolean(column.isGenerated());
+    out.writeBoolean(column.isPartOfIndex());
+    out.writeBoolean(column.isPartOfPrimaryKey());
+    out.writeBoolean(column.isPartOfUniqueIndex());
+    writePrivileges(out, column.getPrivileges());
+    out.writeFixedLong(ContentFingerprints.fingerprint(column));
+  }
+
+  private void writeColumnDataType(final SnapshotOutput out, final ColumnDataType columnDataType)
+      throws IOException {
+    out.writeInt(schemaIndex(columnDataType.getSchema()));
+    out.writeString(columnDataType.getName());
+    out.writeEnum(columnDataType.getType());
+    final ColumnDataType baseType = columnDataType.getBaseType();
+    if (baseType == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(columnDataTypeIndex(baseType));
+    }
+    out.writeBoolean(columnDataType.isAutoIncrementable());
+    out.writeBoolean(columnDataType.isCaseSensitive());
+    out.writeString(columnDataType.getCreateParameters());
+    out.writeStrings(columnDataType.getEnumValues());
+    out.writeBoolean(columnDataType.isFixedPrecisionScale());
+    out.writeInt(columnDataType.getJavaSqlType().getVendorTypeNumber());
+    out.writeString(columnDataType.getLiteralPrefix());
+    out.writeString(columnDataType.getLiteralSuffix());
+    out.writeString(columnDataType.getLocalTypeName());
+    out.writeInt(columnDataType.getMaximumScale());
+    out.writeInt(columnDataType.getMinimumScale());
+    out.writeBoolean(columnDataType.isNullable());
+    out.writeInt(columnDataType.getNumPrecisionRadix());
+    out.writeLong(columnDataType.getPrecision());
+    out.writeEnum(columnDataType.getSearchable());
+    out.writeString(columnDataType.getTypeMappedClass().getName());
+    out.writeBoolean(columnDataType.isUnsigned());
+    writeAttributes(out, columnDataType.getAttributes());
+  }
+
+  private void writeColumnFields(final SnapshotOutput out, final BaseColumn<?> column)
+      throws IOException {
+    out.writeString(column.getName());
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(columnDataTypeIndex(columnDataType));
+    }
+    out.writeInt(column.getSize());
+    out.writeInt(column.getDecimalDigits());
+    out.writeBoolean(column.isNullable());
+    out.writeInt(column.getOrdinalPosition());
+    writeAttributes(out, column.getAttributes());
+  }
+
+  private void writeColumnReference(final SnapshotOutput out, final Column column) {
+    final Table table = column.getParent();
+    out.writeInt(schemaIndex(table.getSchema()));
+    out.writeString(table.getName());
+    out.writeString(column.getName());
+  }
+
+  private void writeColumnReferences(
+      final SnapshotOutput out, final List<ColumnReference> columnReferences) {
+    out.writeInt(columnReferences.size());
+    for (final ColumnReference columnReference : columnReferences) {
+      out.writeInt(columnReference.getKeySequence());
+      writeColumnReference(out, columnReference.getForeignKeyColumn());
+      writeColumnReference(out, columnReference.getPrimaryKeyColumn());
+    }
+  }
+
+  private void writeConstraint(final SnapshotOutput out, final TableConstraint constraint)
+      throws IOException {
+    out.writeString(constraint.getName());
+    out.writeEnum(constraint.getType());
+    out.writeBoolean(constraint.isDeferrable());
+    out.writeBoolean(constraint.isInitiallyDeferred());
+    out.writeString(constraint.getDefinition());
+    writeAttributes(out, constraint.getAttributes());
+    final List<TableConstraintColumn> columns = constraint.getConstrainedColumns();
+    out.writeInt(columns.size());
+    for (final TableConstraintColumn column : columns) {
+      final MutableKeyColumn keyColumn = (MutableKeyColumn) column;
+      out.writeString(column.getName());
+      out.writeInt(keyColumn.getKeyOrdinalPosition());
+      out.writeString(keyColumn.getDefinition());
+      writeAttributes(out, column.getAttributes());
+    }
+  }
+
+  private void writeIndex(final SnapshotOutput out, final Index index) throws IOException {
+    out.writeString(index.getName());
+    out.writeEnum(index.getIndexType());
+    out.writeBoolean(index.isUnique());
+    out.writeLong(index.getCardinality());
+    out.writeLong(index.getPages());
+    out.writeString(index.getDefinition());
+    writeAttributes(out, index.getAttributes());
+    final List<IndexColumn> columns = index.getColumns();
+    out.writeInt(columns.size());
+    for (final IndexColumn column : columns) {
+      final MutableKeyColumn keyColumn = (MutableKeyColumn) column;
+      out.writeString(column.getName());
+      out.writeInt(keyColumn.getKeyOrdinalPosition());
+      out.writeEnum(column.getSortSequence());
+      out.writeString(keyColumn.getDefinition());
+      writeAttributes(out, column.getAttributes());
+    }
+    out.writeFixedLong(ContentFingerprints.fingerprint(index));
+  }
+
+  private <D extends DatabaseObject> void writePrivileges(
+      final SnapshotOutput out, final Collection<Privilege<D>> privileges) throws IOException {
+    out.writeInt(privileges.size());
+    for (final Privilege<D> privilege : privileges) {
+      out.writeString(privilege.getName());
+      writeAttributes(out, privilege.getAttributes());
+      final Collection<Grant<D>> grants = privilege.getGrants();
+      out.writeInt(grants.size());
+      for (final Grant<D> grant : grants) {
+        out.writeString(grant.getGrantor());
+        out.writeString(grant.getGrantee());
+        out.writeBoolean(grant.isGrantable());
+      }
+    }
+  }
+
+  private void writeProductVersion(final SnapshotOutput out, final ProductVersion productVersion) {
+    out.writeString(productVersion.getProductName());
+    out.writeString(productVersion.getProductVersion());
+  }
+
+  private SnapshotOutput writeReferencesSection() throws IOException {
+    final SnapshotOutput out = new SnapshotOutput(stringTable);
+
+    final Set<ForeignKey> foreignKeys = new LinkedHashSet<>();
+    final Set<WeakAssociation> weakAssociations = new LinkedHashSet<>();
+    final List<MutableView> views = new ArrayList<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      foreignKeys.addAll(table.getForeignKeys());
+      weakAssociations.addAll(table.getWeakAssociations());
+      if (table instanceof MutableView) {
+        views.add((MutableView) table);
+      }
+    }
+
+    out.writeInt(foreignKeys.size());
+    for (final ForeignKey foreignKey : foreignKeys) {
+      out.writeString(foreignKey.getName());
+      writeColumnReferences(out, foreignKey.getColumnReferences());
+      out.writeEnum(foreignKey.getUpdateRule());
+      out.writeEnum(foreignKey.getDeleteRule());
+      out.writeEnum(foreignKey.getDeferrability());
+      out.writeString(foreignKey.getDefinition());
+      writeAttributes(out, foreignKey.getAttributes());
+      out.writeFixedLong(ContentFingerprints.fingerprint(foreignKey));
+    }
+
+    out.writeInt(weakAssociations.size());
+    for (final WeakAssociation weakAssociation : weakAssociations) {
+      out.writeString(weakAssociation.getName());
+      writeColumnReferences(out, weakAssociation.getColumnReferences());
+      writeAttributes(out, weakAssociation.getAttributes());
+    }
+
+    out.writeInt(views.size());
+    for (final MutableView view : views) {
+      out.writeInt(schemaIndex(view.getSchema()));
+      out.writeString(view.getName());
+      final Collection<Table> tableUsage = view.getTableUsage();
+      out.writeInt(tableUsage.size());
+      for (final Table table : tableUsage) {
+        out.writeInt(schemaIndex(table.getSchema()));
+        out.writeString(table.getName());
+      }
+    }
+
+    final Collection<Synonym> synonyms = catalog.getSynonyms();
+    out.writeInt(synonyms.size());
+    for (final Synonym synonym : synonyms) {
+      out.writeInt(schemaIndex(synonym.getSchema()));
+      out.writeString(synonym.getName());
+      writeAttributes(out, synonym.getAttributes());
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof Table) {
+        out.writeByte(SnapshotFormat.REFERENCED_TABLE);
+      } else if (referencedObject instanceof Routine) {
+        out.writeByte(SnapshotFormat.REFERENCED_ROUTINE);
+      } else {
+        out.writeByte(SnapshotFormat.REFERENCED_UNKNOWN);
+      }
+      out.writeInt(schemaIndex(referencedObject.getSchema()));
+      out.writeString(referencedObject.getName());
+      if (referencedObject instanceof Routine) {
+        out.writeString(specificName((Routine) referencedObject));
+      }
+    }
+
+    // Table constraints that are foreign keys or weak associations can only be linked to their
+    // tables once the references have been read
+    for (final MutableTable table : catalog.getAllTables()) {
+      for (final TableConstraint constraint : table.getTableConstraints()) {
+        if (constraint instanceof ForeignKey || constraint instanceof WeakAssociation) {
+          out.writeBoolean(true);
+          out.writeInt(schemaIndex(table.getSchema()));
+          out.writeString(table.getName());
+          if (constraint instanceof ForeignKey) {
+            out.writeByte(SnapshotFormat.CONSTRAINT_FOREIGN_KEY);
+          } else {
+            out.writeByte(SnapshotFormat.CONSTRAINT_WEAK_ASSOCIATION);
+          }
+          out.writeString(constraint.getName());
+        }
+      }
+    }
+    out.writeBoolean(false);
+
+    return out;
+  }
+
+  private void writeRoutine(final SnapshotOutput out, final MutableRoutine routine)
+      throws IOException {
+    final boolean isFunction = routine instanceof MutableFunction;
+    out.writeByte(isFunction ? SnapshotFormat.FUNCTION : SnapshotFormat.PROCEDURE);
+    out.writeString(routine.getName());
+    out.writeString(specificName(routine));
+    out.writeEnum(routine.getRoutineBodyType());
+    out.writeString(routine.getDefinition());
+    writeAttributes(out, routine.getAttributes());
+    if (changeMarkers == null) {
+      out.writeString(null);
+    } else {
+      out.writeString(
+          changeMarkers.routineChangeMarker(routine.getSchema().key().with(routine.getName())));
+    }
+
+    if (isFunction) {
+      out.writeEnum(((MutableFunction) routine).getReturnType());
+    } else {
+      out.writeEnum(((MutableProcedure) routine).getReturnType());
+    }
+    final List<RoutineParameter<? extends Routine>> parameters = routine.getParameters();
+    out.writeInt(parameters.size());
+    for (final RoutineParameter<? extends Routine> parameter : parameters) {
+      writeColumnFields(out, parameter);
+      out.writeEnum(parameter.getParameterMode());
+    }
+    out.writeFixedLong(ContentFingerprints.fingerprint(routine));
+  }
+
+  private SnapshotOutput writeSchemaSection(
+      final List<MutableTable> tables,
+      final List<MutableRoutine> routines,
+      final List<Sequence> sequences)
+      throws IOException {
+    final SnapshotOutput out = new SnapshotOutput(stringTable);
+    final SnapshotOutput record = new SnapshotOutput(stringTable);
+
+    if (tables == null) {
+      out.writeInt(0);
+    } else {
+      out.writeInt(tables.size());
+      for (final MutableTable table : tables) {
+        record.reset();
+        writeTable(record, table);
+        out.writeRecord(record);
+      }
+    }
+
+    if (routines == null) {
+      out.writeInt(0);
+    } else {
+      out.writeInt(routines.size());
+      for (final MutableRoutine routine : routines) {
+        record.reset();
+        writeRoutine(record, routine);
+        out.writeRecord(record);
+      }
+    }
+
+    if (sequences == null) {
+      out.writeInt(0);
+    } else {
+      out.writeInt(sequences.size());
+      for (final Sequence sequence : sequences) {
+        out.writeString(sequence.getName());
+        out.writeLong(sequence.getIncrement());
+        out.writeBigInteger(sequence.getMinimumValue());
+        out.writeBigInteger(sequence.getMaximumValue());
+        out.writeBigInteger(sequence.getStartValue());
+        out.writeBoolean(sequence.isCycle());
+        writeAttributes(out, sequence.getAttributes());
+      }
+    }
+
+    return out;
+  }
+
+  private void writeTable(final SnapshotOutput out, final MutableTable table) throws IOException {
+    final boolean isView = table instanceof MutableView;
+    out.writeByte(isView ? SnapshotFormat.VIEW : SnapshotFormat.TABLE);
+    out.writeString(table.getName());
+    out.writeString(table.getTableType().getTableType());
+    out.writeString(table.getDefinition());
+    out.writeInt(table.getSortIndex());
+    writeAttributes(out, table.getAttributes());
+    if (changeMarkers == null) {
+      out.writeString(null);
+    } else {
+      out.writeString(changeMarkers.tableChangeMarker(table.key()));
+    }
+
+    final List<Column> columns = new ArrayList<>(table.getColumns());
+    columns.addAll(table.getHiddenColumns());
+    out.writeInt(columns.size());
+    for (final Column column : columns) {
+      writeColumn(out, column);
+    }
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    out.writeBoolean(primaryKey != null);
+    if (primaryKey != null) {
+      writeConstraint(out, primaryKey);
+    }
+    final Collection<PrimaryKey> alternateKeys = table.getAlternateKeys();
+    out.writeInt(alternateKeys.size());
+    for (final PrimaryKey alternateKey : alternateKeys) {
+      writeConstraint(out, alternateKey);
+    }
+
+    final Collection<Index> indexes = table.getIndexes();
+    out.writeInt(indexes.size());
+    for (final Index index : indexes) {
+      writeIndex(out, index);
+    }
+
+    final Collection<Trigger> triggers = table.getTriggers();
+    out.writeInt(triggers.size());
+    for (final Trigger trigger : triggers) {
+      out.writeString(trigger.getName());
+      out.writeEnum(trigger.getEventManipulationType());
+      out.writeEnum(trigger.getConditionTiming());
+      out.writeEnum(trigger.getActionOrientation());
+      out.writeInt(trigger.getActionOrder());
+      out.writeString(trigger.getActionCondition());
+      out.writeString(trigger.getActionStatement());
+      writeAttributes(out, trigger.getAttributes());
+    }
+
+    writePrivileges(out, table.getPrivileges());
+
+    // Foreign keys and weak associations are linked in the references section
+    final List<TableConstraint> constraints = new ArrayList<>();
+    for (final TableConstraint constraint : table.getTableConstraints()) {
+      if (!(constraint instanceof ForeignKey || constraint instanceof WeakAssociation)) {
+        constraints.add(constraint);
+      }
+    }
+    out.writeInt(constraints.size());
+    for (final TableConstraint constraint : constraints) {
+      if (constraint == primaryKey) {
+        out.writeByte(SnapshotFormat.CONSTRAINT_PRIMARY_KEY);
+        out.writeString(constraint.getName());
+      } else if (constraint instanceof PrimaryKey
+          && constraint.getType() == TableConstraintType.alternate_key) {
+        out.writeByte(SnapshotFormat.CONSTRAINT_ALTERNATE_KEY);
+        out.writeString(constraint.getName());
+      } else {
+        out.writeByte(SnapshotFormat.CONSTRAINT);
+        writeConstraint(out, constraint);
+      }
+    }
+
+    if (isView) {
+      final MutableView view = (MutableView) table;
+      out.writeEnum(view.getCheckOption());
+      out.writeBoolean(view.isUpdatable());
+    }
+    out.writeFixedLong(ContentFingerprints.fingerprint(table));
+  }
+}
@@ -0,0 +1,257 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.WeakAssociation;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Splices tables and routines that were not altered since a previous crawl into a catalog in which
+ * only added or altered objects were crawled again. Foreign keys between reused and re-crawled
+ * tables are rebuilt, so that all references point to objects in the spliced catalog.
+ */
+final class CatalogSplicer {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSplicer.class.getName());
+
+  private final MutableCatalog previousCatalog;
+  private final MutableCatalog catalog;
+
+  CatalogSplicer(final MutableCatalog previousCatalog, final MutableCatalog catalog) {
+    this.previousCatalog = requireNonNull(previousCatalog, "No previous catalog provided");
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  /**
+   * Moves reusable tables and routines from the previous catalog into the catalog. The previous
+   * catalog should not be used after it is spliced.
+   *
+   * @param staleTableKeys Keys of tables in the previous catalog that are dropped or altered
+   * @param staleRoutineKeys Keys of the schema and name of routines in the previous catalog that
+   *     are dropped or altered
+   */
+  void splice(
+      final Set<NamedObjectKey> staleTableKeys, final Set<NamedObjectKey> staleRoutineKeys) {
+    requireNonNull(staleTableKeys, "No stale table keys provided");
+    requireNonNull(staleRoutineKeys, "No stale routine keys provided");
+
+    spliceTables(staleTableKeys);
+    spliceRoutines(staleRoutineKeys);
+  }
+
+  /**
+   * Removes references from a reused table to tables that are not reused, since they are either
+   * dropped, or crawled again.
+   */
+  private void detachStaleReferences(
+      final MutableTable table, final Set<NamedObjectKey> reusedTableKeys) {
+
+    for (final ForeignKey foreignKey : new ArrayList<>(table.getForeignKeys())) {
+      if (!isStale(foreignKey.getForeignKeyTable(), reusedTableKeys)
+          && !isStale(foreignKey.getPrimaryKeyTable(), reusedTableKeys)) {
+        continue;
+      }
+      final MutableForeignKey mutableForeignKey = (MutableForeignKey) foreignKey;
+      table.removeForeignKey(mutableForeignKey);
+      if (table.equals(foreignKey.getForeignKeyTable())) {
+        table.removeTableConstraint(mutableForeignKey);
+        for (final ColumnReference columnReference : foreignKey) {
+          final Column fkColumn = columnReference.getForeignKeyColumn();
+          if (fkColumn instanceof MutableColumn) {
+            ((MutableColumn) fkColumn).setReferencedColumn(null);
+          }
+        }
+      }
+    }
+
+    for (final WeakAssociation weakAssociation : new ArrayList<>(table.getWeakAssociations())) {
+      if (isStale(weakAssociation.getForeignKeyTable(), reusedTableKeys)
+          || isStale(weakAssociation.getPrimaryKeyTable(), reusedTableKeys)) {
+        table.removeWeakAssociation((MutableWeakAssociation) weakAssociation);
+      }
+    }
+
+    if (table instanceof MutableView) {
+      final MutableView view = (MutableView) table;
+      for (final Table usedTable : new ArrayList<>(view.getTableUsage())) {
+        if (isStale(usedTable, reusedTableKeys)) {
+          view.removeTableUsage((MutableTable) usedTable);
+        }
+      }
+    }
+  }
+
+  /**
+   * A table is stale if it was crawled, but is not reused. Partial tables are kept, since they
+   * stand in for tables that are not crawled at all.
+   */
+  private boolean isStale(final Table table, final Set<NamedObjectKey> reusedTableKeys) {
+    return table instanceof MutableTable && !reusedTableKeys.contains(table.key());
+  }
+
+  /**
+   * Rebuilds a re-crawled foreign key that references a reused table. When the foreign key was
+   * crawled, the reused table was not in the catalog, so it is represented by a partial table.
+   */
+  private void resolveForeignKey(final MutableForeignKey foreignKey) {
+    final List<ColumnReference> columnReferences = new ArrayList<>();
+    boolean isResolved = false;
+    for (final ColumnReference columnReference : foreignKey) {
+      final Column fkColumn = resolveColumn(columnReference.getForeignKeyColumn());
+      final Column pkColumn = resolveColumn(columnReference.getPrimaryKeyColumn());
+      if (fkColumn != columnReference.getForeignKeyColumn()
+          || pkColumn != columnReference.getPrimaryKeyColumn()) {
+        isResolved = true;
+      }
+      columnReferences.add(
+          new ImmutableColumnReference(columnReference.getKeySequence(), fkColumn, pkColumn));
+    }
+    if (!isResolved) {
+      return;
+    }
+
+    final MutableForeignKey resolvedForeignKey =
+        new MutableForeignKey(foreignKey.getName(), columnReferences.get(0));
+    for (final ColumnReference columnReference :
+        columnReferences.subList(1, columnReferences.size())) {
+      resolvedForeignKey.addColumnReference(columnReference);
+    }
+    resolvedForeignKey.setUpdateRule(foreignKey.getUpdateRule());
+    resolvedForeignKey.setDeleteRule(foreignKey.getDeleteRule());
+    resolvedForeignKey.setDeferrability(foreignKey.getDeferrability());
+    resolvedForeignKey.appendDefinition(foreignKey.getDefinition());
+    resolvedForeignKey.setRemarks(foreignKey.getRemarks());
+    resolvedForeignKey.addAttributes(foreignKey.getAttributes());
+
+    LOGGER.log(
+        Level.FINER, new StringFormat("Resolved foreign key <%s> to reused tables", foreignKey));
+
+    final Table fkTable = resolvedForeignKey.getForeignKeyTable();
+    if (fkTable instanceof MutableTable) {
+      final MutableTable mutableFkTable = (MutableTable) fkTable;
+      mutableFkTable.addForeignKey(resolvedForeignKey);
+      mutableFkTable.addTableConstraint(resolvedForeignKey);
+      for (final ColumnReference columnReference : resolvedForeignKey) {
+        final Column fkColumn = columnReference.getForeignKeyColumn();
+        if (fkColumn instanceof MutableColumn) {
+          ((MutableColumn) fkColumn).setReferencedColumn(columnReference.getPrimaryKeyColumn());
+        }
+      }
+    }
+    final Table pkTable = resolvedForeignKey.getPrimaryKeyTable();
+    if (pkTable instanceof MutableTable) {
+      ((MutableTable) pkTable).addForeignKey(resolvedForeignKey);
+    }
+  }
+
+  /**
+   * Looks up a reused column in the catalog, for a partial column. Other columns are returned as
+   * they are.
+   */
+  private Column resolveColumn(final Column column) {
+    if (!(column instanceof ColumnPartial)) {
+      return column;
+    }
+    final Optional<MutableTable> lookupTable = catalog.lookupTable(column.getParent().key());
+    if (!lookupTable.isPresent()) {
+      return column;
+    }
+    final Optional<MutableColumn> lookupColumn = lookupTable.get().lookupColumn(column.getName());
+    if (lookupColumn.isPresent()) {
+      return lookupColumn.get();
+    } else {
+      return column;
+    }
+  }
+
+  private void spliceRoutines(final Set<NamedObjectKey> staleRoutineKeys) {
+    int reusedRoutinesCount = 0;
+    for (final MutableRoutine routine : previousCatalog.getAllRoutines()) {
+      final NamedObjectKey routineNameKey = routine.getSchema().key().with(routine.getName());
+      if (staleRoutineKeys.contains(routineNameKey)
+          || catalog.lookupRoutine(routine.key()).isPresent()) {
+        continue;
+      }
+      catalog.addRoutine(routine);
+      reusedRoutinesCount++;
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Reused %d routines from the previous catalog", reusedRoutinesCount));
+  }
+
+  private void spliceTables(final Set<NamedObjectKey> staleTableKeys) {
+    // Find tables that can be reused as they are
+    final List<MutableTable> crawledTables = new ArrayList<>(catalog.getAllTables().values());
+    final List<MutableTable> reusedTables = new ArrayList<>();
+    final Set<NamedObjectKey> reusedTableKeys = new HashSet<>();
+    for (final MutableTable table : previousCatalog.getAllTables()) {
+      final NamedObjectKey tableKey = table.key();
+      if (staleTableKeys.contains(tableKey) || catalog.lookupTable(tableKey).isPresent()) {
+        continue;
+      }
+      reusedTables.add(table);
+      reusedTableKeys.add(tableKey);
+    }
+
+    for (final MutableTable table : reusedTables) {
+      detachStaleReferences(table, reusedTableKeys);
+      catalog.addTable(table);
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Reused %d tables from the previous catalog, and crawled %d tables",
+            reusedTables.size(), crawledTables.size()));
+
+    // Foreign keys are shared by the tables at either end, so resolve each one only once
+    final Set<NamedObjectKey> resolvedForeignKeys = new HashSet<>();
+    for (final MutableTable table : crawledTables) {
+      for (final ForeignKey foreignKey : new ArrayList<>(table.getForeignKeys())) {
+        if (resolvedForeignKeys.add(foreignKey.key())) {
+          resolveForeignKey((MutableForeignKey) foreignKey);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_ROUTINE_CHANGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A retriever that uses database specific queries to get markers that change whenever a table or
+ * routine is altered, such as DDL change timestamps.
+ */
+final class ChangeMarkerRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(ChangeMarkerRetriever.class.getName());
+
+  ChangeMarkerRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Checks whether the database plugin provides a query for table change markers.
+   *
+   * @return Whether change markers can be retrieved
+   */
+  boolean isSupported() {
+    return getRetrieverConnection().getInformationSchemaViews().hasQuery(EXT_TABLE_CHANGES);
+  }
+
+  /**
+   * Retrieves change markers for tables, and routines if the database plugin provides a query for
+   * them, and sets them on the catalog.
+   *
+   * @throws SQLException On a SQL exception
+   */
+  void retrieveChangeMarkers() throws SQLException {
+    if (!isSupported()) {
+      LOGGER.log(Level.FINE, "Table change markers SQL statement was not provided");
+      return;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving change markers");
+
+    final Map<NamedObjectKey, String> fullNames = new HashMap<>();
+    final Map<NamedObjectKey, String> tableChangeMarkers =
+        retrieveChangeMarkers(EXT_TABLE_CHANGES, "TABLE", fullNames);
+    final Map<NamedObjectKey, String> routineChangeMarkers;
+    if (getRetrieverConnection().getInformationSchemaViews().hasQuery(EXT_ROUTINE_CHANGES)) {
+      routineChangeMarkers = retrieveChangeMarkers(EXT_ROUTINE_CHANGES, "ROUTINE", fullNames);
+    } else {
+      LOGGER.log(Level.FINE, "Routine change markers SQL statement was not provided");
+      routineChangeMarkers = null;
+    }
+
+    final ChangeMarkers changeMarkers =
+        new ChangeMarkers(tableChangeMarkers, routineChangeMarkers, fullNames);
+    LOGGER.log(Level.INFO, new StringFormat("Retrieved %s", changeMarkers));
+    catalog.setChangeMarkers(changeMarkers);
+  }
+
+  private Map<NamedObjectKey, String> retrieveChangeMarkers(
+      final InformationSchemaKey informationSchemaKey,
+      final String objectType,
+      final Map<NamedObjectKey, String> fullNames)
+      throws WrappedSQLException {
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+
+    // Routines can be overloaded, so markers are collected for all routines of the same name
+    final Map<NamedObjectKey, SortedSet<String>> changeMarkers = new HashMap<>();
+    final Query changeMarkersSql = informationSchemaViews.getQuery(informationSchemaKey);
+    try (final Statement statement = createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                changeMarkersSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString(objectType + "_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString(objectType + "_SCHEMA"));
+        final String objectName = results.getString(objectType + "_NAME");
+        final String changeMarker = results.getString("CHANGE_MARKER");
+
+        // Tables and routines are keyed and named by their schema and name, so a table
+        // reference is used for both; routines are not keyed by their specific name, since
+        // overloaded routines share a change marker
+        final DatabaseObject databaseObject =
+            new TablePartial(new SchemaReference(catalogName, schemaName), objectName);
+        final NamedObjectKey key = databaseObject.key();
+        fullNames.put(key, databaseObject.getFullName());
+        changeMarkers.computeIfAbsent(key, k -> new TreeSet<>()).add(String.valueOf(changeMarker));
+      }
+    } catch (final SQLException e) {
+      throw new WrappedSQLException(
+          String.format("Could not retrieve change markers from SQL:%n%s", changeMarkersSql), e);
+    }
+
+    final Map<NamedObjectKey, String> joinedChangeMarkers = new HashMap<>();
+    changeMarkers.forEach(
+        (key, markers) -> joinedChangeMarkers.put(key, String.join(",", markers)));
+    return joinedChangeMarkers;
+  }
+}
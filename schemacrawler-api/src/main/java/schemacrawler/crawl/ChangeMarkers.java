@@ -0,0 +1,200 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import schemacrawler.schema.NamedObjectKey;
+
+/**
+ * Markers for database objects, such as DDL change timestamps, that change whenever an object is
+ * altered. Markers are compared between crawls to find objects that need to be crawled again.
+ */
+final class ChangeMarkers implements Serializable {
+
+  private static final long serialVersionUID = -4166404375001542153L;
+
+  private final Map<NamedObjectKey, String> tableChangeMarkers;
+  private final Map<NamedObjectKey, String> routineChangeMarkers;
+  // Full names are only needed to limit the crawl that the markers were retrieved for
+  private final transient Map<NamedObjectKey, String> fullNames;
+
+  ChangeMarkers(
+      final Map<NamedObjectKey, String> tableChangeMarkers,
+      final Map<NamedObjectKey, String> routineChangeMarkers,
+      final Map<NamedObjectKey, String> fullNames) {
+    this.tableChangeMarkers =
+        new HashMap<>(requireNonNull(tableChangeMarkers, "No table change markers provided"));
+    if (routineChangeMarkers == null) {
+      this.routineChangeMarkers = null;
+    } else {
+      this.routineChangeMarkers = new HashMap<>(routineChangeMarkers);
+    }
+    this.fullNames = new HashMap<>(requireNonNull(fullNames, "No full names provided"));
+  }
+
+  /**
+   * Finds routines that were added or altered since the previous crawl. Routines are identified by
+   * the key of their schema, and their name, so all overloads of a routine are crawled again.
+   *
+   * @param previous Change markers from the previous crawl
+   * @return Keys of routines that need to be crawled again
+   */
+  Set<NamedObjectKey> changedRoutines(final ChangeMarkers previous) {
+    requireNonNull(previous, "No previous change markers provided");
+    return changed(routineChangeMarkers, previous.routineChangeMarkers);
+  }
+
+  /**
+   * Finds tables that were added or altered since the previous crawl.
+   *
+   * @param previous Change markers from the previous crawl
+   * @return Keys of tables that need to be crawled again
+   */
+  Set<NamedObjectKey> changedTables(final ChangeMarkers previous) {
+    requireNonNull(previous, "No previous change markers provided");
+    return changed(tableChangeMarkers, previous.tableChangeMarkers);
+  }
+
+  /**
+   * Gets the full names of objects that markers were retrieved for, so that an inclusion rule can
+   * be built for them.
+   *
+   * @param keys Keys of objects
+   * @return Full names of the objects
+   */
+  Set<String> fullNames(final Collection<NamedObjectKey> keys) {
+    requireNonNull(keys, "No keys provided");
+    final Set<String> objectFullNames = new HashSet<>();
+    for (final NamedObjectKey key : keys) {
+      if (fullNames != null && fullNames.containsKey(key)) {
+        objectFullNames.add(fullNames.get(key));
+      }
+    }
+    return objectFullNames;
+  }
+
+  boolean hasRoutineChangeMarkers() {
+    return routineChangeMarkers != null;
+  }
+
+  /**
+   * Gets the change marker for a routine.
+   *
+   * @param key Key of the schema of the routine, with the routine name
+   * @return Change marker, or null if there is none
+   */
+  String routineChangeMarker(final NamedObjectKey key) {
+    if (routineChangeMarkers == null) {
+      return null;
+    }
+    return routineChangeMarkers.get(key);
+  }
+
+  /**
+   * Finds previously crawled routines that are either dropped or altered, and so cannot be reused.
+   *
+   * @param previous Change markers from the previous crawl
+   * @param routineKeys Keys of previously crawled routines
+   * @return Keys of routines that cannot be reused
+   */
+  Set<NamedObjectKey> staleRoutines(
+      final ChangeMarkers previous, final Collection<NamedObjectKey> routineKeys) {
+    return stale(routineKeys, changedRoutines(previous), routineChangeMarkers);
+  }
+
+  /**
+   * Finds previously crawled tables that are either dropped or altered, and so cannot be reused.
+   *
+   * @param previous Change markers from the previous crawl
+   * @param tableKeys Keys of previously crawled tables
+   * @return Keys of tables that cannot be reused
+   */
+  Set<NamedObjectKey> staleTables(
+      final ChangeMarkers previous, final Collection<NamedObjectKey> tableKeys) {
+    return stale(tableKeys, changedTables(previous), tableChangeMarkers);
+  }
+
+  /**
+   * Gets the change marker for a table.
+   *
+   * @param key Key of the table
+   * @return Change marker, or null if there is none
+   */
+  String tableChangeMarker(final NamedObjectKey key) {
+    return tableChangeMarkers.get(key);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d table change markers, %s routine change markers",
+        tableChangeMarkers.size(),
+        routineChangeMarkers == null ? "no" : String.valueOf(routineChangeMarkers.size()));
+  }
+
+  private Set<NamedObjectKey> changed(
+      final Map<NamedObjectKey, String> currentMarkers,
+      final Map<NamedObjectKey, String> previousMarkers) {
+    final Set<NamedObjectKey> changed = new HashSet<>();
+    if (currentMarkers == null) {
+      return changed;
+    }
+    for (final Entry<NamedObjectKey, String> currentMarker : currentMarkers.entrySet()) {
+      final NamedObjectKey key = currentMarker.getKey();
+      if (previousMarkers == null
+          || !Objects.equals(previousMarkers.get(key), currentMarker.getValue())) {
+        changed.add(key);
+      }
+    }
+    return changed;
+  }
+
+  private Set<NamedObjectKey> stale(
+      final Collection<NamedObjectKey> previousKeys,
+      final Set<NamedObjectKey> changed,
+      final Map<NamedObjectKey, String> currentMarkers) {
+    requireNonNull(previousKeys, "No previous keys provided");
+    final Set<NamedObjectKey> stale = new HashSet<>();
+    for (final NamedObjectKey key : previousKeys) {
+      if (currentMarkers == null || changed.contains(key) || !currentMarkers.containsKey(key)) {
+        stale.add(key);
+      }
+    }
+    return stale;
+  }
+}
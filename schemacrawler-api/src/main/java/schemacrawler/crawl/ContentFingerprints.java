@@ -0,0 +1,364 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schema.WeakAssociation;
+
+/**
+ * Computes deterministic 64-bit fingerprints of the content of tables, columns, indexes, foreign
+ * keys and routines, so that objects from two catalogs can be compared without walking their
+ * content. Fingerprints are computed bottom-up, so the fingerprint of a table is computed from the
+ * fingerprints of its columns, indexes and foreign keys. Fingerprints include names, but not the
+ * schema of the object itself, and exclude attributes other than remarks, such as lints, as well as
+ * statistics, such as index cardinality.
+ *
+ * <p>Fingerprints are cached on the object when they are first requested, or when the object is
+ * read from a catalog snapshot, so they should only be requested once a catalog is fully loaded.
+ * Catalog loaders clear cached fingerprints when all loaders have run, and fingerprints need to be
+ * cleared explicitly if objects are changed after that. Equal fingerprints are very likely, but not
+ * guaranteed, to mean equal content, so objects with equal fingerprints need to be compared if
+ * equality matters.
+ */
+public final class ContentFingerprints {
+
+  /**
+   * FNV-1a hash, with a final avalanche step so that similar content has unrelated fingerprints.
+   */
+  private static final class Hasher {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    Hasher add(final boolean value) {
+      return addByte(value ? 1 : 0);
+    }
+
+    /** Missing values are read from snapshots as unknown, so both are treated alike. */
+    Hasher add(final Enum<?> value) {
+      if (value == null || "unknown".equals(value.name())) {
+        return add((String) null);
+      }
+      return add(value.name());
+    }
+
+    Hasher add(final long value) {
+      for (int i = 0; i < Long.SIZE; i = i + Byte.SIZE) {
+        addByte((int) (value >>> i));
+      }
+      return this;
+    }
+
+    /** Adds the length before the characters, so that adjacent strings cannot run together. */
+    Hasher add(final String value) {
+      if (value == null) {
+        return add(-1L);
+      }
+      add(value.length());
+      for (int i = 0; i < value.length(); i++) {
+        final char ch = value.charAt(i);
+        addByte(ch);
+        addByte(ch >>> Byte.SIZE);
+      }
+      return this;
+    }
+
+    <N extends NamedObject> Hasher addAll(
+        final Collection<N> namedObjects, final ToLongFunction<N> fingerprint) {
+      final List<N> sortedObjects = new ArrayList<>(namedObjects);
+      Collections.sort(sortedObjects);
+      add(sortedObjects.size());
+      for (final N namedObject : sortedObjects) {
+        add(fingerprint.applyAsLong(namedObject));
+      }
+      return this;
+    }
+
+    long fingerprint() {
+      long fingerprint = hash;
+      fingerprint = (fingerprint ^ fingerprint >>> 33) * 0xff51afd7ed558ccdL;
+      fingerprint = (fingerprint ^ fingerprint >>> 33) * 0xc4ceb9fe1a85ec53L;
+      fingerprint = fingerprint ^ fingerprint >>> 33;
+      // Zero marks a fingerprint that has not been computed
+      return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private Hasher addByte(final int value) {
+      hash = (hash ^ value & 0xFF) * FNV_PRIME;
+      return this;
+    }
+  }
+
+  /**
+   * Clears cached fingerprints of all tables, with their columns, indexes and foreign keys, and all
+   * routines in the catalog, so that they are computed again from the current content when they are
+   * next requested.
+   *
+   * @param catalog Catalog that has been changed
+   */
+  public static void clearFingerprints(final Catalog catalog) {
+    if (catalog == null) {
+      return;
+    }
+    for (final Table table : catalog.getTables()) {
+      clearFingerprint(table);
+      table.getColumns().forEach(ContentFingerprints::clearFingerprint);
+      table.getHiddenColumns().forEach(ContentFingerprints::clearFingerprint);
+      table.getIndexes().forEach(ContentFingerprints::clearFingerprint);
+      table.getImportedForeignKeys().forEach(ContentFingerprints::clearFingerprint);
+    }
+    catalog.getRoutines().forEach(ContentFingerprints::clearFingerprint);
+  }
+
+  public static long fingerprint(final Column column) {
+    return cached(column, () -> computeFingerprint(column));
+  }
+
+  public static long fingerprint(final ForeignKey foreignKey) {
+    return cached(foreignKey, () -> computeFingerprint(foreignKey));
+  }
+
+  public static long fingerprint(final Index index) {
+    return cached(index, () -> computeFingerprint(index));
+  }
+
+  public static long fingerprint(final Routine routine) {
+    return cached(routine, () -> computeFingerprint(routine));
+  }
+
+  public static long fingerprint(final Table table) {
+    return cached(table, () -> computeFingerprint(table));
+  }
+
+  private static long computeFingerprint(final Column column) {
+    final Hasher hasher = new Hasher();
+    addColumnFields(hasher, column);
+    hasher
+        .add(column.getDefaultValue())
+        .add(column.isAutoIncremented())
+        .add(column.isGenerated())
+        .add(column.isHidden())
+        .add(column.getRemarks());
+    return hasher.fingerprint();
+  }
+
+  private static long computeFingerprint(final ForeignKey foreignKey) {
+    final Hasher hasher = new Hasher();
+    hasher
+        .add(foreignKey.getName())
+        .add(foreignKey.getUpdateRule())
+        .add(foreignKey.getDeleteRule())
+        .add(foreignKey.getDeferrability())
+        .add(foreignKey.getDefinition())
+        .add(foreignKey.getRemarks());
+    final List<ColumnReference> columnReferences = foreignKey.getColumnReferences();
+    hasher.add(columnReferences.size());
+    for (final ColumnReference columnReference : columnReferences) {
+      hasher
+          .add(columnReference.getKeySequence())
+          .add(columnReference.getForeignKeyColumn().getFullName())
+          .add(columnReference.getPrimaryKeyColumn().getFullName());
+    }
+    return hasher.fingerprint();
+  }
+
+  private static long computeFingerprint(final Index index) {
+    final Hasher hasher = new Hasher();
+    hasher
+        .add(index.getName())
+        .add(index.getIndexType())
+        .add(index.isUnique())
+        .add(index.getDefinition())
+        .add(index.getRemarks());
+    final List<IndexColumn> columns = index.getColumns();
+    hasher.add(columns.size());
+    for (final IndexColumn column : columns) {
+      hasher.add(column.getName()).add(column.getSortSequence());
+    }
+    return hasher.fingerprint();
+  }
+
+  private static long computeFingerprint(final Routine routine) {
+    final Hasher hasher = new Hasher();
+    hasher
+        .add(routine.getName())
+        .add(routine.getSpecificName())
+        .add(routine.getRoutineType())
+        .add(String.valueOf(routine.getReturnType()))
+        .add(routine.getRoutineBodyType())
+        .add(routine.getDefinition())
+        .add(routine.getRemarks());
+    final List<RoutineParameter<? extends Routine>> parameters = routine.getParameters();
+    hasher.add(parameters.size());
+    for (final RoutineParameter<? extends Routine> parameter : parameters) {
+      addColumnFields(hasher, parameter);
+      hasher.add(parameter.getParameterMode());
+    }
+    return hasher.fingerprint();
+  }
+
+  private static long computeFingerprint(final Table table) {
+    final Hasher hasher = new Hasher();
+    final TableType tableType = table.getTableType();
+    hasher
+        .add(table.getName())
+        .add(tableType == null ? null : tableType.getTableType())
+        .add(table.getDefinition())
+        .add(table.getRemarks());
+
+    // Columns are in ordinal order, so they are not sorted
+    final List<Column> columns = table.getColumns();
+    hasher.add(columns.size());
+    for (final Column column : columns) {
+      hasher.add(fingerprint(column));
+    }
+    hasher.addAll(table.getHiddenColumns(), ContentFingerprints::fingerprint);
+
+    addConstraint(hasher, table.getPrimaryKey());
+    hasher.addAll(table.getIndexes(), ContentFingerprints::fingerprint);
+    hasher.addAll(table.getImportedForeignKeys(), ContentFingerprints::fingerprint);
+    hasher.addAll(
+        table.getTriggers(),
+        trigger -> {
+          final Hasher triggerHasher = new Hasher();
+          addTrigger(triggerHasher, trigger);
+          return triggerHasher.fingerprint();
+        });
+
+    final List<TableConstraint> constraints = new ArrayList<>();
+    for (final TableConstraint constraint : table.getTableConstraints()) {
+      if (!(constraint instanceof PrimaryKey
+          || constraint instanceof ForeignKey
+          || constraint instanceof WeakAssociation)) {
+        constraints.add(constraint);
+      }
+    }
+    hasher.addAll(
+        constraints,
+        constraint -> {
+          final Hasher constraintHasher = new Hasher();
+          addConstraint(constraintHasher, constraint);
+          return constraintHasher.fingerprint();
+        });
+
+    if (table instanceof View) {
+      final View view = (View) table;
+      hasher.add(view.getCheckOption()).add(view.isUpdatable());
+    }
+    return hasher.fingerprint();
+  }
+
+  private static void addColumnFields(final Hasher hasher, final BaseColumn<?> column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    hasher
+        .add(column.getName())
+        .add(columnDataType == null ? null : columnDataType.getFullName())
+        .add(column.getSize())
+        .add(column.getDecimalDigits())
+        .add(column.isNullable())
+        .add(column.getOrdinalPosition());
+  }
+
+  private static void addConstraint(final Hasher hasher, final TableConstraint constraint) {
+    hasher.add(constraint != null);
+    if (constraint == null) {
+      return;
+    }
+    hasher
+        .add(constraint.getName())
+        .add(constraint.getType())
+        .add(constraint.isDeferrable())
+        .add(constraint.isInitiallyDeferred())
+        .add(constraint.getDefinition());
+    final List<TableConstraintColumn> columns = constraint.getConstrainedColumns();
+    hasher.add(columns.size());
+    for (final TableConstraintColumn column : columns) {
+      hasher.add(column.getName());
+    }
+  }
+
+  private static void addTrigger(final Hasher hasher, final Trigger trigger) {
+    hasher
+        .add(trigger.getName())
+        .add(trigger.getEventManipulationType())
+        .add(trigger.getConditionTiming())
+        .add(trigger.getActionOrientation())
+        .add(trigger.getActionOrder())
+        .add(trigger.getActionCondition())
+        .add(trigger.getActionStatement());
+  }
+
+  private static long cached(final NamedObject namedObject, final LongSupplier computeFingerprint) {
+    if (!(namedObject instanceof AbstractNamedObject)) {
+      return computeFingerprint.getAsLong();
+    }
+    final AbstractNamedObject cachedObject = (AbstractNamedObject) namedObject;
+    long fingerprint = cachedObject.getFingerprint();
+    if (fingerprint == 0) {
+      fingerprint = computeFingerprint.getAsLong();
+      cachedObject.setFingerprint(fingerprint);
+    }
+    return fingerprint;
+  }
+
+  private static void clearFingerprint(final NamedObject namedObject) {
+    if (namedObject instanceof AbstractNamedObject) {
+      ((AbstractNamedObject) namedObject).setFingerprint(0);
+    }
+  }
+
+  private ContentFingerprints() {
+    // Prevent instantiation
+  }
+}
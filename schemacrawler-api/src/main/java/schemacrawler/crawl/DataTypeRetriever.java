@@ -80,6 +80,7 @@ final class DataTypeRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving system column data types");
         retrieveSystemColumnDataTypesFromMetadata(systemSchema);
         break;
@@ -149,6 +150,8 @@ final class DataTypeRetriever extends AbstractRetriever {
     columnDataType.addAttributes(results.getAttributes());
 
     catalog.addColumnDataType(columnDataType);
+
+    countObject();
   }
 
   private void retrieveSystemColumnDataTypesFromDataDictionary(final Schema systemSchema)
@@ -161,7 +164,8 @@ final class DataTypeRetriever extends AbstractRetriever {
     final Query typeInfoSql = informationSchemaViews.getQuery(TYPE_INFO);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                typeInfoSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
         numSystemColumnDataTypes = numSystemColumnDataTypes + 1;
@@ -176,7 +180,8 @@ final class DataTypeRetriever extends AbstractRetriever {
   private void retrieveSystemColumnDataTypesFromMetadata(final Schema systemSchema)
       throws SQLException {
     try (final MetadataResultSet results =
-        new MetadataResultSet(getMetaData().getTypeInfo(), "DatabaseMetaData::getTypeInfo")) {
+        new MetadataResultSet(
+            getMetaData().getTypeInfo(), "DatabaseMetaData::getTypeInfo", getRetrievalMetrics())) {
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
         numSystemColumnDataTypes = numSystemColumnDataTypes + 1;
@@ -209,7 +214,8 @@ final class DataTypeRetriever extends AbstractRetriever {
     try (final MetadataResultSet results =
         new MetadataResultSet(
             getMetaData().getUDTs(catalogName, schemaName, null, null),
-            "DatabaseMetaData::getUDTs")) {
+            "DatabaseMetaData::getUDTs",
+            getRetrievalMetrics())) {
       while (results.next()) {
         // "TYPE_CAT", "TYPE_SCHEM"
         final String typeName = results.getString("TYPE_NAME");
@@ -233,6 +239,8 @@ final class DataTypeRetriever extends AbstractRetriever {
         columnDataType.addAttributes(results.getAttributes());
 
         catalog.addColumnDataType(columnDataType);
+
+        countObject();
       }
     }
   }
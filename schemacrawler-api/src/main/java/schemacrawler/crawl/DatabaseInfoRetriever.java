@@ -239,7 +239,8 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
+            new MetadataResultSet(
+                databaseUsersSql, statement, new IncludeAll(), getRetrievalMetrics())) {
       while (results.next()) {
         final String username = results.getString("USERNAME");
         if (isBlank(username)) {
@@ -250,6 +251,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
         final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(username);
         databaseUser.addAttributes(results.getAttributes());
         catalog.addDatabaseUser(databaseUser);
+        countObject();
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve database users", e);
@@ -273,7 +275,8 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
+            new MetadataResultSet(
+                serverInfoSql, statement, new IncludeAll(), getRetrievalMetrics())) {
       while (results.next()) {
         final String propertyName = results.getString("NAME");
         if (isBlank(propertyName)) {
@@ -81,6 +81,11 @@ final class ForeignKeyRetriever extends AbstractRetriever {
         retrieveForeignKeysFromMetadata(allTables);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving foreign keys, one schema at a time");
+        retrieveForeignKeysFromMetadataPerSchema(allTables);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving foreign keys");
         break;
@@ -149,6 +154,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       } else {
         foreignKey = new MutableForeignKey(foreignKeyName, columnReference);
         foreignKeys.put(fkLookupKey, foreignKey);
+        countObject();
       }
 
       foreignKey.setUpdateRule(updateRule);
@@ -198,8 +204,11 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
-      createForeignKeys(results, foreignKeys);
+            new MetadataResultSet(
+                fkSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
+      synchronized (foreignKeys) {
+        createForeignKeys(results, foreignKeys);
+      }
     } catch (final SQLException e) {
       throw new WrappedSQLException(
           String.format("Could not retrieve foreign keys from SQL:%n%s", fkSql), e);
@@ -210,38 +219,109 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       throws WrappedSQLException {
     final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     for (final MutableTable table : allTables) {
-      if (table instanceof View) {
-        continue;
-      }
+      retrieveTableForeignKeysFromMetadata(table, foreignKeys);
+    }
+  }
 
-      final DatabaseMetaData metaData = getMetaData();
+  private void retrieveForeignKeysFromMetadataPerSchema(
+      final NamedObjectList<MutableTable> allTables) throws SQLException {
+    // Foreign keys across schemas are seen by more than one schema retrieval,
+    // and schemas may be retrieved in parallel, so access to the foreign keys,
+    // and to the catalog, is serialized
+    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
+    retrieveForEachSchema(
+        "retrieveForeignKeys",
+        allTables,
+        (schema, schemaTables) -> {
+          final DatabaseMetaData metaData = getMetaData();
+
+          // Get imported foreign keys
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  metaData.getImportedKeys(schema.getCatalogName(), schema.getName(), null),
+                  "DatabaseMetaData::getImportedKeys",
+                  getRetrievalMetrics())) {
+            synchronized (foreignKeys) {
+              synchronized (foreignKeys) {
+                createForeignKeys(results, foreignKeys);
+              }
+            }
+          } catch (final SQLException e) {
+            // The JDBC specification requires a table name, so some drivers
+            // do not allow foreign keys to be retrieved for an entire schema
+            LOGGER.log(
+                Level.FINE,
+                e,
+                new StringFormat(
+                    "Could not retrieve foreign keys for schema <%s>, so retrieving them one table"
+                        + " at a time",
+                    schema));
+            for (final MutableTable table : schemaTables) {
+              retrieveTableForeignKeysFromMetadata(table, foreignKeys);
+            }
+            return;
+          }
+
+          // Get exported keys, for foreign keys from tables in other schemas
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  metaData.getExportedKeys(schema.getCatalogName(), schema.getName(), null),
+                  "DatabaseMetaData::getExportedKeys",
+                  getRetrievalMetrics())) {
+            synchronized (foreignKeys) {
+              synchronized (foreignKeys) {
+                createForeignKeys(results, foreignKeys);
+              }
+            }
+          } catch (final SQLException e) {
+            // Since not all database drivers may support exported keys, log a warning instead of
+            // throwing an error
+            LOGGER.log(
+                Level.WARNING, "Could not retrieve exported foreign keys for schema " + schema, e);
+          }
+        });
+  }
 
-      // Get imported foreign keys
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getImportedKeys(
-                  table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
-              "DatabaseMetaData::getImportedKeys")) {
+  private void retrieveTableForeignKeysFromMetadata(
+      final MutableTable table, final Map<NamedObjectKey, MutableForeignKey> foreignKeys)
+      throws WrappedSQLException {
+    if (table instanceof View) {
+      return;
+    }
+
+    final DatabaseMetaData metaData = getMetaData();
+
+    // Get imported foreign keys
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            metaData.getImportedKeys(
+                table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
+            "DatabaseMetaData::getImportedKeys",
+            getRetrievalMetrics())) {
+      synchronized (foreignKeys) {
         createForeignKeys(results, foreignKeys);
-      } catch (final SQLException e) {
-        throw new WrappedSQLException(
-            String.format("Could not retrieve foreign keys for table <%s>", table), e);
       }
+    } catch (final SQLException e) {
+      throw new WrappedSQLException(
+          String.format("Could not retrieve foreign keys for table <%s>", table), e);
+    }
 
-      // We need to get exported keys as well, since if only a single
-      // table is selected, we have not retrieved it's keys that are
-      // imported by other tables.
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getExportedKeys(
-                  table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
-              "DatabaseMetaData::getExportedKeys")) {
+    // We need to get exported keys as well, since if only a single
+    // table is selected, we have not retrieved it's keys that are
+    // imported by other tables.
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            metaData.getExportedKeys(
+                table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
+            "DatabaseMetaData::getExportedKeys",
+            getRetrievalMetrics())) {
+      synchronized (foreignKeys) {
         createForeignKeys(results, foreignKeys);
-      } catch (final SQLException e) {
-        // Since not all database drivers may support exported keys, log a warning instead of
-        // throwing an error
-        LOGGER.log(Level.WARNING, "Could not retrieve exported foreign keys for table " + table, e);
       }
+    } catch (final SQLException e) {
+      // Since not all database drivers may support exported keys, log a warning instead of
+      // throwing an error
+      LOGGER.log(Level.WARNING, "Could not retrieve exported foreign keys for table " + table, e);
     }
   }
 }
@@ -86,6 +86,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving function parameters");
         retrieveFunctionParametersFromMetadata(allRoutines, parameterFilter);
         break;
@@ -161,6 +162,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
       LOGGER.log(Level.FINER, new StringFormat("Adding parameter to function <%s>", parameter));
       function.addParameter(parameter);
+      countObject();
     }
   }
 
@@ -201,7 +203,8 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                functionColumnsSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       while (results.next()) {
         createFunctionParameter(results, allRoutines, parameterFilter);
       }
@@ -226,7 +229,8 @@ final class FunctionParameterRetriever extends AbstractRetriever {
                       function.getSchema().getName(),
                       function.getName(),
                       null),
-              "DatabaseMetaData::getFunctionColumns")) {
+              "DatabaseMetaData::getFunctionColumns",
+              getRetrievalMetrics())) {
         while (results.next()) {
           createFunctionParameter(results, allRoutines, parameterFilter);
         }
@@ -42,6 +42,7 @@ import java.util.logging.Logger;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
@@ -75,6 +76,11 @@ final class IndexRetriever extends AbstractRetriever {
         retrieveIndexesFromMetadata(allTables);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving indexes, one schema at a time");
+        retrieveIndexesFromMetadataPerSchema(allTables);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving indexes");
         break;
@@ -144,6 +150,7 @@ final class IndexRetriever extends AbstractRetriever {
     } else {
       index = new MutableIndex(table, indexName);
       table.addIndex(index);
+      countObject();
     }
 
     final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
@@ -151,6 +158,7 @@ final class IndexRetriever extends AbstractRetriever {
     indexColumn.setSortSequence(sortSequence);
     //
     index.addColumn(indexColumn);
+    countObject();
     index.setUnique(uniqueIndex);
     index.setIndexType(type);
     index.setCardinality(cardinality);
@@ -171,7 +179,8 @@ final class IndexRetriever extends AbstractRetriever {
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                indexesSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -199,6 +208,71 @@ final class IndexRetriever extends AbstractRetriever {
     }
   }
 
+  private void retrieveIndexesFromMetadataPerSchema(final NamedObjectList<MutableTable> allTables)
+      throws SQLException {
+    retrieveForEachSchema(
+        "retrieveIndexes",
+        allTables,
+        (schema, schemaTables) -> {
+          final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+          for (final MutableTable table : schemaTables) {
+            tables.add(table);
+          }
+          try {
+            retrieveSchemaIndexesFromMetadata(schema, tables, false);
+            retrieveSchemaIndexesFromMetadata(schema, tables, true);
+          } catch (final SQLException e) {
+            // The JDBC specification requires a table name, so some drivers
+            // do not allow indexes to be retrieved for an entire schema
+            LOGGER.log(
+                Level.FINE,
+                e,
+                new StringFormat(
+                    "Could not retrieve indexes for schema <%s>, so retrieving them one table at a"
+                        + " time",
+                    schema));
+            // Discard indexes from the partial schema retrieval, so that index columns are not
+            // added again
+            for (final MutableTable table : schemaTables) {
+              table.removeIndexes();
+            }
+            for (final MutableTable table : schemaTables) {
+              retrieveTableIndexesFromMetadata(table, false);
+              retrieveTableIndexesFromMetadata(table, true);
+            }
+          }
+        });
+  }
+
+  private void retrieveSchemaIndexesFromMetadata(
+      final Schema schema, final NamedObjectList<MutableTable> schemaTables, final boolean unique)
+      throws SQLException {
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            getMetaData()
+                .getIndexInfo(
+                    schema.getCatalogName(),
+                    schema.getName(),
+                    null,
+                    unique,
+                    true /* approximate */),
+            "DatabaseMetaData::getIndexInfo",
+            getRetrievalMetrics())) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+        final String tableName = results.getString("TABLE_NAME");
+
+        final Optional<MutableTable> optionalTable =
+            schemaTables.lookup(new NamedObjectKey(catalogName, schemaName, tableName));
+        if (!optionalTable.isPresent()) {
+          continue;
+        }
+        createIndexForTable(optionalTable.get(), results);
+      }
+    }
+  }
+
   private void retrieveTableIndexesFromMetadata(final MutableTable table, final boolean unique)
       throws SQLException {
 
@@ -212,7 +286,8 @@ final class IndexRetriever extends AbstractRetriever {
                     table.getName(),
                     unique,
                     true /* approximate */),
-            "DatabaseMetaData::getIndexInfo")) {
+            "DatabaseMetaData::getIndexInfo",
+            getRetrievalMetrics())) {
       createIndexes(table, results);
     } catch (final SQLException e) {
       throw new WrappedSQLException(
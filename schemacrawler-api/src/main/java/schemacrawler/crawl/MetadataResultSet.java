@@ -50,13 +50,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -79,32 +77,117 @@ public final class MetadataResultSet implements AutoCloseable {
 
   private static final int FETCHSIZE = 20;
 
-  private final ResultsColumns resultsColumns;
+  private final ResultsColumn[] resultsColumns;
+  private final Map<String, Integer> columnIndexes;
   private final ResultSet results;
   private final String description;
-  private Set<ResultsColumn> readColumns;
+  private final BitSet readColumns;
+  private final MutableRetrievalMetrics retrievalMetrics;
   private int rowCount;
   private boolean showLobs;
 
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName());
+    this(query, statement, schemaInclusionRule, null);
   }
 
   public MetadataResultSet(final ResultSet resultSet, final String description)
       throws SQLException {
+    this(resultSet, description, FETCHSIZE, null);
+  }
+
+  /**
+   * Wraps a result-set, fetching rows from the database in batches of the given size.
+   *
+   * @param resultSet Result-set to wrap
+   * @param description Description of the result-set, for logging
+   * @param fetchSize Number of rows to fetch at a time, or 0 for the default
+   * @throws SQLException On an exception
+   */
+  public MetadataResultSet(final ResultSet resultSet, final String description, final int fetchSize)
+      throws SQLException {
+    this(resultSet, description, fetchSize, null);
+  }
+
+  /**
+   * Wraps the results of a query, and counts the query and the rows that are read in the metrics
+   * for a retrieval.
+   *
+   * @param query Query to execute
+   * @param statement Statement to execute the query with
+   * @param schemaInclusionRule Schema inclusion rule for the query
+   * @param retrievalMetrics Metrics for the retrieval, or null if metrics are not recorded
+   * @throws SQLException On an exception
+   */
+  MetadataResultSet(
+      final Query query,
+      final Statement statement,
+      final InclusionRule schemaInclusionRule,
+      final MutableRetrievalMetrics retrievalMetrics)
+      throws SQLException {
+    this(
+        executeAgainstSchema(query, statement, schemaInclusionRule),
+        query.getName(),
+        query.getFetchSize(),
+        retrievalMetrics);
+  }
+
+  /**
+   * Wraps a result-set from a database metadata call, and counts the call and the rows that are
+   * read in the metrics for a retrieval.
+   *
+   * @param resultSet Result-set to wrap
+   * @param description Description of the result-set, for logging
+   * @param retrievalMetrics Metrics for the retrieval, or null if metrics are not recorded
+   * @throws SQLException On an exception
+   */
+  MetadataResultSet(
+      final ResultSet resultSet,
+      final String description,
+      final MutableRetrievalMetrics retrievalMetrics)
+      throws SQLException {
+    this(resultSet, description, FETCHSIZE, retrievalMetrics);
+  }
+
+  private MetadataResultSet(
+      final ResultSet resultSet,
+      final String description,
+      final int fetchSize,
+      final MutableRetrievalMetrics retrievalMetrics)
+      throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
     try {
-      results.setFetchSize(FETCHSIZE);
+      results.setFetchSize(fetchSize > 0 ? fetchSize : FETCHSIZE);
     } catch (final NullPointerException | SQLException e) {
       LOGGER.log(Level.WARNING, "Could not set fetch size", e);
     }
     this.description = requireNotBlank(description, "No result-set description provided");
 
-    resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    this.retrievalMetrics = retrievalMetrics;
+
+    final ResultsColumns crawledResultsColumns = new ResultsCrawler(results).crawl();
+    resultsColumns = crawledResultsColumns.getColumns().toArray(new ResultsColumn[0]);
+    // Resolve column labels and names once, rather than for every value that is read, giving
+    // preference to earlier columns, like a lookup by name would
+    columnIndexes = new HashMap<>();
+    for (int i = 0; i < resultsColumns.length; i++) {
+      final ResultsColumn resultsColumn = resultsColumns[i];
+      for (final String columnName :
+          new String[] {
+            resultsColumn.getLabel(), resultsColumn.getFullName(), resultsColumn.getName()
+          }) {
+        if (columnName != null) {
+          columnIndexes.putIfAbsent(columnName.toUpperCase(Locale.ENGLISH), i);
+        }
+      }
+    }
+    readColumns = new BitSet(resultsColumns.length);
     showLobs = true;
+
+    if (retrievalMetrics != null) {
+      retrievalMetrics.countQuery();
+    }
   }
 
   /**
@@ -127,8 +210,9 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public Map<String, Object> getAttributes() {
     final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
+    for (int i = 0; i < resultsColumns.length; i++) {
+      if (!readColumns.get(i)) {
+        final ResultsColumn resultsColumn = resultsColumns[i];
         try {
           final String key = resultsColumn.getLabel().toUpperCase();
           final Object value = getColumnData(resultsColumn);
@@ -174,9 +258,10 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -204,9 +289,11 @@ public final class MetadataResultSet implements AutoCloseable {
   }
 
   public String[] getColumnNames() {
-    final List<String> columnNames = new ArrayList<>();
-    resultsColumns.forEach(resultsColumn -> columnNames.add(resultsColumn.getName()));
-    return columnNames.toArray(new String[columnNames.size()]);
+    final String[] columnNames = new String[resultsColumns.length];
+    for (int i = 0; i < resultsColumns.length; i++) {
+      columnNames[i] = resultsColumns[i].getName();
+    }
+    return columnNames;
   }
 
   /**
@@ -262,9 +349,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public int getInt(final String columnName, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -292,9 +380,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public long getLong(final String columnName, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -323,9 +412,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public short getShort(final String columnName, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -352,9 +442,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public String getString(final String columnName) {
     String value = null;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull()) {
           value = null;
         }
@@ -382,18 +473,21 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     final boolean next = results.next();
     logSQLWarnings(results);
     if (next) {
       rowCount = rowCount + 1;
+      if (retrievalMetrics != null) {
+        retrievalMetrics.countRow();
+      }
     }
     return next;
   }
 
   public List<Object> row() throws SQLException {
-    final List<Object> currentRow = new ArrayList<>();
+    final List<Object> currentRow = new ArrayList<>(resultsColumns.length);
     for (final ResultsColumn resultsColumn : resultsColumns) {
       currentRow.add(getColumnData(resultsColumn));
     }
@@ -457,9 +551,21 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  /**
+   * Looks up a column by label or name, and marks it as read.
+   *
+   * @param columnName Column label or name
+   * @return JDBC column index, or -1 if the column is not in the result-set
+   */
+  private int useColumn(final String columnName) {
+    if (columnName == null) {
+      return -1;
+    }
+    final Integer index = columnIndexes.get(columnName.toUpperCase(Locale.ENGLISH));
+    if (index == null) {
+      return -1;
+    }
+    readColumns.set(index);
+    return resultsColumns[index].getOrdinalPosition();
   }
 }
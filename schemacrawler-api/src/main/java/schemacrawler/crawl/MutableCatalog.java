@@ -33,19 +33,19 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DatabaseUser;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Reducer;
+import schemacrawler.schema.RetrievalMetrics;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
@@ -59,20 +59,6 @@ import schemacrawler.schemacrawler.SchemaReference;
  */
 final class MutableCatalog extends AbstractNamedObjectWithAttributes implements Catalog {
 
-  private static final class FilterBySchema implements Predicate<DatabaseObject> {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema) {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject) {
-      return databaseObject != null && databaseObject.getSchema().equals(schema);
-    }
-  }
-
   private static final long serialVersionUID = 4051323422934251828L;
 
   private final NamedObjectList<MutableColumnDataType> columnDataTypes = new NamedObjectList<>();
@@ -85,6 +71,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
   private final MutableCrawlInfo crawlInfo;
+  private ChangeMarkers changeMarkers;
 
   MutableCatalog(final String name, final ConnectionInfo connectionInfo) {
     super(name);
@@ -95,6 +82,16 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     crawlInfo = new MutableCrawlInfo(connectionInfo);
   }
 
+  MutableCatalog(
+      final String name, final ConnectionInfo connectionInfo, final MutableCrawlInfo crawlInfo) {
+    super(name);
+    requireNonNull(connectionInfo, "No connection information provided");
+
+    databaseInfo = new MutableDatabaseInfo(connectionInfo);
+    jdbcDriverInfo = new MutableJdbcDriverInfo(connectionInfo);
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
+  }
+
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes() {
@@ -104,14 +101,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType : this.columnDataTypes) {
-      if (filter.test(columnDataType)) {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return new ArrayList<>(columnDataTypes.valuesForSchema(schema));
   }
 
   @Override
@@ -151,13 +141,9 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines(final Schema schema, final String routineName) {
-    Predicate<DatabaseObject> filter = new FilterBySchema(schema);
-    if (!isBlank(routineName)) {
-      filter = filter.and(routine -> routine.getName().equals(routineName));
-    }
     final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine : this.routines) {
-      if (filter.test(routine)) {
+    for (final Routine routine : this.routines.valuesForSchema(schema)) {
+      if (isBlank(routineName) || routine.getName().equals(routineName)) {
         routines.add(routine);
       }
     }
@@ -179,14 +165,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence : this.sequences) {
-      if (filter.test(sequence)) {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return new ArrayList<>(sequences.valuesForSchema(schema));
   }
 
   /** {@inheritDoc} */
@@ -198,14 +177,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym : this.synonyms) {
-      if (filter.test(synonym)) {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return new ArrayList<>(synonyms.valuesForSchema(schema));
   }
 
   /** {@inheritDoc} */
@@ -223,14 +195,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table : this.tables) {
-      if (filter.test(table)) {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return new ArrayList<>(tables.valuesForSchema(schema));
   }
 
   /** {@inheritDoc} */
@@ -259,15 +224,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   public Optional<SchemaReference> lookupSchema(final String name) {
     // Schemas need to be looked up by full name, since either the
     // catalog or schema may be null, depending on the database
-    if (name == null) {
-      return Optional.empty();
-    }
-    for (final SchemaReference schema : schemas) {
-      if (name.equals(schema.getFullName())) {
-        return Optional.of(schema);
-      }
-    }
-    return Optional.empty();
+    return schemas.lookupByFullName(name);
   }
 
   /** {@inheritDoc} */
@@ -362,6 +319,10 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return tables;
   }
 
+  Optional<ChangeMarkers> getChangeMarkers() {
+    return Optional.ofNullable(changeMarkers);
+  }
+
   MutableColumnDataType lookupBaseColumnDataTypeByType(final int baseType) {
     final SchemaReference systemSchema = new SchemaReference();
     MutableColumnDataType columnDataType = null;
@@ -388,4 +349,12 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
+
+  void setChangeMarkers(final ChangeMarkers changeMarkers) {
+    this.changeMarkers = changeMarkers;
+  }
+
+  void setRetrievalMetrics(final List<RetrievalMetrics> retrievalMetrics) {
+    crawlInfo.setRetrievalMetrics(retrievalMetrics);
+  }
 }
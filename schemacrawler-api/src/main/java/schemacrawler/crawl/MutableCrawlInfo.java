@@ -44,6 +44,9 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import schemacrawler.BaseProductVersion;
@@ -53,6 +56,7 @@ import schemacrawler.ProductVersion;
 import schemacrawler.Version;
 import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.RetrievalMetrics;
 
 /** SchemaCrawler crawl information. */
 final class MutableCrawlInfo implements CrawlInfo {
@@ -85,6 +89,7 @@ final class MutableCrawlInfo implements CrawlInfo {
   private final ProductVersion schemaCrawlerVersion;
   private final ProductVersion databaseVersion;
   private final ProductVersion jdbcDriverVersion;
+  private List<RetrievalMetrics> retrievalMetrics;
 
   MutableCrawlInfo(final ConnectionInfo connectionInfo) {
     requireNonNull(connectionInfo, "No connection information provided");
@@ -101,6 +106,32 @@ final class MutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    retrievalMetrics = new ArrayList<>();
+  }
+
+  /**
+   * Restores crawl information that was previously saved, such as in a catalog snapshot.
+   *
+   * @param crawlTimestamp Time of the original crawl
+   * @param runId Run identifier of the original crawl
+   */
+  MutableCrawlInfo(
+      final Instant crawlTimestamp,
+      final UUID runId,
+      final ProductVersion schemaCrawlerVersion,
+      final ProductVersion operatingSystemVersion,
+      final ProductVersion jvmVersion,
+      final ProductVersion databaseVersion,
+      final ProductVersion jdbcDriverVersion,
+      final List<RetrievalMetrics> retrievalMetrics) {
+    this.crawlTimestamp = requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+    this.runId = requireNonNull(runId, "No run id provided");
+    this.schemaCrawlerVersion = schemaCrawlerVersion;
+    this.operatingSystemVersion = operatingSystemVersion;
+    this.jvmVersion = jvmVersion;
+    this.databaseVersion = databaseVersion;
+    this.jdbcDriverVersion = jdbcDriverVersion;
+    setRetrievalMetrics(retrievalMetrics);
   }
 
   @Override
@@ -138,6 +169,16 @@ final class MutableCrawlInfo implements CrawlInfo {
     return operatingSystemVersion;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public List<RetrievalMetrics> getRetrievalMetrics() {
+    if (retrievalMetrics == null) {
+      // Catalogs serialized before retrieval metrics were recorded
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(retrievalMetrics);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getRunId() {
@@ -166,6 +207,11 @@ final class MutableCrawlInfo implements CrawlInfo {
     return info.toString();
   }
 
+  void setRetrievalMetrics(final List<RetrievalMetrics> retrievalMetrics) {
+    requireNonNull(retrievalMetrics, "No retrieval metrics provided");
+    this.retrievalMetrics = new ArrayList<>(retrievalMetrics);
+  }
+
   private ZonedDateTime getCrawlTimestampUTC() {
     return ZonedDateTime.ofInstant(crawlTimestamp, UTC);
   }
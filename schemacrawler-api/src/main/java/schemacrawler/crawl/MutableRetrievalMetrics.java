@@ -0,0 +1,158 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.requireNotBlank;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import schemacrawler.schema.RetrievalMetrics;
+
+/**
+ * Metrics for a retrieval step. Metrics are owned by the crawl, and counts are accumulated by any
+ * thread that does work for the retrieval.
+ */
+final class MutableRetrievalMetrics implements RetrievalMetrics {
+
+  private static final long serialVersionUID = -1935364436218357718L;
+
+  static MutableRetrievalMetrics restore(
+      final String retrievalName,
+      final String threadName,
+      final Duration duration,
+      final long objectCount,
+      final long queryCount,
+      final long rowCount) {
+    final MutableRetrievalMetrics metrics = new MutableRetrievalMetrics(retrievalName, threadName);
+    metrics.duration = requireNonNull(duration, "No duration provided");
+    metrics.objectCount.add(objectCount);
+    metrics.queryCount.add(queryCount);
+    metrics.rowCount.add(rowCount);
+    return metrics;
+  }
+
+  private final String retrievalName;
+  private final String threadName;
+  private final LongAdder objectCount;
+  private final LongAdder queryCount;
+  private final LongAdder rowCount;
+  private Duration duration;
+
+  private final transient long startNanos;
+
+  /**
+   * Starts recording metrics for a retrieval that is run on the current thread. Metrics need to be
+   * stopped when the retrieval completes.
+   *
+   * @param retrievalName Name of the retrieval
+   */
+  MutableRetrievalMetrics(final String retrievalName) {
+    this(retrievalName, Thread.currentThread().getName());
+  }
+
+  private MutableRetrievalMetrics(final String retrievalName, final String threadName) {
+    this.retrievalName = requireNotBlank(retrievalName, "No retrieval name provided");
+    this.threadName = requireNonNull(threadName, "No thread name provided");
+    objectCount = new LongAdder();
+    queryCount = new LongAdder();
+    rowCount = new LongAdder();
+    duration = Duration.ZERO;
+    startNanos = System.nanoTime();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getObjectCount() {
+    return objectCount.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getQueryCount() {
+    return queryCount.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getRetrievalName() {
+    return retrievalName;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getRowCount() {
+    return rowCount.sum();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getThreadName() {
+    return threadName;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s - %d ms, %d queries, %d rows, %d objects on thread <%s>",
+        retrievalName,
+        duration.toMillis(),
+        getQueryCount(),
+        getRowCount(),
+        getObjectCount(),
+        threadName);
+  }
+
+  /** Counts a catalog object created by the retrieval. */
+  void countObject() {
+    objectCount.increment();
+  }
+
+  /** Counts a metadata query made by the retrieval. */
+  void countQuery() {
+    queryCount.increment();
+  }
+
+  /** Counts a metadata row read by the retrieval. */
+  void countRow() {
+    rowCount.increment();
+  }
+
+  /** Stops recording the duration of the retrieval. */
+  void stop() {
+    duration = Duration.ofNanos(System.nanoTime() - startNanos);
+  }
+}
@@ -348,10 +348,32 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     return columns;
   }
 
+  final int getSortIndex() {
+    return sortIndex;
+  }
+
+  void removeForeignKey(final MutableForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+  }
+
+  void removeIndexes() {
+    for (final MutableIndex index : indexes.values()) {
+      indexes.remove(index);
+    }
+  }
+
+  void removePrimaryKey() {
+    primaryKey = null;
+  }
+
   void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
 
+  void removeWeakAssociation(final MutableWeakAssociation weakAssociation) {
+    weakAssociations.remove(weakAssociation);
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey == null) {
       return;
@@ -79,6 +79,12 @@ class MutableView extends MutableTable implements View {
     }
   }
 
+  void removeTableUsage(final MutableTable table) {
+    if (table != null) {
+      tableUsage.remove(table);
+    }
+  }
+
   void setCheckOption(final CheckOptionType checkOption) {
     this.checkOption = checkOption;
   }
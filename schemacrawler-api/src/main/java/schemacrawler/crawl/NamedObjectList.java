@@ -28,11 +28,14 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -43,9 +46,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 import us.fatehi.utility.ObjectToString;
 
 /**
@@ -53,9 +58,53 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>Sorted values are kept in a snapshot that is only rebuilt after the list is modified, along
+ * with indexes by schema and by full name that are built the first time they are needed.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
+  /** Sorted values at a point in time, with lookup indexes built on demand. */
+  private static final class Snapshot<N extends NamedObject> {
+
+    private final List<N> sortedValues;
+    private volatile Map<NamedObjectKey, List<N>> valuesBySchema;
+    private volatile Map<String, N> valuesByFullName;
+
+    Snapshot(final List<N> sortedValues) {
+      this.sortedValues = unmodifiableList(sortedValues);
+    }
+
+    Optional<N> lookupByFullName(final String fullName) {
+      Map<String, N> index = valuesByFullName;
+      if (index == null) {
+        index = new HashMap<>();
+        for (final N namedObject : sortedValues) {
+          index.putIfAbsent(namedObject.getFullName(), namedObject);
+        }
+        valuesByFullName = index;
+      }
+      return Optional.ofNullable(index.get(fullName));
+    }
+
+    List<N> valuesForSchema(final Schema schema) {
+      Map<NamedObjectKey, List<N>> index = valuesBySchema;
+      if (index == null) {
+        index = new HashMap<>();
+        for (final N namedObject : sortedValues) {
+          if (namedObject instanceof DatabaseObject) {
+            final Schema objectSchema = ((DatabaseObject) namedObject).getSchema();
+            if (objectSchema != null) {
+              index.computeIfAbsent(objectSchema.key(), key -> new ArrayList<>()).add(namedObject);
+            }
+          }
+        }
+        valuesBySchema = index;
+      }
+      return unmodifiableList(index.getOrDefault(schema.key(), emptyList()));
+    }
+  }
+
   private static final long serialVersionUID = 3257847666804142128L;
 
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
@@ -77,6 +126,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   private final Map<NamedObjectKey, N> objects = new ConcurrentHashMap<>();
+  private transient volatile Snapshot<N> snapshot;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -84,18 +134,21 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       return;
     }
 
-    final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
-        iterator.hasNext(); ) {
-      final Entry<NamedObjectKey, N> entry = iterator.next();
-      final N namedObject = entry.getValue();
-      if (!predicate.test(namedObject)) {
-        iterator.remove();
-        if (namedObject instanceof AttributedObject) {
-          final AttributedObject attributedObject = (AttributedObject) namedObject;
-          attributedObject.setAttribute("schemacrawler.filtered_out", true);
+    synchronized (objects) {
+      final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
+      for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
+          iterator.hasNext(); ) {
+        final Entry<NamedObjectKey, N> entry = iterator.next();
+        final N namedObject = entry.getValue();
+        if (!predicate.test(namedObject)) {
+          iterator.remove();
+          if (namedObject instanceof AttributedObject) {
+            final AttributedObject attributedObject = (AttributedObject) namedObject;
+            attributedObject.setAttribute("schemacrawler.filtered_out", true);
+          }
         }
       }
+      snapshot = null;
     }
   }
 
@@ -142,7 +195,10 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
-    objects.put(key, namedObject);
+    synchronized (objects) {
+      objects.put(key, namedObject);
+      snapshot = null;
+    }
     return true;
   }
 
@@ -169,8 +225,35 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return internalGet(lookupKey);
   }
 
+  /**
+   * Looks up a named object by full name.
+   *
+   * @param fullName Full name of the object
+   * @return Named object
+   */
+  Optional<N> lookupByFullName(final String fullName) {
+    if (fullName == null) {
+      return Optional.empty();
+    }
+    return getSnapshot().lookupByFullName(fullName);
+  }
+
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    synchronized (objects) {
+      final N removedObject = objects.remove(makeLookupKey(namedObject));
+      snapshot = null;
+      return removedObject;
+    }
+  }
+
+  /**
+   * Discards sorted values, so that they are sorted again the next time they are needed. This is
+   * needed when the sort order of objects already in the list changes.
+   */
+  void resort() {
+    synchronized (objects) {
+      snapshot = null;
+    }
   }
 
   /**
@@ -183,14 +266,39 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned list cannot be modified.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    return getSnapshot().sortedValues;
+  }
+
+  /**
+   * Gets named objects in the list that belong to a schema, in sorted order.
+   *
+   * @param schema Schema to get objects for
+   * @return Named objects in the schema
+   */
+  List<N> valuesForSchema(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    return getSnapshot().valuesForSchema(schema);
+  }
+
+  private Snapshot<N> getSnapshot() {
+    Snapshot<N> currentSnapshot = snapshot;
+    if (currentSnapshot == null) {
+      synchronized (objects) {
+        currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+          final List<N> sortedValues = new ArrayList<>(objects.values());
+          sortedValues.sort(naturalOrder());
+          currentSnapshot = new Snapshot<>(sortedValues);
+          snapshot = currentSnapshot;
+        }
+      }
+    }
+    return currentSnapshot;
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
@@ -38,6 +38,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -73,6 +74,11 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         retrievePrimaryKeysFromMetadata(allTables);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving primary keys, one schema at a time");
+        retrievePrimaryKeysFromMetadataPerSchema(allTables);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving primary keys");
         break;
@@ -94,6 +100,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     if (primaryKey == null) {
       primaryKey = MutablePrimaryKey.newPrimaryKey(table, primaryKeyName);
       table.setPrimaryKey(primaryKey);
+      countObject();
     }
 
     // Register primary key information
@@ -106,6 +113,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
       pkColumn.setKeyOrdinalPosition(keySequence);
       //
       primaryKey.addColumn(pkColumn);
+      countObject();
     }
   }
 
@@ -122,7 +130,8 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                pkSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -145,23 +154,78 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
     for (final MutableTable table : allTables) {
-      if (table instanceof View) {
-        continue;
-      }
-      final Schema tableSchema = table.getSchema();
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getPrimaryKeys(
-                      tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
-              "DatabaseMetaData::getPrimaryKeys")) {
-        while (results.next()) {
-          createPrimaryKeyForTable(table, results);
-        }
-      } catch (final SQLException e) {
-        throw new WrappedSQLException(
-            String.format("Could not retrieve primary keys for table <%s>", table), e);
+      retrieveTablePrimaryKeysFromMetadata(table);
+    }
+  }
+
+  private void retrievePrimaryKeysFromMetadataPerSchema(
+      final NamedObjectList<MutableTable> allTables) throws SQLException {
+    retrieveForEachSchema(
+        "retrievePrimaryKeys",
+        allTables,
+        (schema, schemaTables) -> {
+          final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+          for (final MutableTable table : schemaTables) {
+            tables.add(table);
+          }
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  getMetaData().getPrimaryKeys(schema.getCatalogName(), schema.getName(), null),
+                  "DatabaseMetaData::getPrimaryKeys",
+                  getRetrievalMetrics())) {
+            while (results.next()) {
+              final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+              final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+              final String tableName = results.getString("TABLE_NAME");
+
+              final Optional<MutableTable> optionalTable =
+                  tables.lookup(new NamedObjectKey(catalogName, schemaName, tableName));
+              if (!optionalTable.isPresent() || optionalTable.get() instanceof View) {
+                continue;
+              }
+              createPrimaryKeyForTable(optionalTable.get(), results);
+            }
+          } catch (final SQLException e) {
+            // The JDBC specification requires a table name, so some drivers
+            // do not allow primary keys to be retrieved for an entire schema
+            LOGGER.log(
+                Level.FINE,
+                e,
+                new StringFormat(
+                    "Could not retrieve primary keys for schema <%s>, so retrieving them one table"
+                        + " at a time",
+                    schema));
+            // Discard primary keys from the partial schema retrieval, so that primary key columns
+            // are not added again
+            for (final MutableTable table : schemaTables) {
+              table.removePrimaryKey();
+            }
+            for (final MutableTable table : schemaTables) {
+              retrieveTablePrimaryKeysFromMetadata(table);
+            }
+          }
+        });
+  }
+
+  private void retrieveTablePrimaryKeysFromMetadata(final MutableTable table)
+      throws WrappedSQLException {
+    if (table instanceof View) {
+      return;
+    }
+    final Schema tableSchema = table.getSchema();
+    try (final MetadataResultSet results =
+        new MetadataResultSet(
+            getMetaData()
+                .getPrimaryKeys(
+                    tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
+            "DatabaseMetaData::getPrimaryKeys",
+            getRetrievalMetrics())) {
+      while (results.next()) {
+        createPrimaryKeyForTable(table, results);
       }
+    } catch (final SQLException e) {
+      throw new WrappedSQLException(
+          String.format("Could not retrieve primary keys for table <%s>", table), e);
     }
   }
 }
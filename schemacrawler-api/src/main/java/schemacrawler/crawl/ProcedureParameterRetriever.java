@@ -89,6 +89,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving procedure parameters");
         retrieveProcedureParametersFromMetadata(allRoutines, parameterFilter);
         break;
@@ -164,6 +165,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
 
       LOGGER.log(Level.FINER, new StringFormat("Adding parameter to procedure <%s>", parameter));
       procedure.addParameter(parameter);
+      countObject();
     }
   }
 
@@ -205,7 +207,8 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                procedureColumnsSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       while (results.next()) {
         createProcedureParameter(results, allRoutines, parameterFilter);
       }
@@ -231,7 +234,8 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
                       procedure.getSchema().getName(),
                       procedure.getName(),
                       null),
-              "DatabaseMetaData::getProcedureColumns")) {
+              "DatabaseMetaData::getProcedureColumns",
+              getRetrievalMetrics())) {
         while (results.next()) {
           createProcedureParameter(results, allRoutines, parameterFilter);
         }
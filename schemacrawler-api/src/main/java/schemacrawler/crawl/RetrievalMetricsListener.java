@@ -0,0 +1,48 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import schemacrawler.schema.RetrievalMetrics;
+
+/**
+ * Service provider interface for listeners that are notified as each retrieval step of a crawl
+ * completes, for example, to publish metrics to a monitoring system. Listeners are discovered using
+ * the Java service loader, and are called on the thread that ran the retrieval, so they need to be
+ * thread-safe.
+ */
+@FunctionalInterface
+public interface RetrievalMetricsListener {
+
+  /**
+   * Called when a retrieval step completes, whether or not it succeeded.
+   *
+   * @param metrics Metrics for the retrieval step
+   */
+  void retrievalCompleted(RetrievalMetrics metrics);
+}
@@ -29,37 +29,96 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.ServiceLoader;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.schema.RetrievalMetrics;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaInfoRetrieval;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import us.fatehi.utility.scheduler.TaskDefinition;
 import us.fatehi.utility.scheduler.TaskRunner;
 import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
 
 /**
- * Builds a list of task definitions that can be run in parallel. These are then submitted to be run
- * (in parallel) in a blocked way until all are complete.
+ * Builds a graph of task definitions that can be run in parallel. Each task depends on the tasks
+ * for its additional retrievals, and on any other prerequisite tasks that are explicitly declared.
+ * These are then submitted to be run (in parallel) in a blocked way until all are complete. Within
+ * a submission, each task is started as soon as its prerequisites are complete.
  */
 public final class RetrievalTaskRunner {
 
   private static final Logger LOGGER = Logger.getLogger(RetrievalTaskRunner.class.getName());
 
+  private static final List<RetrievalMetricsListener> metricsListeners = loadMetricsListeners();
+
+  private static List<RetrievalMetricsListener> loadMetricsListeners() {
+    final List<RetrievalMetricsListener> metricsListeners = new ArrayList<>();
+    try {
+      final ServiceLoader<RetrievalMetricsListener> serviceLoader =
+          ServiceLoader.load(
+              RetrievalMetricsListener.class, RetrievalTaskRunner.class.getClassLoader());
+      for (final RetrievalMetricsListener metricsListener : serviceLoader) {
+        LOGGER.log(
+            Level.CONFIG,
+            new StringFormat(
+                "Loaded retrieval metrics listener <%s>", metricsListener.getClass().getName()));
+        metricsListeners.add(metricsListener);
+      }
+    } catch (final Throwable e) {
+      LOGGER.log(Level.WARNING, "Could not load retrieval metrics listeners", e);
+    }
+    return metricsListeners;
+  }
+
   private final TaskRunner taskRunner;
   private final SchemaInfoLevel infoLevel;
   private final List<TaskDefinition> taskDefinitions;
+  private final List<RetrievalMetrics> retrievalMetrics;
+  private final Consumer<MutableRetrievalMetrics> taskStart;
+  private final Runnable taskCompletion;
 
   public RetrievalTaskRunner(final SchemaInfoLevel infoLevel, final int maxThreads) {
+    this(infoLevel, maxThreads, false, metrics -> {}, () -> {});
+  }
+
+  /**
+   * Builds a task runner.
+   *
+   * @param infoLevel Info-level that determines which retrievals are run
+   * @param maxThreads Maximum number of threads
+   * @param isConcurrent Whether each task gets its own database connection, so that tasks can be
+   *     run using multiple threads by default
+   * @param taskStart Run on the task thread when each task starts, with the metrics for the task
+   * @param taskCompletion Run on the task thread when each task finishes, whether or not it fails
+   */
+  RetrievalTaskRunner(
+      final SchemaInfoLevel infoLevel,
+      final int maxThreads,
+      final boolean isConcurrent,
+      final Consumer<MutableRetrievalMetrics> taskStart,
+      final Runnable taskCompletion) {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
+    this.taskStart = requireNonNull(taskStart, "No task start provided");
+    this.taskCompletion = requireNonNull(taskCompletion, "No task completion provided");
 
-    taskRunner = TaskRunners.getTaskRunner(infoLevel.getTag(), maxThreads);
+    if (isConcurrent) {
+      taskRunner = TaskRunners.getConcurrentTaskRunner(infoLevel.getTag(), maxThreads);
+    } else {
+      taskRunner = TaskRunners.getTaskRunner(infoLevel.getTag(), maxThreads);
+    }
     taskDefinitions = new CopyOnWriteArrayList<>();
+    retrievalMetrics = new CopyOnWriteArrayList<>();
   }
 
   public RetrievalTaskRunner add(
@@ -68,7 +127,7 @@ public final class RetrievalTaskRunner {
       final SchemaInfoRetrieval... additionalRetrievals)
       throws Exception {
     final boolean shouldRun = shouldRun(retrieval) && shouldRun(additionalRetrievals);
-    add(retrieval.name(), shouldRun, function);
+    add(retrieval.name(), shouldRun, function, additionalRetrievals);
     return this;
   }
 
@@ -78,10 +137,46 @@ public final class RetrievalTaskRunner {
       final SchemaInfoRetrieval... additionalRetrievals)
       throws Exception {
     final boolean shouldRun = shouldRun(additionalRetrievals);
-    add(retrievalName, shouldRun, function);
+    add(retrievalName, shouldRun, function, additionalRetrievals);
     return this;
   }
 
+  /**
+   * Declares prerequisite retrievals for the most recently added task. The task is run only after
+   * the prerequisite tasks are complete, but unlike additional retrievals, prerequisites do not
+   * determine whether the task is run.
+   *
+   * @param prerequisites Retrievals that need to complete first
+   */
+  public RetrievalTaskRunner after(final SchemaInfoRetrieval... prerequisites) {
+    requireNonNull(prerequisites, "No prerequisites provided");
+    final List<String> prerequisiteNames = new ArrayList<>();
+    for (final SchemaInfoRetrieval prerequisite : prerequisites) {
+      prerequisiteNames.add(prerequisite.name());
+    }
+    return after(prerequisiteNames);
+  }
+
+  /**
+   * Declares prerequisite tasks for the most recently added task. The task is run only after the
+   * prerequisite tasks are complete.
+   *
+   * @param prerequisites Names of tasks that need to complete first
+   */
+  public RetrievalTaskRunner after(final String... prerequisites) {
+    requireNonNull(prerequisites, "No prerequisites provided");
+    return after(Arrays.asList(prerequisites));
+  }
+
+  /**
+   * Metrics for each retrieval that was run, in order of completion.
+   *
+   * @return Retrieval metrics
+   */
+  public List<RetrievalMetrics> getRetrievalMetrics() {
+    return new ArrayList<>(retrievalMetrics);
+  }
+
   public boolean isStopped() {
     return taskRunner.isStopped();
   }
@@ -122,17 +217,66 @@ public final class RetrievalTaskRunner {
   private void add(
       final String retrievalName,
       final boolean shouldRun,
-      final TaskDefinition.TaskRunnable function)
+      final TaskDefinition.TaskRunnable function,
+      final SchemaInfoRetrieval... additionalRetrievals)
       throws Exception {
 
     if (taskRunner.isStopped()) {
       throw new IllegalStateException("Task runner is stopped");
     }
 
+    final List<String> dependencies = new ArrayList<>();
+    if (additionalRetrievals != null) {
+      for (final SchemaInfoRetrieval additionalRetrieval : additionalRetrievals) {
+        dependencies.add(additionalRetrieval.name());
+      }
+    }
+
     if (shouldRun) {
-      taskDefinitions.add(new TaskDefinition(retrievalName, function));
+      taskDefinitions.add(
+          new TaskDefinition(retrievalName, measured(retrievalName, function), dependencies));
     } else {
-      taskDefinitions.add(new TaskDefinition(retrievalName));
+      taskDefinitions.add(new TaskDefinition(retrievalName).withDependencies(dependencies));
+    }
+  }
+
+  private RetrievalTaskRunner after(final Collection<String> prerequisites) {
+    if (taskDefinitions.isEmpty()) {
+      throw new IllegalStateException("No task to add prerequisites to");
+    }
+    final int lastIndex = taskDefinitions.size() - 1;
+    final TaskDefinition taskDefinition = taskDefinitions.get(lastIndex);
+    taskDefinitions.set(lastIndex, taskDefinition.withDependencies(prerequisites));
+    return this;
+  }
+
+  private TaskDefinition.TaskRunnable measured(
+      final String retrievalName, final TaskDefinition.TaskRunnable function) {
+    return () -> {
+      final MutableRetrievalMetrics metrics = new MutableRetrievalMetrics(retrievalName);
+      try {
+        taskStart.accept(metrics);
+        function.run();
+      } finally {
+        metrics.stop();
+        retrievalMetrics.add(metrics);
+        notifyMetricsListeners(metrics);
+        taskCompletion.run();
+      }
+    };
+  }
+
+  private void notifyMetricsListeners(final RetrievalMetrics metrics) {
+    for (final RetrievalMetricsListener metricsListener : metricsListeners) {
+      try {
+        metricsListener.retrievalCompleted(metrics);
+      } catch (final Exception e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat(
+                "Retrieval metrics listener <%s> failed", metricsListener.getClass().getName()));
+      }
     }
   }
 
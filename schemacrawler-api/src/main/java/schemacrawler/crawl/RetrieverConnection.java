@@ -34,6 +34,13 @@ import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,18 +51,41 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TypeMap;
 import us.fatehi.utility.string.StringFormat;
 
-/** A connection for the retriever. Wraps a live database connection. */
+/**
+ * A connection for the retriever. Wraps a live database connection. Optionally, a supplier of
+ * worker connections can be provided, so that retrieval tasks running on threads other than the one
+ * that created the retriever connection each get their own database connection. A worker connection
+ * is checked out by a task when it first needs a connection, and is released for other tasks when
+ * the task finishes.
+ */
 final class RetrieverConnection {
 
+  private static final class WorkerConnection {
+    private final Connection connection;
+    private final DatabaseMetaData metaData;
+
+    WorkerConnection(final Connection connection) throws SQLException {
+      this.connection = checkConnection(connection);
+      metaData = requireNonNull(connection.getMetaData(), "No database metadata obtained");
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(RetrieverConnection.class.getName());
 
   private final Connection connection;
   private final JavaSqlTypes javaSqlTypes;
   private final DatabaseMetaData metaData;
+  private final Thread ownerThread;
+  private final Supplier<Connection> workerConnectionSupplier;
+  private final Map<Thread, WorkerConnection> checkedOutWorkerConnections;
+  private final Deque<WorkerConnection> idleWorkerConnections;
+  private final List<WorkerConnection> workerConnections;
+  private final Map<Thread, MutableRetrievalMetrics> runningRetrievalMetrics;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final ConnectionInfo connectionInfo;
@@ -63,8 +93,22 @@ final class RetrieverConnection {
   RetrieverConnection(
       final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
       throws SQLException {
+    this(connection, null, schemaRetrievalOptions);
+  }
+
+  RetrieverConnection(
+      final Connection connection,
+      final Supplier<Connection> workerConnectionSupplier,
+      final SchemaRetrievalOptions schemaRetrievalOptions)
+      throws SQLException {
 
     this.connection = checkConnection(connection);
+    this.workerConnectionSupplier = workerConnectionSupplier;
+    ownerThread = Thread.currentThread();
+    checkedOutWorkerConnections = new ConcurrentHashMap<>();
+    idleWorkerConnections = new ArrayDeque<>();
+    workerConnections = new ArrayList<>();
+    runningRetrievalMetrics = new ConcurrentHashMap<>();
     metaData = requireNonNull(connection.getMetaData(), "No database metadata obtained");
     this.schemaRetrievalOptions =
         requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
@@ -85,8 +129,49 @@ final class RetrieverConnection {
     return connectionInfo;
   }
 
+  /**
+   * Closes all worker connections that were obtained from the worker connection supplier. The
+   * primary connection is owned by the caller, and is not closed.
+   */
+  void closeWorkerConnections() {
+    synchronized (workerConnections) {
+      for (final WorkerConnection workerConnection : workerConnections) {
+        try {
+          workerConnection.connection.close();
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, "Could not close worker connection", e);
+        }
+      }
+      workerConnections.clear();
+      idleWorkerConnections.clear();
+      checkedOutWorkerConnections.clear();
+    }
+    runningRetrievalMetrics.clear();
+  }
+
+  /**
+   * Stops recording metrics for the retrieval task running on the current thread, and releases its
+   * worker connection. Called when each retrieval task finishes, whether or not it fails.
+   */
+  void completeRetrieval() {
+    runningRetrievalMetrics.remove(Thread.currentThread());
+    releaseWorkerConnection();
+  }
+
+  /**
+   * Gets the connection for the current thread. If no worker connection supplier was provided, or
+   * if called on the thread that created the retriever connection, the primary connection is
+   * returned.
+   *
+   * @return Database connection for the current thread
+   */
   Connection getConnection() {
-    return connection;
+    final WorkerConnection workerConnection = lookupWorkerConnection();
+    if (workerConnection == null) {
+      return connection;
+    } else {
+      return workerConnection.connection;
+    }
   }
 
   EnumDataTypeHelper getEnumDataTypeHelper() {
@@ -107,7 +192,12 @@ final class RetrieverConnection {
   }
 
   DatabaseMetaData getMetaData() {
-    return metaData;
+    final WorkerConnection workerConnection = lookupWorkerConnection();
+    if (workerConnection == null) {
+      return metaData;
+    } else {
+      return workerConnection.metaData;
+    }
   }
 
   TableTypes getTableTypes() {
@@ -118,6 +208,25 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getTypeMap();
   }
 
+  /**
+   * Gets the metrics for the retrieval task running on the current thread.
+   *
+   * @return Retrieval metrics, or null if no retrieval task is running on the current thread
+   */
+  MutableRetrievalMetrics lookupRetrievalMetrics() {
+    return runningRetrievalMetrics.get(Thread.currentThread());
+  }
+
+  /**
+   * Whether retrieval tasks running on other threads get their own worker connections, instead of
+   * sharing the primary connection.
+   *
+   * @return True if a worker connection supplier was provided
+   */
+  boolean hasWorkerConnections() {
+    return workerConnectionSupplier != null;
+  }
+
   boolean isSupportsCatalogs() {
     return schemaRetrievalOptions.isSupportsCatalogs();
   }
@@ -125,4 +234,61 @@ final class RetrieverConnection {
   boolean isSupportsSchemas() {
     return schemaRetrievalOptions.isSupportsSchemas();
   }
+
+  /**
+   * Releases the worker connection checked out by the task running on the current thread, if any,
+   * so that it can be used by the next task. Called when each retrieval task finishes.
+   */
+  void releaseWorkerConnection() {
+    final WorkerConnection workerConnection =
+        checkedOutWorkerConnections.remove(Thread.currentThread());
+    if (workerConnection != null) {
+      synchronized (workerConnections) {
+        idleWorkerConnections.push(workerConnection);
+      }
+    }
+  }
+
+  /**
+   * Records metrics for the retrieval task running on the current thread, until the task completes.
+   *
+   * @param retrievalMetrics Metrics for the retrieval
+   */
+  void startRetrieval(final MutableRetrievalMetrics retrievalMetrics) {
+    requireNonNull(retrievalMetrics, "No retrieval metrics provided");
+    runningRetrievalMetrics.put(Thread.currentThread(), retrievalMetrics);
+  }
+
+  private WorkerConnection lookupWorkerConnection() {
+    final Thread currentThread = Thread.currentThread();
+    if (workerConnectionSupplier == null || currentThread == ownerThread) {
+      return null;
+    }
+
+    final WorkerConnection workerConnection = checkedOutWorkerConnections.get(currentThread);
+    if (workerConnection != null) {
+      return workerConnection;
+    }
+
+    synchronized (workerConnections) {
+      final WorkerConnection idleWorkerConnection = idleWorkerConnections.poll();
+      if (idleWorkerConnection != null) {
+        checkedOutWorkerConnections.put(currentThread, idleWorkerConnection);
+        return idleWorkerConnection;
+      }
+
+      LOGGER.log(
+          Level.CONFIG,
+          new StringFormat("Opening worker connection for thread <%s>", currentThread.getName()));
+      try {
+        final WorkerConnection newWorkerConnection =
+            new WorkerConnection(workerConnectionSupplier.get());
+        workerConnections.add(newWorkerConnection);
+        checkedOutWorkerConnections.put(currentThread, newWorkerConnection);
+        return newWorkerConnection;
+      } catch (final SQLException e) {
+        throw new DatabaseAccessException(e);
+      }
+    }
+  }
 }
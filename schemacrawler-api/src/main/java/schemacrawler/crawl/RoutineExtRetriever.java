@@ -76,7 +76,11 @@ final class RoutineExtRetriever extends AbstractRetriever {
     final Query routineDefinitionsSql = informationSchemaViews.getQuery(ROUTINES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(routineDefinitionsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                routineDefinitionsSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("ROUTINE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("ROUTINE_SCHEMA"));
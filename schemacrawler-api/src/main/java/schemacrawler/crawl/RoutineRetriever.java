@@ -122,6 +122,7 @@ final class RoutineRetriever extends AbstractRetriever {
       function.addAttributes(results.getAttributes());
 
       catalog.addRoutine(function);
+      countObject();
     }
   }
 
@@ -158,6 +159,7 @@ final class RoutineRetriever extends AbstractRetriever {
       procedure.addAttributes(results.getAttributes());
 
       catalog.addRoutine(procedure);
+      countObject();
     }
   }
 
@@ -179,6 +181,7 @@ final class RoutineRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving functions");
         retrieveFunctionsFromMetadata(schemas, functionFilter);
         break;
@@ -201,7 +204,8 @@ final class RoutineRetriever extends AbstractRetriever {
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                functionsSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       int numFunctions = 0;
       while (results.next()) {
         numFunctions = numFunctions + 1;
@@ -223,7 +227,8 @@ final class RoutineRetriever extends AbstractRetriever {
       try (final MetadataResultSet results =
           new MetadataResultSet(
               getMetaData().getFunctions(catalogName, schemaName, null),
-              "DatabaseMetaData::getFunctions")) {
+              "DatabaseMetaData::getFunctions",
+              getRetrievalMetrics())) {
         int numFunctions = 0;
         while (results.next()) {
           numFunctions = numFunctions + 1;
@@ -256,6 +261,7 @@ final class RoutineRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving procedures");
         retrieveProceduresFromMetadata(schemas, procedureFilter);
         break;
@@ -277,7 +283,8 @@ final class RoutineRetriever extends AbstractRetriever {
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                proceduresSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       int numProcedures = 0;
       while (results.next()) {
         numProcedures = numProcedures + 1;
@@ -300,7 +307,8 @@ final class RoutineRetriever extends AbstractRetriever {
       try (final MetadataResultSet results =
           new MetadataResultSet(
               getMetaData().getProcedures(catalogName, schemaName, null),
-              "DatabaseMetaData::getProcedures")) {
+              "DatabaseMetaData::getProcedures",
+              getRetrievalMetrics())) {
         int numProcedures = 0;
         while (results.next()) {
           numProcedures = numProcedures + 1;
@@ -75,17 +75,27 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewTableU
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
 import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
@@ -118,19 +128,62 @@ public final class SchemaCrawler {
       final Connection connection,
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions options) {
+    this(connection, null, schemaRetrievalOptions, options);
+  }
+
+  /**
+   * Constructs a SchemaCrawler object, from a connection, and a supplier of additional connections.
+   * Retrieval tasks that run concurrently each check out their own connection from the supplier, so
+   * that the database driver does not serialize metadata calls on a single connection. Worker
+   * connections are closed at the end of the crawl.
+   *
+   * @param connection An database connection.
+   * @param workerConnectionSupplier Supplier of connections for concurrent retrieval tasks, or null
+   *     to use the single database connection for all tasks
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   */
+  public SchemaCrawler(
+      final Connection connection,
+      final Supplier<Connection> workerConnectionSupplier,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
     try {
-      retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+      retrieverConnection =
+          new RetrieverConnection(connection, workerConnectionSupplier, schemaRetrievalOptions);
       this.options = requireNonNull(options, "No SchemaCrawler options provided");
 
       final LoadOptions loadOptions = options.getLoadOptions();
       infoLevel = loadOptions.getSchemaInfoLevel();
       final int maxThreads = loadOptions.getMaxThreads();
-      taskRunner = new RetrievalTaskRunner(infoLevel, maxThreads);
+      taskRunner =
+          new RetrievalTaskRunner(
+              infoLevel,
+              maxThreads,
+              retrieverConnection.hasWorkerConnections(),
+              retrieverConnection::startRetrieval,
+              retrieverConnection::completeRetrieval);
     } catch (final SQLException e) {
       throw new DatabaseAccessException(e);
     }
   }
 
+  /**
+   * Constructs a SchemaCrawler object that crawls into a catalog, and shares the connection and
+   * task runner of another crawl.
+   */
+  private SchemaCrawler(
+      final RetrieverConnection retrieverConnection,
+      final RetrievalTaskRunner taskRunner,
+      final SchemaCrawlerOptions options,
+      final MutableCatalog catalog) {
+    this.retrieverConnection = requireNonNull(retrieverConnection, "No connection provided");
+    this.taskRunner = requireNonNull(taskRunner, "No task runner provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    infoLevel = options.getLoadOptions().getSchemaInfoLevel();
+  }
+
   /**
    * Crawls the database, to obtain database metadata.
    *
@@ -140,24 +193,194 @@ public final class SchemaCrawler {
     try {
       catalog = new MutableCatalog("catalog", retrieverConnection.getConnectionInfo());
 
-      crawlDatabaseInfo();
-      LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
+      crawlCatalog();
+      if (options.getLoadOptions().isLoadChangeMarkers()) {
+        crawlChangeMarkers();
+      }
+
+      taskRunner.stopAndLogTime();
+      catalog.setRetrievalMetrics(taskRunner.getRetrievalMetrics());
+
+      return catalog;
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException(e);
+    } finally {
+      retrieverConnection.closeWorkerConnections();
+    }
+  }
+
+  /**
+   * Crawls the database incrementally, starting from the catalog from a previous crawl. Change
+   * markers, such as DDL change timestamps, are compared with the markers that were recorded in the
+   * previous catalog, and only tables and routines that were added or altered are crawled again.
+   * Dropped objects are left out, and all other tables and routines are reused from the previous
+   * catalog, and spliced together with the objects that were crawled again.
+   *
+   * <p>The previous catalog needs to be crawled with the same options, with change markers loaded,
+   * and cannot be used after it is spliced, since its objects are moved into the new catalog. The
+   * new catalog always has change markers, so that it can be used for the next incremental crawl. A
+   * full crawl is done instead if the database plugin does not provide a query for change markers,
+   * if the previous catalog does not have change markers, if change markers cannot be retrieved, or
+   * if grep options or parent and child table filters are used, since these need all of the tables
+   * to be crawled.
+   *
+   * @param previousCatalog Catalog from a previous crawl, which may be loaded from an offline
+   *     snapshot
+   * @return Database metadata
+   */
+  public Catalog crawl(final Catalog previousCatalog) {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+    if (!canCrawlIncrementally(previousCatalog)) {
+      return crawl();
+    }
+
+    try {
+      final MutableCatalog previous = (MutableCatalog) previousCatalog;
+      final ChangeMarkers previousChangeMarkers = previous.getChangeMarkers().get();
+
+      catalog = new MutableCatalog("catalog", retrieverConnection.getConnectionInfo());
 
-      crawlSchemas();
-      crawlColumnDataTypes();
-      crawlTables();
-      crawlRoutines();
+      crawlChangeMarkers();
+      if (!catalog.getChangeMarkers().isPresent()) {
+        LOGGER.log(Level.INFO, "Crawling all objects, since change markers could not be retrieved");
+        return crawl();
+      }
+      final ChangeMarkers changeMarkers = catalog.getChangeMarkers().get();
+
+      final LimitOptions limitOptions = options.getLimitOptions();
+      final LimitOptionsBuilder changesLimitOptionsBuilder =
+          LimitOptionsBuilder.builder().fromOptions(limitOptions);
+
+      // Find tables to crawl again, and tables that cannot be reused
+      final Set<NamedObjectKey> changedTables = changeMarkers.changedTables(previousChangeMarkers);
+      final Set<NamedObjectKey> staleTables =
+          changeMarkers.staleTables(previousChangeMarkers, keys(previous.getAllTables()));
+      changesLimitOptionsBuilder.includeTables(
+          includeOnly(
+              limitOptions.get(ruleForTableInclusion), changeMarkers.fullNames(changedTables)));
+
+      // Find routines to crawl again, and routines that cannot be reused; if routines
+      // do not have change markers, all routines are crawled again
+      final Set<NamedObjectKey> routineNames = new HashSet<>();
+      for (final MutableRoutine routine : previous.getAllRoutines()) {
+        routineNames.add(routine.getSchema().key().with(routine.getName()));
+      }
+      final Set<NamedObjectKey> staleRoutines;
+      if (changeMarkers.hasRoutineChangeMarkers()
+          && previousChangeMarkers.hasRoutineChangeMarkers()) {
+        final Set<NamedObjectKey> changedRoutines =
+            changeMarkers.changedRoutines(previousChangeMarkers);
+        staleRoutines = changeMarkers.staleRoutines(previousChangeMarkers, routineNames);
+        changesLimitOptionsBuilder.includeRoutines(
+            includeOnly(
+                limitOptions.get(ruleForRoutineInclusion),
+                changeMarkers.fullNames(changedRoutines)));
+      } else {
+        staleRoutines = routineNames;
+      }
+
+      // Synonyms are crawled after splicing, so that they can reference reused objects
+      changesLimitOptionsBuilder.includeSynonyms(new ExcludeAll());
+
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Crawling %d added or altered tables incrementally, with %d dropped or altered tables"
+                  + " from the previous catalog",
+              changedTables.size(), staleTables.size()));
+
+      final SchemaCrawlerOptions changesOptions =
+          options.withLimitOptions(changesLimitOptionsBuilder.toOptions());
+      new SchemaCrawler(retrieverConnection, taskRunner, changesOptions, catalog).crawlCatalog();
+
+      taskRunner
+          .add(
+              "spliceCatalog",
+              () -> new CatalogSplicer(previous, catalog).splice(staleTables, staleRoutines))
+          .submit();
+      crawlSplicedTables();
       crawlSynonyms();
-      crawlSequences();
 
       taskRunner.stopAndLogTime();
+      catalog.setRetrievalMetrics(taskRunner.getRetrievalMetrics());
 
       return catalog;
     } catch (final RuntimeException e) {
       throw e;
     } catch (final Exception e) {
       throw new ExecutionRuntimeException(e);
+    } finally {
+      retrieverConnection.closeWorkerConnections();
+    }
+  }
+
+  private boolean canCrawlIncrementally(final Catalog previousCatalog) {
+    if (!(previousCatalog instanceof MutableCatalog)
+        || !((MutableCatalog) previousCatalog).getChangeMarkers().isPresent()) {
+      LOGGER.log(
+          Level.INFO,
+          "Crawling all objects, since the previous catalog does not have change markers");
+      return false;
+    }
+    if (!infoLevel.is(retrieveTables)) {
+      LOGGER.log(Level.INFO, "Crawling all objects, since tables are not retrieved");
+      return false;
+    }
+    final GrepOptions grepOptions = options.getGrepOptions();
+    final FilterOptions filterOptions = options.getFilterOptions();
+    if (grepOptions.isGrepTables()
+        || grepOptions.isGrepColumns()
+        || grepOptions.isGrepDefinitions()
+        || grepOptions.isGrepRoutineParameters()
+        || filterOptions.getChildTableFilterDepth() > 0
+        || filterOptions.getParentTableFilterDepth() > 0) {
+      LOGGER.log(Level.INFO, "Crawling all objects, since grep options or table filters are used");
+      return false;
     }
+    if (!new ChangeMarkerRetriever(retrieverConnection, null, options).isSupported()) {
+      LOGGER.log(
+          Level.INFO, "Crawling all objects, since the database plugin has no change markers");
+      return false;
+    }
+    return true;
+  }
+
+  private void crawlCatalog() throws Exception {
+    crawlDatabaseInfo();
+    LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
+
+    crawlSchemas();
+    crawlColumnDataTypes();
+    crawlTables();
+    crawlRoutines();
+    crawlSynonyms();
+    crawlSequences();
+  }
+
+  private void crawlChangeMarkers() throws Exception {
+
+    final ChangeMarkerRetriever retriever =
+        new ChangeMarkerRetriever(retrieverConnection, catalog, options);
+    if (!(infoLevel.is(retrieveTables) && retriever.isSupported())) {
+      LOGGER.log(Level.FINE, "Not retrieving change markers");
+      return;
+    }
+
+    // Change markers are only needed for incremental crawls, so do not fail the crawl if the
+    // database plugin query for them does not work
+    taskRunner
+        .add(
+            "retrieveChangeMarkers",
+            () -> {
+              try {
+                retriever.retrieveChangeMarkers();
+              } catch (final Exception e) {
+                LOGGER.log(Level.WARNING, "Could not retrieve change markers", e);
+              }
+            })
+        .submit();
   }
 
   private void crawlColumnDataTypes() throws Exception {
@@ -165,10 +388,10 @@ public final class SchemaCrawler {
     final DataTypeRetriever retriever =
         new DataTypeRetriever(retrieverConnection, catalog, options);
 
-    taskRunner.add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes).submit();
-
     taskRunner
+        .add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes)
         .add(retrieveUserDefinedColumnDataTypes, retriever::retrieveUserDefinedColumnDataTypes)
+        .after(retrieveColumnDataTypes)
         .submit();
   }
 
@@ -238,18 +461,16 @@ public final class SchemaCrawler {
                 }
               }
             })
-        .submit();
-
-    taskRunner
         .add(
             "filterAndSortRoutines",
             () -> {
               // Filter the list of routines based on grep criteria
               catalog.reduce(Routine.class, getRoutineReducer(options));
             })
+        .after(retrieveRoutineParameters)
+        .add(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation)
+        .after("filterAndSortRoutines")
         .submit();
-
-    taskRunner.add(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation).submit();
   }
 
   private void crawlSchemas() throws Exception {
@@ -260,10 +481,8 @@ public final class SchemaCrawler {
         .add(
             "retrieveSchemas",
             () -> retriever.retrieveSchemas(options.getLimitOptions().get(ruleForSchemaInclusion)))
-        .submit();
-
-    taskRunner
         .add("filterAndSortSchemas", () -> catalog.reduce(Schema.class, getSchemaReducer(options)))
+        .after("retrieveSchemas")
         .submit();
 
     final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
@@ -291,12 +510,10 @@ public final class SchemaCrawler {
             () ->
                 retrieverExtra.retrieveSequenceInformation(
                     limitOptions.get(ruleForSequenceInclusion)))
-        .submit();
-
-    taskRunner
         .add(
             "filterAndSortSequences",
             () -> catalog.reduce(Sequence.class, getSequenceReducer(options)))
+        .after(retrieveSequenceInformation)
         .submit();
   }
 
@@ -318,11 +535,35 @@ public final class SchemaCrawler {
             () ->
                 retrieverExtra.retrieveSynonymInformation(
                     limitOptions.get(ruleForSynonymInclusion)))
+        .add(
+            "filterAndSortSynonms", () -> catalog.reduce(Synonym.class, getSynonymReducer(options)))
+        .after(retrieveSynonymInformation)
         .submit();
+  }
+
+  /**
+   * Links tables that were crawled again with tables that were reused from a previous catalog, by
+   * retrieving view table usage again, and sorting all of the tables together.
+   */
+  private void crawlSplicedTables() throws Exception {
+
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    if (allTables.isEmpty()) {
+      return;
+    }
+
+    final TableExtRetriever retrieverExtra =
+        new TableExtRetriever(retrieverConnection, catalog, options);
 
     taskRunner
+        .add(retrieveViewTableUsage, retrieverExtra::retrieveViewTableUsage, retrieveTables)
         .add(
-            "filterAndSortSynonms", () -> catalog.reduce(Synonym.class, getSynonymReducer(options)))
+            "sortSplicedTables",
+            () -> {
+              final TablesGraph tablesGraph = new TablesGraph(allTables);
+              tablesGraph.setTablesSortIndexes();
+              allTables.resort();
+            })
         .submit();
   }
 
@@ -367,6 +608,8 @@ public final class SchemaCrawler {
       return;
     }
 
+    // Build a task graph, so that each retrieval starts as soon as the
+    // retrievals that it depends on are complete
     taskRunner
         .add(
             retrieveTableColumns,
@@ -376,9 +619,6 @@ public final class SchemaCrawler {
                     allTables, limitOptions.get(ruleForColumnInclusion));
               }
             })
-        .submit();
-
-    taskRunner
         .add(
             retrievePrimaryKeys,
             () -> pkRetriever.retrievePrimaryKeys(allTables),
@@ -393,9 +633,6 @@ public final class SchemaCrawler {
             constraintRetriever::retrieveTableConstraints,
             retrieveTableColumns)
         .add(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation)
-        .submit();
-
-    taskRunner
         .add(
             "filterAndSortTables",
             () -> {
@@ -406,55 +643,85 @@ public final class SchemaCrawler {
               // Sort the remaining tables
               final TablesGraph tablesGraph = new TablesGraph(allTables);
               tablesGraph.setTablesSortIndexes();
+              allTables.resort();
             })
+        .after(
+            retrieveTableColumns,
+            retrievePrimaryKeys,
+            retrieveForeignKeys,
+            retrieveIndexes,
+            retrieveTableConstraints,
+            retrieveTriggerInformation)
         .add(
             "matchTableConstraints",
             () -> constraintRetriever.matchTableConstraints(allTables),
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .after(retrievePrimaryKeys, retrieveForeignKeys, retrieveTableConstraints)
         .add(
             retrieveTableConstraintDefinitions,
             constraintRetriever::retrieveTableConstraintDefinitions,
             retrieveTableConstraints)
+        .after("matchTableConstraints")
         .add(
             retrieveTableConstraintInformation,
             constraintRetriever::retrieveTableConstraintInformation,
             retrieveTableConstraints)
+        .after("matchTableConstraints")
         .add(retrieveViewInformation, retrieverExtra::retrieveViewInformation, retrieveTables)
+        .after("filterAndSortTables")
         .add(retrieveViewTableUsage, retrieverExtra::retrieveViewTableUsage, retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveTableDefinitionsInformation,
             retrieverExtra::retrieveTableDefinitions,
             retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveIndexInformation,
             () -> retrieverExtra.retrieveIndexInformation(),
             retrieveIndexes)
+        .after("filterAndSortTables")
         .add(
             retrieveAdditionalTableAttributes,
             () -> retrieverExtra.retrieveAdditionalTableAttributes(),
             retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveTablePrivileges,
             () -> retrieverPrivilege.retrieveTablePrivileges(),
             retrieveTables)
+        .after("filterAndSortTables")
         .add(
             retrieveTableColumnPrivileges,
             retrieverPrivilege::retrieveTableColumnPrivileges,
             retrieveTableColumns)
+        .after("filterAndSortTables")
         .add(
             retrieveAdditionalColumnAttributes,
             retrieverExtra::retrieveAdditionalColumnAttributes,
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .after("filterAndSortTables")
         .add(
             retrieveAdditionalColumnMetadata,
             retrieverExtra::retrieveAdditionalColumnMetadata,
             retrieveTableColumns)
+        .after("filterAndSortTables", retrieveAdditionalColumnAttributes.name())
         .submit();
   }
+
+  private InclusionRule includeOnly(
+      final InclusionRule inclusionRule, final Set<String> fullNames) {
+    if (fullNames.isEmpty()) {
+      return new ExcludeAll();
+    }
+    return (InclusionRule) text -> fullNames.contains(text) && inclusionRule.test(text);
+  }
+
+  private Set<NamedObjectKey> keys(final NamedObjectList<? extends NamedObject> namedObjects) {
+    final Set<NamedObjectKey> keys = new HashSet<>();
+    for (final NamedObject namedObject : namedObjects) {
+      keys.add(namedObject.key());
+    }
+    return keys;
+  }
 }
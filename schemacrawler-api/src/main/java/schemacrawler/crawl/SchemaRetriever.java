@@ -104,12 +104,14 @@ final class SchemaRetriever extends AbstractRetriever {
     // reference cache
     for (final SchemaReference schemaRef : schemaRefs) {
       catalog.addSchema(schemaRef);
+      countObject();
     }
 
     // Add an empty schema reference for databases that do not support
     // neither catalogs nor schemas
     if (!supportsCatalogs && !supportsSchemas) {
       catalog.addSchema(new SchemaReference(null, null));
+      countObject();
     }
   }
 
@@ -149,7 +151,8 @@ final class SchemaRetriever extends AbstractRetriever {
     if (supportsSchemas) {
       int numSchemas = 0;
       try (final MetadataResultSet results =
-          new MetadataResultSet(getMetaData().getSchemas(), "DatabaseMetaData::getSchemas")) {
+          new MetadataResultSet(
+              getMetaData().getSchemas(), "DatabaseMetaData::getSchemas", getRetrievalMetrics())) {
         while (results.next()) {
           numSchemas = numSchemas + 1;
           final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -194,7 +197,8 @@ final class SchemaRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                schemataSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       int numSchemas = 0;
       while (results.next()) {
         numSchemas = numSchemas + 1;
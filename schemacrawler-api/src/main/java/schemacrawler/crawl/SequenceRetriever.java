@@ -90,7 +90,11 @@ final class SequenceRetriever extends AbstractRetriever {
     final Query sequencesDefinitionSql = informationSchemaViews.getQuery(SEQUENCES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                sequencesDefinitionSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SEQUENCE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SEQUENCE_SCHEMA"));
@@ -120,6 +124,7 @@ final class SequenceRetriever extends AbstractRetriever {
 
         if (sequenceFilter.test(sequence)) {
           catalog.addSequence(sequence);
+          countObject();
         }
       }
     } catch (final Exception e) {
@@ -0,0 +1,118 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.Arrays;
+
+/**
+ * Layout of the binary catalog snapshot format. A snapshot starts with a header, which has a magic
+ * number, the format version, and the offset of the table of contents. The header is followed by
+ * sections, and the table of contents at the end of the snapshot has the type, schema and extent of
+ * each section.
+ *
+ * <p>Names, types and remarks are written once to the strings section, and referenced by index from
+ * all other sections. The catalog section has database and crawl information, schemas and column
+ * data types. Each schema has its own section with tables, routines and sequences, and each table
+ * and routine record starts with its length, so that it can be skipped without being read. Foreign
+ * keys, weak associations, view table usage and synonyms can cross schemas, so they are written to
+ * a references section that is read last. Content fingerprints, as they were when the snapshot was
+ * written, are written as fixed-length longs at the end of each object.
+ */
+final class SnapshotFormat {
+
+  static final byte[] MAGIC = {'S', 'C', 'S', 'N', 'A', 'P', '\r', '\n'};
+
+  /** Version of the snapshot format that is written, and the latest version that can be read. */
+  static final int FORMAT_VERSION = 3;
+
+  /** First version of the format where table and routine records are prefixed by their length. */
+  static final int FORMAT_VERSION_RECORD_LENGTHS = 2;
+
+  /**
+   * First version of the format where tables, columns, indexes, foreign keys and routines are
+   * followed by their content fingerprints.
+   */
+  static final int FORMAT_VERSION_FINGERPRINTS = 3;
+
+  static final int HEADER_LENGTH = MAGIC.length + Integer.BYTES + Long.BYTES;
+
+  static final byte SECTION_STRINGS = 1;
+  static final byte SECTION_CATALOG = 2;
+  static final byte SECTION_SCHEMA = 3;
+  static final byte SECTION_REFERENCES = 4;
+
+  static final byte TABLE = 0;
+  static final byte VIEW = 1;
+
+  static final byte PROCEDURE = 0;
+  static final byte FUNCTION = 1;
+
+  static final byte CONSTRAINT = 0;
+  static final byte CONSTRAINT_PRIMARY_KEY = 1;
+  static final byte CONSTRAINT_ALTERNATE_KEY = 2;
+  static final byte CONSTRAINT_FOREIGN_KEY = 3;
+  static final byte CONSTRAINT_WEAK_ASSOCIATION = 4;
+
+  static final byte REFERENCED_TABLE = 0;
+  static final byte REFERENCED_ROUTINE = 1;
+  static final byte REFERENCED_UNKNOWN = 2;
+
+  static final byte VALUE_NULL = 0;
+  static final byte VALUE_STRING = 1;
+  static final byte VALUE_BOOLEAN = 2;
+  static final byte VALUE_INTEGER = 3;
+  static final byte VALUE_LONG = 4;
+  static final byte VALUE_DOUBLE = 5;
+  static final byte VALUE_LIST = 6;
+  static final byte VALUE_SERIALIZED = 7;
+  static final byte VALUE_STRING_ARRAY = 8;
+  static final byte VALUE_BINARY_DATA = 9;
+
+  static boolean isSnapshotHeader(final byte[] header) {
+    return header != null
+        && header.length >= MAGIC.length
+        && Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC);
+  }
+
+  /**
+   * Checks if a class can be read from Java serialized values in a snapshot. Only core Java types
+   * are allowed, so that values that cannot be read back are not written either.
+   *
+   * @param className Name of the serialized class
+   * @return True if the class is allowed
+   */
+  static boolean isSerializedValueClass(final String className) {
+    return className != null
+        && (className.startsWith("java.") || className.matches("\\[+[BCDFIJSZ]"));
+  }
+
+  private SnapshotFormat() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,236 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import schemacrawler.utility.BinaryData;
+
+/** Reads a section of a catalog snapshot, and resolves strings from the string table. */
+final class SnapshotInput {
+
+  /**
+   * Strings shared by all sections of a snapshot. Strings are decoded when they are first
+   * referenced.
+   */
+  static final class StringTable {
+
+    private final ByteBuffer buffer;
+    private final int offsetsStart;
+    private final int stringsStart;
+    private final String[] strings;
+
+    StringTable(final ByteBuffer section) {
+      buffer = section;
+      final int count = section.getInt(0);
+      offsetsStart = Integer.BYTES;
+      stringsStart = offsetsStart + count * Integer.BYTES + Integer.BYTES;
+      strings = new String[count];
+    }
+
+    String get(final int index) {
+      String string = strings[index];
+      if (string == null) {
+        final int start = buffer.getInt(offsetsStart + index * Integer.BYTES);
+        final int end;
+        if (index + 1 < strings.length) {
+          end = buffer.getInt(offsetsStart + (index + 1) * Integer.BYTES);
+        } else {
+          end = buffer.getInt(offsetsStart + strings.length * Integer.BYTES);
+        }
+        final byte[] bytes = new byte[end - start];
+        final ByteBuffer stringBuffer = buffer.duplicate();
+        ((Buffer) stringBuffer).position(stringsStart + start);
+        stringBuffer.get(bytes);
+        string = new String(bytes, UTF_8);
+        strings[index] = string;
+      }
+      return string;
+    }
+  }
+
+  /** Only allows values of core Java types to be read from Java serialized data. */
+  private static final class ValueInputStream extends ObjectInputStream {
+
+    ValueInputStream(final InputStream in) throws IOException {
+      super(in);
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass desc)
+        throws IOException, ClassNotFoundException {
+      final String className = desc.getName();
+      if (!SnapshotFormat.isSerializedValueClass(className)) {
+        throw new InvalidClassException(className, "Unexpected serialized class in snapshot");
+      }
+      return super.resolveClass(desc);
+    }
+  }
+
+  private final ByteBuffer buffer;
+  private final StringTable stringTable;
+
+  SnapshotInput(final ByteBuffer section, final StringTable stringTable) {
+    buffer = section;
+    this.stringTable = stringTable;
+  }
+
+  BigInteger readBigInteger() {
+    final int length = readInt();
+    if (length == 0) {
+      return null;
+    }
+    final byte[] bytes = new byte[length - 1];
+    buffer.get(bytes);
+    return new BigInteger(bytes);
+  }
+
+  boolean readBoolean() {
+    return buffer.get() != 0;
+  }
+
+  byte readByte() {
+    return buffer.get();
+  }
+
+  <E extends Enum<E>> E readEnum(final Class<E> enumType, final E defaultValue) {
+    final String name = readString();
+    if (name == null) {
+      return defaultValue;
+    }
+    try {
+      return Enum.valueOf(enumType, name);
+    } catch (final IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  long readFixedLong() {
+    return buffer.getLong();
+  }
+
+  int readInt() {
+    return (int) readLong();
+  }
+
+  long readLong() {
+    long zigZag = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = buffer.get();
+      zigZag = zigZag | (long) (current & 0x7F) << shift;
+      shift = shift + 7;
+    } while ((current & 0x80) != 0);
+    return zigZag >>> 1 ^ -(zigZag & 1);
+  }
+
+  /**
+   * Reads the length of a record.
+   *
+   * @return Position after the end of the record
+   */
+  int readRecordEnd() {
+    final int length = readInt();
+    return buffer.position() + length;
+  }
+
+  String readString() {
+    final int index = readInt();
+    if (index == 0) {
+      return null;
+    }
+    return stringTable.get(index - 1);
+  }
+
+  List<String> readStrings() {
+    final int count = readInt();
+    final List<String> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      values.add(readString());
+    }
+    return values;
+  }
+
+  Object readValue() throws IOException {
+    final byte valueType = readByte();
+    switch (valueType) {
+      case SnapshotFormat.VALUE_NULL:
+        return null;
+      case SnapshotFormat.VALUE_STRING:
+        return readString();
+      case SnapshotFormat.VALUE_BOOLEAN:
+        return readBoolean();
+      case SnapshotFormat.VALUE_INTEGER:
+        return readInt();
+      case SnapshotFormat.VALUE_LONG:
+        return readLong();
+      case SnapshotFormat.VALUE_DOUBLE:
+        return Double.longBitsToDouble(buffer.getLong());
+      case SnapshotFormat.VALUE_LIST:
+        final int count = readInt();
+        final List<Object> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          values.add(readValue());
+        }
+        return values;
+      case SnapshotFormat.VALUE_STRING_ARRAY:
+        return readStrings().toArray(new String[0]);
+      case SnapshotFormat.VALUE_BINARY_DATA:
+        return new BinaryData();
+      case SnapshotFormat.VALUE_SERIALIZED:
+        final byte[] bytes = new byte[readInt()];
+        buffer.get(bytes);
+        try (final ObjectInputStream in = new ValueInputStream(new ByteArrayInputStream(bytes))) {
+          return in.readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException("Cannot read value from snapshot", e);
+        }
+      default:
+        throw new IOException(String.format("Unknown value type <%d> in snapshot", valueType));
+    }
+  }
+
+  void skipTo(final int position) {
+    // Cast to Buffer, so that the methods are also found on Java 8
+    ((Buffer) buffer).position(position);
+  }
+}
@@ -0,0 +1,297 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import schemacrawler.utility.BinaryData;
+
+/**
+ * Growable buffer for a section of a catalog snapshot. Integers are written as variable length
+ * quantities, and strings are written as references to a shared string table.
+ */
+final class SnapshotOutput {
+
+  /** Deduplicated strings, shared by all sections of a snapshot. */
+  static final class StringTable {
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final SnapshotOutput strings = new SnapshotOutput(null);
+    private final SnapshotOutput offsets = new SnapshotOutput(null);
+
+    int indexOf(final String string) {
+      final Integer index = indexes.get(string);
+      if (index != null) {
+        return index;
+      }
+      final int newIndex = indexes.size();
+      indexes.put(string, newIndex);
+      offsets.writeFixedInt(strings.size());
+      strings.writeBytes(string.getBytes(UTF_8));
+      return newIndex;
+    }
+
+    /**
+     * Strings are written as a count, fixed width offsets, and the concatenated UTF-8 bytes of all
+     * strings, so that any string can be read without reading the strings before it.
+     */
+    SnapshotOutput toSection() {
+      final SnapshotOutput section = new SnapshotOutput(null);
+      section.writeFixedInt(indexes.size());
+      section.writeBytes(offsets.toByteArray());
+      section.writeFixedInt(strings.size());
+      section.writeBytes(strings.toByteArray());
+      return section;
+    }
+  }
+
+  /**
+   * Only allows values of core Java types to be written as Java serialized data, so that every
+   * serialized value can be read back from the snapshot.
+   */
+  private static final class ValueOutputStream extends ObjectOutputStream {
+
+    ValueOutputStream(final OutputStream out) throws IOException {
+      super(out);
+    }
+
+    @Override
+    protected void annotateClass(final Class<?> cl) throws IOException {
+      if (!SnapshotFormat.isSerializedValueClass(cl.getName())) {
+        throw new InvalidClassException(cl.getName(), "Cannot write serialized class to snapshot");
+      }
+    }
+
+    @Override
+    protected void annotateProxyClass(final Class<?> cl) throws IOException {
+      throw new InvalidClassException(cl.getName(), "Cannot write proxy class to snapshot");
+    }
+  }
+
+  private final StringTable stringTable;
+  private byte[] buffer;
+  private int size;
+
+  SnapshotOutput(final StringTable stringTable) {
+    this.stringTable = stringTable;
+    buffer = new byte[4096];
+  }
+
+  void reset() {
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Discards everything written after the given position. */
+  void truncate(final int position) {
+    size = position;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  void writeBigInteger(final BigInteger value) {
+    if (value == null) {
+      writeInt(0);
+    } else {
+      final byte[] bytes = value.toByteArray();
+      writeInt(bytes.length + 1);
+      writeBytes(bytes);
+    }
+  }
+
+  void writeBoolean(final boolean value) {
+    writeByte(value ? 1 : 0);
+  }
+
+  void writeByte(final int value) {
+    ensureCapacity(1);
+    buffer[size++] = (byte) value;
+  }
+
+  void writeBytes(final byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, size, bytes.length);
+    size = size + bytes.length;
+  }
+
+  void writeDouble(final double value) {
+    writeFixedLong(Double.doubleToLongBits(value));
+  }
+
+  <E extends Enum<E>> void writeEnum(final E value) {
+    if (value == null) {
+      writeString(null);
+    } else {
+      writeString(value.name());
+    }
+  }
+
+  void writeFixedInt(final int value) {
+    ensureCapacity(Integer.BYTES);
+    for (int shift = 24; shift >= 0; shift = shift - 8) {
+      buffer[size++] = (byte) (value >>> shift);
+    }
+  }
+
+  void writeFixedLong(final long value) {
+    writeFixedInt((int) (value >>> 32));
+    writeFixedInt((int) value);
+  }
+
+  /** Writes a signed integer, zig-zag encoded so that small negative numbers stay small. */
+  void writeInt(final int value) {
+    writeLong(value);
+  }
+
+  void writeLong(final long value) {
+    long zigZag = value << 1 ^ value >> 63;
+    ensureCapacity(10);
+    while ((zigZag & ~0x7FL) != 0) {
+      buffer[size++] = (byte) (zigZag & 0x7F | 0x80);
+      zigZag = zigZag >>> 7;
+    }
+    buffer[size++] = (byte) zigZag;
+  }
+
+  /** Writes a record with its length, so that readers can skip over the record. */
+  void writeRecord(final SnapshotOutput record) {
+    writeInt(record.size);
+    ensureCapacity(record.size);
+    System.arraycopy(record.buffer, 0, buffer, size, record.size);
+    size = size + record.size;
+  }
+
+  /** Writes a reference to a string in the string table, where 0 is used for null. */
+  void writeString(final String value) {
+    if (value == null) {
+      writeInt(0);
+    } else {
+      writeInt(stringTable.indexOf(value) + 1);
+    }
+  }
+
+  void writeStrings(final Collection<String> values) {
+    writeInt(values.size());
+    for (final String value : values) {
+      writeString(value);
+    }
+  }
+
+  /**
+   * Writes attribute and property values. Common value types are written natively, and other
+   * serializable values fall back to Java serialization.
+   *
+   * @throws ObjectStreamException If the value, or a value it contains, is serializable, but could
+   *     not be read back from the snapshot
+   */
+  void writeValue(final Object value) throws IOException {
+    if (value == null) {
+      writeByte(SnapshotFormat.VALUE_NULL);
+    } else if (value instanceof String) {
+      writeByte(SnapshotFormat.VALUE_STRING);
+      writeString((String) value);
+    } else if (value instanceof Boolean) {
+      writeByte(SnapshotFormat.VALUE_BOOLEAN);
+      writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      writeByte(SnapshotFormat.VALUE_INTEGER);
+      writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      writeByte(SnapshotFormat.VALUE_LONG);
+      writeLong((Long) value);
+    } else if (value instanceof Double) {
+      writeByte(SnapshotFormat.VALUE_DOUBLE);
+      writeDouble((Double) value);
+    } else if (value instanceof String[]) {
+      writeByte(SnapshotFormat.VALUE_STRING_ARRAY);
+      writeStrings(Arrays.asList((String[]) value));
+    } else if (value instanceof BinaryData) {
+      writeByte(SnapshotFormat.VALUE_BINARY_DATA);
+    } else if (value instanceof Collection) {
+      final Collection<?> values = (Collection<?>) value;
+      writeByte(SnapshotFormat.VALUE_LIST);
+      writeInt(values.size());
+      for (final Object listValue : values) {
+        writeValue(listValue);
+      }
+    } else if (value instanceof Serializable) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ValueOutputStream(bytes)) {
+        out.writeObject(value);
+      }
+      writeByte(SnapshotFormat.VALUE_SERIALIZED);
+      writeInt(bytes.size());
+      writeBytes(bytes.toByteArray());
+    } else {
+      writeByte(SnapshotFormat.VALUE_STRING);
+      writeString(String.valueOf(value));
+    }
+  }
+
+  /**
+   * Writes an attribute or property value, if it can be read back from the snapshot. Nothing is
+   * written if it cannot.
+   *
+   * @return True if the value was written
+   */
+  boolean writeValueIfSupported(final Object value) throws IOException {
+    final int start = size;
+    try {
+      writeValue(value);
+      return true;
+    } catch (final ObjectStreamException e) {
+      truncate(start);
+      return false;
+    }
+  }
+
+  private void ensureCapacity(final int length) {
+    if (size + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+    }
+  }
+}
@@ -55,7 +55,7 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class SynonymRetriever extends AbstractRetriever {
 
-  private static final class UnknownDatabaseObject extends AbstractDatabaseObject {
+  static final class UnknownDatabaseObject extends AbstractDatabaseObject {
 
     private static final long serialVersionUID = -2212843304418302122L;
 
@@ -102,7 +102,11 @@ final class SynonymRetriever extends AbstractRetriever {
     final Query synonymsDefinitionSql = informationSchemaViews.getQuery(EXT_SYNONYMS);
     try (final Statement statement = createStatement();
         MetadataResultSet results =
-            new MetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                synonymsDefinitionSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SYNONYM_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SYNONYM_SCHEMA"));
@@ -151,6 +155,7 @@ final class SynonymRetriever extends AbstractRetriever {
 
         if (synonymFilter.test(synonym)) {
           catalog.addSynonym(synonym);
+          countObject();
         }
       }
     } catch (final Exception e) {
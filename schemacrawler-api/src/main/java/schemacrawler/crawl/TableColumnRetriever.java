@@ -94,6 +94,12 @@ final class TableColumnRetriever extends AbstractRetriever {
         retrieveTableColumnsFromMetadata(allTables, columnFilter, hiddenTableColumnsLookupKeys);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving table columns, one schema at a time");
+        retrieveTableColumnsFromMetadataPerSchema(
+            allTables, columnFilter, hiddenTableColumnsLookupKeys);
+        break;
+
       default:
         LOGGER.log(Level.INFO, "Not retrieving table columns");
         break;
@@ -173,6 +179,7 @@ final class TableColumnRetriever extends AbstractRetriever {
       } else {
         table.addColumn(column);
       }
+      countObject();
     }
   }
 
@@ -211,7 +218,8 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Query hiddenColumnsSql = informationSchemaViews.getQuery(EXT_HIDDEN_TABLE_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                hiddenColumnsSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       while (results.next()) {
         // NOTE: The column names in the extension table are different
         // than the database metadata column names
@@ -248,7 +256,8 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Query tableColumnsSql = informationSchemaViews.getQuery(TABLE_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tableColumnsSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       while (results.next()) {
         createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
       }
@@ -270,7 +279,8 @@ final class TableColumnRetriever extends AbstractRetriever {
                       table.getSchema().getName(),
                       table.getName(),
                       null),
-              "DatabaseMetaData::getColumns")) {
+              "DatabaseMetaData::getColumns",
+              getRetrievalMetrics())) {
         while (results.next()) {
           createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
         }
@@ -282,4 +292,29 @@ final class TableColumnRetriever extends AbstractRetriever {
       }
     }
   }
+
+  private void retrieveTableColumnsFromMetadataPerSchema(
+      final NamedObjectList<MutableTable> allTables,
+      final InclusionRuleFilter<Column> columnFilter,
+      final Set<NamedObjectKey> hiddenTableColumnsLookupKeys)
+      throws SQLException {
+    retrieveForEachSchema(
+        "retrieveTableColumns",
+        allTables,
+        (schema, schemaTables) -> {
+          LOGGER.log(Level.FINE, "Retrieving table columns for schema " + schema);
+          try (final MetadataResultSet results =
+              new MetadataResultSet(
+                  getMetaData().getColumns(schema.getCatalogName(), schema.getName(), null, null),
+                  "DatabaseMetaData::getColumns",
+                  getRetrievalMetrics())) {
+            while (results.next()) {
+              createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
+            }
+          } catch (final SQLException e) {
+            throw new WrappedSQLException(
+                String.format("Could not retrieve table columns for schema <%s>", schema), e);
+          }
+        });
+  }
 }
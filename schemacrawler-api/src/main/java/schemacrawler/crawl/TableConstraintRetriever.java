@@ -104,7 +104,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                extTableConstraintInformationSql, statement, getSchemaInclusionRule())) {
+                extTableConstraintInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -157,7 +160,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                extTableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
+                extTableConstraintsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -271,7 +277,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
+                tableConstraintsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -306,6 +315,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
         // Add constraint to table
         table.addTableConstraint(tableConstraint);
+        countObject();
 
         // Add to map, since we will need this later
         final Schema schema = table.getSchema();
@@ -352,7 +362,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule())) {
+                tableConstraintsColumnsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -400,6 +413,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
         constraintColumn.setKeyOrdinalPosition(ordinalPosition);
 
         tableConstraint.addColumn(constraintColumn);
+        countObject();
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve check constraints", e);
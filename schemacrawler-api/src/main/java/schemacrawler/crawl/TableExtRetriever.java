@@ -84,7 +84,8 @@ final class TableExtRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                columnAttributesSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -174,7 +175,8 @@ final class TableExtRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tableAttributesSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -220,7 +222,11 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query extIndexesInformationSql = informationSchemaViews.getQuery(EXT_INDEXES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extIndexesInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                extIndexesInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -285,7 +291,10 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableDefinitionsInformationSql, statement, getSchemaInclusionRule())) {
+                tableDefinitionsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -334,7 +343,11 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query triggerInformationSql = informationSchemaViews.getQuery(TRIGGERS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                triggerInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -370,8 +383,9 @@ final class TableExtRetriever extends AbstractRetriever {
         final ConditionTimingType conditionTiming =
             ConditionTimingType.valueOfFromValue(conditionTimingString);
 
+        final Optional<MutableTrigger> triggerOptional = table.lookupTrigger(triggerName);
         final MutableTrigger trigger =
-            table.lookupTrigger(triggerName).orElse(new MutableTrigger(table, triggerName));
+            triggerOptional.orElse(new MutableTrigger(table, triggerName));
         trigger.setEventManipulationType(eventManipulationType);
         trigger.setActionOrder(actionOrder);
         trigger.appendActionCondition(actionCondition);
@@ -382,6 +396,9 @@ final class TableExtRetriever extends AbstractRetriever {
         trigger.addAttributes(results.getAttributes());
         // Add trigger to the table
         table.addTrigger(trigger);
+        if (!triggerOptional.isPresent()) {
+          countObject();
+        }
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve triggers", e);
@@ -409,7 +426,8 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query viewInformationSql = informationSchemaViews.getQuery(VIEWS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                viewInformationSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -463,7 +481,8 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query viewTableUsageSql = informationSchemaViews.getQuery(VIEW_TABLE_USAGE);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                viewTableUsageSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -68,6 +68,7 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving column privileges from metadata");
         retrieveTableColumnPrivilegesFromMetadata();
         break;
@@ -86,6 +87,7 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving table privileges from metadata");
         retrieveTablePrivilegesFromMetadata();
         break;
@@ -132,18 +134,21 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
       final boolean isGrantable = results.getBoolean("IS_GRANTABLE");
 
       final MutablePrivilege<?> privilege;
+      final boolean isNewPrivilege;
       if (privilegesForColumn) {
         final Optional<MutablePrivilege<Column>> privilegeOptional =
             column.lookupPrivilege(privilegeName);
         privilege =
             privilegeOptional.orElse(
                 new MutablePrivilege<>(new ColumnPointer(column), privilegeName));
+        isNewPrivilege = !privilegeOptional.isPresent();
       } else {
         final Optional<MutablePrivilege<Table>> privilegeOptional =
             table.lookupPrivilege(privilegeName);
         privilege =
             privilegeOptional.orElse(
                 new MutablePrivilege<>(new TablePointer(table), privilegeName));
+        isNewPrivilege = !privilegeOptional.isPresent();
       }
 
       privilege.addGrant(grantor, grantee, isGrantable);
@@ -153,6 +158,9 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
       } else {
         table.addPrivilege((MutablePrivilege<Table>) privilege);
       }
+      if (isNewPrivilege) {
+        countObject();
+      }
     }
   }
 
@@ -165,7 +173,8 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_COLUMN_PRIVILEGES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablePrivelegesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tablePrivelegesSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       createPrivileges(results, true);
     }
   }
@@ -174,7 +183,8 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
     try (final MetadataResultSet results =
         new MetadataResultSet(
             getMetaData().getColumnPrivileges(null, null, null, null),
-            "DatabaseMetaData::getColumnPrivileges")) {
+            "DatabaseMetaData::getColumnPrivileges",
+            getRetrievalMetrics())) {
       createPrivileges(results, true);
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve table column privileges:" + e.getMessage());
@@ -190,7 +200,8 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_PRIVILEGES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablePrivelegesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tablePrivelegesSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       createPrivileges(results, false);
     }
   }
@@ -199,7 +210,8 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
     try (final MetadataResultSet results =
         new MetadataResultSet(
             getMetaData().getTablePrivileges(null, null, null),
-            "DatabaseMetaData::getTablePrivileges")) {
+            "DatabaseMetaData::getTablePrivileges",
+            getRetrievalMetrics())) {
       createPrivileges(results, false);
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve table privileges", e);
@@ -88,6 +88,7 @@ final class TableRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving tables");
         retrieveTablesFromMetadata(schemas, tableNamePattern, tableTypes, tableFilter);
         break;
@@ -142,6 +143,7 @@ final class TableRetriever extends AbstractRetriever {
       table.setRemarks(remarks);
 
       catalog.addTable(table);
+      countObject();
     }
   }
 
@@ -166,7 +168,8 @@ final class TableRetriever extends AbstractRetriever {
     }
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tablesSql, statement, getSchemaInclusionRule(), getRetrievalMetrics())) {
       int numTables = 0;
       while (results.next()) {
         numTables = numTables + 1;
@@ -197,7 +200,8 @@ final class TableRetriever extends AbstractRetriever {
               getMetaData()
                   .getTables(
                       catalogName, schemaName, tableNamePattern, filteredTableTypes.toArray()),
-              "DatabaseMetaData::getTables")) {
+              "DatabaseMetaData::getTables",
+              getRetrievalMetrics())) {
         int numTables = 0;
         while (results.next()) {
           numTables = numTables + 1;
@@ -46,15 +46,22 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 public final class FilterFactory {
 
   public static Predicate<Routine> routineFilter(final SchemaCrawlerOptions options) {
-    final LimitOptions limitOptions = options.getLimitOptions();
     final Predicate<Routine> routineFilter =
-        new RoutineTypesFilter(limitOptions)
-            .and(new DatabaseObjectFilter<>(limitOptions, ruleForRoutineInclusion))
-            .and(new RoutineGrepFilter(options.getGrepOptions()));
+        routineInclusionFilter(options).and(new RoutineGrepFilter(options.getGrepOptions()));
 
     return routineFilter;
   }
 
+  /**
+   * Filters routines by type and inclusion rules only, which can be done without the routine
+   * parameters.
+   */
+  public static Predicate<Routine> routineInclusionFilter(final SchemaCrawlerOptions options) {
+    final LimitOptions limitOptions = options.getLimitOptions();
+    return new RoutineTypesFilter(limitOptions)
+        .and(new DatabaseObjectFilter<>(limitOptions, ruleForRoutineInclusion));
+  }
+
   public static Predicate<Schema> schemaFilter(final SchemaCrawlerOptions options) {
     return new InclusionRuleFilter<>(options.getLimitOptions().get(ruleForSchemaInclusion), true);
   }
@@ -68,14 +75,21 @@ public final class FilterFactory {
   }
 
   public static Predicate<Table> tableFilter(final SchemaCrawlerOptions options) {
-    final LimitOptions limitOptions = options.getLimitOptions();
     final Predicate<Table> tableFilter =
-        new TableTypesFilter(limitOptions)
-            .and(new DatabaseObjectFilter<>(limitOptions, ruleForTableInclusion))
-            .and(new TableGrepFilter(options.getGrepOptions()));
+        tableInclusionFilter(options).and(new TableGrepFilter(options.getGrepOptions()));
 
     return tableFilter;
   }
 
+  /**
+   * Filters tables by table type and inclusion rules only, which can be done without the table
+   * columns.
+   */
+  public static Predicate<Table> tableInclusionFilter(final SchemaCrawlerOptions options) {
+    final LimitOptions limitOptions = options.getLimitOptions();
+    return new TableTypesFilter(limitOptions)
+        .and(new DatabaseObjectFilter<>(limitOptions, ruleForTableInclusion));
+  }
+
   private FilterFactory() {}
 }
@@ -29,6 +29,7 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.List;
 
 import schemacrawler.ProductVersion;
 
@@ -76,6 +77,14 @@ public interface CrawlInfo extends Serializable {
    */
   ProductVersion getOperatingSystemVersion();
 
+  /**
+   * Gets metrics for each retrieval step of the crawl, in order of completion. Metrics are only
+   * available for catalogs that were crawled from a database.
+   *
+   * @return Retrieval metrics
+   */
+  List<RetrievalMetrics> getRetrievalMetrics();
+
   /**
    * Unique identifier for each SchemaCrawler run.
    *
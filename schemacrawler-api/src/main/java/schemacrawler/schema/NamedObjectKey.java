@@ -25,23 +25,83 @@ http://www.gnu.org/licenses/
 
 ========================================================================
 */
+
 package schemacrawler.schema;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Lookup key for named objects. A key is a chain of name segments, where each key points to its
+ * parent key, so that keys for child objects share their prefix instead of copying it. Keys for
+ * catalogs and schemas are shared across all keys, and the hash code is computed once.
+ */
 public final class NamedObjectKey implements Serializable {
 
   private static final long serialVersionUID = -5008609072012459037L;
 
-  private final String[] key;
+  /** Keep the serialized form as an array of name segments. */
+  private static final ObjectStreamField[] serialPersistentFields = {
+    new ObjectStreamField("key", String[].class)
+  };
+
+  /** Number of leading segments, for catalog and schema, that are shared between keys. */
+  private static final int SHARED_PREFIX_LENGTH = 2;
+
+  /** Upper bound on the number of shared prefix keys that are held on to. */
+  private static final int MAX_SHARED_PREFIXES = 10_000;
+
+  private static final NamedObjectKey ROOT = new NamedObjectKey(null, null);
+
+  private static final Map<NamedObjectKey, NamedObjectKey> sharedPrefixes =
+      new ConcurrentHashMap<>();
+
+  private static NamedObjectKey sharedPrefix(final NamedObjectKey prefix) {
+    if (sharedPrefixes.size() >= MAX_SHARED_PREFIXES) {
+      sharedPrefixes.clear();
+    }
+    final NamedObjectKey sharedPrefix = sharedPrefixes.putIfAbsent(prefix, prefix);
+    if (sharedPrefix == null) {
+      return prefix;
+    } else {
+      return sharedPrefix;
+    }
+  }
+
+  private final NamedObjectKey parent;
+  private final String name;
+  private final int hash;
+  // Only used while deserializing, before the key is rebuilt
+  private transient String[] serializedKey;
 
   public NamedObjectKey(final String... key) {
     if (key == null || key.length == 0) {
-      this.key = new String[0];
+      parent = null;
+      name = null;
     } else {
-      this.key = Arrays.copyOf(key, key.length);
+      NamedObjectKey prefix = ROOT;
+      for (int i = 0; i < key.length - 1; i++) {
+        prefix = new NamedObjectKey(prefix, key[i]);
+        if (i < SHARED_PREFIX_LENGTH) {
+          prefix = sharedPrefix(prefix);
+        }
+      }
+      parent = prefix;
+      name = key[key.length - 1];
     }
+    hash = calculateHashCode();
+  }
+
+  private NamedObjectKey(final NamedObjectKey parent, final String name) {
+    this.parent = parent;
+    this.name = name;
+    hash = calculateHashCode();
   }
 
   @Override
@@ -53,23 +113,69 @@ public final class NamedObjectKey implements Serializable {
       return false;
     }
     final NamedObjectKey other = (NamedObjectKey) obj;
-    return Arrays.equals(key, other.key);
+    if (hash != other.hash) {
+      return false;
+    }
+    NamedObjectKey thisKey = this;
+    NamedObjectKey otherKey = other;
+    while (thisKey != otherKey) {
+      if (thisKey == null || otherKey == null || !Objects.equals(thisKey.name, otherKey.name)) {
+        return false;
+      }
+      thisKey = thisKey.parent;
+      otherKey = otherKey.parent;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(key);
+    return hash;
   }
 
   @Override
   public String toString() {
-    return "{\"key\": \"" + String.join("/", key) + "\"}";
+    return "{\"key\": \"" + String.join("/", toArray()) + "\"}";
   }
 
   public NamedObjectKey with(final String name) {
-    final int currentLength = key.length;
-    final String[] newKey = Arrays.copyOf(key, currentLength + 1);
-    newKey[currentLength] = name;
-    return new NamedObjectKey(newKey);
+    return new NamedObjectKey(this, name);
+  }
+
+  /** Same hash code as {@link java.util.Arrays#hashCode(Object[])} of the name segments. */
+  private int calculateHashCode() {
+    if (parent == null) {
+      return 1;
+    }
+    return 31 * parent.hash + Objects.hashCode(name);
+  }
+
+  private Object readResolve() {
+    return new NamedObjectKey(serializedKey);
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    serializedKey = (String[]) fields.get("key", null);
+  }
+
+  private String[] toArray() {
+    int length = 0;
+    for (NamedObjectKey current = this; current.parent != null; current = current.parent) {
+      length++;
+    }
+    final String[] key = new String[length];
+    NamedObjectKey current = this;
+    for (int i = length - 1; i >= 0; i--) {
+      key[i] = current.name;
+      current = current.parent;
+    }
+    return key;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("key", toArray());
+    out.writeFields();
   }
 }
@@ -0,0 +1,79 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/** Metrics for a single retrieval step of a crawl, such as retrieving tables or indexes. */
+public interface RetrievalMetrics extends Serializable {
+
+  /**
+   * Gets the wall-clock time taken by the retrieval.
+   *
+   * @return Time taken
+   */
+  Duration getDuration();
+
+  /**
+   * Gets the number of catalog objects, such as tables or columns, created by the retrieval.
+   *
+   * @return Number of objects created
+   */
+  long getObjectCount();
+
+  /**
+   * Gets the number of metadata queries made to the database, whether through database metadata
+   * calls or through information schema views. Each query is one or more JDBC round trips.
+   *
+   * @return Number of metadata queries
+   */
+  long getQueryCount();
+
+  /**
+   * Gets the name of the retrieval, which is usually the name of a schema info retrieval.
+   *
+   * @return Retrieval name
+   */
+  String getRetrievalName();
+
+  /**
+   * Gets the number of metadata rows read from the database by the retrieval.
+   *
+   * @return Number of rows read
+   */
+  long getRowCount();
+
+  /**
+   * Gets the name of the thread that ran the retrieval.
+   *
+   * @return Thread name
+   */
+  String getThreadName();
+}
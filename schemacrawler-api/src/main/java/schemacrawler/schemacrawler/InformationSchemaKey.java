@@ -40,7 +40,10 @@ public enum InformationSchemaKey {
   DATABASE_USERS(ADDITIONAL_INFO),
   EXT_HIDDEN_TABLE_COLUMNS(METADATA_EXTENSION),
   EXT_INDEXES(METADATA_EXTENSION),
+  EXT_ROUTINE_CHANGES(METADATA_EXTENSION),
+  EXT_TABLE_CHANGES(METADATA_EXTENSION),
   EXT_TABLE_CONSTRAINTS(METADATA_EXTENSION),
+  EXT_TABLE_ROW_COUNTS(METADATA_EXTENSION),
   EXT_SYNONYMS(METADATA_EXTENSION),
   EXT_TABLES(METADATA_EXTENSION),
   FOREIGN_KEYS(DATABASE_METADATA),
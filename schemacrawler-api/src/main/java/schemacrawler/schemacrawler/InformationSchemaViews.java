@@ -39,22 +39,34 @@ import us.fatehi.utility.ObjectToString;
 public final class InformationSchemaViews implements Options {
 
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private final int fetchSize;
 
   /** Creates empty information schema views. */
   InformationSchemaViews() {
-    this(null);
+    this(null, null, 0);
   }
 
   /**
    * Information schema views from a map.
    *
    * @param informationSchemaViewsQueries Map of information schema view definitions.
+   * @param fetchSizes Map of fetch sizes for information schema views.
+   * @param fetchSize Fetch size for information schema views that do not have their own.
    */
-  InformationSchemaViews(final Map<InformationSchemaKey, String> informationSchemaViewsQueries) {
+  InformationSchemaViews(
+      final Map<InformationSchemaKey, String> informationSchemaViewsQueries,
+      final Map<InformationSchemaKey, Integer> fetchSizes,
+      final int fetchSize) {
     informationSchemaQueries = new EnumMap<>(InformationSchemaKey.class);
     if (informationSchemaViewsQueries != null) {
       informationSchemaQueries.putAll(informationSchemaViewsQueries);
     }
+    this.fetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    if (fetchSizes != null) {
+      this.fetchSizes.putAll(fetchSizes);
+    }
+    this.fetchSize = fetchSize;
   }
 
   /**
@@ -64,7 +76,10 @@ public final class InformationSchemaViews implements Options {
    */
   public Query getQuery(final InformationSchemaKey key) {
     requireNonNull(key, "No SQL query key provided");
-    return new Query(key.description(), informationSchemaQueries.get(key));
+    return new Query(
+        key.description(),
+        informationSchemaQueries.get(key),
+        fetchSizes.getOrDefault(key, fetchSize));
   }
 
   public boolean hasQuery(final InformationSchemaKey key) {
@@ -88,4 +103,12 @@ public final class InformationSchemaViews implements Options {
   protected Map<InformationSchemaKey, String> getAllInformationSchemaViews() {
     return new EnumMap<>(informationSchemaQueries);
   }
+
+  protected Map<InformationSchemaKey, Integer> getAllFetchSizes() {
+    return new EnumMap<>(fetchSizes);
+  }
+
+  protected int getFetchSize() {
+    return fetchSize;
+  }
 }
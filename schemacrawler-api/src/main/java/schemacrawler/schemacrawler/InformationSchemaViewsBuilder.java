@@ -58,9 +58,12 @@ public final class InformationSchemaViewsBuilder
   }
 
   private final Map<InformationSchemaKey, String> informationSchemaQueries;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private int fetchSize;
 
   private InformationSchemaViewsBuilder() {
     informationSchemaQueries = new EnumMap<>(InformationSchemaKey.class);
+    fetchSizes = new EnumMap<>(InformationSchemaKey.class);
   }
 
   @Override
@@ -71,6 +74,8 @@ public final class InformationSchemaViewsBuilder
     }
 
     informationSchemaQueries.putAll(informationSchemaViews.getAllInformationSchemaViews());
+    fetchSizes.putAll(informationSchemaViews.getAllFetchSizes());
+    fetchSize = informationSchemaViews.getFetchSize();
 
     return this;
   }
@@ -110,7 +115,38 @@ public final class InformationSchemaViewsBuilder
 
   @Override
   public InformationSchemaViews toOptions() {
-    return new InformationSchemaViews(informationSchemaQueries);
+    return new InformationSchemaViews(informationSchemaQueries, fetchSizes, fetchSize);
+  }
+
+  /**
+   * Sets the number of rows to fetch at a time for all information schema views, such as for a
+   * database connector where data dictionary queries return many rows.
+   *
+   * @param fetchSize Number of rows to fetch at a time, or 0 for the default
+   * @return Builder
+   */
+  public InformationSchemaViewsBuilder withFetchSize(final int fetchSize) {
+    this.fetchSize = Math.max(0, fetchSize);
+    return this;
+  }
+
+  /**
+   * Sets the number of rows to fetch at a time for an information schema view, overriding the fetch
+   * size for all views.
+   *
+   * @param key SQL query key
+   * @param fetchSize Number of rows to fetch at a time, or 0 for the default
+   * @return Builder
+   */
+  public InformationSchemaViewsBuilder withFetchSize(
+      final InformationSchemaKey key, final int fetchSize) {
+    requireNonNull(key, "No key provided");
+    if (fetchSize <= 0) {
+      fetchSizes.remove(key);
+    } else {
+      fetchSizes.put(key, fetchSize);
+    }
+    return this;
   }
 
   public InformationSchemaViewsBuilder withFunction(
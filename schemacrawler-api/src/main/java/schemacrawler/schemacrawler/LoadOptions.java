@@ -35,10 +35,15 @@ public final class LoadOptions implements Options {
 
   private final SchemaInfoLevel schemaInfoLevel;
   private final int maxThreads;
+  private final boolean loadChangeMarkers;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel, final int maxThreads) {
+  LoadOptions(
+      final SchemaInfoLevel schemaInfoLevel,
+      final int maxThreads,
+      final boolean loadChangeMarkers) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
     this.maxThreads = maxThreads;
+    this.loadChangeMarkers = loadChangeMarkers;
   }
 
   /**
@@ -59,6 +64,16 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Whether change markers, such as DDL change timestamps, are loaded for tables and routines, so
+   * that the catalog can later be used for an incremental crawl.
+   *
+   * @return Whether change markers are loaded
+   */
+  public boolean isLoadChangeMarkers() {
+    return loadChangeMarkers;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
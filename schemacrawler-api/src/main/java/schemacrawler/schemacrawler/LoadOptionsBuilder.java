@@ -43,11 +43,13 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
   private SchemaInfoLevel schemaInfoLevel;
   private int maxThreads;
+  private boolean loadChangeMarkers;
 
   /** Default options. */
   private LoadOptionsBuilder() {
     schemaInfoLevel = SchemaInfoLevelBuilder.standard();
     maxThreads = MAX_THREADS;
+    loadChangeMarkers = false;
   }
 
   @Override
@@ -58,13 +60,26 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
     schemaInfoLevel = options.getSchemaInfoLevel();
     maxThreads = options.getMaxThreads();
+    loadChangeMarkers = options.isLoadChangeMarkers();
 
     return this;
   }
 
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel, maxThreads);
+    return new LoadOptions(schemaInfoLevel, maxThreads, loadChangeMarkers);
+  }
+
+  /**
+   * Loads change markers, such as DDL change timestamps, for tables and routines, if the database
+   * plugin provides a query for them. The catalog can then later be used for an incremental crawl.
+   *
+   * @param loadChangeMarkers Whether to load change markers
+   * @return Builder
+   */
+  public LoadOptionsBuilder loadChangeMarkers(final boolean loadChangeMarkers) {
+    this.loadChangeMarkers = loadChangeMarkers;
+    return this;
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
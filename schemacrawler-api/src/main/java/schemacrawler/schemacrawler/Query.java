@@ -40,6 +40,7 @@ public final class Query implements Serializable {
 
   private final String name;
   private final String query;
+  private final int fetchSize;
 
   /**
    * Definition of a query, including a name, and parameterized or regular SQL.
@@ -48,8 +49,30 @@ public final class Query implements Serializable {
    * @param query Query SQL.
    */
   public Query(final String name, final String query) {
+    this(name, query, 0);
+  }
+
+  /**
+   * Definition of a query, including a name, parameterized or regular SQL, and the number of rows
+   * to fetch from the database at a time.
+   *
+   * @param name Query name.
+   * @param query Query SQL.
+   * @param fetchSize Number of rows to fetch at a time, or 0 for the default.
+   */
+  public Query(final String name, final String query, final int fetchSize) {
     this.name = requireNotBlank(name, "No query name provided");
     this.query = requireNotBlank(query, "No query SQL provided");
+    this.fetchSize = Math.max(0, fetchSize);
+  }
+
+  /**
+   * Gets the number of rows to fetch from the database at a time.
+   *
+   * @return Fetch size, or 0 for the default
+   */
+  public int getFetchSize() {
+    return fetchSize;
   }
 
   /**
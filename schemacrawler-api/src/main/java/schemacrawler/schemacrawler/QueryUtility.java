@@ -90,10 +90,20 @@ public final class QueryUtility {
       final Table table,
       final Identifiers identifiers)
       throws SQLException {
+    return executeForLong(query, connection, table, identifiers, 0);
+  }
+
+  public static long executeForLong(
+      final Query query,
+      final Connection connection,
+      final Table table,
+      final Identifiers identifiers,
+      final int queryTimeout)
+      throws SQLException {
     requireNonNull(query, "No query provided");
     final String sql = getQuery(query, table, true, identifiers);
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
-    return executeSqlForLong(connection, sql);
+    return executeSqlForLong(connection, sql, queryTimeout);
   }
 
   public static Object executeForScalar(final Query query, final Connection connection)
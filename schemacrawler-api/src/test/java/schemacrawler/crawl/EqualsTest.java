@@ -71,6 +71,7 @@ public class EqualsTest {
     }
 
     EqualsVerifier.forClass(TestDatabaseObject.class)
+        .withPrefabValues(NamedObjectKey.class, new NamedObjectKey("a"), new NamedObjectKey("b"))
         .suppress(Warning.STRICT_INHERITANCE)
         .withIgnoredFields("key", "attributeMap")
         .verify();
@@ -105,6 +106,7 @@ public class EqualsTest {
   @Test
   public void namedObject() {
     EqualsVerifier.forClass(AbstractNamedObject.class)
+        .withPrefabValues(NamedObjectKey.class, new NamedObjectKey("a"), new NamedObjectKey("b"))
         .withIgnoredFields("key")
         .suppress(Warning.STRICT_INHERITANCE)
         .verify();
@@ -112,12 +114,16 @@ public class EqualsTest {
 
   @Test
   public void namedObjectKey() {
-    EqualsVerifier.forClass(NamedObjectKey.class).withNonnullFields("key").verify();
+    EqualsVerifier.forClass(NamedObjectKey.class)
+        .withPrefabValues(NamedObjectKey.class, new NamedObjectKey("a"), new NamedObjectKey("b"))
+        .withCachedHashCode("hash", "calculateHashCode", new NamedObjectKey("catalog", "schema"))
+        .verify();
   }
 
   @Test
   public void namedObjectWithAttributes() {
     EqualsVerifier.forClass(AbstractNamedObjectWithAttributes.class)
+        .withPrefabValues(NamedObjectKey.class, new NamedObjectKey("a"), new NamedObjectKey("b"))
         .withIgnoredFields("key", "attributeMap")
         .suppress(Warning.STRICT_INHERITANCE)
         .verify();
@@ -129,6 +135,7 @@ public class EqualsTest {
     final Table table2 = new MutableTable(new SchemaReference("catalog", "schema"), "table2");
 
     EqualsVerifier.forClass(MutablePrivilege.class)
+        .withPrefabValues(NamedObjectKey.class, new NamedObjectKey("a"), new NamedObjectKey("b"))
         .withIgnoredFields("key", "grants", "parent", "attributeMap")
         .withPrefabValues(
             DatabaseObjectReference.class, new TablePointer(table1), new TablePointer(table2))
@@ -149,6 +156,7 @@ public class EqualsTest {
   @Test
   public void schemaReference() {
     EqualsVerifier.forClass(SchemaReference.class)
+        .withPrefabValues(NamedObjectKey.class, new NamedObjectKey("a"), new NamedObjectKey("b"))
         .withIgnoredFields("key", "attributeMap")
         .verify();
   }
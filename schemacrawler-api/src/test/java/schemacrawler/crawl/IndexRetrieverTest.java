@@ -34,6 +34,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_per_schema;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -42,9 +43,16 @@ import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -76,6 +84,37 @@ import schemacrawler.utility.NamedObjectSort;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class IndexRetrieverTest {
 
+  /**
+   * Wraps a connection, so that metadata result sets for an entire schema from the named metadata
+   * call fail after the first two rows. Result sets for a single table are not affected.
+   */
+  static Connection failingSchemaMetadataConnection(
+      final Connection connection, final String metadataCallName) throws SQLException {
+    final DatabaseMetaData metaData = connection.getMetaData();
+    final DatabaseMetaData failingMetaData =
+        (DatabaseMetaData)
+            Proxy.newProxyInstance(
+                DatabaseMetaData.class.getClassLoader(),
+                new Class<?>[] {DatabaseMetaData.class},
+                (proxy, method, args) -> {
+                  final Object result = invoke(metaData, method, args);
+                  if (method.getName().equals(metadataCallName) && args[2] == null) {
+                    return failAfterTwoRows((ResultSet) result);
+                  }
+                  return result;
+                });
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("getMetaData")) {
+                return failingMetaData;
+              }
+              return invoke(connection, method, args);
+            });
+  }
+
   public static void verifyRetrieveIndexes(final Catalog catalog) throws IOException {
     final TestWriter testout = new TestWriter();
     try (final TestWriter out = testout) {
@@ -102,6 +141,40 @@ public class IndexRetrieverTest {
     assertThat(outputOf(testout), hasSameContentAs(classpathResource("SchemaCrawlerTest.indexes")));
   }
 
+  private static ResultSet failAfterTwoRows(final ResultSet results) {
+    final AtomicInteger rowCount = new AtomicInteger();
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("next") && rowCount.incrementAndGet() > 2) {
+                throw new SQLException("Failed part-way through the schema");
+              }
+              return invoke(results, method, args);
+            });
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static SchemaCrawlerOptions baseCatalogOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
   private MutableCatalog catalog;
 
   @Test
@@ -129,17 +202,34 @@ public class IndexRetrieverTest {
     verifyRetrieveIndexes(catalog);
   }
 
+  @Test
+  @DisplayName("Retrieve indexes one table at a time, when retrieval for a schema fails part-way")
+  public void indexesFromMetadataPerSchemaWithFallback(final Connection connection)
+      throws Exception {
+    final MutableCatalog catalog =
+        (MutableCatalog)
+            getCatalog(connection, schemaRetrievalOptionsDefault, baseCatalogOptions());
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(indexesRetrievalStrategy, metadata_per_schema)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(
+            failingSchemaMetadataConnection(connection, "getIndexInfo"), schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    indexRetriever.retrieveIndexes(catalog.getAllTables());
+
+    // Index columns from the failed schema retrieval are not repeated
+    verifyRetrieveIndexes(catalog);
+  }
+
   @BeforeAll
   public void loadBaseCatalog(final Connection connection) {
-    final LimitOptionsBuilder limitOptionsBuilder =
-        LimitOptionsBuilder.builder()
-            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
-    final LoadOptionsBuilder loadOptionsBuilder =
-        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
-    final SchemaCrawlerOptions schemaCrawlerOptions =
-        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-            .withLimitOptions(limitOptionsBuilder.toOptions())
-            .withLoadOptions(loadOptionsBuilder.toOptions());
+    final SchemaCrawlerOptions schemaCrawlerOptions = baseCatalogOptions();
     catalog =
         (MutableCatalog)
             getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
@@ -30,6 +30,7 @@ package schemacrawler.crawl;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
@@ -223,6 +224,34 @@ public class MetadataResultSetTest {
     }
   }
 
+  @Test
+  @DisplayName("Retrieve values by column label, and unread values as attributes")
+  public void columnLookupAndAttributes(final Connection connection) throws Exception {
+
+    final String sql =
+        "SELECT 1 AS COLUMN1, 'A' AS COLUMN2, 2 AS COLUMN3 FROM (VALUES(0), (1), (2))";
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = DatabaseUtility.executeSql(statement, sql);
+        final MetadataResultSet results =
+            new MetadataResultSet(resultSet, "columnLookupAndAttributes", 100)) {
+
+      int rowCount = 0;
+      while (results.next()) {
+        rowCount++;
+        assertThat(results.getInt("column1", 0), is(1));
+        assertThat(results.getInt("NOT_A_COLUMN", 0), is(0));
+        if (rowCount == 1) {
+          assertThat(results.getString("Column2"), is("A"));
+          assertThat(results.getAttributes().keySet(), containsInAnyOrder("COLUMN3"));
+        } else {
+          // Read columns are reset for every row
+          assertThat(results.getAttributes().keySet(), containsInAnyOrder("COLUMN2", "COLUMN3"));
+        }
+      }
+      assertThat(rowCount, is(3));
+    }
+  }
+
   @Test
   @DisplayName("Retrieve null values from results")
   public void nullValues(final Connection connection) throws Exception {
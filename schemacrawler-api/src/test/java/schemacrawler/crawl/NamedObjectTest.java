@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,61 @@ public class NamedObjectTest {
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void sortedSnapshot() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema, "TABLE3");
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table3);
+    tables.add(table1);
+    assertThat(tables.values(), contains(table1, table3));
+
+    tables.add(table2);
+    assertThat(tables.values(), contains(table1, table2, table3));
+
+    tables.remove(table1);
+    assertThat(tables.values(), contains(table2, table3));
+
+    tables.filter(table -> !table.getName().equals("TABLE3"));
+    assertThat(tables.values(), contains(table2));
+  }
+
+  @Test
+  public void lookupByFullName() {
+    final NamedObjectList<SchemaReference> schemas = new NamedObjectList<>();
+    final SchemaReference schema1 = new SchemaReference("CATALOG", "DBO");
+    final SchemaReference schema2 = new SchemaReference(null, "PUBLIC");
+    schemas.add(schema1);
+    schemas.add(schema2);
+
+    assertThat(schemas.lookupByFullName("CATALOG.DBO").get(), is(schema1));
+    assertThat(schemas.lookupByFullName("PUBLIC").get(), is(schema2));
+    assertThat(schemas.lookupByFullName("CATALOG.PUBLIC").isPresent(), is(false));
+    assertThat(schemas.lookupByFullName(null).isPresent(), is(false));
+  }
+
+  @Test
+  public void valuesForSchema() {
+    final Schema schema1 = new SchemaReference("CATALOG", "DBO");
+    final Schema schema2 = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table1 = new MutableTable(schema1, "CUSTOMER");
+    final MutableTable table2 = new MutableTable(schema2, "INVOICE");
+    final MutableTable table3 = new MutableTable(schema2, "CUSTOMER");
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table1);
+    tables.add(table2);
+    assertThat(tables.valuesForSchema(schema1), contains(table1));
+    assertThat(tables.valuesForSchema(schema2), contains(table2));
+
+    tables.add(table3);
+    assertThat(tables.valuesForSchema(schema2), contains(table3, table2));
+    assertThat(tables.valuesForSchema(new SchemaReference("CATALOG", "OTHER")), is(empty()));
+  }
+
   @Test
   public void tableNames() {
     final String[] schemaNames = new String[] {"DBO", "PUBLIC"};
@@ -34,7 +34,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.crawl.IndexRetrieverTest.failingSchemaMetadataConnection;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_per_schema;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -52,13 +54,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.PrimaryKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InfoLevel;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
@@ -124,6 +129,51 @@ public class PrimaryKeyRetrieverTest {
     }
   }
 
+  @Test
+  @DisplayName(
+      "Retrieve primary keys one table at a time, when retrieval for a schema fails part-way")
+  public void primaryKeysFromMetadataPerSchemaWithFallback(final Connection connection)
+      throws Exception {
+    // Table columns are needed for primary key columns
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(
+                SchemaInfoLevelBuilder.builder()
+                    .withInfoLevel(InfoLevel.minimum)
+                    .setRetrieveTableColumns(true)
+                    .toOptions());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+    final MutableCatalog catalog =
+        (MutableCatalog)
+            getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+    for (final Table table : catalog.getTables()) {
+      assertThat(table.getPrimaryKey(), is(nullValue()));
+    }
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(primaryKeysRetrievalStrategy, metadata_per_schema)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(
+            failingSchemaMetadataConnection(connection, "getPrimaryKeys"), schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final PrimaryKeyRetriever primaryKeyRetriever =
+        new PrimaryKeyRetriever(retrieverConnection, catalog, options);
+    primaryKeyRetriever.retrievePrimaryKeys(catalog.getAllTables());
+
+    // Primary key columns from the failed schema retrieval are not repeated
+    verifyRetrievePrimaryKeys(catalog);
+  }
+
   @Test
   @DisplayName("Retrieve primary keys from data dictionary")
   public void primaryKeysFromDataDictionary(final Connection connection) throws Exception {
@@ -0,0 +1,45 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import schemacrawler.schema.RetrievalMetrics;
+
+/** Retrieval metrics listener, registered as a service for tests. */
+public class RecordingRetrievalMetricsListener implements RetrievalMetricsListener {
+
+  static final List<RetrievalMetrics> retrievalMetrics = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void retrievalCompleted(final RetrievalMetrics metrics) {
+    retrievalMetrics.add(metrics);
+  }
+}
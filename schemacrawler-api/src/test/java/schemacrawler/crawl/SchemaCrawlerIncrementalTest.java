@@ -0,0 +1,265 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+public class SchemaCrawlerIncrementalTest {
+
+  private static final String TABLE_CHANGES_SQL =
+      "SELECT T.TABLE_CAT AS TABLE_CATALOG, T.TABLE_SCHEM AS TABLE_SCHEMA, T.TABLE_NAME, "
+          + "COALESCE(M.CHANGE_MARKER, 0) AS CHANGE_MARKER "
+          + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES T "
+          + "LEFT OUTER JOIN META.CHANGE_MARKERS M ON T.TABLE_NAME = M.TABLE_NAME "
+          + "WHERE T.TABLE_SCHEM = 'INCR'";
+
+  private static Catalog roundTrip(final Catalog catalog) throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(catalog);
+    }
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (Catalog) in.readObject();
+    }
+  }
+
+  private Connection connection;
+
+  @AfterEach
+  public void closeDatabase() throws SQLException {
+    execute("SHUTDOWN");
+    connection.close();
+  }
+
+  @Test
+  public void crawlIncrementally() throws Exception {
+
+    final Catalog previousCatalog = roundTrip(crawler(schemaRetrievalOptions(), true).crawl());
+    assertThat(previousCatalog.getTables().size(), is(4));
+    final Table previousOther = lookupTable(previousCatalog, "OTHER");
+
+    // Parent table is altered, and its change marker is bumped
+    execute("ALTER TABLE INCR.PARENT ADD COLUMN DESCRIPTION VARCHAR(50)");
+    execute("UPDATE META.CHANGE_MARKERS SET CHANGE_MARKER = 2 WHERE TABLE_NAME = 'PARENT'");
+    // Other table is altered, but its change marker is not bumped
+    execute("ALTER TABLE INCR.OTHER ADD COLUMN DESCRIPTION VARCHAR(50)");
+    // A table is dropped, and another is added
+    execute("DROP TABLE INCR.DROPPED");
+    execute(
+        "CREATE TABLE INCR.ADDED (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER, "
+            + "CONSTRAINT FK_ADDED_PARENT FOREIGN KEY (PARENT_ID) REFERENCES INCR.PARENT (ID))");
+    execute("INSERT INTO META.CHANGE_MARKERS VALUES ('ADDED', 1)");
+
+    final Catalog catalog = crawler(schemaRetrievalOptions(), false).crawl(previousCatalog);
+
+    assertThat(catalog.getTables().size(), is(4));
+    assertThat(catalog.lookupTable(schema(catalog), "DROPPED").isPresent(), is(false));
+
+    final Table parent = lookupTable(catalog, "PARENT");
+    assertThat(parent.lookupColumn("DESCRIPTION").isPresent(), is(true));
+
+    // Unchanged table is reused from the previous catalog
+    final Table other = lookupTable(catalog, "OTHER");
+    assertThat(other, is(sameInstance(previousOther)));
+    assertThat(other.lookupColumn("DESCRIPTION").isPresent(), is(false));
+
+    // Foreign keys from reused and added tables reference the table that was crawled again
+    final Table child = lookupTable(catalog, "CHILD");
+    final Table added = lookupTable(catalog, "ADDED");
+    assertThat(child.getImportedForeignKeys().size(), is(1));
+    assertReferences(child.getImportedForeignKeys().iterator().next(), parent);
+    assertThat(added.getImportedForeignKeys().size(), is(1));
+    assertReferences(added.getImportedForeignKeys().iterator().next(), parent);
+
+    final List<String> exportedForeignKeys = new ArrayList<>();
+    for (final ForeignKey foreignKey : parent.getExportedForeignKeys()) {
+      exportedForeignKeys.add(foreignKey.getName());
+    }
+    assertThat(exportedForeignKeys, containsInAnyOrder("FK_CHILD_PARENT", "FK_ADDED_PARENT"));
+
+    // Change markers are carried forward for the next incremental crawl
+    assertThat(((MutableCatalog) catalog).getChangeMarkers().isPresent(), is(true));
+  }
+
+  @Test
+  public void crawlWithoutChangeMarkers() throws Exception {
+
+    // Without a change markers query, the previous catalog has no change markers
+    final Catalog previousCatalog =
+        roundTrip(crawler(SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(), true).crawl());
+    assertThat(((MutableCatalog) previousCatalog).getChangeMarkers().isPresent(), is(false));
+    final Table previousOther = lookupTable(previousCatalog, "OTHER");
+
+    execute("ALTER TABLE INCR.OTHER ADD COLUMN DESCRIPTION VARCHAR(50)");
+
+    final Catalog catalog = crawler(schemaRetrievalOptions(), false).crawl(previousCatalog);
+
+    assertThat(catalog.getTables().size(), is(4));
+    final Table other = lookupTable(catalog, "OTHER");
+    assertThat(other, is(not(sameInstance(previousOther))));
+    assertThat(other.lookupColumn("DESCRIPTION").isPresent(), is(true));
+  }
+
+  @Test
+  public void crawlWithFailingChangeMarkers() throws Exception {
+
+    // A change markers query that fails does not fail the crawl
+    final Catalog previousCatalog =
+        roundTrip(crawler(schemaRetrievalOptions("SELECT * FROM NO_SUCH_TABLE"), true).crawl());
+    assertThat(previousCatalog.getTables().size(), is(4));
+    assertThat(((MutableCatalog) previousCatalog).getChangeMarkers().isPresent(), is(false));
+
+    // Previous catalog with change markers, but change markers cannot be retrieved now, so all
+    // objects are crawled
+    final Catalog markedCatalog = roundTrip(crawler(schemaRetrievalOptions(), true).crawl());
+    final Table previousOther = lookupTable(markedCatalog, "OTHER");
+
+    execute("ALTER TABLE INCR.OTHER ADD COLUMN DESCRIPTION VARCHAR(50)");
+
+    final Catalog catalog =
+        crawler(schemaRetrievalOptions("SELECT * FROM NO_SUCH_TABLE"), false).crawl(markedCatalog);
+
+    assertThat(catalog.getTables().size(), is(4));
+    final Table other = lookupTable(catalog, "OTHER");
+    assertThat(other, is(not(sameInstance(previousOther))));
+    assertThat(other.lookupColumn("DESCRIPTION").isPresent(), is(true));
+  }
+
+  @Test
+  public void crawlWithoutLoadingChangeMarkers() throws Exception {
+
+    // Change markers are only retrieved on a full crawl when they are asked for
+    final Catalog catalog = crawler(schemaRetrievalOptions(), false).crawl();
+    assertThat(catalog.getTables().size(), is(4));
+    assertThat(((MutableCatalog) catalog).getChangeMarkers().isPresent(), is(false));
+  }
+
+  @BeforeEach
+  public void createDatabase() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:incremental_crawl", "sa", "");
+    execute("CREATE SCHEMA INCR");
+    execute("CREATE SCHEMA META");
+    execute("CREATE TABLE INCR.PARENT (ID INTEGER PRIMARY KEY, NAME VARCHAR(50))");
+    execute(
+        "CREATE TABLE INCR.CHILD (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER, "
+            + "CONSTRAINT FK_CHILD_PARENT FOREIGN KEY (PARENT_ID) REFERENCES INCR.PARENT (ID))");
+    execute("CREATE TABLE INCR.OTHER (ID INTEGER PRIMARY KEY)");
+    execute("CREATE TABLE INCR.DROPPED (ID INTEGER PRIMARY KEY)");
+    execute("CREATE TABLE META.CHANGE_MARKERS (TABLE_NAME VARCHAR(50), CHANGE_MARKER INTEGER)");
+    execute(
+        "INSERT INTO META.CHANGE_MARKERS VALUES "
+            + "('PARENT', 1), ('CHILD', 1), ('OTHER', 1), ('DROPPED', 1)");
+  }
+
+  private void assertReferences(final ForeignKey foreignKey, final Table table) {
+    final Column primaryKeyColumn = foreignKey.getColumnReferences().get(0).getPrimaryKeyColumn();
+    assertThat(primaryKeyColumn.getParent(), is(sameInstance(table)));
+  }
+
+  private SchemaCrawler crawler(
+      final SchemaRetrievalOptions schemaRetrievalOptions, final boolean loadChangeMarkers) {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.INCR"))
+                    .toOptions())
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+                    .loadChangeMarkers(loadChangeMarkers)
+                    .toOptions());
+    return new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions);
+  }
+
+  private void execute(final String sql) throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private Table lookupTable(final Catalog catalog, final String tableName) {
+    return catalog.lookupTable(schema(catalog), tableName).get();
+  }
+
+  private Schema schema(final Catalog catalog) {
+    return catalog.lookupSchema("PUBLIC.INCR").get();
+  }
+
+  private SchemaRetrievalOptions schemaRetrievalOptions() {
+    return schemaRetrievalOptions(TABLE_CHANGES_SQL);
+  }
+
+  private SchemaRetrievalOptions schemaRetrievalOptions(final String tableChangesSql) {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(EXT_TABLE_CHANGES, tableChangesSql)
+            .toOptions();
+    return SchemaRetrievalOptionsBuilder.builder()
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+}
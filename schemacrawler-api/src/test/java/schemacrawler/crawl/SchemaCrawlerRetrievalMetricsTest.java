@@ -0,0 +1,155 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.RetrievalMetrics;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.WithSystemProperty;
+import schemacrawler.test.utility.WithTestDatabase;
+
+@WithTestDatabase
+public class SchemaCrawlerRetrievalMetricsTest {
+
+  private static Map<String, RetrievalMetrics> byRetrievalName(
+      final List<RetrievalMetrics> retrievalMetrics) {
+    final Map<String, RetrievalMetrics> metricsMap = new HashMap<>();
+    for (final RetrievalMetrics metrics : retrievalMetrics) {
+      metricsMap.put(metrics.getRetrievalName(), metrics);
+    }
+    return metricsMap;
+  }
+
+  @Test
+  public void retrievalMetrics(final Connection connection) throws Exception {
+
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    final List<RetrievalMetrics> retrievalMetrics = catalog.getCrawlInfo().getRetrievalMetrics();
+    assertThat(retrievalMetrics, is(not(empty())));
+    assertThat(
+        RecordingRetrievalMetricsListener.retrievalMetrics, hasItem(retrievalMetrics.get(0)));
+
+    final Map<String, RetrievalMetrics> metricsMap = byRetrievalName(retrievalMetrics);
+
+    final RetrievalMetrics tablesMetrics = metricsMap.get("retrieveTables");
+    assertThat(tablesMetrics.getQueryCount(), is(greaterThan(0L)));
+    assertThat(
+        tablesMetrics.getRowCount(), is(greaterThanOrEqualTo(tablesMetrics.getObjectCount())));
+    assertThat(tablesMetrics.getObjectCount(), is((long) catalog.getTables().size()));
+    assertThat(tablesMetrics.getDuration().isNegative(), is(false));
+    assertThat(tablesMetrics.getThreadName().isEmpty(), is(false));
+
+    final RetrievalMetrics columnsMetrics = metricsMap.get("retrieveTableColumns");
+    assertThat(columnsMetrics.getRowCount(), is(greaterThan(0L)));
+    assertThat(columnsMetrics.getObjectCount(), is(greaterThan(0L)));
+
+    // Metrics are serialized with the catalog
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(catalog);
+    }
+    final Catalog deserializedCatalog;
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedCatalog = (Catalog) in.readObject();
+    }
+    final Map<String, RetrievalMetrics> deserializedMetricsMap =
+        byRetrievalName(deserializedCatalog.getCrawlInfo().getRetrievalMetrics());
+    assertThat(
+        deserializedMetricsMap.get("retrieveTables").getRowCount(),
+        is(tablesMetrics.getRowCount()));
+  }
+
+  @Test
+  @WithSystemProperty(key = "SC_EXPERIMENTAL", value = "true")
+  public void retrievalMetricsOnWorkerThreads(final Connection connection) throws Exception {
+
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+            .withMaxThreads(3);
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    final Map<String, RetrievalMetrics> metricsMap =
+        byRetrievalName(catalog.getCrawlInfo().getRetrievalMetrics());
+
+    // Objects are counted once, by the retrieval that created them
+    long columnCount = 0;
+    for (final Table table : catalog.getTables()) {
+      columnCount = columnCount + table.getColumns().size() + table.getHiddenColumns().size();
+    }
+    assertThat(
+        metricsMap.get("retrieveTables").getObjectCount(), is((long) catalog.getTables().size()));
+    // Column retrieval also creates user-defined data types that it finds
+    final long columnsObjectCount = metricsMap.get("retrieveTableColumns").getObjectCount();
+    assertThat(columnsObjectCount, is(greaterThanOrEqualTo(columnCount)));
+    assertThat(
+        columnsObjectCount,
+        is(lessThanOrEqualTo(columnCount + catalog.getColumnDataTypes().size())));
+  }
+}
@@ -0,0 +1,234 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_per_schema;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.WithTestDatabase;
+
+@WithTestDatabase
+public class SchemaCrawlerWorkerConnectionsTest {
+
+  private static void assertSameTables(final Catalog expectedCatalog, final Catalog catalog) {
+    assertThat(catalog.getTables().size(), is(expectedCatalog.getTables().size()));
+    for (final Table expectedTable : expectedCatalog.getTables()) {
+      final Table table =
+          catalog.lookupTable(expectedTable.getSchema(), expectedTable.getName()).get();
+      assertThat(table.getColumns().size(), is(expectedTable.getColumns().size()));
+      assertThat(table.getIndexes().size(), is(expectedTable.getIndexes().size()));
+      for (final Index expectedIndex : expectedTable.getIndexes()) {
+        final Index index = table.lookupIndex(expectedIndex.getName()).get();
+        assertThat(index.getColumns().size(), is(expectedIndex.getColumns().size()));
+      }
+      assertThat(table.hasPrimaryKey(), is(expectedTable.hasPrimaryKey()));
+      if (expectedTable.hasPrimaryKey()) {
+        assertThat(
+            table.getPrimaryKey().getConstrainedColumns().size(),
+            is(expectedTable.getPrimaryKey().getConstrainedColumns().size()));
+      }
+      assertThat(
+          table.getImportedForeignKeys().size(), is(expectedTable.getImportedForeignKeys().size()));
+    }
+  }
+
+  private static Supplier<Connection> workerConnectionSupplier(
+      final DatabaseConnectionInfo connectionInfo, final List<Connection> workerConnections) {
+    return () -> {
+      try {
+        final Connection workerConnection =
+            DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+        workerConnections.add(workerConnection);
+        return workerConnection;
+      } catch (final SQLException e) {
+        throw new DatabaseAccessException(e);
+      }
+    };
+  }
+
+  @Test
+  public void crawlWithWorkerConnections(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final Catalog expectedCatalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    final List<Connection> workerConnections = new CopyOnWriteArrayList<>();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            workerConnectionSupplier(connectionInfo, workerConnections),
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    assertSameTables(expectedCatalog, catalog);
+
+    assertThat(workerConnections.size(), is(greaterThan(0)));
+    for (final Connection workerConnection : workerConnections) {
+      assertThat(workerConnection.isClosed(), is(true));
+    }
+    assertThat(connection.isClosed(), is(false));
+  }
+
+  @Test
+  public void crawlMetadataPerSchemaWithWorkerConnections(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptionsDefault)
+            .with(tableColumnsRetrievalStrategy, metadata_per_schema)
+            .with(primaryKeysRetrievalStrategy, metadata_per_schema)
+            .with(foreignKeysRetrievalStrategy, metadata_per_schema)
+            .with(indexesRetrievalStrategy, metadata_per_schema)
+            .toOptions();
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final Catalog expectedCatalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+
+    // Schemas are retrieved in parallel, each on a worker connection
+    final List<Connection> workerConnections = new CopyOnWriteArrayList<>();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            workerConnectionSupplier(connectionInfo, workerConnections),
+            schemaRetrievalOptions,
+            schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    assertSameTables(expectedCatalog, catalog);
+
+    assertThat(workerConnections.size(), is(greaterThan(0)));
+    for (final Connection workerConnection : workerConnections) {
+      assertThat(workerConnection.isClosed(), is(true));
+    }
+    assertThat(connection.isClosed(), is(false));
+  }
+
+  @Test
+  public void workerConnectionPerThread(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final List<Connection> workerConnections = new CopyOnWriteArrayList<>();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(
+            connection,
+            workerConnectionSupplier(connectionInfo, workerConnections),
+            schemaRetrievalOptionsDefault);
+
+    assertThat(retrieverConnection.getConnection(), is(sameInstance(connection)));
+    assertThat(workerConnections.size(), is(0));
+
+    final AtomicReference<Connection> workerConnection = new AtomicReference<>();
+    final Thread thread =
+        new Thread(
+            () -> {
+              workerConnection.set(retrieverConnection.getConnection());
+              // Same connection is reused by the same thread
+              assertThat(retrieverConnection.getConnection(), is(workerConnection.get()));
+              retrieverConnection.releaseWorkerConnection();
+            });
+    thread.start();
+    thread.join();
+
+    assertThat(workerConnection.get(), is(not(sameInstance(connection))));
+    assertThat(workerConnections.size(), is(1));
+
+    // Released connection is reused by the next task, on another thread
+    final AtomicReference<Connection> reusedWorkerConnection = new AtomicReference<>();
+    final Thread nextThread =
+        new Thread(
+            () -> {
+              reusedWorkerConnection.set(retrieverConnection.getConnection());
+              retrieverConnection.releaseWorkerConnection();
+            });
+    nextThread.start();
+    nextThread.join();
+
+    assertThat(reusedWorkerConnection.get(), is(sameInstance(workerConnection.get())));
+    assertThat(workerConnections.size(), is(1));
+
+    retrieverConnection.closeWorkerConnections();
+
+    assertThat(workerConnection.get().isClosed(), is(true));
+    assertThat(connection.isClosed(), is(false));
+  }
+}
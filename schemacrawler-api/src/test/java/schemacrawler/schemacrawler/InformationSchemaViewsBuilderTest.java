@@ -121,6 +121,44 @@ public class InformationSchemaViewsBuilderTest {
         is("SOME value SUBSTITUTE SQL SELECT"));
   }
 
+  @Test
+  public void withFetchSize() {
+    final InformationSchemaViewsBuilder builder =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES, "SOME SQL SELECT")
+            .withSql(InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES, "SOME SQL SELECT");
+
+    assertThat(
+        builder
+            .toOptions()
+            .getQuery(InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES)
+            .getFetchSize(),
+        is(0));
+
+    builder.withFetchSize(500).withFetchSize(InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES, 50);
+
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder(builder.toOptions()).toOptions();
+    assertThat(
+        informationSchemaViews
+            .getQuery(InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES)
+            .getFetchSize(),
+        is(500));
+    assertThat(
+        informationSchemaViews
+            .getQuery(InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES)
+            .getFetchSize(),
+        is(50));
+
+    builder.withFetchSize(InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES, 0);
+    assertThat(
+        builder
+            .toOptions()
+            .getQuery(InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES)
+            .getFetchSize(),
+        is(500));
+  }
+
   @Test
   public void withFunction() {
 
@@ -0,0 +1,203 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.crawl.ContentFingerprints;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.WithTestDatabase;
+
+@WithTestDatabase
+public class ContentFingerprintsTest {
+
+  @Test
+  public void fingerprintsAreDistinct(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final Set<Long> tableFingerprints = new HashSet<>();
+    for (final Table table : catalog.getTables()) {
+      tableFingerprints.add(ContentFingerprints.fingerprint(table));
+
+      final Set<Long> columnFingerprints = new HashSet<>();
+      for (final Column column : table.getColumns()) {
+        columnFingerprints.add(ContentFingerprints.fingerprint(column));
+      }
+      assertThat(columnFingerprints, hasSize(table.getColumns().size()));
+    }
+    assertThat(tableFingerprints, hasSize(catalog.getTables().size()));
+
+    final Set<Long> routineFingerprints = new HashSet<>();
+    for (final Routine routine : catalog.getRoutines()) {
+      routineFingerprints.add(ContentFingerprints.fingerprint(routine));
+    }
+    assertThat(routineFingerprints, hasSize(catalog.getRoutines().size()));
+  }
+
+  @Test
+  public void fingerprintsAreStable(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final Catalog clonedCatalog = SerializationUtils.clone(catalog);
+
+    assertSameFingerprints(catalog, clonedCatalog);
+  }
+
+  @Test
+  public void fingerprintsInSnapshot(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+    final Catalog readCatalog =
+        new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray())).read();
+
+    assertSameFingerprints(catalog, readCatalog);
+
+    // Fingerprints that were written to the snapshot are kept on the objects that are read
+    final Table readTable =
+        readCatalog.lookupTable(readCatalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    readTable.lookupColumn("TITLE").get().setRemarks("Changed remarks");
+    final Table table =
+        catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    assertThat(
+        ContentFingerprints.fingerprint(readTable.lookupColumn("TITLE").get()),
+        is(ContentFingerprints.fingerprint(table.lookupColumn("TITLE").get())));
+  }
+
+  @Test
+  public void fingerprintFollowsChanges(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final Table table =
+        catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    final Column column = table.lookupColumn("TITLE").get();
+
+    final long tableFingerprint = ContentFingerprints.fingerprint(table);
+    final long columnFingerprint = ContentFingerprints.fingerprint(column);
+    column.setRemarks("Changed remarks");
+
+    // Fingerprints are cached until they are cleared
+    assertThat(ContentFingerprints.fingerprint(column), is(columnFingerprint));
+    assertThat(ContentFingerprints.fingerprint(table), is(tableFingerprint));
+
+    ContentFingerprints.clearFingerprints(catalog);
+    assertThat(ContentFingerprints.fingerprint(column), is(not(columnFingerprint)));
+    assertThat(ContentFingerprints.fingerprint(table), is(not(tableFingerprint)));
+  }
+
+  @Test
+  public void fingerprintChangesWithContent(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final Catalog clonedCatalog = SerializationUtils.clone(catalog);
+
+    final Table table =
+        catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    final Table clonedTable =
+        clonedCatalog.lookupTable(clonedCatalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    clonedTable.lookupColumn("TITLE").get().setRemarks("Changed remarks");
+
+    assertThat(
+        ContentFingerprints.fingerprint(clonedTable.lookupColumn("TITLE").get()),
+        is(not(ContentFingerprints.fingerprint(table.lookupColumn("TITLE").get()))));
+    assertThat(
+        ContentFingerprints.fingerprint(clonedTable),
+        is(not(ContentFingerprints.fingerprint(table))));
+    assertThat(
+        ContentFingerprints.fingerprint(clonedTable.lookupColumn("ID").get()),
+        is(ContentFingerprints.fingerprint(table.lookupColumn("ID").get())));
+  }
+
+  private void assertSameFingerprints(final Catalog catalog, final Catalog otherCatalog) {
+    for (final Table table : catalog.getTables()) {
+      final Table otherTable = otherCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(
+          table.getFullName(),
+          ContentFingerprints.fingerprint(otherTable),
+          equalTo(ContentFingerprints.fingerprint(table)));
+      for (final Column column : table.getColumns()) {
+        assertThat(
+            column.getFullName(),
+            ContentFingerprints.fingerprint(otherTable.lookupColumn(column.getName()).get()),
+            equalTo(ContentFingerprints.fingerprint(column)));
+      }
+      for (final Index index : table.getIndexes()) {
+        assertThat(
+            index.getFullName(),
+            ContentFingerprints.fingerprint(otherTable.lookupIndex(index.getName()).get()),
+            equalTo(ContentFingerprints.fingerprint(index)));
+      }
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        assertThat(
+            foreignKey.getFullName(),
+            ContentFingerprints.fingerprint(
+                otherTable.lookupForeignKey(foreignKey.getName()).get()),
+            equalTo(ContentFingerprints.fingerprint(foreignKey)));
+      }
+    }
+    final Map<NamedObjectKey, Routine> otherRoutines = new HashMap<>();
+    for (final Routine otherRoutine : otherCatalog.getRoutines()) {
+      otherRoutines.put(otherRoutine.key(), otherRoutine);
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      final Routine otherRoutine = otherRoutines.get(routine.key());
+      assertThat(
+          routine.getFullName(),
+          ContentFingerprints.fingerprint(otherRoutine),
+          equalTo(ContentFingerprints.fingerprint(routine)));
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.NamedObjectKey;
+
+public class NamedObjectKeyTest {
+
+  @Test
+  public void childKeys() {
+    final NamedObjectKey schemaKey = new NamedObjectKey("CATALOG", "SCHEMA");
+    final NamedObjectKey tableKey = schemaKey.with("TABLE");
+
+    assertThat(tableKey, is(new NamedObjectKey("CATALOG", "SCHEMA", "TABLE")));
+    assertThat(
+        tableKey.with("COLUMN"), is(new NamedObjectKey("CATALOG", "SCHEMA", "TABLE", "COLUMN")));
+    assertThat(tableKey, is(not(new NamedObjectKey("CATALOG", "SCHEMA"))));
+    assertThat(tableKey, is(not(new NamedObjectKey("CATALOG", "OTHER", "TABLE"))));
+    assertThat(tableKey, is(not(new NamedObjectKey(null, "SCHEMA", "TABLE"))));
+  }
+
+  @Test
+  public void emptyKeys() {
+    assertThat(new NamedObjectKey(), is(new NamedObjectKey((String[]) null)));
+    assertThat(new NamedObjectKey().with("TABLE"), is(new NamedObjectKey("TABLE")));
+    assertThat(new NamedObjectKey().toString(), is("{\"key\": \"\"}"));
+  }
+
+  @Test
+  public void hashCodes() {
+    final String[][] keys = {
+      {}, {"CATALOG"}, {null, "SCHEMA"}, {"CATALOG", "SCHEMA", "TABLE"}, {null, null, "TABLE", null}
+    };
+    for (final String[] key : keys) {
+      assertThat(new NamedObjectKey(key).hashCode(), is(Arrays.hashCode(key)));
+    }
+  }
+
+  @Test
+  public void serialization() {
+    final NamedObjectKey key = new NamedObjectKey(null, "SCHEMA", "TABLE").with("COLUMN");
+    final NamedObjectKey clonedKey = SerializationUtils.clone(key);
+
+    assertThat(clonedKey, is(equalTo(key)));
+    assertThat(clonedKey.hashCode(), is(key.hashCode()));
+    assertThat(clonedKey.toString(), is("{\"key\": \"null/SCHEMA/TABLE/COLUMN\"}"));
+  }
+}
@@ -28,29 +28,65 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.test;
 
+import static java.nio.file.Files.newOutputStream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Routine;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.utility.BinaryData;
+import us.fatehi.utility.IOUtility;
 
 @WithTestDatabase
 public class SerializationTest {
 
+  private static final class UnsupportedValue implements Serializable {
+    private static final long serialVersionUID = 1L;
+  }
+
   @Test
   public void catalogSerialization(final Connection connection) throws Exception {
     final SchemaCrawlerOptions schemaCrawlerOptions =
@@ -78,4 +114,196 @@ public class SerializationTest {
         clonedCatalog.getTables(clonedSchema),
         hasSize(10));
   }
+
+  @Test
+  public void catalogSnapshot(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+
+    final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    assertThat(CatalogSnapshotReader.isCatalogSnapshot(in), is(true));
+    final Catalog readCatalog = new CatalogSnapshotReader(in).read();
+
+    assertThat(readCatalog, equalTo(catalog));
+    assertThat(readCatalog.getCrawlInfo().getRunId(), equalTo(catalog.getCrawlInfo().getRunId()));
+    assertThat(
+        readCatalog.getCrawlInfo().getCrawlTimestamp(),
+        equalTo(catalog.getCrawlInfo().getCrawlTimestamp()));
+    assertThat(
+        readCatalog.getDatabaseInfo().getProperties(),
+        equalTo(catalog.getDatabaseInfo().getProperties()));
+    assertThat(names(readCatalog.getSchemas()), equalTo(names(catalog.getSchemas())));
+    assertThat(
+        names(readCatalog.getColumnDataTypes()), equalTo(names(catalog.getColumnDataTypes())));
+    assertThat(names(readCatalog.getSequences()), equalTo(names(catalog.getSequences())));
+    assertThat(names(readCatalog.getSynonyms()), equalTo(names(catalog.getSynonyms())));
+
+    assertThat(names(readCatalog.getTables()), equalTo(names(catalog.getTables())));
+    for (final Table table : catalog.getTables()) {
+      final Table readTable =
+          readCatalog.lookupTable(table.getSchema(), table.getName()).orElse(null);
+      assertThat(readTable, notNullValue());
+      assertThat(readTable.getRemarks(), equalTo(table.getRemarks()));
+      assertThat(readTable.getTableType(), equalTo(table.getTableType()));
+      assertThat(names(readTable.getColumns()), equalTo(names(table.getColumns())));
+      for (final Column column : table.getColumns()) {
+        final Column readColumn = readTable.lookupColumn(column.getName()).orElse(null);
+        assertThat(readColumn, notNullValue());
+        assertThat(readColumn.getColumnDataType(), equalTo(column.getColumnDataType()));
+        assertThat(readColumn.getWidth(), equalTo(column.getWidth()));
+        assertThat(readColumn.isPartOfForeignKey(), equalTo(column.isPartOfForeignKey()));
+        assertThat(readColumn.getReferencedColumn(), equalTo(column.getReferencedColumn()));
+      }
+      assertThat(readTable.getPrimaryKey(), equalTo(table.getPrimaryKey()));
+      assertThat(names(readTable.getIndexes()), equalTo(names(table.getIndexes())));
+      for (final Index index : table.getIndexes()) {
+        final Index readIndex = readTable.lookupIndex(index.getName()).orElse(null);
+        assertThat(readIndex, notNullValue());
+        assertThat(names(readIndex.getColumns()), equalTo(names(index.getColumns())));
+      }
+      assertThat(names(readTable.getForeignKeys()), equalTo(names(table.getForeignKeys())));
+      final Map<NamedObjectKey, ForeignKey> readForeignKeys = new HashMap<>();
+      for (final ForeignKey readForeignKey : readTable.getForeignKeys()) {
+        readForeignKeys.put(readForeignKey.key(), readForeignKey);
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        final ForeignKey readForeignKey = readForeignKeys.get(foreignKey.key());
+        assertThat(readForeignKey, notNullValue());
+        assertThat(readForeignKey.getColumnReferences(), equalTo(foreignKey.getColumnReferences()));
+        assertThat(readForeignKey.getDeleteRule(), equalTo(foreignKey.getDeleteRule()));
+      }
+      assertThat(
+          names(readTable.getTableConstraints()), equalTo(names(table.getTableConstraints())));
+      assertThat(names(readTable.getTriggers()), equalTo(names(table.getTriggers())));
+      assertThat(names(readTable.getPrivileges()), equalTo(names(table.getPrivileges())));
+    }
+
+    assertThat(names(readCatalog.getRoutines()), equalTo(names(catalog.getRoutines())));
+    final Map<NamedObjectKey, Routine> readRoutines = new HashMap<>();
+    for (final Routine readRoutine : readCatalog.getRoutines()) {
+      readRoutines.put(readRoutine.key(), readRoutine);
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      final Routine readRoutine = readRoutines.get(routine.key());
+      assertThat(readRoutine, notNullValue());
+      assertThat(readRoutine.getDefinition(), equalTo(routine.getDefinition()));
+      assertThat(names(readRoutine.getParameters()), equalTo(names(routine.getParameters())));
+    }
+  }
+
+  @Test
+  public void catalogSnapshotAttributeValues(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+    final Table table = catalog.getTables().iterator().next();
+    table.setAttribute("string-array", new String[] {"a", "b"});
+    table.setAttribute("binary-data", new BinaryData());
+    table.setAttribute("big-decimal", new BigDecimal("1.5"));
+    table.setAttribute("unsupported", new UnsupportedValue());
+    table.setAttribute("unsupported-list", Arrays.asList("a", new UnsupportedValue()));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+    final Catalog readCatalog =
+        new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray())).read();
+
+    final Table readTable = readCatalog.lookupTable(table.getSchema(), table.getName()).get();
+    assertThat(readTable.getAttribute("string-array"), equalTo(new String[] {"a", "b"}));
+    assertThat(readTable.getAttribute("binary-data"), is(instanceOf(BinaryData.class)));
+    assertThat(readTable.getAttribute("big-decimal"), equalTo(new BigDecimal("1.5")));
+    assertThat(readTable.hasAttribute("unsupported"), is(false));
+    assertThat(readTable.hasAttribute("unsupported-list"), is(false));
+  }
+
+  @Test
+  public void catalogSnapshotMappedWithSchemaFilter(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final Path snapshotFile = IOUtility.createTempFilePath("catalog", ".snapshot");
+    try (final OutputStream out = newOutputStream(snapshotFile)) {
+      new CatalogSnapshotWriter(catalog).write(out);
+    }
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"))
+                    .toOptions());
+    final Catalog readCatalog = new CatalogSnapshotReader(snapshotFile).read(schemaCrawlerOptions);
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+    assertThat(names(readCatalog.getSchemas()), equalTo(names(Arrays.asList(schema))));
+    assertThat(names(readCatalog.getTables()), equalTo(names(catalog.getTables(schema))));
+    assertThat(names(readCatalog.getRoutines()), equalTo(names(catalog.getRoutines(schema))));
+    assertThat(names(readCatalog.getSequences()), equalTo(names(catalog.getSequences(schema))));
+    assertThat(names(readCatalog.getSynonyms()), equalTo(names(catalog.getSynonyms(schema))));
+    for (final Table table : catalog.getTables(schema)) {
+      final Table readTable = readCatalog.lookupTable(schema, table.getName()).get();
+      assertThat(names(readTable.getColumns()), equalTo(names(table.getColumns())));
+      assertThat(names(readTable.getForeignKeys()), equalTo(names(table.getForeignKeys())));
+    }
+  }
+
+  @Test
+  public void catalogSnapshotWithTableFilter(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKAUTHORS"))
+                    .toOptions());
+    final Catalog readCatalog =
+        new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray()))
+            .read(schemaCrawlerOptions);
+
+    assertThat(names(readCatalog.getSchemas()), equalTo(names(catalog.getSchemas())));
+    assertThat(readCatalog.getTables(), hasSize(1));
+    final Table table = readCatalog.getTables().iterator().next();
+    assertThat(table.getFullName(), equalTo("PUBLIC.BOOKS.BOOKAUTHORS"));
+    assertThat(table.getImportedForeignKeys(), hasSize(2));
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      assertThat(foreignKey.getPrimaryKeyTable(), is(instanceOf(PartialDatabaseObject.class)));
+    }
+  }
+
+  @Test
+  public void catalogSnapshotNewerVersion(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+    final byte[] snapshot = out.toByteArray();
+    // Format version follows the magic number
+    snapshot[11] = (byte) 99;
+
+    final IOException exception =
+        assertThrows(
+            IOException.class,
+            () -> new CatalogSnapshotReader(new ByteArrayInputStream(snapshot)).read());
+    assertThat(exception.getMessage(), startsWith("Cannot read catalog snapshot format version"));
+  }
+
+  private List<String> names(final Collection<? extends NamedObject> namedObjects) {
+    final List<String> names = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      names.add(namedObject.getFullName());
+    }
+    names.sort(null);
+    return names;
+  }
 }
@@ -45,7 +45,6 @@ final class NeuteredLinesFilter implements Predicate<String> {
     Pattern.compile(".*[A-Za-z]+ \\d+, 20[12]\\d \\d+:\\d+ [AP]M.*"), // date and time
     Pattern.compile(".*20[12]\\d-\\d\\d-\\d\\d[ T]\\d\\d:\\d\\d.*"), // date and time
     // JSON and YAML output
-    Pattern.compile("- column @uuid: .*"),
     Pattern.compile("\\s+\"?run-id\"?\\s?: .*"),
     Pattern.compile("\\s+\"?crawl-timestamp\"?\\s?: .*"),
     Pattern.compile("\\s+\"?crawl-timestamp-instant\"?\\s?: .*"),
@@ -0,0 +1,126 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InfoLevel;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+/**
+ * Synthetic database, and a catalog crawled from it with maximum schema info level, shared by all
+ * benchmarks that work on a catalog that is already loaded. The number of tables can be set from
+ * the command-line, for example, with <code>-p tables=1000,10000,100000</code>.
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+  @Param({"1000"})
+  public int tables;
+
+  private SyntheticDatabase database;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+  private Catalog catalog;
+  private byte[] serializedCatalog;
+
+  /**
+   * Makes a deep copy of the catalog, for benchmarks that modify it.
+   *
+   * @return Copy of the catalog
+   */
+  public Catalog copyCatalog() {
+    return new JavaSerializedCatalog(new ByteArrayInputStream(serializedCatalog)).getCatalog();
+  }
+
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  public Connection getConnection() {
+    return database.getConnection();
+  }
+
+  public SchemaRetrievalOptions getSchemaRetrievalOptions() {
+    return schemaRetrievalOptions;
+  }
+
+  public byte[] getSerializedCatalog() {
+    return serializedCatalog;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = SyntheticDatabase.create(tables);
+    schemaRetrievalOptions =
+        SchemaCrawlerUtility.matchSchemaRetrievalOptions(database.getConnection());
+    catalog = crawl(database, schemaRetrievalOptions, InfoLevel.maximum);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JavaSerializedCatalog(catalog).save(out);
+    serializedCatalog = out.toByteArray();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    catalog = null;
+    serializedCatalog = null;
+    database.close();
+  }
+
+  static Catalog crawl(
+      final SyntheticDatabase database,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final InfoLevel infoLevel) {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(infoLevel.toSchemaInfoLevel())
+                    .toOptions());
+    return SchemaCrawlerUtility.getCatalog(
+        database.getConnection(), schemaRetrievalOptions, schemaCrawlerOptions, new Config());
+  }
+}
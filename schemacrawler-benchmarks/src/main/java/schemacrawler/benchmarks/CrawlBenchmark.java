@@ -0,0 +1,87 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InfoLevel;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+/** Crawls a synthetic database, at each schema info level. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CrawlBenchmark {
+
+  @Param({"1000"})
+  public int tables;
+
+  @Param({"minimum", "standard", "maximum"})
+  public String infoLevel;
+
+  private SyntheticDatabase database;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+
+  @Benchmark
+  public Catalog crawl() {
+    return CatalogState.crawl(database, schemaRetrievalOptions, InfoLevel.valueOf(infoLevel));
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = SyntheticDatabase.create(tables);
+    schemaRetrievalOptions =
+        SchemaCrawlerUtility.matchSchemaRetrievalOptions(database.getConnection());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    database.close();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+/**
+ * Renders a catalog as text, and as a Graphviz DOT diagram description. The DOT output is not
+ * converted to an image, so Graphviz does not need to be installed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class RenderBenchmark {
+
+  @Benchmark
+  public int dot(final CatalogState state) {
+    return render(state, "scdot");
+  }
+
+  @Benchmark
+  public int text(final CatalogState state) {
+    return render(state, "text");
+  }
+
+  private int render(final CatalogState state, final String outputFormatValue) {
+    final StringWriter writer = new StringWriter();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("schema");
+    executable.setCatalog(state.getCatalog());
+    executable.setConnection(state.getConnection());
+    executable.setSchemaRetrievalOptions(state.getSchemaRetrievalOptions());
+    executable.setOutputOptions(
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(outputFormatValue)
+            .withOutputWriter(writer)
+            .toOptions());
+    executable.execute();
+
+    return writer.getBuffer().length();
+  }
+}
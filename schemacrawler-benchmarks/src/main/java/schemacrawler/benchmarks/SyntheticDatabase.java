@@ -0,0 +1,174 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory HyperSQL database with a generated schema of a given size, for benchmarks. Tables are
+ * spread across schemas of up to a thousand tables each. Every table has a primary key, an index, a
+ * foreign key to a parent table in the same schema, and a column that is only a weak association to
+ * the previous table. Every tenth table also has a view over it.
+ */
+public final class SyntheticDatabase implements AutoCloseable {
+
+  private static final int TABLES_PER_SCHEMA = 1_000;
+  private static final int TABLES_PER_VIEW = 10;
+
+  private static final AtomicInteger databaseCount = new AtomicInteger();
+
+  /**
+   * Creates and populates an in-memory database.
+   *
+   * @param tableCount Number of tables to generate
+   * @return Database with generated tables
+   * @throws SQLException On an exception creating the database
+   */
+  public static SyntheticDatabase create(final int tableCount) throws SQLException {
+    if (tableCount <= 0) {
+      throw new IllegalArgumentException("Number of tables needs to be positive");
+    }
+    final String url =
+        String.format("jdbc:hsqldb:mem:benchmarks%d", databaseCount.incrementAndGet());
+    final SyntheticDatabase database = new SyntheticDatabase(url, tableCount);
+    database.createSchemas();
+    return database;
+  }
+
+  private static String tableName(final int tableIndex) {
+    return String.format("T%06d", tableIndex);
+  }
+
+  private final String url;
+  private final int tableCount;
+  private final Connection connection;
+
+  private SyntheticDatabase(final String url, final int tableCount) throws SQLException {
+    this.url = requireNonNull(url, "No database URL provided");
+    this.tableCount = tableCount;
+    connection = newConnection();
+  }
+
+  /** Shuts down the database, and releases all memory used by it. */
+  @Override
+  public void close() throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    } finally {
+      connection.close();
+    }
+  }
+
+  public Connection getConnection() {
+    return connection;
+  }
+
+  public int getTableCount() {
+    return tableCount;
+  }
+
+  /**
+   * Opens another connection to the same database.
+   *
+   * @return New connection
+   * @throws SQLException On an exception connecting
+   */
+  public Connection newConnection() throws SQLException {
+    return DriverManager.getConnection(url, "SA", "");
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s with %d tables", url, tableCount);
+  }
+
+  private void createSchemas() throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      for (int schemaStart = 0; schemaStart < tableCount; schemaStart += TABLES_PER_SCHEMA) {
+        final int schemaEnd = Math.min(schemaStart + TABLES_PER_SCHEMA, tableCount);
+        final String schemaName = String.format("S%03d", schemaStart / TABLES_PER_SCHEMA);
+
+        statement.addBatch(String.format("CREATE SCHEMA %s", schemaName));
+        for (int tableIndex = schemaStart; tableIndex < schemaEnd; tableIndex++) {
+          addTable(statement, schemaName, schemaStart, tableIndex);
+        }
+        statement.executeBatch();
+      }
+    }
+  }
+
+  private void addTable(
+      final Statement statement,
+      final String schemaName,
+      final int schemaStart,
+      final int tableIndex)
+      throws SQLException {
+    final String tableName = tableName(tableIndex);
+    final String qualifiedTableName = schemaName + "." + tableName;
+
+    final StringBuilder ddl = new StringBuilder(512);
+    ddl.append(String.format("CREATE TABLE %s (", qualifiedTableName))
+        .append("ID INTEGER NOT NULL, ")
+        .append("NAME VARCHAR(100) NOT NULL, ")
+        .append("DESCRIPTION VARCHAR(1000), ")
+        .append("CREATED_AT TIMESTAMP, ")
+        .append("PARENT_ID INTEGER");
+    if (tableIndex > schemaStart) {
+      // Weak association to the previous table, found by column name
+      ddl.append(String.format(", %s_ID INTEGER", tableName(tableIndex - 1)));
+    }
+    ddl.append(String.format(", CONSTRAINT PK_%s PRIMARY KEY (ID)", tableName));
+    if (tableIndex > schemaStart) {
+      // Foreign key to a parent table, so that tables form a tree within each schema
+      final int parentIndex = schemaStart + (tableIndex - schemaStart - 1) / 2;
+      ddl.append(
+          String.format(
+              ", CONSTRAINT FK_%s_PARENT FOREIGN KEY (PARENT_ID) REFERENCES %s.%s (ID)",
+              tableName, schemaName, tableName(parentIndex)));
+    }
+    ddl.append(")");
+    statement.addBatch(ddl.toString());
+
+    statement.addBatch(
+        String.format("CREATE INDEX IDX_%s_NAME ON %s (NAME)", tableName, qualifiedTableName));
+
+    if (tableIndex % TABLES_PER_VIEW == 0) {
+      statement.addBatch(
+          String.format(
+              "CREATE VIEW %s.V%s AS SELECT ID, NAME, CREATED_AT FROM %s",
+              schemaName, tableName, qualifiedTableName));
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package schemacrawler.benchmarks.jmh_generated;
+public class CatalogState_jmhType extends CatalogState_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package schemacrawler.benchmarks.jmh_generated;
+public class CrawlBenchmark_jmhType extends CrawlBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package schemacrawler.benchmarks.jmh_generated;
+public class LintBenchmark_jmhType extends LintBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package schemacrawler.benchmarks.jmh_generated;
+public class ReduceBenchmark_jmhType extends ReduceBenchmark_jmhType_B3 {
+}
+
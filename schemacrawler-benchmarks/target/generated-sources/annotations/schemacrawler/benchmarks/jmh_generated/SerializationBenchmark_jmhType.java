@@ -0,0 +1,4 @@
+package schemacrawler.benchmarks.jmh_generated;
+public class SerializationBenchmark_jmhType extends SerializationBenchmark_jmhType_B3 {
+}
+
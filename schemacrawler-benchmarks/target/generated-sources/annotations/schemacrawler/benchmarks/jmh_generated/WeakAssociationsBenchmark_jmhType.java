@@ -0,0 +1,4 @@
+package schemacrawler.benchmarks.jmh_generated;
+public class WeakAssociationsBenchmark_jmhType extends WeakAssociationsBenchmark_jmhType_B3 {
+}
+
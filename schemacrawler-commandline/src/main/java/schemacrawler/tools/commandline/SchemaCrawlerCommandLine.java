@@ -52,6 +52,7 @@ public final class SchemaCrawlerCommandLine {
   public static void execute(final String[] args) {
 
     final ShellState state = new ShellState();
+    boolean isSuccessful = false;
     try {
       requireNonNull(args, "No arguments provided");
 
@@ -65,6 +66,7 @@ public final class SchemaCrawlerCommandLine {
       commandLine.parseArgs(args);
 
       executeCommandLine(commandLine);
+      isSuccessful = true;
     } catch (final Throwable throwable) {
       logSafeArguments(args, state);
       logFatalStackTrace(throwable);
@@ -82,7 +84,11 @@ public final class SchemaCrawlerCommandLine {
       }
 
       printCommandLineErrorMessage(errorMessage, state);
+    } finally {
+      state.disconnect();
+    }
 
+    if (!isSuccessful) {
       System.exit(1);
     }
   }
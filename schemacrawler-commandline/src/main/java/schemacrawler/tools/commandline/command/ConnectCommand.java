@@ -52,6 +52,7 @@ import schemacrawler.tools.commandline.utility.SchemaRetrievalOptionsConfig;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionOptions;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
+import schemacrawler.tools.databaseconnector.PooledConnectionSource;
 import schemacrawler.tools.databaseconnector.UserCredentials;
 import schemacrawler.tools.options.Config;
 import us.fatehi.utility.string.StringFormat;
@@ -144,7 +145,12 @@ public class ConnectCommand extends BaseStateHolder implements Runnable {
         databaseConnector.newDatabaseConnectionSource(connectionOptions);
     databaseConnectionSource.setUserCredentials(userCredentials);
 
-    state.setDataSource(databaseConnectionSource);
+    // Close pooled connections from an earlier connect
+    if (state.getDataSource() instanceof AutoCloseable) {
+      state.disconnect();
+    }
+    // Reuse connections across commands, rather than reconnecting every time
+    state.setDataSource(new PooledConnectionSource(databaseConnectionSource));
   }
 
   private UserCredentials getUserCredentials() {
@@ -63,6 +63,16 @@ public class ShellState {
     if (dataSource == null) {
       return;
     }
+    if (dataSource instanceof AutoCloseable) {
+      try {
+        LOGGER.log(Level.INFO, new StringFormat("Closing data source <%s>", dataSource));
+        ((AutoCloseable) dataSource).close();
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, "Cannot close data source", e);
+      }
+      dataSource = null;
+      return;
+    }
     try (final Connection connection = dataSource.get(); ) {
       LOGGER.log(Level.INFO, new StringFormat("Closing connection <%s>", connection));
       dataSource = null;
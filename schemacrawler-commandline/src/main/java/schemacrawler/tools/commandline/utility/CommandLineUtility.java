@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.sql.Connection;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -102,9 +103,9 @@ public class CommandLineUtility {
             JvmSystemInfo.jvmSystemInfo());
 
     if (state != null && state.isConnected()) {
-      try {
+      try (final Connection dataSourceConnection = state.getDataSource().get()) {
         final ConnectionInfo connectionInfo =
-            ConnectionInfoBuilder.builder(state.getDataSource().get()).build();
+            ConnectionInfoBuilder.builder(dataSourceConnection).build();
         final ProductVersion databaseInfo =
             new BaseProductVersion(
                 connectionInfo.getDatabaseProductName(),
@@ -0,0 +1,116 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.catalogdiff;
+
+import static java.util.Objects.requireNonNull;
+
+import schemacrawler.schema.NamedObjectKey;
+
+/**
+ * A single difference between a baseline catalog and a target catalog. An added or removed object
+ * is reported as one change, without changes for its dependent objects. A changed object is
+ * reported as one change for each property that differs.
+ */
+public final class CatalogChange {
+
+  public enum ChangeType {
+    ADDED,
+    REMOVED,
+    CHANGED;
+  }
+
+  private final ChangeType changeType;
+  private final String objectType;
+  private final NamedObjectKey key;
+  private final String fullName;
+  private final String property;
+  private final Object baselineValue;
+  private final Object targetValue;
+
+  CatalogChange(
+      final ChangeType changeType,
+      final String objectType,
+      final NamedObjectKey key,
+      final String fullName,
+      final String property,
+      final Object baselineValue,
+      final Object targetValue) {
+    this.changeType = requireNonNull(changeType, "No change type provided");
+    this.objectType = requireNonNull(objectType, "No object type provided");
+    this.key = requireNonNull(key, "No object key provided");
+    this.fullName = requireNonNull(fullName, "No object name provided");
+    this.property = property;
+    this.baselineValue = baselineValue;
+    this.targetValue = targetValue;
+  }
+
+  /**
+   * Value of the changed property in the baseline catalog, or null for added and removed objects.
+   */
+  public Object getBaselineValue() {
+    return baselineValue;
+  }
+
+  public ChangeType getChangeType() {
+    return changeType;
+  }
+
+  public String getFullName() {
+    return fullName;
+  }
+
+  public NamedObjectKey getKey() {
+    return key;
+  }
+
+  /** Type of the changed object, such as "table" or "column". */
+  public String getObjectType() {
+    return objectType;
+  }
+
+  /** Name of the changed property, or null for added and removed objects. */
+  public String getProperty() {
+    return property;
+  }
+
+  /** Value of the changed property in the target catalog, or null for added and removed objects. */
+  public Object getTargetValue() {
+    return targetValue;
+  }
+
+  @Override
+  public String toString() {
+    if (changeType == ChangeType.CHANGED) {
+      return String.format(
+          "%s %s %s [%s] %s -> %s",
+          changeType, objectType, fullName, property, baselineValue, targetValue);
+    } else {
+      return String.format("%s %s %s", changeType, objectType, fullName);
+    }
+  }
+}
@@ -0,0 +1,283 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.catalogdiff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.integration.catalogdiff.CatalogChange.ChangeType;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+/**
+ * Compares a baseline catalog with a target catalog. Schemas, tables, columns, indexes, foreign
+ * keys, routines, routine parameters, sequences and synonyms are matched by their keys, and matched
+ * objects are compared by their typed properties. Schemas are compared in parallel, a batch of
+ * schemas at a time, and the changes for each batch are passed on in schema order before the next
+ * batch is compared, so only the changes for one batch of schemas are held in memory.
+ */
+public final class CatalogDiff {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogDiff.class.getName());
+
+  private final Catalog baseline;
+  private final Catalog target;
+  private final int maxThreads;
+
+  public CatalogDiff(final Catalog baseline, final Catalog target) {
+    this(baseline, target, 1);
+  }
+
+  public CatalogDiff(final Catalog baseline, final Catalog target, final int maxThreads) {
+    this.baseline = requireNonNull(baseline, "No baseline catalog provided");
+    this.target = requireNonNull(target, "No target catalog provided");
+    this.maxThreads = Math.max(1, maxThreads);
+  }
+
+  /**
+   * Compares the catalogs, and passes on changes in a deterministic order, however many threads are
+   * used.
+   *
+   * @param changes Receives each change, always on the calling thread
+   */
+  public void diff(final Consumer<CatalogChange> changes) {
+    requireNonNull(changes, "No change consumer provided");
+
+    final Map<NamedObjectKey, Schema> baselineSchemas = keyed(baseline.getSchemas());
+    final Map<NamedObjectKey, Schema> targetSchemas = keyed(target.getSchemas());
+
+    final List<Schema[]> schemaPairs = new ArrayList<>();
+    for (final Entry<NamedObjectKey, Schema> entry : baselineSchemas.entrySet()) {
+      final Schema targetSchema = targetSchemas.get(entry.getKey());
+      if (targetSchema == null) {
+        changes.accept(removed("schema", entry.getValue()));
+      } else {
+        schemaPairs.add(new Schema[] {entry.getValue(), targetSchema});
+      }
+    }
+    for (final Entry<NamedObjectKey, Schema> entry : targetSchemas.entrySet()) {
+      if (!baselineSchemas.containsKey(entry.getKey())) {
+        changes.accept(added("schema", entry.getValue()));
+      }
+    }
+
+    final TaskRunner taskRunner = TaskRunners.getConcurrentTaskRunner("catalogDiff", maxThreads);
+    try {
+      for (int start = 0; start < schemaPairs.size(); start = start + maxThreads) {
+        final List<Schema[]> batch =
+            schemaPairs.subList(start, Math.min(schemaPairs.size(), start + maxThreads));
+        final List<List<CatalogChange>> batchChanges = new ArrayList<>();
+        final List<TaskDefinition> tasks = new ArrayList<>();
+        for (final Schema[] schemaPair : batch) {
+          final List<CatalogChange> schemaChanges = new ArrayList<>();
+          batchChanges.add(schemaChanges);
+          tasks.add(
+              new TaskDefinition(
+                  "diffSchema" + (start + tasks.size()),
+                  () -> diffSchema(schemaPair[0], schemaPair[1], schemaChanges::add)));
+        }
+        taskRunner.run(tasks.toArray(new TaskDefinition[0]));
+
+        for (final List<CatalogChange> schemaChanges : batchChanges) {
+          schemaChanges.forEach(changes);
+        }
+      }
+      taskRunner.stop();
+      LOGGER.log(Level.INFO, taskRunner.report());
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Could not compare catalogs", e);
+    }
+  }
+
+  private CatalogChange added(final String objectType, final NamedObject namedObject) {
+    return new CatalogChange(
+        ChangeType.ADDED,
+        objectType,
+        namedObject.key(),
+        namedObject.getFullName(),
+        null,
+        null,
+        null);
+  }
+
+  private <N extends NamedObject> void diffObjects(
+      final String objectType,
+      final Collection<N> baselineObjects,
+      final Collection<N> targetObjects,
+      final Function<N, Map<String, Object>> properties,
+      final BiConsumer<N, N> dependents,
+      final Consumer<CatalogChange> changes) {
+    final Map<NamedObjectKey, N> baselineMap = keyed(baselineObjects);
+    final Map<NamedObjectKey, N> targetMap = keyed(targetObjects);
+
+    for (final Entry<NamedObjectKey, N> entry : baselineMap.entrySet()) {
+      final N baselineObject = entry.getValue();
+      final N targetObject = targetMap.get(entry.getKey());
+      if (targetObject == null) {
+        changes.accept(removed(objectType, baselineObject));
+        continue;
+      }
+      final Map<String, Object> baselineProperties = properties.apply(baselineObject);
+      final Map<String, Object> targetProperties = properties.apply(targetObject);
+      for (final Entry<String, Object> property : baselineProperties.entrySet()) {
+        final Object baselineValue = property.getValue();
+        final Object targetValue = targetProperties.get(property.getKey());
+        if (!Objects.equals(baselineValue, targetValue)) {
+          changes.accept(
+              new CatalogChange(
+                  ChangeType.CHANGED,
+                  objectType,
+                  targetObject.key(),
+                  targetObject.getFullName(),
+                  property.getKey(),
+                  baselineValue,
+                  targetValue));
+        }
+      }
+
+      if (dependents != null) {
+        dependents.accept(baselineObject, targetObject);
+      }
+    }
+    for (final Entry<NamedObjectKey, N> entry : targetMap.entrySet()) {
+      if (!baselineMap.containsKey(entry.getKey())) {
+        changes.accept(added(objectType, entry.getValue()));
+      }
+    }
+  }
+
+  private void diffSchema(
+      final Schema baselineSchema,
+      final Schema targetSchema,
+      final Consumer<CatalogChange> changes) {
+    diffObjects(
+        "table",
+        baseline.getTables(baselineSchema),
+        target.getTables(targetSchema),
+        ObjectProperties::tableProperties,
+        (baselineTable, targetTable) -> diffTable(baselineTable, targetTable, changes),
+        changes);
+    diffObjects(
+        "routine",
+        baseline.getRoutines(baselineSchema),
+        target.getRoutines(targetSchema),
+        ObjectProperties::routineProperties,
+        (baselineRoutine, targetRoutine) ->
+            diffObjects(
+                "parameter",
+                parameters(baselineRoutine),
+                parameters(targetRoutine),
+                ObjectProperties::parameterProperties,
+                null,
+                changes),
+        changes);
+    diffObjects(
+        "sequence",
+        baseline.getSequences(baselineSchema),
+        target.getSequences(targetSchema),
+        ObjectProperties::sequenceProperties,
+        null,
+        changes);
+    diffObjects(
+        "synonym",
+        baseline.getSynonyms(baselineSchema),
+        target.getSynonyms(targetSchema),
+        ObjectProperties::synonymProperties,
+        null,
+        changes);
+  }
+
+  private void diffTable(
+      final Table baselineTable, final Table targetTable, final Consumer<CatalogChange> changes) {
+    diffObjects(
+        "column",
+        baselineTable.getColumns(),
+        targetTable.getColumns(),
+        ObjectProperties::columnProperties,
+        null,
+        changes);
+    diffObjects(
+        "index",
+        baselineTable.getIndexes(),
+        targetTable.getIndexes(),
+        ObjectProperties::indexProperties,
+        null,
+        changes);
+    diffObjects(
+        "foreign-key",
+        baselineTable.getImportedForeignKeys(),
+        targetTable.getImportedForeignKeys(),
+        ObjectProperties::foreignKeyProperties,
+        null,
+        changes);
+  }
+
+  private <N extends NamedObject> Map<NamedObjectKey, N> keyed(final Collection<N> namedObjects) {
+    final Map<NamedObjectKey, N> keyed = new LinkedHashMap<>();
+    for (final N namedObject : namedObjects) {
+      keyed.putIfAbsent(namedObject.key(), namedObject);
+    }
+    return keyed;
+  }
+
+  private List<RoutineParameter<?>> parameters(final Routine routine) {
+    return new ArrayList<>(routine.getParameters());
+  }
+
+  private CatalogChange removed(final String objectType, final NamedObject namedObject) {
+    return new CatalogChange(
+        ChangeType.REMOVED,
+        objectType,
+        namedObject.key(),
+        namedObject.getFullName(),
+        null,
+        null,
+        null);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.catalogdiff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+
+/**
+ * Writes catalog changes as a JSON array, one object for each change, as they are found. Changes
+ * are not held in memory, so the array is only complete once the change writer is closed.
+ */
+public final class JsonCatalogChangeWriter implements Consumer<CatalogChange>, AutoCloseable {
+
+  private final JsonGenerator generator;
+
+  /**
+   * Writes catalog changes as JSON.
+   *
+   * @param writer Output, which is closed when the change writer is closed
+   */
+  public JsonCatalogChangeWriter(final Writer writer) {
+    requireNonNull(writer, "No writer provided");
+    try {
+      generator = new JsonFactory().createGenerator(writer);
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartArray();
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not write catalog changes", e);
+    }
+  }
+
+  @Override
+  public void accept(final CatalogChange change) {
+    try {
+      generator.writeStartObject();
+      generator.writeStringField("change", change.getChangeType().name());
+      generator.writeStringField("object-type", change.getObjectType());
+      generator.writeStringField("full-name", change.getFullName());
+      if (change.getProperty() != null) {
+        generator.writeStringField("property", change.getProperty());
+        generator.writeFieldName("baseline");
+        writeValue(change.getBaselineValue());
+        generator.writeFieldName("target");
+        writeValue(change.getTargetValue());
+      }
+      generator.writeEndObject();
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not write catalog change", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    generator.writeEndArray();
+    generator.close();
+  }
+
+  private void writeValue(final Object value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer || value instanceof Long) {
+      generator.writeNumber(((Number) value).longValue());
+    } else if (value instanceof Collection) {
+      generator.writeStartArray();
+      for (final Object element : (Collection<?>) value) {
+        writeValue(element);
+      }
+      generator.writeEndArray();
+    } else {
+      generator.writeString(String.valueOf(value));
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.catalogdiff;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintColumn;
+
+/**
+ * Typed properties of schema objects that are compared by the catalog diff, in the order that they
+ * are reported. Dependent objects, such as columns of a table, are not properties, since they are
+ * matched and compared on their own.
+ */
+final class ObjectProperties {
+
+  static Map<String, Object> columnProperties(final Column column) {
+    final Map<String, Object> properties = baseColumnProperties(column);
+    properties.put("nullable", column.isNullable());
+    properties.put("defaultValue", column.getDefaultValue());
+    properties.put("autoIncremented", column.isAutoIncremented());
+    properties.put("generated", column.isGenerated());
+    properties.put("hidden", column.isHidden());
+    properties.put("ordinalPosition", column.getOrdinalPosition());
+    properties.put("remarks", column.getRemarks());
+    return properties;
+  }
+
+  static Map<String, Object> foreignKeyProperties(final ForeignKey foreignKey) {
+    final List<String> columnReferences = new ArrayList<>();
+    for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+      columnReferences.add(
+          columnReference.getForeignKeyColumn().getFullName()
+              + " --> "
+              + columnReference.getPrimaryKeyColumn().getFullName());
+    }
+
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("columnReferences", columnReferences);
+    properties.put("updateRule", foreignKey.getUpdateRule());
+    properties.put("deleteRule", foreignKey.getDeleteRule());
+    properties.put("deferrability", foreignKey.getDeferrability());
+    return properties;
+  }
+
+  static Map<String, Object> indexProperties(final Index index) {
+    final List<String> columns = new ArrayList<>();
+    final List<Object> sortSequences = new ArrayList<>();
+    for (final IndexColumn indexColumn : index.getColumns()) {
+      columns.add(indexColumn.getName());
+      sortSequences.add(indexColumn.getSortSequence());
+    }
+
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("unique", index.isUnique());
+    properties.put("indexType", index.getIndexType());
+    properties.put("columns", columns);
+    properties.put("sortSequences", sortSequences);
+    properties.put("remarks", index.getRemarks());
+    return properties;
+  }
+
+  static Map<String, Object> parameterProperties(final RoutineParameter<?> parameter) {
+    final Map<String, Object> properties = baseColumnProperties(parameter);
+    properties.put("parameterMode", parameter.getParameterMode());
+    properties.put("ordinalPosition", parameter.getOrdinalPosition());
+    return properties;
+  }
+
+  static Map<String, Object> routineProperties(final Routine routine) {
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("routineType", routine.getRoutineType());
+    properties.put("returnType", routine.getReturnType());
+    properties.put("definition", routine.getDefinition());
+    properties.put("remarks", routine.getRemarks());
+    return properties;
+  }
+
+  static Map<String, Object> sequenceProperties(final Sequence sequence) {
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("increment", sequence.getIncrement());
+    properties.put("minimumValue", sequence.getMinimumValue());
+    properties.put("maximumValue", sequence.getMaximumValue());
+    properties.put("startValue", sequence.getStartValue());
+    properties.put("cycle", sequence.isCycle());
+    properties.put("remarks", sequence.getRemarks());
+    return properties;
+  }
+
+  static Map<String, Object> synonymProperties(final Synonym synonym) {
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    properties.put(
+        "referencedObject", referencedObject == null ? null : referencedObject.getFullName());
+    properties.put("remarks", synonym.getRemarks());
+    return properties;
+  }
+
+  static Map<String, Object> tableProperties(final Table table) {
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("tableType", table.getTableType());
+    properties.put("primaryKey", primaryKeyColumns(table));
+    properties.put("definition", table.getDefinition());
+    properties.put("remarks", table.getRemarks());
+    return properties;
+  }
+
+  private static Map<String, Object> baseColumnProperties(final BaseColumn<?> column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("columnDataType", columnDataType == null ? null : columnDataType.getName());
+    properties.put("size", column.getSize());
+    properties.put("decimalDigits", column.getDecimalDigits());
+    return properties;
+  }
+
+  private static List<String> primaryKeyColumns(final Table table) {
+    final List<String> columns = new ArrayList<>();
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null) {
+      for (final TableConstraintColumn column : primaryKey.getConstrainedColumns()) {
+        columns.add(column.getName());
+      }
+    }
+    return columns;
+  }
+
+  private ObjectProperties() {
+    // Prevent instantiation
+  }
+}
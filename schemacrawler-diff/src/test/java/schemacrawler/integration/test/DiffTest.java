@@ -57,6 +57,8 @@ import schemacrawler.test.utility.TestUtility;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.integration.catalogdiff.CatalogDiff;
+import schemacrawler.tools.integration.catalogdiff.TextCatalogChangeWriter;
 import schemacrawler.tools.integration.objectdiffer.SchemaCrawlerDifferBuilder;
 import schemacrawler.tools.sqlite.EmbeddedSQLiteWrapper;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
@@ -97,6 +99,20 @@ public class DiffTest {
     assertThat(outputOf(testout), hasSameContentAs(classpathResource(currentMethodFullName)));
   }
 
+  @Test
+  public void diffCatalogByKey(final TestContext testContext) throws Exception {
+    final Catalog catalog1 = getCatalog("/test1.db");
+    final Catalog catalog2 = getCatalog("/test2.db");
+
+    final String currentMethodFullName = testContext.testMethodFullName();
+
+    final TestWriter testout = new TestWriter();
+    try (final TextCatalogChangeWriter out = new TextCatalogChangeWriter(testout)) {
+      new CatalogDiff(catalog1, catalog2, 2).diff(out);
+    }
+    assertThat(outputOf(testout), hasSameContentAs(classpathResource(currentMethodFullName)));
+  }
+
   @Test
   public void printSchema1(final TestContext testContext) throws Exception {
     printSchema(testContext, "/test1.db");
@@ -0,0 +1,12 @@
+SELECT
+  TABLE_CATALOG,
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  CARDINALITY AS ROW_COUNT
+FROM
+  INFORMATION_SCHEMA.SYSTEM_TABLESTATS
+WHERE
+  TABLE_SCHEMA NOT IN ('INFORMATION_SCHEMA', 'SYSTEM_LOBS')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,23 @@
+SELECT
+  PKTABLE_CAT,
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  PKCOLUMN_NAME,
+  FKTABLE_CAT,
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FKCOLUMN_NAME,
+  KEY_SEQ,
+  UPDATE_RULE,
+  DELETE_RULE,
+  FK_NAME,
+  PK_NAME,
+  DEFERRABILITY
+FROM
+  INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE
+ORDER BY
+  FKTABLE_CAT,
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
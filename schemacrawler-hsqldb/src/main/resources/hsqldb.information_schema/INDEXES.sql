@@ -0,0 +1,25 @@
+SELECT
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  INDEX_QUALIFIER,
+  INDEX_NAME,
+  TYPE,
+  ORDINAL_POSITION,
+  COLUMN_NAME,
+  ASC_OR_DESC,
+  CARDINALITY,
+  PAGES,
+  FILTER_CONDITION,
+  ROW_CARDINALITY
+FROM
+  INFORMATION_SCHEMA.SYSTEM_INDEXINFO
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  TYPE,
+  INDEX_NAME,
+  ORDINAL_POSITION
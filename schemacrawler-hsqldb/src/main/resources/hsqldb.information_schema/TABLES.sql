@@ -0,0 +1,20 @@
+SELECT
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  TABLE_TYPE,
+  REMARKS,
+  TYPE_CAT,
+  TYPE_SCHEM,
+  TYPE_NAME,
+  SELF_REFERENCING_COL_NAME,
+  REF_GENERATION,
+  HSQLDB_TYPE,
+  READ_ONLY,
+  COMMIT_ACTION
+FROM
+  INFORMATION_SCHEMA.SYSTEM_TABLES
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME
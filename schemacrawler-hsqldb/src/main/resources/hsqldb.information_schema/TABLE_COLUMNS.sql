@@ -0,0 +1,32 @@
+SELECT
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  DATA_TYPE,
+  TYPE_NAME,
+  COLUMN_SIZE,
+  BUFFER_LENGTH,
+  DECIMAL_DIGITS,
+  NUM_PREC_RADIX,
+  NULLABLE,
+  REMARKS,
+  COLUMN_DEF,
+  SQL_DATA_TYPE,
+  SQL_DATETIME_SUB,
+  CHAR_OCTET_LENGTH,
+  ORDINAL_POSITION,
+  IS_NULLABLE,
+  SCOPE_CATALOG,
+  SCOPE_SCHEMA,
+  SCOPE_TABLE,
+  SOURCE_DATA_TYPE,
+  IS_AUTOINCREMENT,
+  IS_GENERATEDCOLUMN
+FROM
+  INFORMATION_SCHEMA.SYSTEM_COLUMNS
+ORDER BY
+  TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -69,7 +69,8 @@ public class LintCommand extends BaseSchemaCrawlerCommand<LintOptions> {
     final LinterConfigs linterConfigs = readLinterConfigs(commandOptions);
     LOGGER.log(Level.FINEST, new ObjectToStringFormat(linterConfigs));
     final Linters linters = new Linters(linterConfigs, commandOptions.isRunAllLinters());
-    linters.lint(catalog, connection);
+    linters.setDataSource(dataSource);
+    linters.lint(catalog, connection, commandOptions.getLintThreads());
 
     // Produce the lint report
     final LintReport lintReport =
@@ -71,6 +71,13 @@ public class LintCommandProvider extends BaseCommandProvider {
             "Specifies how to fail if a linter threshold is exceeded%n"
                 + "Optional, defaults to none%n"
                 + "Corresponds to the configuration file setting: schemacrawler.lint.lintdispatch")
+        .addOption(
+            "lint-threads",
+            Integer.class,
+            "Maximum number of threads to lint tables in parallel, "
+                + "with linters that are thread-safe%n"
+                + "Optional, defaults to the number of available processors%n"
+                + "Corresponds to the configuration file setting: schemacrawler.lint.lint-threads")
         .addOption(
             "run-all-linters",
             boolean.class,
@@ -37,6 +37,7 @@ public class LintOptions extends BaseTextOptions {
 
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
+  private final int lintThreads;
   private final boolean runAllLinters;
   private final Config config;
 
@@ -44,6 +45,7 @@ public class LintOptions extends BaseTextOptions {
     super(builder);
     linterConfigs = builder.linterConfigs;
     lintDispatch = requireNonNull(builder.lintDispatch, "No dispatch provided");
+    lintThreads = builder.lintThreads;
     runAllLinters = builder.runAllLinters;
     requireNonNull(builder.config, "No properties provided");
     this.config = new Config(builder.config);
@@ -67,6 +69,15 @@ public class LintOptions extends BaseTextOptions {
     return lintDispatch;
   }
 
+  /**
+   * Gets the maximum number of threads to lint tables in parallel, with thread-safe linters.
+   *
+   * @return Maximum number of threads to lint tables.
+   */
+  public int getLintThreads() {
+    return lintThreads;
+  }
+
   /**
    * Gets the path to the linter configs file.
    *
@@ -39,10 +39,12 @@ public final class LintOptionsBuilder
 
   private static final String CLI_LINTER_CONFIGS = "linter-configs";
   private static final String CLI_LINT_DISPATCH = "lint-dispatch";
+  private static final String CLI_LINT_THREADS = "lint-threads";
   private static final String CLI_RUN_ALL_LINTERS = "run-all-linters";
   private static final String SCHEMACRAWLER_LINT_PREFIX = "schemacrawler.lint.";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINTER_CONFIGS;
   private static final String LINT_DISPATCH = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
+  private static final String LINT_THREADS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_THREADS;
   private static final String RUN_ALL_LINTERS = SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
 
   public static LintOptionsBuilder builder() {
@@ -54,6 +56,7 @@ public final class LintOptionsBuilder
   }
 
   LintDispatch lintDispatch;
+  int lintThreads;
   String linterConfigs;
   boolean runAllLinters;
   Config config;
@@ -61,6 +64,7 @@ public final class LintOptionsBuilder
   private LintOptionsBuilder() {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
+    lintThreads = defaultLintThreads();
     runAllLinters = true;
     config = new Config();
   }
@@ -92,6 +96,16 @@ public final class LintOptionsBuilder
     }
     lintDispatch = config.getEnumValue(lintDispatchKey, LintDispatch.none);
 
+    final String lintThreadsKey;
+    if (config.containsKey(CLI_LINT_THREADS)) {
+      // Honor command-line option first
+      lintThreadsKey = CLI_LINT_THREADS;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      lintThreadsKey = LINT_THREADS;
+    }
+    withLintThreads(config.getIntegerValue(lintThreadsKey, defaultLintThreads()));
+
     final String runAllLintersKey;
     if (config.containsKey(CLI_RUN_ALL_LINTERS)) {
       // Honor command-line option first
@@ -117,6 +131,7 @@ public final class LintOptionsBuilder
 
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
+    lintThreads = options.getLintThreads();
     runAllLinters = options.isRunAllLinters();
 
     return this;
@@ -134,6 +149,7 @@ public final class LintOptionsBuilder
     final Config config = super.toConfig();
     config.put(LINTER_CONFIGS, linterConfigs);
     config.put(LINT_DISPATCH, lintDispatch);
+    config.put(LINT_THREADS, lintThreads);
     config.put(RUN_ALL_LINTERS, runAllLinters);
     // Lint report output format is not written to the config
     return config;
@@ -154,6 +170,16 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /** With the maximum number of threads to lint tables in parallel. */
+  public LintOptionsBuilder withLintThreads(final int lintThreads) {
+    if (lintThreads < 1) {
+      this.lintThreads = 1;
+    } else {
+      this.lintThreads = lintThreads;
+    }
+    return this;
+  }
+
   /** With the name of a linter configs file. */
   public LintOptionsBuilder withLinterConfigs(final String linterConfigs) {
     this.linterConfigs = trimToEmpty(linterConfigs);
@@ -167,4 +193,8 @@ public final class LintOptionsBuilder
     }
     return this;
   }
+
+  private int defaultLintThreads() {
+    return Runtime.getRuntime().availableProcessors();
+  }
 }
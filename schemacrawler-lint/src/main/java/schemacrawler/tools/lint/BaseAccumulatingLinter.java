@@ -0,0 +1,137 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import schemacrawler.schema.Table;
+
+/**
+ * Evaluates a catalog by accumulating state over all the tables, and creates lints once all the
+ * tables have been seen. State is accumulated separately for each partition of tables, so that
+ * partitions can be linted in parallel. The accumulated state of the partitions is merged in the
+ * order of the partitions, so that lints are the same however the tables were partitioned.
+ *
+ * @param <A> Type of the accumulated state
+ */
+public abstract class BaseAccumulatingLinter<A> extends BaseLinter {
+
+  private final Map<Integer, A> accumulators;
+  private final ThreadLocal<A> accumulator;
+
+  protected BaseAccumulatingLinter() {
+    accumulators = new TreeMap<>();
+    accumulator = new ThreadLocal<>();
+  }
+
+  /**
+   * Accumulates state for a table in a partition.
+   *
+   * @param accumulator Accumulated state for the partition
+   * @param table Table to accumulate
+   */
+  protected abstract void accumulate(A accumulator, Table table);
+
+  /**
+   * Creates lints from the state accumulated over all the tables.
+   *
+   * @param accumulator Merged state for all the partitions
+   * @param connection Live database connection
+   */
+  protected abstract void end(A accumulator, Connection connection);
+
+  @Override
+  protected final void end(final Connection connection) {
+    A merged = null;
+    synchronized (accumulators) {
+      for (final A partitionAccumulator : accumulators.values()) {
+        if (merged == null) {
+          merged = partitionAccumulator;
+        } else {
+          merged = merge(merged, partitionAccumulator);
+        }
+      }
+      accumulators.clear();
+    }
+    if (merged == null) {
+      merged = newAccumulator();
+    }
+
+    end(merged, connection);
+  }
+
+  @Override
+  protected final boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  protected final void lint(final Table table, final Connection connection) {
+    requireNonNull(table, "No table provided");
+    final A partitionAccumulator = accumulator.get();
+    requireNonNull(partitionAccumulator, "Not initialized");
+
+    accumulate(partitionAccumulator, table);
+  }
+
+  /**
+   * Merges state accumulated for a later partition into the state accumulated for the earlier
+   * partitions.
+   *
+   * @param accumulator State accumulated for the earlier partitions
+   * @param partitionAccumulator State accumulated for the next partition
+   * @return Merged state
+   */
+  protected abstract A merge(A accumulator, A partitionAccumulator);
+
+  /**
+   * Creates empty state for a partition.
+   *
+   * @return New state
+   */
+  protected abstract A newAccumulator();
+
+  @Override
+  final void endPartition(final int partition) {
+    accumulator.remove();
+  }
+
+  @Override
+  final void startPartition(final int partition) {
+    final A partitionAccumulator = requireNonNull(newAccumulator(), "No accumulator provided");
+    synchronized (accumulators) {
+      accumulators.put(partition, partitionAccumulator);
+    }
+    accumulator.set(partitionAccumulator);
+  }
+}
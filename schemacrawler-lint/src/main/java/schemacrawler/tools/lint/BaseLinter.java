@@ -31,10 +31,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.sql.Connection;
-import java.util.ArrayList;
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,7 +45,10 @@ import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.tools.lint.config.LinterConfig;
 import us.fatehi.utility.string.StringFormat;
 
@@ -61,8 +65,11 @@ public abstract class BaseLinter extends Linter {
   private InclusionRule tableInclusionRule;
   private InclusionRule columnInclusionRule;
   private TableTypesFilter tableTypesFilter;
+  private final ThreadLocal<TableLintCache> tableCache;
+  private Identifiers identifiers;
 
   protected BaseLinter() {
+    tableCache = new ThreadLocal<>();
     setTableTypesFilter(null);
     setTableInclusionRule(null);
     setColumnInclusionRule(null);
@@ -93,20 +100,69 @@ public abstract class BaseLinter extends Linter {
       return Collections.emptyList();
     }
 
-    final List<Column> columns = new ArrayList<>(table.getColumns());
-    for (final Iterator<Column> iterator = columns.iterator(); iterator.hasNext(); ) {
-      final Column column = iterator.next();
-      if (!includeColumn(column)) {
-        iterator.remove();
-      }
-    }
-    return columns;
+    return getTableCache(table).getColumns(columnInclusionRule);
   }
 
   protected final CrawlInfo getCrawlInfo() {
     return catalog.getCrawlInfo();
   }
 
+  /**
+   * Gets the names of the columns of a foreign key, or other table reference. The names are
+   * computed once for each table, and shared between linters.
+   *
+   * @param tableRef Foreign key, or other table reference
+   * @return Full names of the foreign key columns
+   */
+  protected final List<String> getForeignKeyColumnNames(final TableReference tableRef) {
+    if (tableRef == null) {
+      return Collections.emptyList();
+    }
+    return getTableCache(tableRef.getForeignKeyTable()).getForeignKeyColumnNames(tableRef);
+  }
+
+  /**
+   * Gets identifiers for the database, to quote names in SQL statements. Identifiers are looked up
+   * from the connection once for each linting pass, rather than for every table.
+   *
+   * @param connection Live database connection
+   * @return Identifiers for the database
+   * @throws SQLException On an exception looking up identifiers
+   */
+  protected final synchronized Identifiers getIdentifiers(final Connection connection)
+      throws SQLException {
+    requireNonNull(connection, "No connection provided");
+    if (identifiers == null) {
+      identifiers = Identifiers.identifiers().withConnection(connection).build();
+    }
+    return identifiers;
+  }
+
+  /**
+   * Gets the names of the columns of each index on a table. The names are computed once for each
+   * table, and shared between linters.
+   *
+   * @param table Table
+   * @return Full names of the index columns, for each index on the table
+   */
+  protected final Collection<List<String>> getIndexColumnNames(final Table table) {
+    return getIndexColumnNamesMap(table).values();
+  }
+
+  /**
+   * Gets the names of the columns of each index on a table, keyed by index. The names are computed
+   * once for each table, and shared between linters.
+   *
+   * @param table Table
+   * @return Full names of the index columns, keyed by index
+   */
+  protected final Map<Index, List<String>> getIndexColumnNamesMap(final Table table) {
+    if (table == null) {
+      return Collections.emptyMap();
+    }
+    return getTableCache(table).getIndexColumnNames();
+  }
+
   protected final TableTypesFilter getTableTypesFilter() {
     return tableTypesFilter;
   }
@@ -119,8 +175,31 @@ public abstract class BaseLinter extends Linter {
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Whether the linter can lint different tables at the same time, from different threads. Linters
+   * that keep no state between tables can override this to run over partitions of tables in
+   * parallel. Linters that also query the database for each table need to override {@link
+   * #usesConnection()} as well.
+   *
+   * @return Whether the linter is thread-safe
+   */
+  protected boolean isThreadSafe() {
+    return false;
+  }
+
   protected abstract void lint(Table table, Connection connection);
 
+  /**
+   * Whether the linter queries the database for each table. Thread-safe linters that query the
+   * database only lint tables in parallel if each thread can get its own connection from a data
+   * source.
+   *
+   * @return Whether the linter uses the connection when linting a table
+   */
+  protected boolean usesConnection() {
+    return false;
+  }
+
   protected final void setTableTypesFilter(final TableTypesFilter tableTypesFilter) {
     if (tableTypesFilter == null) {
       this.tableTypesFilter = new TableTypesFilter();
@@ -142,20 +221,87 @@ public abstract class BaseLinter extends Linter {
 
   @Override
   final void lint(final Catalog catalog, final Connection connection) {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
+    startLint(catalog, connection);
+    startPartition(0);
     for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      lintTable(table, new TableLintCache(table), connection);
+    }
+    endPartition(0);
+    endLint(connection);
+  }
+
+  /**
+   * Ends a linting pass over the catalog.
+   *
+   * @param connection Live database connection
+   */
+  final void endLint(final Connection connection) {
+    end(connection);
+    catalog = null;
+    identifiers = null;
+  }
+
+  /**
+   * Ends linting a partition of tables, on the thread that linted the partition.
+   *
+   * @param partition Index of the partition of tables
+   */
+  void endPartition(final int partition) {
+    // Can be overridden by linters that accumulate state over partitions
+  }
+
+  /**
+   * Lints a single table, if it is included for this linter, as part of a linting pass over the
+   * catalog.
+   *
+   * @param table Table to lint
+   * @param tableCache Derived data for the table, shared with other linters
+   * @param connection Live database connection
+   */
+  final void lintTable(
+      final Table table, final TableLintCache tableCache, final Connection connection) {
+    if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      this.tableCache.set(tableCache);
+      try {
         lint(table, connection);
-      } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+      } finally {
+        this.tableCache.remove();
       }
+    } else {
+      LOGGER.log(
+          Level.FINE, new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
     }
-    end(connection);
-    this.catalog = null;
+  }
+
+  /**
+   * Starts a linting pass over the catalog.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Live database connection
+   */
+  final void startLint(final Catalog catalog, final Connection connection) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    identifiers = null;
+    start(connection);
+  }
+
+  /**
+   * Starts linting a partition of tables, on the thread that lints the partition. Partitions are
+   * numbered in the order of the tables in the catalog.
+   *
+   * @param partition Index of the partition of tables
+   */
+  void startPartition(final int partition) {
+    // Can be overridden by linters that accumulate state over partitions
+  }
+
+  private TableLintCache getTableCache(final Table table) {
+    final TableLintCache tableCache = this.tableCache.get();
+    if (tableCache != null && tableCache.isFor(table)) {
+      return tableCache;
+    }
+    // Linters may look at tables other than the one being linted
+    return new TableLintCache(table);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
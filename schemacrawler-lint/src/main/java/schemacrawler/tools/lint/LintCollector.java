@@ -32,27 +32,37 @@ import static java.util.Comparator.naturalOrder;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints from all the linters. Lints may be added from multiple threads, when linters run
+ * in parallel over partitions of tables.
+ */
 public final class LintCollector {
 
   private static final String LINT_KEY = "schemacrawler.lint";
 
   private final List<Lint<? extends Serializable>> lints;
+  private final Map<Lint<?>, AttributedObject> lintedObjects;
 
   public LintCollector() {
     lints = new ArrayList<>();
+    lintedObjects = new IdentityHashMap<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(
       final N namedObject, final Lint<?> lint) {
     if (namedObject != null
         && lint != null
         && namedObject.getFullName().equals(lint.getObjectName())) {
       lints.add(lint);
+      lintedObjects.put(lint, namedObject);
 
       final Collection<Lint<?>> columnLints = namedObject.getAttribute(LINT_KEY, new ArrayList<>());
       columnLints.add(lint);
@@ -60,12 +70,33 @@ public final class LintCollector {
     }
   }
 
-  public Collection<Lint<? extends Serializable>> getLints() {
+  public synchronized Collection<Lint<? extends Serializable>> getLints() {
     lints.sort(naturalOrder());
     return new ArrayList<>(lints);
   }
 
-  public int size() {
+  public synchronized int size() {
     return lints.size();
   }
+
+  /**
+   * Removes all the lints found by a linter, including from the linted objects.
+   *
+   * @param linter Linter whose lints are removed
+   */
+  synchronized void removeLints(final Linter linter) {
+    final String linterInstanceId = linter.getLinterInstanceId();
+    for (final Iterator<Lint<? extends Serializable>> iterator = lints.iterator();
+        iterator.hasNext(); ) {
+      final Lint<? extends Serializable> lint = iterator.next();
+      if (linterInstanceId.equals(lint.getLinterInstanceId())) {
+        iterator.remove();
+        final AttributedObject lintedObject = lintedObjects.remove(lint);
+        final Collection<Lint<?>> objectLints =
+            lintedObject.getAttribute(LINT_KEY, new ArrayList<>());
+        objectLints.removeIf(objectLint -> objectLint == lint);
+      }
+    }
+    linter.clearLintCount();
+  }
 }
@@ -32,15 +32,22 @@ import static java.util.Objects.requireNonNull;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
 public final class Linters implements Iterable<Linter> {
@@ -50,6 +57,7 @@ public final class Linters implements Iterable<Linter> {
   private final List<Linter> linters;
   private final LintCollector collector;
   private final LinterRegistry registry;
+  private Supplier<Connection> dataSource;
 
   public Linters(final LinterConfigs linterConfigs, final boolean runAllLinters) {
     requireNonNull(linterConfigs, "No linter configs provided");
@@ -167,16 +175,78 @@ public final class Linters implements Iterable<Linter> {
     return linters.iterator();
   }
 
+  /**
+   * Lints the catalog in a single pass over the tables, on the current thread. Each table is handed
+   * to all the linters in turn, so that derived data for the table can be shared between linters.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Live database connection
+   */
   public void lint(final Catalog catalog, final Connection connection) {
+    lint(catalog, connection, 1);
+  }
+
+  /**
+   * Lints the catalog in a single pass over the tables. Each table is handed to all the linters in
+   * turn, so that derived data for the table can be shared between linters. Thread-safe linters
+   * lint partitions of the tables in parallel, and the other linters lint all the tables on the
+   * current thread. Thread-safe linters that query the database for each table only lint in
+   * parallel if a data source is set, and each partition then uses its own connection.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Live database connection
+   * @param maxThreads Maximum number of threads to use for thread-safe linters, and the maximum
+   *     number of connections to open from the data source
+   */
+  public void lint(final Catalog catalog, final Connection connection, final int maxThreads) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    final List<BaseLinter> parallelLinters = new ArrayList<>();
+    final List<BaseLinter> serialLinters = new ArrayList<>();
     for (final Linter linter : linters) {
       LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
       try {
-        linter.lint(catalog, connection);
+        if (linter instanceof BaseLinter) {
+          final BaseLinter tableLinter = (BaseLinter) linter;
+          tableLinter.startLint(catalog, connection);
+          tableLinters.add(tableLinter);
+          if (maxThreads > 1
+              && tableLinter.isThreadSafe()
+              && (!tableLinter.usesConnection() || dataSource != null)) {
+            parallelLinters.add(tableLinter);
+          } else {
+            serialLinters.add(tableLinter);
+          }
+        } else {
+          linter.lint(catalog, connection);
+        }
       } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+        logLinterFailure(linter, e);
+      }
+    }
+
+    // Stop running a linter that fails, as it would if it were run on its own
+    final Set<BaseLinter> failedLinters = new HashSet<>();
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    if (!parallelLinters.isEmpty()) {
+      failedLinters.addAll(lintPartitions(tables, parallelLinters, connection, maxThreads));
+      // Which tables a failing linter got to in each partition depends on thread timing, so
+      // drop all its lints to report the same lints on every run
+      for (final BaseLinter failedLinter : failedLinters) {
+        collector.removeLints(failedLinter);
+      }
+    }
+    lintTables(0, tables, serialLinters, failedLinters, connection);
+
+    for (final BaseLinter tableLinter : tableLinters) {
+      if (failedLinters.contains(tableLinter)) {
+        continue;
+      }
+      try {
+        tableLinter.endLint(connection);
+      } catch (final Exception e) {
+        logLinterFailure(tableLinter, e);
       }
     }
   }
@@ -190,11 +260,133 @@ public final class Linters implements Iterable<Linter> {
     return linters.size();
   }
 
+  /**
+   * Sets a source of additional connections, so that thread-safe linters that query the database
+   * can lint tables in parallel. Each partition of tables opens its own connection from the data
+   * source, and closes it once the partition has been linted.
+   *
+   * @param dataSource Source of database connections, or null to only use the connection
+   */
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public String toString() {
     return linters.toString();
   }
 
+  private Set<BaseLinter> lintPartitions(
+      final List<Table> tables,
+      final List<BaseLinter> tableLinters,
+      final Connection connection,
+      final int maxThreads) {
+    final Set<BaseLinter> failedLinters = new HashSet<>();
+    if (tables.isEmpty()) {
+      return failedLinters;
+    }
+
+    boolean usesConnection = false;
+    for (final BaseLinter tableLinter : tableLinters) {
+      usesConnection = usesConnection || tableLinter.usesConnection();
+    }
+
+    // Partition tables into contiguous ranges, so that linters that accumulate state can merge
+    // partitions in the order of the tables
+    final int partitionCount = Math.min(maxThreads, tables.size());
+    final int partitionSize = (tables.size() + partitionCount - 1) / partitionCount;
+    final List<TaskDefinition> tasks = new ArrayList<>();
+    final List<Set<BaseLinter>> partitionFailedLinters = new ArrayList<>();
+    for (int i = 0; i * partitionSize < tables.size(); i++) {
+      final int partition = i;
+      final List<Table> partitionTables =
+          tables.subList(i * partitionSize, Math.min(tables.size(), (i + 1) * partitionSize));
+      // Failures are recorded for each partition, and only combined once all partitions are done
+      final Set<BaseLinter> failedPartitionLinters = new HashSet<>();
+      partitionFailedLinters.add(failedPartitionLinters);
+      final TaskDefinition task;
+      if (usesConnection) {
+        task =
+            new TaskDefinition(
+                "lintTables" + partition,
+                () -> {
+                  try (final Connection partitionConnection = dataSource.get()) {
+                    lintTables(
+                        partition,
+                        partitionTables,
+                        tableLinters,
+                        failedPartitionLinters,
+                        partitionConnection);
+                  }
+                });
+      } else {
+        task =
+            new TaskDefinition(
+                "lintTables" + partition,
+                () ->
+                    lintTables(
+                        partition,
+                        partitionTables,
+                        tableLinters,
+                        failedPartitionLinters,
+                        connection));
+      }
+      tasks.add(task);
+    }
+
+    // Each partition uses its own connection, or linters do not use a connection at all
+    final TaskRunner taskRunner = TaskRunners.getConcurrentTaskRunner("lint", tasks.size());
+    try {
+      taskRunner.run(tasks.toArray(new TaskDefinition[0]));
+      taskRunner.stop();
+      LOGGER.log(Level.INFO, taskRunner.report());
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Could not lint tables in parallel", e);
+    }
+
+    for (final Set<BaseLinter> failedPartitionLinters : partitionFailedLinters) {
+      failedLinters.addAll(failedPartitionLinters);
+    }
+    return failedLinters;
+  }
+
+  private void lintTables(
+      final int partition,
+      final List<Table> tables,
+      final List<BaseLinter> tableLinters,
+      final Set<BaseLinter> failedLinters,
+      final Connection connection) {
+    for (final BaseLinter tableLinter : tableLinters) {
+      tableLinter.startPartition(partition);
+    }
+    for (final Table table : tables) {
+      final TableLintCache tableCache = new TableLintCache(table);
+      for (final BaseLinter tableLinter : tableLinters) {
+        if (failedLinters.contains(tableLinter)) {
+          continue;
+        }
+        try {
+          tableLinter.lintTable(table, tableCache, connection);
+        } catch (final Exception e) {
+          logLinterFailure(tableLinter, e);
+          failedLinters.add(tableLinter);
+        }
+      }
+    }
+    for (final BaseLinter tableLinter : tableLinters) {
+      tableLinter.endPartition(partition);
+    }
+  }
+
+  private void logLinterFailure(final Linter linter, final Exception e) {
+    LOGGER.log(
+        Level.WARNING,
+        e,
+        new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
@@ -0,0 +1,102 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableReference;
+import schemacrawler.utility.MetaDataUtility;
+
+/**
+ * Derived data for a single table, that is computed once and shared by all the linters that visit
+ * the table.
+ */
+final class TableLintCache {
+
+  private final Table table;
+  private final Map<InclusionRule, List<Column>> includedColumns;
+  private final Map<TableReference, List<String>> foreignKeyColumnNames;
+  private Map<Index, List<String>> indexColumnNames;
+
+  TableLintCache(final Table table) {
+    this.table = requireNonNull(table, "No table provided");
+    includedColumns = new HashMap<>();
+    foreignKeyColumnNames = new HashMap<>();
+  }
+
+  List<Column> getColumns(final InclusionRule columnInclusionRule) {
+    List<Column> columns = includedColumns.get(columnInclusionRule);
+    if (columns == null) {
+      columns = new ArrayList<>();
+      for (final Column column : table.getColumns()) {
+        if (columnInclusionRule.test(column.getFullName())) {
+          columns.add(column);
+        }
+      }
+      includedColumns.put(columnInclusionRule, columns);
+    }
+    // Return a copy, since linters may modify the list
+    return new ArrayList<>(columns);
+  }
+
+  List<String> getForeignKeyColumnNames(final TableReference tableRef) {
+    return foreignKeyColumnNames.computeIfAbsent(
+        tableRef, key -> Collections.unmodifiableList(MetaDataUtility.foreignKeyColumnNames(key)));
+  }
+
+  Map<Index, List<String>> getIndexColumnNames() {
+    if (indexColumnNames == null) {
+      final Map<Index, List<String>> indexColumnNames = new LinkedHashMap<>();
+      if (!(table instanceof PartialDatabaseObject)) {
+        for (final Index index : table.getIndexes()) {
+          indexColumnNames.put(
+              index, Collections.unmodifiableList(MetaDataUtility.columnNames(index)));
+        }
+      }
+      this.indexColumnNames = Collections.unmodifiableMap(indexColumnNames);
+    }
+    return indexColumnNames;
+  }
+
+  boolean isFor(final Table table) {
+    return this.table == table;
+  }
+}
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -47,6 +48,7 @@ abstract class BaseLintReportJacksonBuilder implements LintReportBuilder {
 
   private ObjectMapper newConfiguredObjectMapper() {
 
+    @JsonIgnoreProperties({"retrieval-metrics"})
     @JsonPropertyOrder(alphabetic = true)
     @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
     abstract class JacksonAnnotationMixIn {
@@ -38,12 +38,10 @@ import java.util.TreeSet;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseAccumulatingLinter;
 import us.fatehi.utility.Multimap;
 
-public class LinterColumnTypes extends BaseLinter {
-
-  private Multimap<String, ColumnDataType> columnTypes;
+public class LinterColumnTypes extends BaseAccumulatingLinter<Multimap<String, ColumnDataType>> {
 
   @Override
   public String getSummary() {
@@ -51,7 +49,18 @@ public class LinterColumnTypes extends BaseLinter {
   }
 
   @Override
-  protected void end(final Connection connection) {
+  protected void accumulate(final Multimap<String, ColumnDataType> columnTypes, final Table table) {
+    for (final Column column : getColumns(table)) {
+      if (!column.isColumnDataTypeKnown()) {
+        continue;
+      }
+      columnTypes.add(column.getName(), column.getColumnDataType());
+    }
+  }
+
+  @Override
+  protected void end(
+      final Multimap<String, ColumnDataType> columnTypes, final Connection connection) {
     requireNonNull(columnTypes, "Not initialized");
 
     for (final Entry<String, List<ColumnDataType>> entry : columnTypes.entrySet()) {
@@ -60,29 +69,22 @@ public class LinterColumnTypes extends BaseLinter {
         addCatalogLint(getSummary(), entry.getKey() + " " + currentColumnTypes);
       }
     }
-
-    columnTypes = null;
-
-    super.end(connection);
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection) {
-    requireNonNull(table, "No table provided");
-    requireNonNull(columnTypes, "Not initialized");
-
-    for (final Column column : getColumns(table)) {
-      if (!column.isColumnDataTypeKnown()) {
-        continue;
+  protected Multimap<String, ColumnDataType> merge(
+      final Multimap<String, ColumnDataType> columnTypes,
+      final Multimap<String, ColumnDataType> partitionColumnTypes) {
+    for (final Entry<String, List<ColumnDataType>> entry : partitionColumnTypes.entrySet()) {
+      for (final ColumnDataType columnDataType : entry.getValue()) {
+        columnTypes.add(entry.getKey(), columnDataType);
       }
-      columnTypes.add(column.getName(), column.getColumnDataType());
     }
+    return columnTypes;
   }
 
   @Override
-  protected void start(final Connection connection) {
-    super.start(connection);
-
-    columnTypes = new Multimap<>();
+  protected Multimap<String, ColumnDataType> newAccumulator() {
+    return new Multimap<>();
   }
 }
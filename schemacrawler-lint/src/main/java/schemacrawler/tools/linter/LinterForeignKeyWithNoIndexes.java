@@ -29,8 +29,6 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.listStartsWith;
-import static schemacrawler.utility.MetaDataUtility.allIndexCoumnNames;
-import static schemacrawler.utility.MetaDataUtility.foreignKeyColumnNames;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -54,6 +52,11 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
     return "foreign key with no index";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -67,9 +70,9 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
   private List<ForeignKey> findForeignKeysWithoutIndexes(final Table table) {
     final List<ForeignKey> foreignKeysWithoutIndexes = new ArrayList<>();
     if (!(table instanceof View)) {
-      final Collection<List<String>> allIndexCoumns = allIndexCoumnNames(table);
+      final Collection<List<String>> allIndexCoumns = getIndexColumnNames(table);
       for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
-        final List<String> foreignKeyColumns = foreignKeyColumnNames(foreignKey);
+        final List<String> foreignKeyColumns = getForeignKeyColumnNames(foreignKey);
         boolean hasIndex = false;
         for (final List<String> indexColumns : allIndexCoumns) {
           if (listStartsWith(indexColumns, foreignKeyColumns)) {
@@ -47,6 +47,11 @@ public class LinterNullColumnsInIndex extends BaseLinter {
     return "unique index with nullable columns";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -31,8 +31,6 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.listStartsWith;
 
 import java.sql.Connection;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +42,6 @@ import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.LintSeverity;
-import schemacrawler.utility.MetaDataUtility;
 
 public class LinterRedundantIndexes extends BaseLinter {
 
@@ -58,28 +55,28 @@ public class LinterRedundantIndexes extends BaseLinter {
     return "redundant index";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
 
-    final Set<Index> redundantIndexes = findRedundantIndexes(table.getIndexes());
+    final Set<Index> redundantIndexes = findRedundantIndexes(getIndexColumnNamesMap(table));
     for (final Index index : redundantIndexes) {
       addTableLint(table, getSummary(), index);
     }
   }
 
-  private Set<Index> findRedundantIndexes(final Collection<Index> indexes) {
+  private Set<Index> findRedundantIndexes(final Map<Index, List<String>> indexColumns) {
     final Set<Index> redundantIndexes = new HashSet<>();
 
-    if (indexes == null || indexes.isEmpty()) {
+    if (indexColumns.isEmpty()) {
       return redundantIndexes;
     }
 
-    final Map<Index, List<String>> indexColumns = new HashMap<>(indexes.size());
-    for (final Index index : indexes) {
-      indexColumns.put(index, MetaDataUtility.columnNames(index));
-    }
-
     for (final Entry<Index, List<String>> indexColumnEntry1 : indexColumns.entrySet()) {
       for (final Entry<Index, List<String>> indexColumnEntry2 : indexColumns.entrySet()) {
         if (!indexColumnEntry1.equals(indexColumnEntry2)) {
@@ -44,6 +44,11 @@ public class LinterTableAllNullableColumns extends BaseLinter {
     return "no non-nullable data columns";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -37,13 +37,13 @@ import java.util.List;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseAccumulatingLinter;
+import us.fatehi.utility.graph.DirectedEdge;
 import us.fatehi.utility.graph.DirectedGraph;
 import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
+import us.fatehi.utility.graph.Vertex;
 
-public class LinterTableCycles extends BaseLinter {
-
-  private DirectedGraph<Table> tablesGraph;
+public class LinterTableCycles extends BaseAccumulatingLinter<DirectedGraph<Table>> {
 
   @Override
   public String getSummary() {
@@ -51,7 +51,22 @@ public class LinterTableCycles extends BaseLinter {
   }
 
   @Override
-  protected void end(final Connection connection) {
+  protected void accumulate(final DirectedGraph<Table> tablesGraph, final Table table) {
+    tablesGraph.addVertex(table);
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      // Add edges for tables that are limited using limit options
+      // That is, do not consider partial tables which are excluded by the limit
+      final Table pkTable = foreignKey.getPrimaryKeyTable();
+      final Table fkTable = foreignKey.getForeignKeyTable();
+      if (!(pkTable instanceof PartialDatabaseObject)
+          && !(fkTable instanceof PartialDatabaseObject)) {
+        tablesGraph.addEdge(pkTable, fkTable);
+      }
+    }
+  }
+
+  @Override
+  protected void end(final DirectedGraph<Table> tablesGraph, final Connection connection) {
     requireNonNull(tablesGraph, "Not initialized");
 
     final Collection<List<Table>> sccs =
@@ -61,34 +76,23 @@ public class LinterTableCycles extends BaseLinter {
         addCatalogLint(getSummary(), new ArrayList<>(list));
       }
     }
-
-    tablesGraph = null;
-
-    super.end(connection);
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection) {
-    requireNonNull(table, "No table provided");
-    requireNonNull(tablesGraph, "Not initialized");
-
-    tablesGraph.addVertex(table);
-    for (final ForeignKey foreignKey : table.getForeignKeys()) {
-      // Add edges for tables that are limited using limit options
-      // That is, do not consider partial tables which are excluded by the limit
-      final Table pkTable = foreignKey.getPrimaryKeyTable();
-      final Table fkTable = foreignKey.getForeignKeyTable();
-      if (!(pkTable instanceof PartialDatabaseObject)
-          && !(fkTable instanceof PartialDatabaseObject)) {
-        tablesGraph.addEdge(pkTable, fkTable);
-      }
+  protected DirectedGraph<Table> merge(
+      final DirectedGraph<Table> tablesGraph, final DirectedGraph<Table> partitionTablesGraph) {
+    // Add vertices first, so that they are in the same order as if the tables were not partitioned
+    for (final Vertex<Table> vertex : partitionTablesGraph.vertexSet()) {
+      tablesGraph.addVertex(vertex.getValue());
+    }
+    for (final DirectedEdge<Table> edge : partitionTablesGraph.edgeSet()) {
+      tablesGraph.addEdge(edge.getFrom().getValue(), edge.getTo().getValue());
     }
+    return tablesGraph;
   }
 
   @Override
-  protected void start(final Connection connection) {
-    super.start(connection);
-
-    tablesGraph = new DirectedGraph<>(getLinterId());
+  protected DirectedGraph<Table> newAccumulator() {
+    return new DirectedGraph<>(getLinterId());
   }
 }
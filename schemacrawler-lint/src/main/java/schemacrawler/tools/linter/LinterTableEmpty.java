@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
+import static schemacrawler.loader.counts.TableRowCountsUtility.hasExactRowCount;
 import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
 
 import java.sql.Connection;
@@ -45,8 +47,7 @@ import us.fatehi.utility.string.StringFormat;
 
 public class LinterTableEmpty extends BaseLinter {
 
-  private static final Logger LOGGER =
-      Logger.getLogger(LinterTableEmpty.class.getName());
+  private static final Logger LOGGER = Logger.getLogger(LinterTableEmpty.class.getName());
 
   public LinterTableEmpty() {
     setSeverity(LintSeverity.low);
@@ -58,14 +59,30 @@ public class LinterTableEmpty extends BaseLinter {
     return "empty table";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
+
+    // Use exact row counts that were loaded with the catalog, instead of
+    // counting rows again; estimates from table statistics can be stale,
+    // so count rows when only an estimate is available
+    if (hasExactRowCount(table)) {
+      if (getRowCount(table) == 0) {
+        addTableLint(table, getSummary());
+      }
+      return;
+    }
+
     requireNonNull(connection, "No connection provided");
 
     final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
+      final Identifiers identifiers = getIdentifiers(connection);
       final long count = executeForLong(query, connection, table, identifiers);
       if (count == 0) {
         addTableLint(table, getSummary());
@@ -74,4 +91,9 @@ public class LinterTableEmpty extends BaseLinter {
       LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table, ", table));
     }
   }
+
+  @Override
+  protected boolean usesConnection() {
+    return true;
+  }
 }
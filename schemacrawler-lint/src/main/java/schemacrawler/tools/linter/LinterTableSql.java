@@ -31,26 +31,37 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
+import static us.fatehi.utility.Utility.trimToEmpty;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Level;
 
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataResultSet;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.options.Config;
 import us.fatehi.utility.string.StringFormat;
 
 public class LinterTableSql extends BaseLinter {
 
-  private static final Logger LOGGER =
-      Logger.getLogger(LinterTableSql.class.getName());
+  private static final Logger LOGGER = Logger.getLogger(LinterTableSql.class.getName());
 
   private String message;
   private String sql;
+  private String bulkSql;
+  private Map<List<String>, Map<String, String>> bulkResults;
 
   @Override
   public String getSummary() {
@@ -69,22 +80,57 @@ public class LinterTableSql extends BaseLinter {
     message = config.getStringValue("message", "");
     requireNotBlank(message, "No message provided");
 
+    bulkSql = config.getStringValue("bulk-sql", "");
     sql = config.getStringValue("sql", "");
-    requireNotBlank(sql, "No SQL provided");
+    if (isBlank(bulkSql)) {
+      requireNotBlank(sql, "No SQL provided");
+    }
+  }
+
+  @Override
+  protected void end(final Connection connection) {
+    bulkResults = null;
+    super.end(connection);
+  }
+
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
   }
 
   @Override
   protected void lint(final Table table, final Connection connection) {
+    requireNonNull(table, "No table provided");
+
+    if (bulkResults != null) {
+      final Map<String, String> tableResults =
+          bulkResults.get(Arrays.asList(table.getSchema().getName(), table.getName()));
+      if (tableResults == null) {
+        return;
+      }
+      // Match on the catalog name, if both the query and the table have one
+      final String catalogName = table.getSchema().getCatalogName();
+      for (final Entry<String, String> tableResult : tableResults.entrySet()) {
+        final String resultCatalogName = tableResult.getKey();
+        if (resultCatalogName.isEmpty()
+            || catalogName == null
+            || resultCatalogName.equals(catalogName)) {
+          addTableLint(table, getSummary() + " " + tableResult.getValue());
+          return;
+        }
+      }
+      return;
+    }
+
     if (isBlank(sql)) {
       return;
     }
 
-    requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
     final Query query = new Query(message, sql);
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
+      final Identifiers identifiers = getIdentifiers(connection);
       final Object queryResult = executeForScalar(query, connection, table, identifiers);
       if (queryResult != null) {
         addTableLint(table, getSummary() + " " + queryResult);
@@ -96,4 +142,44 @@ public class LinterTableSql extends BaseLinter {
           new StringFormat("Could not execute SQL for table lints, for table", table));
     }
   }
+
+  @Override
+  protected void start(final Connection connection) {
+    super.start(connection);
+
+    bulkResults = null;
+    if (isBlank(bulkSql)) {
+      return;
+    }
+
+    requireNonNull(connection, "No connection provided");
+
+    // Run one query for all tables, and join the results back to tables by name
+    final Map<List<String>, Map<String, String>> bulkResults = new HashMap<>();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(statement.executeQuery(bulkSql), message)) {
+      while (results.next()) {
+        final String catalogName = results.getString("TABLE_CATALOG");
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final String lintValue = results.getString("LINT_VALUE");
+        if (isBlank(tableName) || lintValue == null) {
+          continue;
+        }
+        bulkResults
+            .computeIfAbsent(Arrays.asList(schemaName, tableName), key -> new LinkedHashMap<>())
+            .putIfAbsent(trimToEmpty(catalogName), lintValue);
+      }
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(
+          String.format("Could not execute SQL for table lints%n%s", bulkSql), e);
+    }
+    this.bulkResults = bulkResults;
+  }
+
+  @Override
+  protected boolean usesConnection() {
+    return bulkResults == null;
+  }
 }
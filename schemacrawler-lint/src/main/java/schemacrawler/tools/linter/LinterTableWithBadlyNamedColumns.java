@@ -59,6 +59,11 @@ public class LinterTableWithBadlyNamedColumns extends BaseLinter {
     columnNames = inclusionRuleLookup.orElse(new IncludeAll());
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -80,6 +80,11 @@ public class LinterTableWithIncrementingColumns extends BaseLinter {
     return "incrementing columns";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -46,6 +46,11 @@ public class LinterTableWithNoIndexes extends BaseLinter {
     return "no indexes";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     if (table != null) {
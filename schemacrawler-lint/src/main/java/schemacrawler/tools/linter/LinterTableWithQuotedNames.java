@@ -47,13 +47,18 @@ public class LinterTableWithQuotedNames extends BaseLinter {
     return "spaces in name, or reserved word";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
 
-    Identifiers identifiers;
+    final Identifiers identifiers;
     try {
-      identifiers = Identifiers.identifiers().withConnection(connection).build();
+      identifiers = getIdentifiers(connection);
     } catch (final SQLException e) {
       throw new DatabaseAccessException(e);
     }
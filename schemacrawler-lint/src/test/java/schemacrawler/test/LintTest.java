@@ -29,10 +29,13 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
@@ -40,20 +43,33 @@ import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.tools.lint.config.LinterConfigUtility.readLinterConfigs;
 import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.crawl.CatalogSnapshotReader;
+import schemacrawler.crawl.CatalogSnapshotWriter;
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.test.utility.WithTestDatabase;
 import schemacrawler.tools.command.lint.options.LintOptions;
@@ -61,6 +77,7 @@ import schemacrawler.tools.command.lint.options.LintOptionsBuilder;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintSeverity;
+import schemacrawler.tools.lint.Linter;
 import schemacrawler.tools.lint.Linters;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
@@ -70,6 +87,7 @@ import schemacrawler.tools.options.Config;
 public class LintTest {
 
   private static final String LINTS_OUTPUT = "lints_output/";
+  private static final String LINT_KEY = "schemacrawler.lint";
 
   private static final Config config = new Config();
 
@@ -133,6 +151,314 @@ public class LintTest {
         hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
   }
 
+  @Test
+  public void lintedCatalogSnapshot(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+
+    final Linters linters = new Linters(new LinterConfigs(new Config()), true);
+    linters.lint(catalog, connection);
+    assertThat(linters.getCollector().size(), is(greaterThan(0)));
+    final Table lintedTable =
+        catalog.getTables().stream()
+            .filter(table -> table.hasAttribute(LINT_KEY))
+            .findFirst()
+            .orElse(null);
+    assertThat("No linted table found", lintedTable, notNullValue());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CatalogSnapshotWriter(catalog).write(out);
+    final Catalog readCatalog =
+        new CatalogSnapshotReader(new ByteArrayInputStream(out.toByteArray())).read();
+
+    assertThat(readCatalog, equalTo(catalog));
+    assertThat(readCatalog.getTables().size(), is(catalog.getTables().size()));
+    final Table readTable =
+        readCatalog.lookupTable(lintedTable.getSchema(), lintedTable.getName()).get();
+    assertThat(readTable.getColumns().size(), is(lintedTable.getColumns().size()));
+    // Lints are plugin objects, which are not written to the snapshot
+    assertThat(readTable.hasAttribute(LINT_KEY), is(false));
+  }
+
+  @Test
+  public void lintsInParallel(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Map<String, Object> config = new HashMap<>();
+    config.put("bad-column-names", ".*\\.COUNTRY");
+    final LinterConfig linterConfig =
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            config);
+
+    linterConfigs.add(linterConfig);
+
+    // Lint partitions of tables in parallel, and check that the lints are
+    // the same as when linting on a single thread
+    final Linters linters = new Linters(linterConfigs, true);
+    linters.lint(catalog, connection, 3);
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(
+        outputOf(testout1),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2) {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(
+        outputOf(testout2),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
+  @Test
+  public void lintsInParallelWithDataSource(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final Supplier<Connection> dataSource =
+        () -> {
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException("Could not connect", e);
+          }
+        };
+
+    try (final Connection connection = dataSource.get()) {
+      final SchemaCrawlerOptions schemaCrawlerOptions =
+          SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+      final Catalog catalog =
+          getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+      assertThat(catalog, notNullValue());
+
+      // Linters that run SQL for each table
+      final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+      linterConfigs.add(
+          new LinterConfig(
+              "schemacrawler.tools.linter.LinterTableEmpty",
+              true,
+              LintSeverity.medium,
+              0,
+              null,
+              null,
+              null,
+              null,
+              null));
+      final Map<String, Object> config = new HashMap<>();
+      config.put("message", "has rows");
+      config.put("sql", "SELECT TOP 1 1 FROM ${table}");
+      linterConfigs.add(
+          new LinterConfig(
+              "schemacrawler.tools.linter.LinterTableSql",
+              true,
+              LintSeverity.medium,
+              0,
+              null,
+              null,
+              null,
+              null,
+              config));
+
+      final Linters serialLinters = new Linters(linterConfigs, false);
+      serialLinters.lint(catalog, connection);
+      final List<Lint<?>> serialLints = new ArrayList<>(serialLinters.getCollector().getLints());
+      assertThat(serialLints.isEmpty(), is(false));
+
+      final Linters parallelLinters = new Linters(linterConfigs, false);
+      parallelLinters.setDataSource(dataSource);
+      parallelLinters.lint(catalog, connection, 3);
+      final List<Lint<?>> parallelLints =
+          new ArrayList<>(parallelLinters.getCollector().getLints());
+
+      assertThat(parallelLints, is(serialLints));
+    }
+  }
+
+  @Test
+  public void lintsEmptyTablesWithEstimatedRowCounts(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+            config);
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    linterConfigs.add(
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableEmpty",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            null));
+
+    final Linters countedLinters = new Linters(linterConfigs, false);
+    countedLinters.lint(catalog, connection);
+    final List<Lint<?>> countedLints = new ArrayList<>(countedLinters.getCollector().getLints());
+    assertThat(countedLints.isEmpty(), is(false));
+
+    // Stale estimates from table statistics are not trusted
+    for (final Table table : catalog.getTables()) {
+      table.setAttribute("schemacrawler.table.row_count", 0L);
+      table.setAttribute("schemacrawler.table.row_count_estimated", true);
+    }
+    final Linters estimatedLinters = new Linters(linterConfigs, false);
+    estimatedLinters.lint(catalog, connection);
+    final List<Lint<?>> estimatedLints =
+        new ArrayList<>(estimatedLinters.getCollector().getLints());
+
+    assertThat(estimatedLints, is(countedLints));
+  }
+
+  @Test
+  public void lintsInParallelWithFailingDataSource(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+            config);
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    linterConfigs.add(
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableEmpty",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            null));
+
+    final Linters linters = new Linters(linterConfigs, false);
+    linters.setDataSource(
+        () -> {
+          throw new DatabaseAccessException("Could not connect", new SQLException("No connection"));
+        });
+    // Partition failures are not dropped
+    assertThrows(RuntimeException.class, () -> linters.lint(catalog, connection, 3));
+  }
+
+  @Test
+  public void lintsInParallelWithFailingPartitions(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    // Only the first partition gets a connection, so the SQL linter fails in the other partitions
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> dataSource =
+        () -> {
+          if (connectionCount.getAndIncrement() > 0) {
+            return null;
+          }
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException("Could not connect", e);
+          }
+        };
+
+    try (final Connection connection =
+        DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "")) {
+      final Catalog catalog =
+          getCatalog(
+              connection,
+              schemaRetrievalOptionsDefault,
+              SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+              config);
+
+      final Map<String, Object> badColumnsConfig = new HashMap<>();
+      badColumnsConfig.put("bad-column-names", ".*\\.COUNTRY");
+      final LinterConfig badColumnsLinterConfig =
+          new LinterConfig(
+              "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+              true,
+              LintSeverity.medium,
+              0,
+              null,
+              null,
+              null,
+              null,
+              badColumnsConfig);
+      final Map<String, Object> sqlConfig = new HashMap<>();
+      sqlConfig.put("message", "has rows");
+      sqlConfig.put("sql", "SELECT TOP 1 1 FROM ${table}");
+      final LinterConfig sqlLinterConfig =
+          new LinterConfig(
+              "schemacrawler.tools.linter.LinterTableSql",
+              true,
+              LintSeverity.medium,
+              0,
+              null,
+              null,
+              null,
+              null,
+              sqlConfig);
+
+      final LinterConfigs badColumnsLinterConfigs = new LinterConfigs(new Config());
+      badColumnsLinterConfigs.add(badColumnsLinterConfig);
+      final Linters badColumnsLinters = new Linters(badColumnsLinterConfigs, false);
+      badColumnsLinters.lint(catalog, connection);
+      final List<Lint<?>> badColumnsLints =
+          new ArrayList<>(badColumnsLinters.getCollector().getLints());
+      assertThat(badColumnsLints.isEmpty(), is(false));
+
+      final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+      linterConfigs.add(badColumnsLinterConfig);
+      linterConfigs.add(sqlLinterConfig);
+      final Linters linters = new Linters(linterConfigs, false);
+      linters.setDataSource(dataSource);
+      linters.lint(catalog, connection, 3);
+      final List<Lint<?>> lints = new ArrayList<>(linters.getCollector().getLints());
+
+      // None of the lints from the failing linter are reported, even from the partition where it
+      // did not fail
+      assertThat(lints, is(badColumnsLints));
+      for (final Linter linter : linters) {
+        if (linter.getLinterId().equals("schemacrawler.tools.linter.LinterTableSql")) {
+          assertThat(linter.getLintCount(), is(0));
+        }
+      }
+    }
+  }
+
   @Test
   public void lintsWithExcludedColumns(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
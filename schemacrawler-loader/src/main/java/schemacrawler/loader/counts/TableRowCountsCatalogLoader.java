@@ -29,7 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.counts;
 
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 
+import java.sql.Connection;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,6 +54,9 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
 
   private static final String OPTION_NO_EMPTY_TABLES = "no-empty-tables";
   private static final String OPTION_LOAD_ROW_COUNTS = "load-row-counts";
+  private static final String OPTION_ESTIMATE_ROW_COUNTS = "estimate-row-counts";
+  private static final String OPTION_ROW_COUNT_THREADS = "row-count-threads";
+  private static final String OPTION_ROW_COUNT_TIMEOUT = "row-count-timeout";
 
   public TableRowCountsCatalogLoader() {
     super(new CommandDescription("countsloader", "Loader for table row counts"), 2);
@@ -69,6 +75,23 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
             "Loads row counts for each table",
             "This can be a time consuming operation",
             "Optional, defaults to false")
+        .addOption(
+            OPTION_ESTIMATE_ROW_COUNTS,
+            Boolean.class,
+            "Loads estimated row counts for each table from database statistics",
+            "Row counts are counted instead if the database plugin does not support estimates",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_ROW_COUNT_THREADS,
+            Integer.class,
+            "Number of database connections used to count rows in parallel",
+            "Optional, defaults to 1")
+        .addOption(
+            OPTION_ROW_COUNT_TIMEOUT,
+            Integer.class,
+            "Timeout in seconds for counting rows in a single table",
+            "Tables that time out do not have a row count",
+            "Optional, defaults to no timeout")
         .addOption(
             OPTION_NO_EMPTY_TABLES,
             Boolean.class,
@@ -96,11 +119,29 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
               "retrieveTableRowCounts",
               () -> {
                 final boolean loadRowCounts = config.getBooleanValue(OPTION_LOAD_ROW_COUNTS, false);
-                if (loadRowCounts) {
-                  rowCountsRetriever.retrieveTableRowCounts();
-                } else {
+                final boolean estimateRowCounts =
+                    config.getBooleanValue(OPTION_ESTIMATE_ROW_COUNTS, false);
+                if (!loadRowCounts && !estimateRowCounts) {
                   LOGGER.log(
                       Level.INFO, "Not retrieving table row counts, since this was not requested");
+                  return;
+                }
+
+                if (estimateRowCounts
+                    && rowCountsRetriever.retrieveEstimatedTableRowCounts(
+                        getSchemaRetrievalOptions().getInformationSchemaViews(),
+                        getSchemaCrawlerOptions().getLimitOptions().get(ruleForSchemaInclusion))) {
+                  return;
+                }
+
+                rowCountsRetriever.setQueryTimeout(
+                    config.getIntegerValue(OPTION_ROW_COUNT_TIMEOUT, 0));
+                final int rowCountThreads = config.getIntegerValue(OPTION_ROW_COUNT_THREADS, 1);
+                final Supplier<Connection> dataSource = getDataSource();
+                if (rowCountThreads > 1 && dataSource != null) {
+                  rowCountsRetriever.retrieveTableRowCounts(dataSource, rowCountThreads);
+                } else {
+                  rowCountsRetriever.retrieveTableRowCounts();
                 }
               }));
 
@@ -28,32 +28,51 @@ http://www.gnu.org/licenses/
 package schemacrawler.loader.counts;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.counts.TableRowCountsUtility.addEstimatedRowCountToTable;
 import static schemacrawler.loader.counts.TableRowCountsUtility.addRowCountToTable;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
 import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 import java.util.logging.Level;
-
 import java.util.logging.Logger;
+
+import schemacrawler.crawl.MetadataResultSet;
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
 @Retriever
 public final class TableRowCountsRetriever {
 
-  private static final Logger LOGGER =
-      Logger.getLogger(TableRowCountsRetriever.class.getName());
+  private static final Logger LOGGER = Logger.getLogger(TableRowCountsRetriever.class.getName());
+
+  private static final Query ROW_COUNT_QUERY =
+      new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
 
   private final Connection connection;
   private final Catalog catalog;
+  private int queryTimeout;
 
   public TableRowCountsRetriever(final Connection connection, final Catalog catalog)
       throws SQLException {
@@ -61,31 +80,154 @@ public final class TableRowCountsRetriever {
     this.catalog = requireNonNull(catalog, "No catalog provided");
   }
 
+  /**
+   * Retrieves estimated row counts from optimizer statistics, using a single query provided by the
+   * database plugin. Tables that have not been analyzed may not have estimates.
+   *
+   * @param informationSchemaViews Database specific queries
+   * @param schemaInclusionRule Schemas to retrieve estimates for
+   * @return Whether estimated row counts were retrieved
+   */
+  public boolean retrieveEstimatedTableRowCounts(
+      final InformationSchemaViews informationSchemaViews,
+      final InclusionRule schemaInclusionRule) {
+    requireNonNull(informationSchemaViews, "No information schema views provided");
+    if (!informationSchemaViews.hasQuery(EXT_TABLE_ROW_COUNTS)) {
+      LOGGER.log(Level.FINE, "Estimated table row counts SQL statement was not provided");
+      return false;
+    }
+
+    final Map<List<String>, List<Table>> tablesByName = new HashMap<>();
+    for (final Table table : catalog.getTables()) {
+      tablesByName
+          .computeIfAbsent(
+              Arrays.asList(table.getSchema().getName(), table.getName()), k -> new ArrayList<>())
+          .add(table);
+    }
+
+    final Query rowCountsSql = informationSchemaViews.getQuery(EXT_TABLE_ROW_COUNTS);
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(rowCountsSql, statement, schemaInclusionRule)) {
+      while (results.next()) {
+        final String catalogName = results.getString("TABLE_CATALOG");
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT", -1);
+
+        final List<Table> tables = tablesByName.get(Arrays.asList(schemaName, tableName));
+        if (tables == null) {
+          continue;
+        }
+        for (final Table table : tables) {
+          final String tableCatalogName = table.getSchema().getCatalogName();
+          if (tables.size() == 1
+              || catalogName == null
+              || tableCatalogName == null
+              || Objects.equals(catalogName, tableCatalogName)) {
+            addEstimatedRowCountToTable(table, rowCount);
+          }
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not retrieve estimated row counts from SQL:%n%s", rowCountsSql));
+      return false;
+    }
+    return true;
+  }
+
+  /** Counts rows in each table, one table at a time, using the connection. */
   public void retrieveTableRowCounts() {
+    final Identifiers identifiers = lookupIdentifiers();
+    if (identifiers == null) {
+      return;
+    }
+    for (final Table table : catalog.getTables()) {
+      retrieveTableRowCount(connection, table, identifiers);
+    }
+  }
+
+  /**
+   * Counts rows in tables in parallel. Each thread obtains its own connection from the data source,
+   * only if there are tables left to count, and closes it once there are no more tables to count,
+   * so no more than the given number of connections are open at any time.
+   *
+   * @param dataSource Source of database connections
+   * @param maxConnections Maximum number of connections to use
+   */
+  public void retrieveTableRowCounts(
+      final Supplier<Connection> dataSource, final int maxConnections) {
+    requireNonNull(dataSource, "No data source provided");
+    final Identifiers identifiers = lookupIdentifiers();
+    if (identifiers == null) {
+      return;
+    }
 
-    Identifiers identifiers;
+    final Queue<Table> tables = new ConcurrentLinkedQueue<>(catalog.getTables());
+    final int threadCount = Math.max(1, Math.min(maxConnections, tables.size()));
+    final TaskDefinition[] tasks = new TaskDefinition[threadCount];
+    for (int i = 0; i < threadCount; i++) {
+      tasks[i] =
+          new TaskDefinition(
+              "retrieveTableRowCounts" + i,
+              () -> {
+                Table table = tables.poll();
+                if (table == null) {
+                  // Other tasks have already counted all the tables
+                  return;
+                }
+                try (final Connection taskConnection = dataSource.get()) {
+                  do {
+                    retrieveTableRowCount(taskConnection, table, identifiers);
+                  } while ((table = tables.poll()) != null);
+                }
+              });
+    }
+
+    // Each task uses its own connection, so tables can be counted using multiple threads
+    final TaskRunner taskRunner =
+        TaskRunners.getConcurrentTaskRunner("retrieveTableRowCounts", threadCount);
     try {
-      identifiers = Identifiers.identifiers().withConnection(connection).build();
+      taskRunner.run(tasks);
+      taskRunner.stop();
+      LOGGER.log(Level.INFO, taskRunner.report());
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve table row counts", e);
+    }
+  }
+
+  /**
+   * Sets a timeout for counting rows in a single table. Tables that take longer are left without a
+   * row count.
+   *
+   * @param queryTimeout Timeout in seconds, or zero for no timeout
+   */
+  public void setQueryTimeout(final int queryTimeout) {
+    this.queryTimeout = Math.max(0, queryTimeout);
+  }
+
+  private Identifiers lookupIdentifiers() {
+    try {
+      return Identifiers.identifiers().withConnection(connection).build();
     } catch (final SQLException e) {
       // The offline snapshot executable may not have a live connection,
       // so we cannot fail with an exception. Log and continue.
       LOGGER.log(Level.WARNING, "No connection provided", e);
-
-      identifiers = Identifiers.STANDARD;
-
-      return;
+      return null;
     }
+  }
 
-    final Query query =
-        new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table : allTables) {
-      try {
-        final long count = executeForLong(query, connection, table, identifiers);
-        addRowCountToTable(table, count);
-      } catch (final SQLException e) {
-        LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
-      }
+  private void retrieveTableRowCount(
+      final Connection connection, final Table table, final Identifiers identifiers) {
+    try {
+      final long count =
+          executeForLong(ROW_COUNT_QUERY, connection, table, identifiers, queryTimeout);
+      addRowCountToTable(table, count);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
     }
   }
 }
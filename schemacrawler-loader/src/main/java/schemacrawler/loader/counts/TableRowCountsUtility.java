@@ -37,6 +37,8 @@ public final class TableRowCountsUtility {
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.row_count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY =
+      "schemacrawler.table.row_count_estimated";
 
   public static long getRowCount(final Table table) {
     if (table == null) {
@@ -67,17 +69,42 @@ public final class TableRowCountsUtility {
     return getRowCountMessage(getRowCount(table));
   }
 
+  /**
+   * Checks whether the table has a row count that was obtained by counting rows, rather than
+   * estimated from table statistics.
+   *
+   * @param table Table to check
+   * @return True if the table has an exact row count
+   */
+  public static boolean hasExactRowCount(final Table table) {
+    return hasRowCount(table) && !table.hasAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+  }
+
   public static boolean hasRowCount(final Table table) {
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  static void addEstimatedRowCountToTable(final Table table, final long rowCount) {
+    addRowCountToTable(table, rowCount, true);
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount) {
+    addRowCountToTable(table, rowCount, false);
+  }
+
+  private static void addRowCountToTable(
+      final Table table, final long rowCount, final boolean isEstimated) {
     if (table != null) {
       if (rowCount >= 0) {
         table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
       } else {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
       }
+      if (rowCount >= 0 && isEstimated) {
+        table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+      } else {
+        table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+      }
     }
   }
 
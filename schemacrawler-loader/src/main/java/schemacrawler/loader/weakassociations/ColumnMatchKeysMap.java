@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
@@ -38,6 +39,8 @@ import us.fatehi.utility.Multimap;
 
 final class ColumnMatchKeysMap {
 
+  private static final Pattern idSuffixPattern = Pattern.compile("_?id$");
+
   private final Multimap<String, Column> columnsForMatchKey;
   private final Multimap<Column, String> matchKeysForColumn;
 
@@ -75,7 +78,7 @@ final class ColumnMatchKeysMap {
   private void mapColumnNameMatches(final Table table) {
     for (final Column column : table.getColumns()) {
       final String columnName = column.getName().toLowerCase();
-      final String matchColumnName = columnName.replaceAll("_?id$", "");
+      final String matchColumnName = idSuffixPattern.matcher(columnName).replaceAll("");
       if (!isBlank(matchColumnName)) {
         columnsForMatchKey.add(matchColumnName, column);
         matchKeysForColumn.add(column, matchColumnName);
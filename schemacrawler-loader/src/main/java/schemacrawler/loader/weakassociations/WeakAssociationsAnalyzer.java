@@ -41,6 +41,10 @@ import java.util.logging.Logger;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
 public final class WeakAssociationsAnalyzer {
@@ -49,16 +53,35 @@ public final class WeakAssociationsAnalyzer {
 
   private final List<Table> tables;
   private final Predicate<ProposedWeakAssociation> weakAssociationRule;
+  private final int maxThreads;
   private final Collection<ProposedWeakAssociation> weakAssociations;
 
   public WeakAssociationsAnalyzer(
       final Collection<Table> tables,
       final Predicate<ProposedWeakAssociation> weakAssociationRule) {
+    this(tables, weakAssociationRule, 1);
+  }
+
+  /**
+   * Finds weak associations between tables. Candidate key tables are analyzed in parallel, in
+   * contiguous partitions of tables, so weak associations are found in the same order however many
+   * threads are used.
+   *
+   * @param tables Tables to analyze
+   * @param weakAssociationRule Rule to accept a proposed weak association, which needs to be
+   *     thread-safe
+   * @param maxThreads Maximum number of threads to use
+   */
+  public WeakAssociationsAnalyzer(
+      final Collection<Table> tables,
+      final Predicate<ProposedWeakAssociation> weakAssociationRule,
+      final int maxThreads) {
     requireNonNull(tables, "No tables provided");
     this.tables = new ArrayList<>(tables);
     Collections.sort(this.tables);
 
     this.weakAssociationRule = requireNonNull(weakAssociationRule, "No rules provided");
+    this.maxThreads = maxThreads;
 
     weakAssociations = new ArrayList<>();
   }
@@ -82,37 +105,75 @@ public final class WeakAssociationsAnalyzer {
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", columnMatchKeysMap));
       LOGGER.log(Level.FINER, new StringFormat("Table match keys <%s>", tableMatchKeys));
     }
-    for (final Table table : tables) {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn : tableCandidateKeys) {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey()) {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn)) {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
-        }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey : fkColumnMatchKeys) {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+    // Match keys are only read from here on, so partitions of tables can be analyzed in parallel
+    final int partitionCount = Math.max(1, Math.min(maxThreads, tables.size()));
+    final int partitionSize = (tables.size() + partitionCount - 1) / partitionCount;
+    final List<List<ProposedWeakAssociation>> partitionWeakAssociations = new ArrayList<>();
+    final List<TaskDefinition> tasks = new ArrayList<>();
+    for (int i = 0; i * partitionSize < tables.size(); i++) {
+      final List<Table> partitionTables =
+          tables.subList(i * partitionSize, Math.min(tables.size(), (i + 1) * partitionSize));
+      final List<ProposedWeakAssociation> partitionResults = new ArrayList<>();
+      partitionWeakAssociations.add(partitionResults);
+      tasks.add(
+          new TaskDefinition(
+              "findWeakAssociations" + i,
+              () -> {
+                for (final Table table : partitionTables) {
+                  findWeakAssociations(table, columnMatchKeysMap, tableMatchKeys, partitionResults);
+                }
+              }));
+    }
+
+    final TaskRunner taskRunner =
+        TaskRunners.getConcurrentTaskRunner("findWeakAssociations", tasks.size());
+    try {
+      taskRunner.run(tasks.toArray(new TaskDefinition[0]));
+      taskRunner.stop();
+      LOGGER.log(Level.INFO, taskRunner.report());
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Could not find weak associations", e);
+    }
+
+    for (final List<ProposedWeakAssociation> partitionResults : partitionWeakAssociations) {
+      weakAssociations.addAll(partitionResults);
+    }
+  }
+
+  private void findWeakAssociations(
+      final Table table,
+      final ColumnMatchKeysMap columnMatchKeysMap,
+      final TableMatchKeys tableMatchKeys,
+      final List<ProposedWeakAssociation> weakAssociations) {
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+    for (final Column pkColumn : tableCandidateKeys) {
+      final Set<String> fkColumnMatchKeys = new HashSet<>();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey()) {
+        fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn)) {
+        fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+      }
+
+      final Set<Column> fkColumns = new HashSet<>();
+      for (final String fkColumnMatchKey : fkColumnMatchKeys) {
+        if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
+          fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
         }
+      }
 
-        for (final Column fkColumn : fkColumns) {
-          final ProposedWeakAssociation proposedWeakAssociation =
-              new ProposedWeakAssociation(fkColumn, pkColumn);
-          if (proposedWeakAssociation.isValid()
-              && weakAssociationRule.test(proposedWeakAssociation)) {
-            LOGGER.log(
-                Level.FINE,
-                new StringFormat("Found weak association <%s>", proposedWeakAssociation));
-            weakAssociations.add(proposedWeakAssociation);
-          }
+      for (final Column fkColumn : fkColumns) {
+        final ProposedWeakAssociation proposedWeakAssociation =
+            new ProposedWeakAssociation(fkColumn, pkColumn);
+        if (proposedWeakAssociation.isValid()
+            && weakAssociationRule.test(proposedWeakAssociation)) {
+          LOGGER.log(
+              Level.FINE, new StringFormat("Found weak association <%s>", proposedWeakAssociation));
+          weakAssociations.add(proposedWeakAssociation);
         }
       }
     }
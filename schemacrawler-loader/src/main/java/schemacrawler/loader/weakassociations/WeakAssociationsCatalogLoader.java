@@ -122,7 +122,10 @@ public final class WeakAssociationsCatalogLoader extends BaseCatalogLoader {
     final Catalog catalog = getCatalog();
     final List<Table> allTables = new ArrayList<>(catalog.getTables());
     final WeakAssociationsAnalyzer weakAssociationsAnalyzer =
-        new WeakAssociationsAnalyzer(allTables, weakAssociationRule);
+        new WeakAssociationsAnalyzer(
+            allTables,
+            weakAssociationRule,
+            getSchemaCrawlerOptions().getLoadOptions().getMaxThreads());
     final Collection<ProposedWeakAssociation> proposedWeakAssociations =
         weakAssociationsAnalyzer.analyzeTables();
 
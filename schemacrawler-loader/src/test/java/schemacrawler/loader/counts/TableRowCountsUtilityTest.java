@@ -31,6 +31,30 @@ public class TableRowCountsUtilityTest {
     assertThat(TableRowCountsUtility.getRowCount(table), is(-1L));
   }
 
+  @Test
+  public void estimated() {
+    final Table table = new LightTable("table1");
+
+    assertThat(TableRowCountsUtility.hasExactRowCount(null), is(false));
+    assertThat(TableRowCountsUtility.hasExactRowCount(table), is(false));
+
+    TableRowCountsUtility.addEstimatedRowCountToTable(table, 0);
+    assertThat(TableRowCountsUtility.hasRowCount(table), is(true));
+    assertThat(TableRowCountsUtility.hasExactRowCount(table), is(false));
+    assertThat(TableRowCountsUtility.getRowCount(table), is(0L));
+
+    TableRowCountsUtility.addRowCountToTable(table, 2);
+    assertThat(TableRowCountsUtility.hasExactRowCount(table), is(true));
+    assertThat(TableRowCountsUtility.getRowCount(table), is(2L));
+
+    TableRowCountsUtility.addEstimatedRowCountToTable(table, 3);
+    assertThat(TableRowCountsUtility.hasExactRowCount(table), is(false));
+
+    TableRowCountsUtility.addEstimatedRowCountToTable(table, -1);
+    assertThat(TableRowCountsUtility.hasRowCount(table), is(false));
+    assertThat(TableRowCountsUtility.hasExactRowCount(table), is(false));
+  }
+
   @Test
   public void message() {
     final Table table = new LightTable("table1");
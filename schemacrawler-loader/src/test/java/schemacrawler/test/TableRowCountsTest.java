@@ -29,7 +29,10 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
@@ -37,22 +40,33 @@ import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.loader.counts.TableRowCountsRetriever;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestUtility;
@@ -68,6 +82,7 @@ import schemacrawler.utility.NamedObjectSort;
 public class TableRowCountsTest {
 
   private Catalog catalog;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
 
   @BeforeAll
   public void loadCatalog(final Connection connection) throws Exception {
@@ -82,7 +97,7 @@ public class TableRowCountsTest {
             .includeAllRoutines();
     final LoadOptionsBuilder loadOptionsBuilder =
         LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
-    final SchemaCrawlerOptions schemaCrawlerOptions =
+    schemaCrawlerOptions =
         SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
             .withLimitOptions(limitOptionsBuilder.toOptions())
             .withLoadOptions(loadOptionsBuilder.toOptions());
@@ -95,6 +110,97 @@ public class TableRowCountsTest {
             connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
   }
 
+  @Test
+  public void estimatedRowCounts(final TestContext testContext, final Connection connection)
+      throws Exception {
+    final SchemaRetrievalOptions defaultSchemaRetrievalOptions =
+        TestUtility.newSchemaRetrievalOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(defaultSchemaRetrievalOptions)
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder(
+                        defaultSchemaRetrievalOptions.getInformationSchemaViews())
+                    .withSql(
+                        InformationSchemaKey.EXT_TABLE_ROW_COUNTS,
+                        "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, CARDINALITY AS ROW_COUNT "
+                            + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS")
+                    .toOptions())
+            .toOptions();
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("estimate-row-counts", true);
+
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+
+    // Views do not have statistics, so they do not have estimated row counts
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      for (final Schema schema : catalog.getSchemas()) {
+        final Table[] tables = catalog.getTables(schema).toArray(new Table[0]);
+        Arrays.sort(tables, NamedObjectSort.alphabetical);
+        for (final Table table : tables) {
+          if (hasRowCount(table)) {
+            out.println(String.format("%s [%s]", table.getFullName(), getRowCountMessage(table)));
+          } else {
+            out.println(String.format("%s [no estimate]", table.getFullName()));
+          }
+        }
+      }
+    }
+    assertThat(
+        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+  }
+
+  @Test
+  public void parallelRowCounts(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final Supplier<Connection> dataSource =
+        () -> {
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException("Could not connect", e);
+          }
+        };
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-count-threads", 3);
+    additionalConfig.put("row-count-timeout", 10);
+
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            additionalConfig);
+    assertRowCounts(catalog);
+  }
+
+  @Test
+  public void parallelRowCountsOnWorkerThreads(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final Set<String> connectionThreads = ConcurrentHashMap.newKeySet();
+    final Supplier<Connection> dataSource =
+        () -> {
+          connectionThreads.add(Thread.currentThread().getName());
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException("Could not connect", e);
+          }
+        };
+
+    final TableRowCountsRetriever rowCountsRetriever =
+        new TableRowCountsRetriever(connection, catalog);
+    rowCountsRetriever.retrieveTableRowCounts(dataSource, 3);
+
+    assertThat(connectionThreads, not(hasItem(Thread.currentThread().getName())));
+    assertThat(connectionThreads.size(), is(lessThanOrEqualTo(3)));
+    assertRowCounts(catalog);
+  }
+
   @Test
   public void noEmptyTables(final TestContext testContext, final Connection connection)
       throws Exception {
@@ -128,7 +234,11 @@ public class TableRowCountsTest {
   }
 
   @Test
-  public void rowCounts(final TestContext testContext) throws Exception {
+  public void rowCounts() throws Exception {
+    assertRowCounts(catalog);
+  }
+
+  private void assertRowCounts(final Catalog catalog) throws Exception {
     final TestWriter testout = new TestWriter();
     try (final TestWriter out = testout) {
       final Schema[] schemas = catalog.getSchemas().toArray(new Schema[0]);
@@ -143,6 +253,8 @@ public class TableRowCountsTest {
       }
     }
     assertThat(
-        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+        outputOf(testout),
+        hasSameContentAs(
+            classpathResource(TableRowCountsTest.class.getSimpleName() + ".rowCounts")));
   }
 }
@@ -1,5 +1,6 @@
 package schemacrawler.tools.offline;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newInputStream;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
@@ -7,6 +8,7 @@ import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
 import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
@@ -14,6 +16,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.zip.GZIPInputStream;
 
+import schemacrawler.crawl.CatalogSnapshotReader;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -26,7 +29,10 @@ import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.tools.catalogloader.BaseCatalogLoader;
 import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.formatter.serialize.CatalogSerializer;
 import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.JsonSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.YamlSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 
 public final class OfflineCatalogLoader extends BaseCatalogLoader {
@@ -62,12 +68,7 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
       }
 
       final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-      try (final InputStream inputFileStream =
-          new GZIPInputStream(newInputStream(offlineDatabasePath)); ) {
-        final JavaSerializedCatalog deserializedCatalog =
-            new JavaSerializedCatalog(inputFileStream);
-        catalog = deserializedCatalog.getCatalog();
-      }
+      catalog = readCatalog(offlineDatabasePath);
       reduceCatalog(catalog);
     } catch (final IOException e) {
       throw new IORuntimeException("Could not load offline database", e);
@@ -78,6 +79,48 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
     setCatalog(catalog);
   }
 
+  /**
+   * Reads a binary catalog snapshot, a catalog serialized to JSON or YAML, or falls back to gzipped
+   * Java serialization for offline catalogs that were saved in the older format. Binary snapshots
+   * are mapped from the file, and only schemas that are included by the options are loaded.
+   */
+  private Catalog readCatalog(final Path offlineDatabasePath) throws IOException {
+    try (final InputStream inputFileStream =
+        new BufferedInputStream(newInputStream(offlineDatabasePath))) {
+      if (!CatalogSnapshotReader.isCatalogSnapshot(inputFileStream)) {
+        final CatalogSerializer deserializedCatalog;
+        final String start = peekText(inputFileStream);
+        if (start.startsWith("{")) {
+          deserializedCatalog = new JsonSerializedCatalog(inputFileStream);
+        } else if (start.startsWith("---")) {
+          deserializedCatalog = new YamlSerializedCatalog(inputFileStream);
+        } else {
+          deserializedCatalog = new JavaSerializedCatalog(new GZIPInputStream(inputFileStream));
+        }
+        return deserializedCatalog.getCatalog();
+      }
+    }
+    return new CatalogSnapshotReader(offlineDatabasePath).read(getSchemaCrawlerOptions());
+  }
+
+  /**
+   * Reads the first few characters of the stream, without consuming them, to detect text
+   * serialization formats.
+   */
+  private String peekText(final InputStream in) throws IOException {
+    final byte[] start = new byte[64];
+    in.mark(start.length);
+    try {
+      final int count = in.read(start);
+      if (count <= 0) {
+        return "";
+      }
+      return new String(start, 0, count, UTF_8).replace("\uFEFF", "").trim();
+    } finally {
+      in.reset();
+    }
+  }
+
   private void reduceCatalog(final Catalog catalog) {
     final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
     ((Reducible) catalog).reduce(Schema.class, getSchemaReducer(schemaCrawlerOptions));
@@ -48,6 +48,9 @@ class OracleInformationSchemaViewsBuilder
     }
 
     informationSchemaViewsBuilder.fromResourceFolder("/oracle.information_schema");
+    // Data dictionary views return a row for every column of every table, so fetch more rows at a
+    // time than the driver default
+    informationSchemaViewsBuilder.withFetchSize(500);
 
     // Check level of access
     final String catalogScope = getCatalogScope(connection);
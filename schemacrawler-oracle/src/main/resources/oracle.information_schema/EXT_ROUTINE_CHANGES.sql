@@ -0,0 +1,18 @@
+SELECT
+  NULL AS ROUTINE_CATALOG,
+  OBJECTS.OWNER AS ROUTINE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS ROUTINE_NAME,
+  TO_CHAR(OBJECTS.LAST_DDL_TIME, 'YYYY-MM-DD"T"HH24:MI:SS') AS CHANGE_MARKER
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON OBJECTS.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_TYPE IN ('PROCEDURE', 'FUNCTION')
+ORDER BY
+  ROUTINE_SCHEMA,
+  ROUTINE_NAME
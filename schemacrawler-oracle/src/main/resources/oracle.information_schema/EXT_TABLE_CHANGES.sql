@@ -0,0 +1,63 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  TO_CHAR(
+    GREATEST(
+      OBJECTS.LAST_DDL_TIME,
+      NVL(
+        (SELECT MAX(DEPENDENTS.LAST_DDL_TIME)
+         FROM
+           ${catalogscope}_INDEXES INDEXES
+           INNER JOIN ${catalogscope}_OBJECTS DEPENDENTS
+             ON INDEXES.OWNER = DEPENDENTS.OWNER
+               AND INDEXES.INDEX_NAME = DEPENDENTS.OBJECT_NAME
+               AND DEPENDENTS.OBJECT_TYPE = 'INDEX'
+         WHERE
+           INDEXES.TABLE_OWNER = OBJECTS.OWNER
+           AND INDEXES.TABLE_NAME = OBJECTS.OBJECT_NAME),
+        OBJECTS.LAST_DDL_TIME),
+      NVL(
+        (SELECT MAX(DEPENDENTS.LAST_DDL_TIME)
+         FROM
+           ${catalogscope}_TRIGGERS TRIGGERS
+           INNER JOIN ${catalogscope}_OBJECTS DEPENDENTS
+             ON TRIGGERS.OWNER = DEPENDENTS.OWNER
+               AND TRIGGERS.TRIGGER_NAME = DEPENDENTS.OBJECT_NAME
+               AND DEPENDENTS.OBJECT_TYPE = 'TRIGGER'
+         WHERE
+           TRIGGERS.TABLE_OWNER = OBJECTS.OWNER
+           AND TRIGGERS.TABLE_NAME = OBJECTS.OBJECT_NAME),
+        OBJECTS.LAST_DDL_TIME),
+      NVL(
+        (SELECT MAX(DEPENDENTS.LAST_DDL_TIME)
+         FROM
+           ${catalogscope}_CONSTRAINTS REFERENCING
+           INNER JOIN ${catalogscope}_CONSTRAINTS REFERENCED
+             ON REFERENCING.R_OWNER = REFERENCED.OWNER
+               AND REFERENCING.R_CONSTRAINT_NAME = REFERENCED.CONSTRAINT_NAME
+           INNER JOIN ${catalogscope}_OBJECTS DEPENDENTS
+             ON REFERENCING.OWNER = DEPENDENTS.OWNER
+               AND REFERENCING.TABLE_NAME = DEPENDENTS.OBJECT_NAME
+               AND DEPENDENTS.OBJECT_TYPE = 'TABLE'
+         WHERE
+           REFERENCING.CONSTRAINT_TYPE = 'R'
+           AND REFERENCED.OWNER = OBJECTS.OWNER
+           AND REFERENCED.TABLE_NAME = OBJECTS.OBJECT_NAME),
+        OBJECTS.LAST_DDL_TIME)),
+    'YYYY-MM-DD"T"HH24:MI:SS')
+    AS CHANGE_MARKER
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+  INNER JOIN ${catalogscope}_USERS USERS
+    ON OBJECTS.OWNER = USERS.USERNAME
+      AND USERS.ORACLE_MAINTAINED = 'N'
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^APEX_[0-9]{6}$')
+      AND NOT REGEXP_LIKE(USERS.USERNAME, '^FLOWS_[0-9]{5}$')
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
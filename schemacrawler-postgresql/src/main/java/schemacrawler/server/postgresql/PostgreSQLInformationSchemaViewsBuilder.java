@@ -0,0 +1,82 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.server.postgresql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import us.fatehi.utility.string.StringFormat;
+
+class PostgreSQLInformationSchemaViewsBuilder
+    implements BiConsumer<InformationSchemaViewsBuilder, Connection> {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(PostgreSQLInformationSchemaViewsBuilder.class.getName());
+
+  private static int getMajorVersion(final Connection connection) {
+    if (connection == null) {
+      LOGGER.log(Level.FINE, "No connection provided to obtain PostgreSQL server version");
+      return 0;
+    }
+
+    int majorVersion = 0;
+    try {
+      majorVersion = connection.getMetaData().getDatabaseMajorVersion();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not obtain PostgreSQL server version", e);
+    }
+
+    LOGGER.log(
+        Level.INFO, new StringFormat("Using PostgreSQL server major version <%d>", majorVersion));
+    return majorVersion;
+  }
+
+  @Override
+  public void accept(
+      final InformationSchemaViewsBuilder informationSchemaViewsBuilder,
+      final Connection connection) {
+    if (informationSchemaViewsBuilder == null) {
+      LOGGER.log(Level.FINE, "No information schema views builder provided");
+      return;
+    }
+
+    informationSchemaViewsBuilder.fromResourceFolder("/postgresql.information_schema");
+
+    // Identity columns are in PostgreSQL 10 and later, and generated columns in PostgreSQL 12 and
+    // later, so older servers do not have the catalog columns for them
+    final int majorVersion = getMajorVersion(connection);
+    informationSchemaViewsBuilder.substituteAll(
+        "attidentity", majorVersion >= 10 ? "ATT.ATTIDENTITY" : "''");
+    informationSchemaViewsBuilder.substituteAll(
+        "attgenerated", majorVersion >= 12 ? "ATT.ATTGENERATED" : "''");
+  }
+}
@@ -0,0 +1,17 @@
+SELECT
+  CURRENT_DATABASE() AS ROUTINE_CATALOG,
+  NSP.NSPNAME AS ROUTINE_SCHEMA,
+  PRO.PRONAME AS ROUTINE_NAME,
+  CONCAT_WS(':', PRO.OID::TEXT, PRO.XMIN::TEXT) AS CHANGE_MARKER
+FROM
+  PG_CATALOG.PG_PROC PRO
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON PRO.PRONAMESPACE = NSP.OID
+WHERE
+  NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND NSP.NSPNAME NOT LIKE 'pg_temp%'
+  AND NSP.NSPNAME ~ '${schemas}'
+ORDER BY
+  ROUTINE_SCHEMA,
+  ROUTINE_NAME
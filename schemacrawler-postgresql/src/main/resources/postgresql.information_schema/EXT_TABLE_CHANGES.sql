@@ -0,0 +1,35 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CATALOG,
+  NSP.NSPNAME AS TABLE_SCHEMA,
+  CLS.RELNAME AS TABLE_NAME,
+  CONCAT_WS(':',
+    CLS.XMIN::TEXT,
+    (SELECT STRING_AGG(ATT.XMIN::TEXT, ',' ORDER BY ATT.ATTNUM)
+     FROM PG_CATALOG.PG_ATTRIBUTE ATT
+     WHERE ATT.ATTRELID = CLS.OID AND ATT.ATTNUM > 0),
+    (SELECT STRING_AGG(CON.XMIN::TEXT, ',' ORDER BY CON.OID)
+     FROM PG_CATALOG.PG_CONSTRAINT CON
+     WHERE CON.CONRELID = CLS.OID OR CON.CONFRELID = CLS.OID),
+    (SELECT STRING_AGG(IDX.XMIN::TEXT, ',' ORDER BY IDX.INDEXRELID)
+     FROM PG_CATALOG.PG_INDEX IDX
+     WHERE IDX.INDRELID = CLS.OID),
+    (SELECT STRING_AGG(TRG.XMIN::TEXT, ',' ORDER BY TRG.OID)
+     FROM PG_CATALOG.PG_TRIGGER TRG
+     WHERE TRG.TGRELID = CLS.OID AND NOT TRG.TGISINTERNAL),
+    (SELECT STRING_AGG(DSC.XMIN::TEXT, ',' ORDER BY DSC.OBJSUBID)
+     FROM PG_CATALOG.PG_DESCRIPTION DSC
+     WHERE DSC.OBJOID = CLS.OID AND DSC.CLASSOID = 'pg_catalog.pg_class'::REGCLASS)
+  ) AS CHANGE_MARKER
+FROM
+  PG_CATALOG.PG_CLASS CLS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+WHERE
+  CLS.RELKIND IN ('r', 'v', 'm', 'f', 'p')
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND NSP.NSPNAME NOT LIKE 'pg_temp%'
+  AND NSP.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
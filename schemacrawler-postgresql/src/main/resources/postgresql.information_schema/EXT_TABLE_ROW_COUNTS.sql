@@ -0,0 +1,27 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CATALOG,
+  NSP.NSPNAME AS TABLE_SCHEMA,
+  CLS.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN CLS.RELKIND = 'p' THEN
+      (SELECT CAST(SUM(GREATEST(PART.RELTUPLES, 0)) AS BIGINT)
+       FROM
+         PG_CATALOG.PG_INHERITS INH
+         INNER JOIN PG_CATALOG.PG_CLASS PART
+           ON INH.INHRELID = PART.OID
+       WHERE INH.INHPARENT = CLS.OID)
+    WHEN CLS.RELTUPLES < 0 THEN NULL
+    ELSE CAST(CLS.RELTUPLES AS BIGINT)
+  END AS ROW_COUNT
+FROM
+  PG_CATALOG.PG_CLASS CLS
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+WHERE
+  CLS.RELKIND IN ('r', 'm', 'p')
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND NSP.NSPNAME NOT LIKE 'pg_temp%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,62 @@
+SELECT
+  CURRENT_DATABASE() AS PKTABLE_CAT,
+  PK_NSP.NSPNAME AS PKTABLE_SCHEM,
+  PK_CLS.RELNAME AS PKTABLE_NAME,
+  PK_ATT.ATTNAME AS PKCOLUMN_NAME,
+  CURRENT_DATABASE() AS FKTABLE_CAT,
+  FK_NSP.NSPNAME AS FKTABLE_SCHEM,
+  FK_CLS.RELNAME AS FKTABLE_NAME,
+  FK_ATT.ATTNAME AS FKCOLUMN_NAME,
+  KEYS.KEY_SEQ AS KEY_SEQ,
+  CASE CON.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE CON.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    ELSE 3
+  END AS DELETE_RULE,
+  CON.CONNAME AS FK_NAME,
+  PK_IDX.RELNAME AS PK_NAME,
+  CASE
+    WHEN CON.CONDEFERRABLE AND CON.CONDEFERRED THEN 5
+    WHEN CON.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  PG_CATALOG.PG_CONSTRAINT CON
+  CROSS JOIN LATERAL UNNEST(CON.CONKEY, CON.CONFKEY)
+    WITH ORDINALITY AS KEYS (FK_ATTNUM, PK_ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_CLASS FK_CLS
+    ON CON.CONRELID = FK_CLS.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE FK_NSP
+    ON FK_CLS.RELNAMESPACE = FK_NSP.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE FK_ATT
+    ON FK_ATT.ATTRELID = FK_CLS.OID
+      AND FK_ATT.ATTNUM = KEYS.FK_ATTNUM
+  INNER JOIN PG_CATALOG.PG_CLASS PK_CLS
+    ON CON.CONFRELID = PK_CLS.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE PK_NSP
+    ON PK_CLS.RELNAMESPACE = PK_NSP.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE PK_ATT
+    ON PK_ATT.ATTRELID = PK_CLS.OID
+      AND PK_ATT.ATTNUM = KEYS.PK_ATTNUM
+  LEFT OUTER JOIN PG_CATALOG.PG_CLASS PK_IDX
+    ON CON.CONINDID = PK_IDX.OID
+WHERE
+  CON.CONTYPE = 'f'
+  AND FK_NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND FK_NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND FK_NSP.NSPNAME NOT LIKE 'pg_temp%'
+  AND (FK_NSP.NSPNAME ~ '${schemas}' OR PK_NSP.NSPNAME ~ '${schemas}')
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,43 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CAT,
+  NSP.NSPNAME AS TABLE_SCHEM,
+  TBL.RELNAME AS TABLE_NAME,
+  NOT IDX.INDISUNIQUE AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  IND.RELNAME AS INDEX_NAME,
+  CASE
+    WHEN IDX.INDISCLUSTERED THEN 1
+    WHEN AM.AMNAME = 'hash' THEN 2
+    ELSE 3
+  END AS TYPE,
+  KEYS.N AS ORDINAL_POSITION,
+  TRIM(BOTH '"' FROM PG_CATALOG.PG_GET_INDEXDEF(IND.OID, KEYS.N, FALSE)) AS COLUMN_NAME,
+  CASE
+    WHEN AM.AMNAME <> 'btree' THEN NULL
+    WHEN IDX.INDOPTION[KEYS.N - 1] & 1 = 1 THEN 'D'
+    ELSE 'A'
+  END AS ASC_OR_DESC,
+  IND.RELTUPLES AS CARDINALITY,
+  IND.RELPAGES AS PAGES,
+  PG_CATALOG.PG_GET_EXPR(IDX.INDPRED, IDX.INDRELID) AS FILTER_CONDITION
+FROM
+  PG_CATALOG.PG_INDEX IDX
+  CROSS JOIN LATERAL INFORMATION_SCHEMA._PG_EXPANDARRAY(IDX.INDKEY) AS KEYS
+  INNER JOIN PG_CATALOG.PG_CLASS IND
+    ON IDX.INDEXRELID = IND.OID
+  INNER JOIN PG_CATALOG.PG_CLASS TBL
+    ON IDX.INDRELID = TBL.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON TBL.RELNAMESPACE = NSP.OID
+  INNER JOIN PG_CATALOG.PG_AM AM
+    ON IND.RELAM = AM.OID
+WHERE
+  NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND NSP.NSPNAME NOT LIKE 'pg_temp%'
+  AND NSP.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  ORDINAL_POSITION
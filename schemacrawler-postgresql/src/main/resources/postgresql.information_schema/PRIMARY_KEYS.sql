@@ -0,0 +1,28 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CAT,
+  NSP.NSPNAME AS TABLE_SCHEM,
+  CLS.RELNAME AS TABLE_NAME,
+  ATT.ATTNAME AS COLUMN_NAME,
+  KEYS.KEY_SEQ AS KEY_SEQ,
+  CON.CONNAME AS PK_NAME
+FROM
+  PG_CATALOG.PG_CONSTRAINT CON
+  CROSS JOIN LATERAL UNNEST(CON.CONKEY) WITH ORDINALITY AS KEYS (ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_CLASS CLS
+    ON CON.CONRELID = CLS.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATT
+    ON ATT.ATTRELID = CLS.OID
+      AND ATT.ATTNUM = KEYS.ATTNUM
+WHERE
+  CON.CONTYPE = 'p'
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND NSP.NSPNAME NOT LIKE 'pg_temp%'
+  AND NSP.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
@@ -0,0 +1,129 @@
+SELECT
+  CURRENT_DATABASE() AS TABLE_CAT,
+  NSP.NSPNAME AS TABLE_SCHEM,
+  CLS.RELNAME AS TABLE_NAME,
+  ATT.ATTNAME AS COLUMN_NAME,
+  CASE
+    WHEN TYP.TYPTYPE = 'd' THEN 2001
+    WHEN TYP.TYPTYPE = 'c' THEN 2002
+    WHEN TYP.TYPTYPE = 'e' THEN 12
+    WHEN TYP.TYPCATEGORY = 'A' THEN 2003
+    WHEN TYP.TYPNAME IN ('int2') THEN 5
+    WHEN TYP.TYPNAME IN ('int4') THEN 4
+    WHEN TYP.TYPNAME IN ('int8', 'oid') THEN -5
+    WHEN TYP.TYPNAME IN ('numeric') THEN 2
+    WHEN TYP.TYPNAME IN ('float4') THEN 7
+    WHEN TYP.TYPNAME IN ('float8', 'money') THEN 8
+    WHEN TYP.TYPNAME IN ('bpchar', 'char') THEN 1
+    WHEN TYP.TYPNAME IN ('varchar', 'text', 'name') THEN 12
+    WHEN TYP.TYPNAME IN ('bytea') THEN -2
+    WHEN TYP.TYPNAME IN ('bool', 'bit') THEN -7
+    WHEN TYP.TYPNAME IN ('date') THEN 91
+    WHEN TYP.TYPNAME IN ('time', 'timetz') THEN 92
+    WHEN TYP.TYPNAME IN ('timestamp', 'timestamptz') THEN 93
+    WHEN TYP.TYPNAME IN ('xml') THEN 2009
+    WHEN TYP.TYPNAME IN ('refcursor') THEN 2012
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE
+    WHEN ATTDEF.ADBIN IS NOT NULL
+      AND PG_CATALOG.PG_GET_EXPR(ATTDEF.ADBIN, ATTDEF.ADRELID) LIKE 'nextval(%'
+      AND TYP.TYPNAME IN ('int2', 'int4', 'int8')
+    THEN
+      CASE TYP.TYPNAME
+        WHEN 'int2' THEN 'smallserial'
+        WHEN 'int4' THEN 'serial'
+        ELSE 'bigserial'
+      END
+    ELSE TYP.TYPNAME
+  END AS TYPE_NAME,
+  CASE
+    WHEN TYP.TYPNAME IN ('varchar', 'bpchar') AND ATT.ATTTYPMOD > 4 THEN ATT.ATTTYPMOD - 4
+    WHEN TYP.TYPNAME IN ('numeric') AND ATT.ATTTYPMOD > 4 THEN ((ATT.ATTTYPMOD - 4) >> 16) & 65535
+    WHEN TYP.TYPNAME IN ('numeric') THEN 1000
+    WHEN TYP.TYPNAME IN ('bit', 'varbit') AND ATT.ATTTYPMOD > 0 THEN ATT.ATTTYPMOD
+    WHEN TYP.TYPNAME IN ('int2') THEN 5
+    WHEN TYP.TYPNAME IN ('int4', 'oid') THEN 10
+    WHEN TYP.TYPNAME IN ('int8') THEN 19
+    WHEN TYP.TYPNAME IN ('float4') THEN 8
+    WHEN TYP.TYPNAME IN ('float8', 'money') THEN 17
+    WHEN TYP.TYPNAME IN ('bool', 'char') THEN 1
+    WHEN TYP.TYPNAME IN ('date') THEN 13
+    WHEN TYP.TYPNAME IN ('time') THEN 15
+    WHEN TYP.TYPNAME IN ('timetz') THEN 21
+    WHEN TYP.TYPNAME IN ('timestamp') THEN 29
+    WHEN TYP.TYPNAME IN ('timestamptz') THEN 35
+    WHEN TYP.TYPNAME IN ('name') THEN 63
+    WHEN TYP.TYPNAME IN ('uuid') THEN 36
+    ELSE 2147483647
+  END AS COLUMN_SIZE,
+  NULL AS BUFFER_LENGTH,
+  CASE
+    WHEN TYP.TYPNAME IN ('numeric') AND ATT.ATTTYPMOD > 4 THEN (ATT.ATTTYPMOD - 4) & 65535
+    WHEN TYP.TYPNAME IN ('float4') THEN 8
+    WHEN TYP.TYPNAME IN ('float8') THEN 17
+    WHEN TYP.TYPNAME IN ('time', 'timetz', 'timestamp', 'timestamptz')
+      THEN CASE WHEN ATT.ATTTYPMOD >= 0 THEN ATT.ATTTYPMOD ELSE 6 END
+    ELSE 0
+  END AS DECIMAL_DIGITS,
+  CASE
+    WHEN TYP.TYPNAME IN ('bit', 'varbit') THEN 2
+    ELSE 10
+  END AS NUM_PREC_RADIX,
+  CASE
+    WHEN ATT.ATTNOTNULL OR (TYP.TYPTYPE = 'd' AND TYP.TYPNOTNULL) THEN 0
+    ELSE 1
+  END AS NULLABLE,
+  PG_CATALOG.COL_DESCRIPTION(CLS.OID, ATT.ATTNUM) AS REMARKS,
+  PG_CATALOG.PG_GET_EXPR(ATTDEF.ADBIN, ATTDEF.ADRELID) AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  CASE
+    WHEN TYP.TYPNAME IN ('varchar', 'bpchar') AND ATT.ATTTYPMOD > 4 THEN ATT.ATTTYPMOD - 4
+    WHEN TYP.TYPNAME IN ('varchar', 'bpchar', 'text') THEN 2147483647
+    ELSE NULL
+  END AS CHAR_OCTET_LENGTH,
+  ROW_NUMBER() OVER (PARTITION BY ATT.ATTRELID ORDER BY ATT.ATTNUM) AS ORDINAL_POSITION,
+  CASE
+    WHEN ATT.ATTNOTNULL OR (TYP.TYPTYPE = 'd' AND TYP.TYPNOTNULL) THEN 'NO'
+    ELSE 'YES'
+  END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  CASE
+    WHEN TYP.TYPTYPE = 'd' THEN TYP.TYPBASETYPE
+    ELSE NULL
+  END AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN ${attidentity} <> '' THEN 'YES'
+    WHEN PG_CATALOG.PG_GET_EXPR(ATTDEF.ADBIN, ATTDEF.ADRELID) LIKE '%nextval(%' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  CASE
+    WHEN ${attgenerated} <> '' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_GENERATEDCOLUMN
+FROM
+  PG_CATALOG.PG_ATTRIBUTE ATT
+  INNER JOIN PG_CATALOG.PG_CLASS CLS
+    ON ATT.ATTRELID = CLS.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NSP
+    ON CLS.RELNAMESPACE = NSP.OID
+  INNER JOIN PG_CATALOG.PG_TYPE TYP
+    ON ATT.ATTTYPID = TYP.OID
+  LEFT OUTER JOIN PG_CATALOG.PG_ATTRDEF ATTDEF
+    ON ATT.ATTRELID = ATTDEF.ADRELID
+      AND ATT.ATTNUM = ATTDEF.ADNUM
+WHERE
+  CLS.RELKIND IN ('r', 'v', 'm', 'f', 'p')
+  AND ATT.ATTNUM > 0
+  AND NOT ATT.ATTISDROPPED
+  AND NSP.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NSP.NSPNAME NOT LIKE 'pg_toast%'
+  AND NSP.NSPNAME NOT LIKE 'pg_temp%'
+  AND NSP.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -0,0 +1,165 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.fail;
+import static schemacrawler.integration.test.utility.PostgreSQLTestUtility.newPostgreSQL14Container;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.server.postgresql.PostgreSQLDatabaseConnector;
+import schemacrawler.test.utility.BaseAdditionalDatabaseTest;
+import schemacrawler.test.utility.HeavyDatabaseTest;
+import schemacrawler.tools.databaseconnector.DatabaseConnector;
+
+@HeavyDatabaseTest
+@Testcontainers
+public class PostgreSQLDataDictionaryTest extends BaseAdditionalDatabaseTest {
+
+  @Container private final JdbcDatabaseContainer<?> dbContainer = newPostgreSQL14Container();
+
+  @BeforeEach
+  public void createDatabase() throws Exception {
+
+    if (!dbContainer.isRunning()) {
+      fail("Testcontainer for database is not available");
+    }
+
+    createDataSource(
+        dbContainer.getJdbcUrl(), dbContainer.getUsername(), dbContainer.getPassword());
+
+    createDatabase("/postgresql.scripts.txt");
+
+    try (final Connection connection = getConnection();
+        final Statement stmt = connection.createStatement(); ) {
+      stmt.execute("CREATE TYPE books.mood AS ENUM ('sad', 'ok', 'happy')");
+      stmt.execute(
+          "CREATE TABLE books.column_types ("
+              + "id INT GENERATED ALWAYS AS IDENTITY, "
+              + "serial_id SERIAL, "
+              + "price NUMERIC(10, 2) NOT NULL, "
+              + "tax NUMERIC(10, 2) GENERATED ALWAYS AS (price / 10) STORED, "
+              + "current_mood books.mood, "
+              + "tags TEXT[], "
+              + "code CHAR(3), "
+              + "updated TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP)");
+      // Auto-commited
+    }
+  }
+
+  @Test
+  public void dataDictionaryColumnsSameAsMetadata() throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule("books"))
+            .tableTypes("TABLE,VIEW,MATERIALIZED VIEW");
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final DatabaseConnector databaseConnector = new PostgreSQLDatabaseConnector();
+    final SchemaRetrievalOptions dataDictionaryRetrievalOptions =
+        databaseConnector.getSchemaRetrievalOptionsBuilder(getConnection()).toOptions();
+    final SchemaRetrievalOptions metadataRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(dataDictionaryRetrievalOptions)
+            .with(tableColumnsRetrievalStrategy, metadata)
+            .toOptions();
+
+    final Catalog catalog =
+        new SchemaCrawler(getConnection(), dataDictionaryRetrievalOptions, schemaCrawlerOptions)
+            .crawl();
+    final Catalog metadataCatalog =
+        new SchemaCrawler(getConnection(), metadataRetrievalOptions, schemaCrawlerOptions).crawl();
+
+    assertThat(catalog.getTables(), hasSize(metadataCatalog.getTables().size()));
+    for (final Table metadataTable : metadataCatalog.getTables()) {
+      final Table table =
+          catalog.lookupTable(metadataTable.getSchema(), metadataTable.getName()).get();
+      assertThat(
+          table.getFullName(), table.getColumns(), hasSize(metadataTable.getColumns().size()));
+      for (final Column metadataColumn : metadataTable.getColumns()) {
+        final Column column = table.lookupColumn(metadataColumn.getName()).get();
+        assertThat(
+            column.getFullName(), columnDetails(column), equalTo(columnDetails(metadataColumn)));
+      }
+    }
+
+    // -- Enumerated columns are reported as VARCHAR, as the driver does
+    final Table columnTypesTable =
+        catalog.lookupTable(catalog.lookupSchema("books").get(), "column_types").get();
+    final Column moodColumn = columnTypesTable.lookupColumn("current_mood").get();
+    assertThat(
+        moodColumn.getColumnDataType().getJavaSqlType().getVendorTypeNumber(),
+        equalTo(Types.VARCHAR));
+  }
+
+  private List<Object> columnDetails(final Column column) {
+    return new ArrayList<>(
+        Arrays.asList(
+            column.getColumnDataType().getJavaSqlType().getVendorTypeNumber(),
+            column.getColumnDataType().getName(),
+            column.getSize(),
+            column.getDecimalDigits(),
+            column.isNullable(),
+            column.getDefaultValue(),
+            column.getOrdinalPosition(),
+            column.isAutoIncremented(),
+            column.isGenerated()));
+  }
+}
@@ -48,6 +48,7 @@ import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -101,6 +102,9 @@ public class PostgreSQLEnumColumnTest extends BaseAdditionalDatabaseTest {
     assertThat(
         currentMoodColumn.getColumnDataType().getEnumValues(),
         containsInAnyOrder("sad", "ok", "happy"));
+    assertThat(
+        currentMoodColumn.getColumnDataType().getJavaSqlType().getVendorTypeNumber(),
+        is(Types.VARCHAR));
   }
 
   @Test
@@ -30,6 +30,7 @@ package schemacrawler.tools.command.serialize;
 
 import static java.nio.file.Files.newOutputStream;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
@@ -87,7 +88,7 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
       outputOptions =
           OutputOptionsBuilder.builder(outputOptions).withOutputFile(outputFile).toOptions();
 
-      try (final OutputStream out = new GZIPOutputStream(newOutputStream(outputFile))) {
+      try (final OutputStream out = openOutputStream(outputFile, serializationFormat)) {
         catalogSerializer.save(out);
       } catch (final IOException e) {
         throw new IORuntimeException("Could not save catalog", e);
@@ -98,4 +99,14 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
       // NOTE: Jackson closes the output writer, so no need for a try-with-resources block
     }
   }
+
+  private OutputStream openOutputStream(
+      final Path outputFile, final SerializationFormat serializationFormat) throws IOException {
+    final OutputStream out = new BufferedOutputStream(newOutputStream(outputFile));
+    if (serializationFormat.isCompressed()) {
+      return new GZIPOutputStream(out);
+    } else {
+      return out;
+    }
+  }
 }
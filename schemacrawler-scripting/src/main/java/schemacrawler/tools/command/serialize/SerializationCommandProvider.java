@@ -58,6 +58,7 @@ public class SerializationCommandProvider extends BaseCommandProvider {
             () ->
                 new String[] {
                   "Deserialization is possible with the \"offline\" command for Java serialization"
+                      + " and binary catalog snapshots"
                 });
 
     return pluginCommand;
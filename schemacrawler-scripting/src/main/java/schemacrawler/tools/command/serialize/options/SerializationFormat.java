@@ -38,18 +38,28 @@ import schemacrawler.tools.options.OutputFormatState;
 import us.fatehi.utility.string.StringFormat;
 
 public enum SerializationFormat implements OutputFormat {
-  ser("Java serialization", "schemacrawler.tools.formatter.serialize.JavaSerializedCatalog", true),
+  ser(
+      "Java serialization",
+      "schemacrawler.tools.formatter.serialize.JavaSerializedCatalog",
+      true,
+      true),
+  snapshot(
+      "Binary catalog snapshot",
+      "schemacrawler.tools.formatter.serialize.BinarySerializedCatalog",
+      true,
+      false),
   json(
       "JavaScript Object Notation (JSON) serialization format",
       "schemacrawler.tools.formatter.serialize.JsonSerializedCatalog",
+      false,
       false),
   yaml(
       "YAML Ain't Markup Language (YAML) serialization format",
       "schemacrawler.tools.formatter.serialize.YamlSerializedCatalog",
+      false,
       false);
 
-  private static final Logger LOGGER =
-      Logger.getLogger(SerializationFormat.class.getName());
+  private static final Logger LOGGER = Logger.getLogger(SerializationFormat.class.getName());
 
   /**
    * Gets the value from the format.
@@ -91,12 +101,17 @@ public enum SerializationFormat implements OutputFormat {
   private final OutputFormatState outputFormatState;
   private final String serializerClassName;
   private final boolean isBinaryFormat;
+  private final boolean isCompressed;
 
   SerializationFormat(
-      final String description, final String serializerClassName, final boolean isBinaryFormat) {
+      final String description,
+      final String serializerClassName,
+      final boolean isBinaryFormat,
+      final boolean isCompressed) {
     outputFormatState = new OutputFormatState(name(), description);
     this.serializerClassName = serializerClassName;
     this.isBinaryFormat = isBinaryFormat;
+    this.isCompressed = isCompressed;
   }
 
   @Override
@@ -127,6 +142,16 @@ public enum SerializationFormat implements OutputFormat {
     return isBinaryFormat;
   }
 
+  /**
+   * Java serialization is compressed when it is saved. Binary catalog snapshots are already
+   * compact, and are saved uncompressed so that they can be read without inflating them first.
+   *
+   * @return True if the serialized output is compressed
+   */
+  public boolean isCompressed() {
+    return isCompressed;
+  }
+
   @Override
   public String toString() {
     return outputFormatState.toString();
@@ -27,100 +27,64 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.tools.formatter.serialize;
 
-import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
-import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS;
-import static com.fasterxml.jackson.databind.SerializationFeature.USE_EQUALITY_FOR_OBJECT_ID;
-import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Set;
-import java.util.SortedSet;
 import java.util.TreeSet;
 
-import com.fasterxml.jackson.annotation.JsonFilter;
-import com.fasterxml.jackson.annotation.JsonIdentityInfo;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
-import com.fasterxml.jackson.databind.ser.FilterProvider;
-import com.fasterxml.jackson.databind.ser.PropertyFilter;
-import com.fasterxml.jackson.databind.ser.PropertyWriter;
-import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
-import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.core.JsonParser;
 
+import schemacrawler.crawl.CatalogJsonReader;
+import schemacrawler.crawl.CatalogJsonWriter;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
-import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 
-/** Decorates a database to allow for serialization to and from plain Java serialization. */
+/**
+ * Decorates a database to allow for serialization to and from JSON-like formats. The catalog is
+ * streamed to the output, one table at a time.
+ */
 public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer {
 
-  private static class IgnoreExceptionBeanPropertyFilter extends SimpleBeanPropertyFilter {
-
-    private static final List<String> PARTIAL_PROPERTIES =
-        Arrays.asList(
-            "name", "short-name", "full-name", "attributes", "parent-partial", "remarks", "schema");
-
-    @Override
-    public void serializeAsField(
-        final Object pojo,
-        final JsonGenerator jgen,
-        final SerializerProvider provider,
-        final PropertyWriter writer)
-        throws Exception {
-      if (include(writer)) {
-        try {
-          if (pojo instanceof PartialDatabaseObject
-              && !PARTIAL_PROPERTIES.contains(writer.getName())) {
-            return;
-          }
-          writer.serializeAsField(pojo, jgen, provider);
-        } catch (final Exception e) {
-          return;
-        }
-      } else if (!jgen.canOmitFields()) {
-        writer.serializeAsOmittedField(pojo, jgen, provider);
-      }
-    }
-
-    @Override
-    protected boolean include(final BeanPropertyWriter writer) {
-      return true;
-    }
-
-    @Override
-    protected boolean include(final PropertyWriter writer) {
-      return true;
+  protected static Catalog readCatalog(final InputStream in, final JsonFactory jsonFactory) {
+    requireNonNull(in, "No input stream provided");
+    try (final JsonParser parser = jsonFactory.createParser(in)) {
+      return new CatalogJsonReader(parser).read();
+    } catch (final IOException e) {
+      throw new ExecutionRuntimeException("Cannot deserialize catalog", e);
     }
   }
 
   private final Catalog catalog;
-  private final SortedSet<Column> allTableColumns;
 
   public BaseJacksonSerializedCatalog(final Catalog catalog) {
     this.catalog = requireNonNull(catalog, "No catalog provided");
-    allTableColumns = new TreeSet<>();
-    loadAllTableColumns();
   }
 
+  /**
+   * Gets all columns of all tables in the catalog. Columns are no longer collected when the catalog
+   * is serialized, so they are found by walking the tables.
+   *
+   * @return All table columns
+   * @deprecated
+   */
+  @Deprecated
   public Set<Column> getAllTableColumns() {
-    return new TreeSet<>(allTableColumns);
+    final Set<Column> allTableColumns = new TreeSet<>();
+    for (final Table table : catalog.getTables()) {
+      allTableColumns.addAll(table.getColumns());
+    }
+    return allTableColumns;
   }
 
   @Override
@@ -139,70 +103,13 @@ public abstract class BaseJacksonSerializedCatalog implements CatalogSerializer
   @Override
   public void save(final Writer out) {
     requireNonNull(out, "No writer provided");
-    try {
-      final ObjectMapper mapper = newConfiguredObjectMapper();
-      mapper.writeValue(out, this);
+    try (final JsonGenerator generator = newJsonFactory().createGenerator(out)) {
+      generator.useDefaultPrettyPrinter();
+      new CatalogJsonWriter(catalog).write(generator);
     } catch (final IOException e) {
       throw new IORuntimeException("Could not serialize catalog", e);
     }
   }
 
-  protected abstract ObjectMapper newObjectMapper();
-
-  private void loadAllTableColumns() {
-    for (final Table table : catalog.getTables()) {
-      for (final Column column : table.getColumns()) {
-        allTableColumns.add(column);
-      }
-    }
-  }
-
-  private ObjectMapper newConfiguredObjectMapper() {
-
-    @JsonIgnoreProperties({
-      "parent",
-      "referenced-column",
-      "exported-foreign-keys",
-      "imported-foreign-keys"
-    })
-    @JsonPropertyOrder(
-        value = {
-          "@uuid",
-          "name",
-          "short-name",
-          "full-name",
-          "crawl-info",
-          "schema-crawler-info",
-          "jvm-system-info",
-          "operating-system-info",
-          "database-info",
-          "jdbc-driver-info",
-          "schemas",
-          "system-column-data-types",
-          "column-data-types",
-          "all-table-columns"
-        },
-        alphabetic = true)
-    @JsonIdentityInfo(generator = ObjectIdGenerators.UUIDGenerator.class, property = "@uuid")
-    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
-    @JsonFilter("ignore-getter-errors-filter")
-    class JacksonAnnotationMixIn {}
-
-    final FilterProvider filters =
-        new SimpleFilterProvider()
-            .addFilter(
-                "ignore-getter-errors-filter",
-                (PropertyFilter) new IgnoreExceptionBeanPropertyFilter());
-
-    final ObjectMapper mapper = newObjectMapper();
-    mapper.enable(
-        ORDER_MAP_ENTRIES_BY_KEYS,
-        INDENT_OUTPUT,
-        USE_EQUALITY_FOR_OBJECT_ID,
-        WRITE_ENUMS_USING_TO_STRING);
-    mapper.registerModule(new JavaTimeModule());
-    mapper.addMixIn(Object.class, JacksonAnnotationMixIn.class);
-    mapper.setFilterProvider(filters);
-    return mapper;
-  }
+  protected abstract JsonFactory newJsonFactory();
 }
@@ -27,7 +27,9 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.tools.formatter.serialize;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
 
 import schemacrawler.schema.Catalog;
 
@@ -38,8 +40,12 @@ public final class JsonSerializedCatalog extends BaseJacksonSerializedCatalog {
     super(catalog);
   }
 
+  public JsonSerializedCatalog(final InputStream in) {
+    this(readCatalog(in, new JsonFactory()));
+  }
+
   @Override
-  protected ObjectMapper newObjectMapper() {
-    return new ObjectMapper();
+  protected JsonFactory newJsonFactory() {
+    return new JsonFactory();
   }
 }
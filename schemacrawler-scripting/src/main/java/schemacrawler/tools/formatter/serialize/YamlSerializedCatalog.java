@@ -27,7 +27,9 @@ http://www.gnu.org/licenses/
 */
 package schemacrawler.tools.formatter.serialize;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 import schemacrawler.schema.Catalog;
@@ -39,8 +41,12 @@ public final class YamlSerializedCatalog extends BaseJacksonSerializedCatalog {
     super(catalog);
   }
 
+  public YamlSerializedCatalog(final InputStream in) {
+    this(readCatalog(in, new YAMLFactory()));
+  }
+
   @Override
-  protected ObjectMapper newObjectMapper() {
-    return new ObjectMapper(new YAMLFactory());
+  protected JsonFactory newJsonFactory() {
+    return new YAMLFactory();
   }
 }
@@ -31,8 +31,10 @@ package schemacrawler.test.serialize;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.oneOf;
 import static org.junit.jupiter.api.Assertions.fail;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -44,7 +46,9 @@ import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -60,13 +64,16 @@ import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.formatter.serialize.BaseJacksonSerializedCatalog;
 import schemacrawler.tools.formatter.serialize.JsonSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.YamlSerializedCatalog;
 import schemacrawler.tools.options.Config;
 import us.fatehi.utility.IOUtility;
 
@@ -86,6 +93,62 @@ public class CatalogJsonSerializationTest {
     directory = testContext.resolveTargetFromRootPath(".");
   }
 
+  @Test
+  public void catalogDeserializationWithJson(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            new Config());
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_serialized_catalog", "json");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile)) {
+      new JsonSerializedCatalog(catalog).save(out);
+    }
+
+    final Catalog catalogDeserialized;
+    try (final InputStream in = Files.newInputStream(testOutputFile)) {
+      catalogDeserialized = new JsonSerializedCatalog(in).getCatalog();
+    }
+
+    final Schema schemaDeserialized = catalogDeserialized.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schemaDeserialized, notNullValue());
+    assertThat(
+        "Unexpected number of tables in the schema",
+        catalogDeserialized.getTables(schemaDeserialized),
+        hasSize(10));
+    assertThat(
+        catalogDeserialized.getCrawlInfo().getRunId(), is(catalog.getCrawlInfo().getRunId()));
+    assertThat(
+        serialize(new JsonSerializedCatalog(catalogDeserialized)),
+        is(serialize(new JsonSerializedCatalog(catalog))));
+  }
+
+  @Test
+  public void catalogDeserializationWithYaml(final Connection connection) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsDefault,
+            DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            new Config());
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_serialized_catalog", "yaml");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile)) {
+      new YamlSerializedCatalog(catalog).save(out);
+    }
+
+    final Catalog catalogDeserialized;
+    try (final InputStream in = Files.newInputStream(testOutputFile)) {
+      catalogDeserialized = new YamlSerializedCatalog(in).getCatalog();
+    }
+
+    assertThat(
+        serialize(new YamlSerializedCatalog(catalogDeserialized)),
+        is(serialize(new YamlSerializedCatalog(catalog))));
+  }
+
   @Test
   public void catalogSerializationWithJson(
       final TestContext testContext, final Connection connection) throws Exception {
@@ -116,29 +179,38 @@ public class CatalogJsonSerializationTest {
         catalogNode.findPath("schemas"),
         not(instanceOf(MissingNode.class)));
 
-    final JsonNode allTableColumnsNode = catalogNode.findPath("all-table-columns");
-    assertThat(
-        "Table columns were not serialized",
-        allTableColumnsNode,
-        not(instanceOf(MissingNode.class)));
+    final JsonNode tablesNode = catalogNode.findPath("tables");
+    assertThat("Tables were not serialized", tablesNode, not(instanceOf(MissingNode.class)));
 
     final TestWriter testout = new TestWriter();
     try (final TestWriter out = testout) {
-      allTableColumnsNode
+      tablesNode
           .elements()
           .forEachRemaining(
-              columnNode -> {
-                final JsonNode columnFullnameNode = columnNode.get("full-name");
-                if (columnFullnameNode != null) {
-                  out.println("- column @uuid: " + columnNode.get("@uuid").asText());
-                  out.println("  " + columnFullnameNode.asText());
-                } else {
-                  fail("Table column object not found - " + columnNode.asText());
-                }
+              tableNode -> {
+                out.println("- table: " + tableNode.get("full-name").asText());
+                tableNode
+                    .get("columns")
+                    .elements()
+                    .forEachRemaining(
+                        columnNode -> {
+                          final JsonNode columnFullnameNode = columnNode.get("full-name");
+                          if (columnFullnameNode != null) {
+                            out.println("  - column: " + columnFullnameNode.asText());
+                          } else {
+                            fail("Table column object not found - " + columnNode.asText());
+                          }
+                        });
               });
     }
 
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  private String serialize(final BaseJacksonSerializedCatalog serializedCatalog) {
+    final StringWriter writer = new StringWriter();
+    serializedCatalog.save(writer);
+    return writer.toString();
+  }
 }
@@ -0,0 +1,13 @@
+SELECT
+  DB_NAME() AS ROUTINE_CATALOG,
+  SCHEMA_NAME(O.SCHEMA_ID) AS ROUTINE_SCHEMA,
+  O.NAME AS ROUTINE_NAME,
+  CONVERT(VARCHAR(30), O.MODIFY_DATE, 126) AS CHANGE_MARKER
+FROM
+  SYS.OBJECTS O
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND O.TYPE IN ('P', 'FN', 'IF', 'TF')
+ORDER BY
+  ROUTINE_SCHEMA,
+  ROUTINE_NAME
@@ -0,0 +1,36 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEMA,
+  O.NAME AS TABLE_NAME,
+  CONCAT(
+    CONVERT(VARCHAR(30),
+      (SELECT MAX(MODIFIED.MODIFY_DATE)
+       FROM
+         (SELECT O.MODIFY_DATE AS MODIFY_DATE
+          UNION ALL
+          SELECT CHILD.MODIFY_DATE
+          FROM SYS.OBJECTS CHILD
+          WHERE CHILD.PARENT_OBJECT_ID = O.OBJECT_ID
+          UNION ALL
+          SELECT FK.MODIFY_DATE
+          FROM SYS.FOREIGN_KEYS FK
+          WHERE FK.REFERENCED_OBJECT_ID = O.OBJECT_ID) MODIFIED),
+      126),
+    ':',
+    (SELECT CHECKSUM_AGG(CHECKSUM(I.INDEX_ID, I.NAME, I.TYPE, I.IS_UNIQUE,
+       IC.COLUMN_ID, IC.KEY_ORDINAL, IC.IS_DESCENDING_KEY))
+     FROM
+       SYS.INDEXES I
+       LEFT OUTER JOIN SYS.INDEX_COLUMNS IC
+         ON I.OBJECT_ID = IC.OBJECT_ID
+           AND I.INDEX_ID = IC.INDEX_ID
+     WHERE I.OBJECT_ID = O.OBJECT_ID)
+  ) AS CHANGE_MARKER
+FROM
+  SYS.OBJECTS O
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND O.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,19 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEMA,
+  O.NAME AS TABLE_NAME,
+  SUM(P.ROWS) AS ROW_COUNT
+FROM
+  SYS.OBJECTS O
+  INNER JOIN SYS.PARTITIONS P
+    ON O.OBJECT_ID = P.OBJECT_ID
+      AND P.INDEX_ID IN (0, 1)
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND O.TYPE = 'U'
+GROUP BY
+  O.SCHEMA_ID,
+  O.NAME
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
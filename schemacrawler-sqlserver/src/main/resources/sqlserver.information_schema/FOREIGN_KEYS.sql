@@ -0,0 +1,49 @@
+SELECT
+  DB_NAME() AS PKTABLE_CAT,
+  SCHEMA_NAME(PKT.SCHEMA_ID) AS PKTABLE_SCHEM,
+  PKT.NAME AS PKTABLE_NAME,
+  PKC.NAME AS PKCOLUMN_NAME,
+  DB_NAME() AS FKTABLE_CAT,
+  SCHEMA_NAME(FKT.SCHEMA_ID) AS FKTABLE_SCHEM,
+  FKT.NAME AS FKTABLE_NAME,
+  FKC.NAME AS FKCOLUMN_NAME,
+  FKCOL.CONSTRAINT_COLUMN_ID AS KEY_SEQ,
+  CASE FK.UPDATE_REFERENTIAL_ACTION
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE 3
+  END AS UPDATE_RULE,
+  CASE FK.DELETE_REFERENTIAL_ACTION
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE 3
+  END AS DELETE_RULE,
+  FK.NAME AS FK_NAME,
+  PKI.NAME AS PK_NAME,
+  7 AS DEFERRABILITY
+FROM
+  SYS.FOREIGN_KEYS FK
+  INNER JOIN SYS.FOREIGN_KEY_COLUMNS FKCOL
+    ON FKCOL.CONSTRAINT_OBJECT_ID = FK.OBJECT_ID
+  INNER JOIN SYS.OBJECTS FKT
+    ON FKT.OBJECT_ID = FK.PARENT_OBJECT_ID
+  INNER JOIN SYS.COLUMNS FKC
+    ON FKC.OBJECT_ID = FKCOL.PARENT_OBJECT_ID
+      AND FKC.COLUMN_ID = FKCOL.PARENT_COLUMN_ID
+  INNER JOIN SYS.OBJECTS PKT
+    ON PKT.OBJECT_ID = FK.REFERENCED_OBJECT_ID
+  INNER JOIN SYS.COLUMNS PKC
+    ON PKC.OBJECT_ID = FKCOL.REFERENCED_OBJECT_ID
+      AND PKC.COLUMN_ID = FKCOL.REFERENCED_COLUMN_ID
+  LEFT OUTER JOIN SYS.INDEXES PKI
+    ON PKI.OBJECT_ID = FK.REFERENCED_OBJECT_ID
+      AND PKI.INDEX_ID = FK.KEY_INDEX_ID
+WHERE
+  FKT.IS_MS_SHIPPED != 1
+ORDER BY
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
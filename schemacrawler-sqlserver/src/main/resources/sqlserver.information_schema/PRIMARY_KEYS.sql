@@ -0,0 +1,24 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEM,
+  O.NAME AS TABLE_NAME,
+  C.NAME AS COLUMN_NAME,
+  IC.KEY_ORDINAL AS KEY_SEQ,
+  KC.NAME AS PK_NAME
+FROM
+  SYS.KEY_CONSTRAINTS KC
+  INNER JOIN SYS.OBJECTS O
+    ON KC.PARENT_OBJECT_ID = O.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS IC
+    ON IC.OBJECT_ID = KC.PARENT_OBJECT_ID
+      AND IC.INDEX_ID = KC.UNIQUE_INDEX_ID
+  INNER JOIN SYS.COLUMNS C
+    ON C.OBJECT_ID = IC.OBJECT_ID
+      AND C.COLUMN_ID = IC.COLUMN_ID
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND KC.TYPE = 'PK'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  KEY_SEQ
@@ -0,0 +1,17 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEM,
+  O.NAME AS TABLE_NAME,
+  CASE O.TYPE
+    WHEN 'V' THEN 'VIEW'
+    ELSE 'TABLE'
+  END AS TABLE_TYPE,
+  CAST(NULL AS VARCHAR(254)) AS REMARKS
+FROM
+  SYS.OBJECTS O
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND O.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME
@@ -0,0 +1,129 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEM,
+  O.NAME AS TABLE_NAME,
+  C.NAME AS COLUMN_NAME,
+  CASE
+    WHEN AT.USER_TYPE_ID IS NOT NULL THEN -3
+    ELSE
+      CASE T.NAME
+      WHEN 'bigint' THEN -5
+      WHEN 'binary' THEN -2
+      WHEN 'bit' THEN -7
+      WHEN 'char' THEN 1
+      WHEN 'date' THEN 91
+      WHEN 'datetime' THEN 93
+      WHEN 'datetime2' THEN 93
+      WHEN 'datetimeoffset' THEN -155
+      WHEN 'decimal' THEN 3
+      WHEN 'float' THEN 8
+      WHEN 'image' THEN -4
+      WHEN 'int' THEN 4
+      WHEN 'money' THEN 3
+      WHEN 'nchar' THEN -15
+      WHEN 'ntext' THEN -16
+      WHEN 'numeric' THEN 2
+      WHEN 'nvarchar' THEN -9
+      WHEN 'real' THEN 7
+      WHEN 'smalldatetime' THEN 93
+      WHEN 'smallint' THEN 5
+      WHEN 'smallmoney' THEN 3
+      WHEN 'sql_variant' THEN -150
+      WHEN 'text' THEN -1
+      WHEN 'time' THEN 92
+      WHEN 'timestamp' THEN -2
+      WHEN 'tinyint' THEN -6
+      WHEN 'uniqueidentifier' THEN 1
+      WHEN 'varbinary' THEN -3
+      WHEN 'varchar' THEN 12
+      WHEN 'xml' THEN -16
+      ELSE 1111
+      END
+  END AS DATA_TYPE,
+  TYPE_NAME(C.USER_TYPE_ID)
+    + CASE WHEN C.IS_IDENTITY = 1 THEN ' identity' ELSE '' END
+    AS TYPE_NAME,
+  CASE
+    WHEN T.NAME IN ('nchar', 'nvarchar') AND C.MAX_LENGTH = -1
+      THEN 1073741823
+    WHEN T.NAME IN ('nchar', 'nvarchar')
+      THEN C.MAX_LENGTH / 2
+    WHEN T.NAME IN ('char', 'varchar', 'binary', 'varbinary')
+      AND C.MAX_LENGTH = -1
+      THEN 2147483647
+    WHEN T.NAME IN ('char', 'varchar', 'binary', 'varbinary', 'timestamp')
+      THEN C.MAX_LENGTH
+    WHEN T.NAME IN ('text', 'image')
+      THEN 2147483647
+    WHEN T.NAME IN ('ntext', 'xml')
+      THEN 1073741823
+    WHEN T.NAME = 'uniqueidentifier'
+      THEN 36
+    WHEN AT.USER_TYPE_ID IS NOT NULL AND C.MAX_LENGTH = -1
+      THEN 2147483647
+    WHEN AT.USER_TYPE_ID IS NOT NULL
+      THEN C.MAX_LENGTH
+    ELSE C.PRECISION
+  END AS COLUMN_SIZE,
+  CAST(NULL AS INT) AS BUFFER_LENGTH,
+  CASE
+    WHEN T.NAME IN ('decimal', 'numeric', 'money', 'smallmoney',
+      'time', 'datetime2', 'datetimeoffset', 'datetime', 'smalldatetime',
+      'int', 'bigint', 'smallint', 'tinyint', 'bit')
+      THEN C.SCALE
+    ELSE NULL
+  END AS DECIMAL_DIGITS,
+  CASE
+    WHEN T.NAME IN ('float', 'real') THEN 2
+    ELSE 10
+  END AS NUM_PREC_RADIX,
+  CAST(C.IS_NULLABLE AS INT) AS NULLABLE,
+  CAST(NULL AS VARCHAR(254)) AS REMARKS,
+  OBJECT_DEFINITION(C.DEFAULT_OBJECT_ID) AS COLUMN_DEF,
+  CAST(NULL AS INT) AS SQL_DATA_TYPE,
+  CAST(NULL AS INT) AS SQL_DATETIME_SUB,
+  CASE
+    WHEN T.NAME IN ('char', 'varchar', 'binary', 'varbinary')
+      AND C.MAX_LENGTH = -1
+      THEN 2147483647
+    WHEN T.NAME IN ('char', 'varchar', 'nchar', 'nvarchar', 'binary',
+      'varbinary')
+      THEN C.MAX_LENGTH
+    ELSE NULL
+  END AS CHAR_OCTET_LENGTH,
+  C.COLUMN_ID AS ORDINAL_POSITION,
+  CASE C.IS_NULLABLE WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  CAST(NULL AS VARCHAR(128)) AS SCOPE_CATALOG,
+  CAST(NULL AS VARCHAR(128)) AS SCOPE_SCHEMA,
+  CAST(NULL AS VARCHAR(128)) AS SCOPE_TABLE,
+  CAST(NULL AS SMALLINT) AS SOURCE_DATA_TYPE,
+  CASE C.IS_IDENTITY WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_AUTOINCREMENT,
+  CASE C.IS_COMPUTED WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN,
+  CAST(C.IS_SPARSE AS SMALLINT) AS SS_IS_SPARSE,
+  CAST(C.IS_COLUMN_SET AS SMALLINT) AS SS_IS_COLUMN_SET,
+  CASE WHEN AT.USER_TYPE_ID IS NOT NULL THEN DB_NAME() END
+    AS SS_UDT_CATALOG_NAME,
+  SCHEMA_NAME(AT.SCHEMA_ID) AS SS_UDT_SCHEMA_NAME,
+  AT.ASSEMBLY_QUALIFIED_NAME AS SS_UDT_ASSEMBLY_TYPE_NAME,
+  CASE WHEN XSC.XML_COLLECTION_ID IS NOT NULL THEN DB_NAME() END
+    AS SS_XML_SCHEMACOLLECTION_CATALOG_NAME,
+  SCHEMA_NAME(XSC.SCHEMA_ID) AS SS_XML_SCHEMACOLLECTION_SCHEMA_NAME,
+  XSC.NAME AS SS_XML_SCHEMACOLLECTION_NAME
+FROM
+  SYS.COLUMNS C
+  INNER JOIN SYS.OBJECTS O
+    ON C.OBJECT_ID = O.OBJECT_ID
+  LEFT OUTER JOIN SYS.TYPES T
+    ON C.SYSTEM_TYPE_ID = T.USER_TYPE_ID
+  LEFT OUTER JOIN SYS.ASSEMBLY_TYPES AT
+    ON C.USER_TYPE_ID = AT.USER_TYPE_ID
+  LEFT OUTER JOIN SYS.XML_SCHEMA_COLLECTIONS XSC
+    ON C.XML_COLLECTION_ID = XSC.XML_COLLECTION_ID
+    AND C.XML_COLLECTION_ID > 0
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND O.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
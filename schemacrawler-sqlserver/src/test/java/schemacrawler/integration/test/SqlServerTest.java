@@ -35,6 +35,12 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
 import static schemacrawler.integration.test.utility.SqlServerTestUtility.newSqlServer2019Container;
 import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
@@ -44,9 +50,12 @@ import static schemacrawler.test.utility.TestUtility.javaVersion;
 import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -69,6 +78,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.server.sqlserver.SqlServerDatabaseConnector;
 import schemacrawler.test.utility.BaseAdditionalDatabaseTest;
 import schemacrawler.test.utility.HeavyDatabaseTest;
@@ -182,4 +192,118 @@ public class SqlServerTest extends BaseAdditionalDatabaseTest {
     final Column column = table.lookupColumn("FirstName").get();
     assertThat(column.getPrivileges(), is(empty()));
   }
+
+  @Test
+  public void testSQLServerWithDataDictionaryRetrieval() throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule("BOOKS\\.dbo"))
+            .includeAllSequences()
+            .includeAllSynonyms()
+            .includeAllRoutines()
+            .tableTypes("TABLE,VIEW,MATERIALIZED VIEW");
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final Connection connection = checkConnection(getConnection());
+    final DatabaseConnector databaseConnector = new SqlServerDatabaseConnector();
+
+    final SchemaRetrievalOptions dataDictionaryRetrievalOptions =
+        databaseConnector.getSchemaRetrievalOptionsBuilder(connection).toOptions();
+    final SchemaRetrievalOptions metadataRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(dataDictionaryRetrievalOptions)
+            .with(tablesRetrievalStrategy, metadata)
+            .with(tableColumnsRetrievalStrategy, metadata)
+            .with(primaryKeysRetrievalStrategy, metadata)
+            .with(foreignKeysRetrievalStrategy, metadata)
+            .with(indexesRetrievalStrategy, metadata)
+            .toOptions();
+
+    final SchemaTextOptionsBuilder textOptionsBuilder = SchemaTextOptionsBuilder.builder();
+    textOptionsBuilder.showDatabaseInfo().showJdbcDriverInfo();
+    final SchemaTextOptions textOptions = textOptionsBuilder.toOptions();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("details");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setSchemaRetrievalOptions(dataDictionaryRetrievalOptions);
+    executable.setAdditionalConfiguration(SchemaTextOptionsBuilder.builder(textOptions).toConfig());
+
+    final String expectedResource =
+        String.format("testSQLServerWithConnection.%s.txt", javaVersion());
+    assertThat(
+        outputOf(executableExecution(getConnection(), executable)),
+        hasSameContentAs(classpathResource(expectedResource)));
+
+    // -- Driver specific column attributes are the same as from metadata retrieval
+    final Catalog catalog = executable.getCatalog();
+    final Catalog metadataCatalog =
+        new SchemaCrawler(getConnection(), metadataRetrievalOptions, schemaCrawlerOptions).crawl();
+
+    for (final Table table : catalog.getTables()) {
+      final Table metadataTable =
+          metadataCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      for (final Column column : table.getColumns()) {
+        final Column metadataColumn = metadataTable.lookupColumn(column.getName()).get();
+        assertThat(
+            column.getFullName(),
+            driverAttributes(column),
+            equalTo(driverAttributes(metadataColumn)));
+      }
+    }
+    final Column column =
+        catalog
+            .lookupTable(new SchemaReference("BOOKS", "dbo"), "Authors")
+            .get()
+            .lookupColumn("FirstName")
+            .get();
+    assertThat(driverAttributes(column).keySet(), hasItems("SS_IS_SPARSE", "SS_IS_COLUMN_SET"));
+
+    // -- Columns of CLR types are retrieved, the same as from metadata retrieval
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE BOOKS.dbo.Locations "
+              + "(Id INT NOT NULL, Node HIERARCHYID, Shape GEOMETRY, Place GEOGRAPHY)");
+    }
+    final SchemaCrawlerOptions clrSchemaCrawlerOptions =
+        schemaCrawlerOptions.withLimitOptions(
+            limitOptionsBuilder
+                .includeTables(new RegularExpressionInclusionRule(".*\\.Locations"))
+                .toOptions());
+    final Table clrTable =
+        new SchemaCrawler(getConnection(), dataDictionaryRetrievalOptions, clrSchemaCrawlerOptions)
+            .crawl()
+            .lookupTable(new SchemaReference("BOOKS", "dbo"), "Locations")
+            .get();
+    final Table clrMetadataTable =
+        new SchemaCrawler(getConnection(), metadataRetrievalOptions, clrSchemaCrawlerOptions)
+            .crawl()
+            .lookupTable(new SchemaReference("BOOKS", "dbo"), "Locations")
+            .get();
+    assertThat(clrTable.getColumns(), hasSize(4));
+    for (final Column clrColumn : clrTable.getColumns()) {
+      final Column metadataColumn = clrMetadataTable.lookupColumn(clrColumn.getName()).get();
+      assertThat(
+          clrColumn.getFullName(),
+          clrColumn.getColumnDataType().getJavaSqlType().getVendorTypeNumber(),
+          equalTo(metadataColumn.getColumnDataType().getJavaSqlType().getVendorTypeNumber()));
+      assertThat(
+          clrColumn.getFullName(),
+          driverAttributes(clrColumn),
+          equalTo(driverAttributes(metadataColumn)));
+    }
+  }
+
+  private Map<String, String> driverAttributes(final Column column) {
+    final Map<String, String> driverAttributes = new TreeMap<>();
+    for (final Map.Entry<String, Object> attribute : column.getAttributes().entrySet()) {
+      if (attribute.getKey().startsWith("SS_")) {
+        driverAttributes.put(attribute.getKey(), String.valueOf(attribute.getValue()));
+      }
+    }
+    return driverAttributes;
+  }
 }
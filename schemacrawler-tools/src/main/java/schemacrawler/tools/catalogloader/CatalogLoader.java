@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.catalogloader;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -47,6 +48,16 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional connections, for catalog loaders that can run queries in parallel. May be
+   * null, in which case only the connection is used.
+   *
+   * @return Source of database connections, or null
+   */
+  default Supplier<Connection> getDataSource() {
+    return null;
+  }
+
   default PluginCommand getHelpCommand() {
     return getCommandLineCommand();
   }
@@ -65,6 +76,16 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   void setConnection(Connection connection);
 
+  /**
+   * Sets a source of additional connections. Catalog loaders that do not run queries in parallel
+   * ignore it.
+   *
+   * @param dataSource Source of database connections, or null
+   */
+  default void setDataSource(final Supplier<Connection> dataSource) {
+    // No-op
+  }
+
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
 
   void setSchemaRetrievalOptions(SchemaRetrievalOptions schemaRetrievalOptions);
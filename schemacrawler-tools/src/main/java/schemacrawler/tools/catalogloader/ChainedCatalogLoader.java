@@ -34,7 +34,9 @@ import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
+import schemacrawler.crawl.ContentFingerprints;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
@@ -63,12 +65,14 @@ public class ChainedCatalogLoader extends BaseCatalogLoader implements Iterable<
   public void loadCatalog() {
     Catalog catalog = null;
     final Connection connection = getConnection();
+    final Supplier<Connection> dataSource = getDataSource();
     final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
     final SchemaRetrievalOptions schemaRetrievalOptions = getSchemaRetrievalOptions();
     final Config additionalConfig = getAdditionalConfiguration();
     for (final CatalogLoader nextCatalogLoader : chainedCatalogLoaders) {
       nextCatalogLoader.setCatalog(catalog);
       nextCatalogLoader.setConnection(connection);
+      nextCatalogLoader.setDataSource(dataSource);
       nextCatalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
       nextCatalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
       nextCatalogLoader.setAdditionalConfiguration(additionalConfig);
@@ -77,6 +81,8 @@ public class ChainedCatalogLoader extends BaseCatalogLoader implements Iterable<
 
       catalog = nextCatalogLoader.getCatalog();
     }
+    // Loaders can change objects after their fingerprints were read from a snapshot
+    ContentFingerprints.clearFingerprints(catalog);
     setCatalog(catalog);
   }
 
@@ -54,7 +54,8 @@ public class SchemaCrawlerCatalogLoader extends BaseCatalogLoader {
     requireNonNull(connection, "No connection provided");
 
     final SchemaCrawler schemaCrawler =
-        new SchemaCrawler(connection, getSchemaRetrievalOptions(), getSchemaCrawlerOptions());
+        new SchemaCrawler(
+            connection, getDataSource(), getSchemaRetrievalOptions(), getSchemaCrawlerOptions());
     final Catalog catalog = schemaCrawler.crawl();
     setCatalog(catalog);
   }
@@ -0,0 +1,464 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.databaseconnector;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A lightweight pool of database connections, in front of a connection source such as {@link
+ * DatabaseConnectionSource}. Closing a connection obtained from the pool returns it to the pool,
+ * and pooled connections are validated before they are reused, and closed once they have been idle
+ * for too long.
+ *
+ * <p>Any open transaction is rolled back when a connection is returned, and the auto-commit mode,
+ * read-only mode, catalog and transaction isolation level are restored to what they were when the
+ * connection was opened, so that the next user of the connection does not see changes made by the
+ * previous user. Connections that cannot be restored are closed rather than pooled.
+ *
+ * <p>No more than the maximum pool size of connections are open at once, whether they are in use or
+ * idle. When all connections are in use, callers wait for a connection to be returned, and fail if
+ * none is returned in time.
+ */
+public final class PooledConnectionSource implements Supplier<Connection>, AutoCloseable {
+
+  /** Connection state as it was when the connection was opened. */
+  private static final class ConnectionDefaults {
+
+    private final Boolean autoCommit;
+    private final Boolean readOnly;
+    private final String catalog;
+    private final Integer transactionIsolation;
+
+    ConnectionDefaults(final Connection connection) {
+      autoCommit = lookupProperty(connection, Connection::getAutoCommit);
+      readOnly = lookupProperty(connection, Connection::isReadOnly);
+      catalog = lookupProperty(connection, Connection::getCatalog);
+      transactionIsolation = lookupProperty(connection, Connection::getTransactionIsolation);
+    }
+
+    /**
+     * Rolls back any open transaction, and restores connection state. State that could not be
+     * obtained when the connection was opened is not restored.
+     */
+    void restore(final Connection connection) throws SQLException {
+      if (autoCommit != null) {
+        final boolean isAutoCommit = connection.getAutoCommit();
+        if (!isAutoCommit) {
+          connection.rollback();
+        }
+        if (isAutoCommit != autoCommit) {
+          connection.setAutoCommit(autoCommit);
+        }
+      }
+      if (readOnly != null && connection.isReadOnly() != readOnly) {
+        connection.setReadOnly(readOnly);
+      }
+      if (transactionIsolation != null
+          && connection.getTransactionIsolation() != transactionIsolation) {
+        connection.setTransactionIsolation(transactionIsolation);
+      }
+      if (catalog != null && !catalog.equals(connection.getCatalog())) {
+        connection.setCatalog(catalog);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConnectionProperty<T> {
+    T get(Connection connection) throws SQLException;
+  }
+
+  private static final class IdleConnection {
+
+    private final Connection connection;
+    private final ConnectionDefaults defaults;
+    private final long idleSince;
+
+    IdleConnection(
+        final Connection connection, final ConnectionDefaults defaults, final long idleSince) {
+      this.connection = connection;
+      this.defaults = defaults;
+      this.idleSince = idleSince;
+    }
+  }
+
+  private final class PooledConnectionInvocationHandler implements InvocationHandler {
+
+    private final Connection connection;
+    private final ConnectionDefaults defaults;
+    private final AtomicBoolean isClosed;
+
+    PooledConnectionInvocationHandler(
+        final Connection connection, final ConnectionDefaults defaults) {
+      this.connection = connection;
+      this.defaults = defaults;
+      isClosed = new AtomicBoolean();
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final String methodName = method.getName();
+      switch (methodName) {
+        case "close":
+          if (isClosed.compareAndSet(false, true)) {
+            release(connection, defaults);
+          }
+          return null;
+        case "isClosed":
+          if (isClosed.get()) {
+            return true;
+          }
+          break;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return connection.toString();
+        default:
+          if (isClosed.get()) {
+            throw new SQLException(
+                String.format("Cannot call <%s> on a closed connection", methodName));
+          }
+          break;
+      }
+
+      try {
+        return method.invoke(connection, args);
+      } catch (final InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(PooledConnectionSource.class.getName());
+
+  private static final int DEFAULT_MAX_SIZE = 10;
+  private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+  private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofMinutes(1);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private static Class<?>[] connectionInterfaces(final Connection connection) {
+    // Implement all interfaces of the connection, such as an offline connection,
+    // so that pooled connections can be used in place of the original connection
+    final Set<Class<?>> interfaces = new LinkedHashSet<>();
+    interfaces.add(Connection.class);
+    for (Class<?> type = connection.getClass(); type != null; type = type.getSuperclass()) {
+      for (final Class<?> typeInterface : type.getInterfaces()) {
+        if (Modifier.isPublic(typeInterface.getModifiers())) {
+          interfaces.add(typeInterface);
+        }
+      }
+    }
+    return interfaces.toArray(new Class<?>[0]);
+  }
+
+  private static void closeConnection(final Connection connection) {
+    try {
+      connection.close();
+      LOGGER.log(Level.FINE, new StringFormat("Closed pooled connection <%s>", connection));
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not close pooled connection", e);
+    }
+  }
+
+  private static boolean isOpen(final Connection connection) {
+    try {
+      return !connection.isClosed();
+    } catch (final SQLException | RuntimeException e) {
+      LOGGER.log(Level.FINE, "Could not check if pooled connection is closed", e);
+      return false;
+    }
+  }
+
+  private static <T> T lookupProperty(
+      final Connection connection, final ConnectionProperty<T> property) {
+    try {
+      return property.get(connection);
+    } catch (final SQLException | RuntimeException e) {
+      LOGGER.log(Level.FINE, "Could not obtain state of pooled connection", e);
+      return null;
+    }
+  }
+
+  private static boolean isValid(final Connection connection) {
+    try {
+      return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (final SQLException | RuntimeException e) {
+      LOGGER.log(Level.FINE, "Could not validate pooled connection", e);
+      return false;
+    }
+  }
+
+  private final Supplier<Connection> dataSource;
+  private final int maxSize;
+  private final long idleTimeoutMillis;
+  private final long waitTimeoutMillis;
+  private final Deque<IdleConnection> idleConnections;
+  private int openCount;
+  private boolean isClosed;
+
+  public PooledConnectionSource(final Supplier<Connection> dataSource) {
+    this(dataSource, DEFAULT_MAX_SIZE, DEFAULT_IDLE_TIMEOUT);
+  }
+
+  public PooledConnectionSource(
+      final Supplier<Connection> dataSource, final int maxSize, final Duration idleTimeout) {
+    this(dataSource, maxSize, idleTimeout, DEFAULT_WAIT_TIMEOUT);
+  }
+
+  /**
+   * Pools connections from a data source.
+   *
+   * @param dataSource Source of new database connections
+   * @param maxSize Maximum number of connections to keep open, whether in use or idle
+   * @param idleTimeout Time after which idle connections are closed
+   * @param waitTimeout Time to wait for a connection to be returned when all are in use
+   */
+  public PooledConnectionSource(
+      final Supplier<Connection> dataSource,
+      final int maxSize,
+      final Duration idleTimeout,
+      final Duration waitTimeout) {
+    this.dataSource = requireNonNull(dataSource, "No data source provided");
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Maximum pool size must be at least 1");
+    }
+    this.maxSize = maxSize;
+    idleTimeoutMillis = requireNonNull(idleTimeout, "No idle timeout provided").toMillis();
+    waitTimeoutMillis = requireNonNull(waitTimeout, "No wait timeout provided").toMillis();
+    idleConnections = new ArrayDeque<>();
+  }
+
+  /** Closes all idle connections, and closes connections in use when they are returned. */
+  @Override
+  public void close() {
+    final Deque<IdleConnection> closingConnections;
+    synchronized (this) {
+      isClosed = true;
+      closingConnections = new ArrayDeque<>(idleConnections);
+      idleConnections.clear();
+      // Wake up callers waiting for a connection, so that they fail
+      notifyAll();
+    }
+    for (final IdleConnection idleConnection : closingConnections) {
+      discardConnection(idleConnection.connection);
+    }
+  }
+
+  /**
+   * Gets a valid idle connection from the pool, or opens a new connection if the pool is not full.
+   * Otherwise, waits for a connection to be returned to the pool. The connection is returned to the
+   * pool when it is closed.
+   *
+   * @return Database connection
+   */
+  @Override
+  public Connection get() {
+    final long waitUntil = System.currentTimeMillis() + waitTimeoutMillis;
+    IdleConnection idleConnection;
+    while ((idleConnection = nextIdleConnection(waitUntil)) != null) {
+      final Connection connection = idleConnection.connection;
+      if (isValid(connection)) {
+        LOGGER.log(Level.FINE, new StringFormat("Reusing pooled connection <%s>", connection));
+        return newPooledConnection(connection, idleConnection.defaults);
+      }
+      discardConnection(connection);
+    }
+
+    // The pool has room for a new connection
+    final Connection connection;
+    try {
+      connection = requireNonNull(dataSource.get(), "No connection provided by data source");
+    } catch (final RuntimeException e) {
+      connectionClosed();
+      throw e;
+    }
+    return newPooledConnection(connection, new ConnectionDefaults(connection));
+  }
+
+  /**
+   * Gets the number of idle connections in the pool.
+   *
+   * @return Number of idle connections
+   */
+  public synchronized int getIdleCount() {
+    return idleConnections.size();
+  }
+
+  /**
+   * Gets the number of open connections, whether they are in use or idle in the pool.
+   *
+   * @return Number of open connections
+   */
+  public synchronized int getOpenCount() {
+    return openCount;
+  }
+
+  private synchronized void connectionClosed() {
+    openCount--;
+    notifyAll();
+  }
+
+  private void discardConnection(final Connection connection) {
+    closeConnection(connection);
+    connectionClosed();
+  }
+
+  /** Closes connections that have been idle for longer than the idle timeout. */
+  private void evictIdleConnections() {
+    final long evictBefore = System.currentTimeMillis() - idleTimeoutMillis;
+    final Deque<IdleConnection> evictedConnections = new ArrayDeque<>();
+    synchronized (this) {
+      // Connections are returned to the head of the queue, so the oldest are at the tail
+      while (!idleConnections.isEmpty() && idleConnections.peekLast().idleSince < evictBefore) {
+        evictedConnections.add(idleConnections.pollLast());
+      }
+    }
+    for (final IdleConnection idleConnection : evictedConnections) {
+      discardConnection(idleConnection.connection);
+    }
+  }
+
+  private Connection newPooledConnection(
+      final Connection connection, final ConnectionDefaults defaults) {
+    final PooledConnectionInvocationHandler handler =
+        new PooledConnectionInvocationHandler(connection, defaults);
+    final ClassLoader classLoader = connection.getClass().getClassLoader();
+    try {
+      return (Connection)
+          newProxyInstance(
+              classLoader == null ? PooledConnectionSource.class.getClassLoader() : classLoader,
+              connectionInterfaces(connection),
+              handler);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("Pooling connection <%s> only as a plain connection", connection));
+      return (Connection)
+          newProxyInstance(
+              PooledConnectionSource.class.getClassLoader(),
+              new Class<?>[] {Connection.class},
+              handler);
+    }
+  }
+
+  /**
+   * Takes the most recently returned idle connection. If there is none, but the pool has room,
+   * reserves room for a new connection. Otherwise, waits for a connection to be returned.
+   *
+   * @param waitUntil Time until which to wait
+   * @return Idle connection, or null if room was reserved for a new connection
+   */
+  private IdleConnection nextIdleConnection(final long waitUntil) {
+    evictIdleConnections();
+    synchronized (this) {
+      while (true) {
+        if (isClosed) {
+          throw new ExecutionRuntimeException("Connection pool is closed");
+        }
+        final IdleConnection idleConnection = idleConnections.pollFirst();
+        if (idleConnection != null) {
+          return idleConnection;
+        }
+        if (openCount < maxSize) {
+          openCount++;
+          return null;
+        }
+
+        final long waitMillis = waitUntil - System.currentTimeMillis();
+        if (waitMillis <= 0) {
+          throw new ExecutionRuntimeException(
+              String.format(
+                  "Timed out waiting for a pooled connection, with <%d> connections in use",
+                  openCount));
+        }
+        try {
+          wait(waitMillis);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new ExecutionRuntimeException("Interrupted waiting for a pooled connection", e);
+        }
+      }
+    }
+  }
+
+  private void release(final Connection connection, final ConnectionDefaults defaults) {
+    boolean isPooled = false;
+    if (isOpen(connection) && restore(connection, defaults)) {
+      synchronized (this) {
+        if (!isClosed) {
+          idleConnections.addFirst(
+              new IdleConnection(connection, defaults, System.currentTimeMillis()));
+          isPooled = true;
+          notifyAll();
+        }
+      }
+    }
+    if (isPooled) {
+      LOGGER.log(Level.FINE, new StringFormat("Returned connection <%s> to pool", connection));
+      evictIdleConnections();
+    } else {
+      discardConnection(connection);
+    }
+  }
+
+  private boolean restore(final Connection connection, final ConnectionDefaults defaults) {
+    try {
+      defaults.restore(connection);
+      return true;
+    } catch (final SQLException | RuntimeException e) {
+      LOGGER.log(
+          Level.FINE,
+          e,
+          new StringFormat("Could not restore state of connection <%s>", connection));
+      return false;
+    }
+  }
+}
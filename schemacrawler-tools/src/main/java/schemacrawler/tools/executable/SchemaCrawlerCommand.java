@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
@@ -57,6 +58,16 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional connections, for commands that can run queries in parallel. May be null,
+   * in which case only the connection is used.
+   *
+   * @return Source of database connections, or null
+   */
+  default Supplier<Connection> getDataSource() {
+    return null;
+  }
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
@@ -72,6 +83,16 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  /**
+   * Sets a source of additional connections. Commands that do not run queries in parallel ignore
+   * it.
+   *
+   * @param dataSource Source of database connections, or null
+   */
+  default void setDataSource(final Supplier<Connection> dataSource) {
+    // No-op
+  }
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
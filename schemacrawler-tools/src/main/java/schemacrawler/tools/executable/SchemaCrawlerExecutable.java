@@ -32,6 +32,7 @@ import static schemacrawler.tools.utility.SchemaCrawlerUtility.matchSchemaRetrie
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -60,6 +61,7 @@ public final class SchemaCrawlerExecutable {
   private Config additionalConfig;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> dataSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -98,6 +100,7 @@ public final class SchemaCrawlerExecutable {
     scCommand.setCatalog(catalog);
     if (scCommand.usesConnection()) {
       scCommand.setConnection(connection);
+      scCommand.setDataSource(dataSource);
     }
 
     // Execute
@@ -136,6 +139,16 @@ public final class SchemaCrawlerExecutable {
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Sets a source of additional connections, for commands and catalog loaders that can run queries
+   * in parallel.
+   *
+   * @param dataSource Source of database connections, or null to only use the connection
+   */
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   public void setOutputOptions(final OutputOptions outputOptions) {
     if (outputOptions == null) {
       this.outputOptions = OutputOptionsBuilder.newOutputOptions();
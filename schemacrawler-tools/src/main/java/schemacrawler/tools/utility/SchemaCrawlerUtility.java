@@ -35,6 +35,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -90,6 +91,40 @@ public final class SchemaCrawlerUtility {
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions schemaCrawlerOptions,
       final Config additionalConfig) {
+    return getCatalog(
+        connection, null, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+  }
+
+  /**
+   * Crawls a database, and returns a catalog. Catalog loaders that can run queries in parallel,
+   * such as the table row counts loader, can obtain additional connections from the data source.
+   *
+   * @param dataSource Source of database connections.
+   * @param schemaRetrievalOptions Database specific options.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Configuration for catalog loaders.
+   * @return Database catalog.
+   */
+  public static Catalog getCatalog(
+      final Supplier<Connection> dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
+    requireNonNull(dataSource, "No data source provided");
+    try (final Connection connection = dataSource.get()) {
+      return getCatalog(
+          connection, dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException("Could not close database connection", e);
+    }
+  }
+
+  private static Catalog getCatalog(
+      final Connection connection,
+      final Supplier<Connection> dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
 
     final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
     final CatalogLoader catalogLoader = catalogLoaderRegistry.newChainedCatalogLoader();
@@ -98,6 +133,7 @@ public final class SchemaCrawlerUtility {
     logConnection(connection);
 
     catalogLoader.setConnection(connection);
+    catalogLoader.setDataSource(dataSource);
     catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
     catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
     catalogLoader.setAdditionalConfiguration(additionalConfig);
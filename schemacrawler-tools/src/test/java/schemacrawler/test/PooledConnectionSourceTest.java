@@ -0,0 +1,226 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static java.sql.Connection.TRANSACTION_READ_COMMITTED;
+import static java.sql.Connection.TRANSACTION_SERIALIZABLE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.DisableLogging;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.databaseconnector.PooledConnectionSource;
+
+@DisableLogging
+@WithTestDatabase
+public class PooledConnectionSourceTest {
+
+  private AtomicInteger connectionCount;
+  private Supplier<Connection> dataSource;
+
+  @BeforeEach
+  public void dataSource(final DatabaseConnectionInfo databaseConnectionInfo) {
+    connectionCount = new AtomicInteger();
+    dataSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(databaseConnectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException(e);
+          }
+        };
+  }
+
+  @Test
+  public void closedConnections() throws SQLException {
+    try (final PooledConnectionSource connectionSource = new PooledConnectionSource(dataSource)) {
+      final Connection connection = connectionSource.get();
+      connection.close();
+
+      assertThat(connection.isClosed(), is(true));
+      assertThrows(SQLException.class, () -> connection.createStatement());
+      // Closing again does not return the connection to the pool twice
+      connection.close();
+      assertThat(connectionSource.getIdleCount(), is(1));
+
+      // Physically closed connections are not returned to the pool
+      final Connection connection2 = connectionSource.get();
+      connection2.unwrap(Connection.class).close();
+      connection2.close();
+      assertThat(connectionSource.getIdleCount(), is(0));
+      assertThat(connectionCount.get(), is(1));
+    }
+  }
+
+  @Test
+  public void closedPool() throws SQLException {
+    final PooledConnectionSource connectionSource = new PooledConnectionSource(dataSource);
+    final Connection connection = connectionSource.get();
+    final Connection physicalConnection = connection.unwrap(Connection.class);
+
+    connectionSource.close();
+    assertThrows(ExecutionRuntimeException.class, () -> connectionSource.get());
+
+    // Connections in use are closed when they are returned
+    assertThat(physicalConnection.isClosed(), is(false));
+    connection.close();
+    assertThat(physicalConnection.isClosed(), is(true));
+    assertThat(connectionSource.getIdleCount(), is(0));
+  }
+
+  @Test
+  public void idleTimeout() throws SQLException {
+    try (final PooledConnectionSource connectionSource =
+        new PooledConnectionSource(dataSource, 5, Duration.ofMillis(-1))) {
+      final Connection connection = connectionSource.get();
+      final Connection physicalConnection = connection.unwrap(Connection.class);
+      connection.close();
+
+      assertThat(connectionSource.getIdleCount(), is(0));
+      assertThat(physicalConnection.isClosed(), is(true));
+    }
+  }
+
+  @Test
+  public void maxSize() throws SQLException {
+    try (final PooledConnectionSource connectionSource =
+        new PooledConnectionSource(dataSource, 1, Duration.ofMinutes(1), Duration.ZERO)) {
+      final Connection connection1 = connectionSource.get();
+      // No more connections are opened than the maximum pool size
+      assertThrows(ExecutionRuntimeException.class, () -> connectionSource.get());
+      assertThat(connectionSource.getOpenCount(), is(1));
+
+      connection1.close();
+      connectionSource.get().close();
+      assertThat(connectionCount.get(), is(1));
+      assertThat(connectionSource.getOpenCount(), is(1));
+    }
+  }
+
+  @Test
+  public void restoreConnectionState() throws SQLException {
+    try (final PooledConnectionSource connectionSource = new PooledConnectionSource(dataSource)) {
+      final Connection connection1 = connectionSource.get();
+      final Connection physicalConnection = connection1.unwrap(Connection.class);
+      final int transactionIsolation = connection1.getTransactionIsolation();
+
+      connection1.setAutoCommit(false);
+      connection1.setTransactionIsolation(
+          transactionIsolation == TRANSACTION_SERIALIZABLE
+              ? TRANSACTION_READ_COMMITTED
+              : TRANSACTION_SERIALIZABLE);
+      try (final Statement statement = connection1.createStatement()) {
+        statement.executeUpdate(
+            "INSERT INTO PUBLIC.BOOKS.PUBLISHERS (PUBLISHER) VALUES ('Uncommitted')");
+      }
+      connection1.setReadOnly(true);
+      connection1.close();
+
+      try (final Connection connection2 = connectionSource.get();
+          final Statement statement = connection2.createStatement();
+          final ResultSet results =
+              statement.executeQuery(
+                  "SELECT COUNT(*) FROM PUBLIC.BOOKS.PUBLISHERS WHERE PUBLISHER = 'Uncommitted'")) {
+        assertThat(connection2.unwrap(Connection.class), is(sameInstance(physicalConnection)));
+        assertThat(connection2.getAutoCommit(), is(true));
+        assertThat(connection2.isReadOnly(), is(false));
+        assertThat(connection2.getTransactionIsolation(), is(transactionIsolation));
+        // Open transaction was rolled back
+        results.next();
+        assertThat(results.getInt(1), is(0));
+      }
+    }
+  }
+
+  @Test
+  public void waitForConnection() throws Exception {
+    try (final PooledConnectionSource connectionSource =
+        new PooledConnectionSource(dataSource, 1, Duration.ofMinutes(1), Duration.ofMinutes(1))) {
+      final Connection connection1 = connectionSource.get();
+      final Connection physicalConnection = connection1.unwrap(Connection.class);
+
+      final Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  Thread.sleep(100);
+                  connection1.close();
+                } catch (final InterruptedException | SQLException e) {
+                  throw new RuntimeException(e);
+                }
+              });
+      thread.start();
+
+      // Waits until the connection in use is returned
+      try (final Connection connection2 = connectionSource.get()) {
+        assertThat(connection2.unwrap(Connection.class), is(sameInstance(physicalConnection)));
+      }
+      thread.join();
+      assertThat(connectionCount.get(), is(1));
+    }
+  }
+
+  @Test
+  public void reuseConnections() throws SQLException {
+    try (final PooledConnectionSource connectionSource = new PooledConnectionSource(dataSource)) {
+      final Connection connection1 = connectionSource.get();
+      final Connection physicalConnection = connection1.unwrap(Connection.class);
+      connection1.close();
+
+      assertThat(connectionSource.getIdleCount(), is(1));
+
+      try (final Connection connection2 = connectionSource.get()) {
+        assertThat(connection2, is(not(sameInstance(connection1))));
+        assertThat(connection2.unwrap(Connection.class), is(sameInstance(physicalConnection)));
+        assertThat(connection2.isClosed(), is(false));
+        assertThat(connectionSource.getIdleCount(), is(0));
+      }
+
+      assertThat(connectionCount.get(), is(1));
+    }
+  }
+}
@@ -28,13 +28,13 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.Utility.commonPrefix;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -86,53 +86,50 @@ public final class PrefixMatches {
   }
 
   /**
-   * Finds key prefixes. Prefixes are separated by a separator character.
+   * Finds key prefixes. Prefixes are separated by a separator character. Prefixes are counted by
+   * the number of pairs of keys that share them, in a single scan over the keys. Keys are not
+   * compared to each other, since every key that starts with a prefix shares it with every other
+   * key that starts with it.
    *
    * @param keys Keys
    * @return Key name prefixes
    */
   private Collection<String> findPrefixes(final List<String> keys) {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < keys.size(); i++) {
-      for (int j = i + 1; j < keys.size(); j++) {
-        final String key1 = keys.get(i);
-        final String key2 = keys.get(j);
-        final String commonPrefix = commonPrefix(key1, key2);
-        if (isBlank(commonPrefix)) {
-          continue;
-        }
+    final Map<String, Integer> keyCounts = new HashMap<>();
+    for (final String key : keys) {
+      if (key != null) {
+        keyCounts.merge(key, 1, Integer::sum);
+      }
+    }
 
-        final List<String> splitCommonPrefixes = new ArrayList<>();
-        final String[] splitPrefix = commonPrefix.split(keySeparator);
-        if (splitPrefix != null && splitPrefix.length > 0) {
-          for (int k = 0; k < splitPrefix.length; k++) {
-            final StringBuilder buffer = new StringBuilder(1024);
-            for (int l = 0; l < k; l++) {
-              buffer.append(splitPrefix[l]).append(keySeparator);
-            }
-            if (buffer.length() > 0) {
-              splitCommonPrefixes.add(buffer.toString());
-            }
-          }
-        }
-        if (commonPrefix.endsWith(keySeparator)) {
-          splitCommonPrefixes.add(commonPrefix);
-        }
+    // Count the keys that start with each prefix, and the pairs of identical keys, since identical
+    // keys are not considered to share a prefix
+    final Map<String, Long> keysWithPrefix = new HashMap<>();
+    final Map<String, Long> identicalPairsWithPrefix = new HashMap<>();
+    for (final Map.Entry<String, Integer> keyCount : keyCounts.entrySet()) {
+      final String key = keyCount.getKey();
+      final long count = keyCount.getValue();
+      int index = key.indexOf(keySeparator);
+      while (index >= 0) {
+        final String prefix = key.substring(0, index + keySeparator.length());
+        keysWithPrefix.merge(prefix, count, Long::sum);
+        identicalPairsWithPrefix.merge(prefix, count * (count - 1) / 2, Long::sum);
+        index = key.indexOf(keySeparator, index + keySeparator.length());
+      }
+    }
 
-        for (final String splitCommonPrefix : splitCommonPrefixes) {
-          final int prevCount;
-          if (prefixesMap.containsKey(splitCommonPrefix)) {
-            prevCount = prefixesMap.get(splitCommonPrefix);
-          } else {
-            prevCount = 0;
-          }
-          prefixesMap.put(splitCommonPrefix, prevCount + 1);
-        }
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (final Map.Entry<String, Long> keyPrefix : keysWithPrefix.entrySet()) {
+      final String prefix = keyPrefix.getKey();
+      final long count = keyPrefix.getValue();
+      final long pairs = count * (count - 1) / 2 - identicalPairsWithPrefix.get(prefix);
+      if (pairs > 0 && !isBlank(prefix)) {
+        prefixesMap.merge(prefix.toLowerCase(), pairs, Long::sum);
       }
     }
 
     // Sort prefixes by the number of keys using them, in descending order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
     Collections.sort(
         prefixesList, (entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
 
@@ -152,10 +149,10 @@ public final class PrefixMatches {
 
   private void mapPrefixes(final List<String> keys, final Collection<String> prefixes) {
     for (final String key : keys) {
+      final String lowerCaseKey = key.toLowerCase();
       for (final String prefix : prefixes) {
-        String matchKeyName = key.toLowerCase();
-        if (matchKeyName.startsWith(prefix)) {
-          matchKeyName = matchKeyName.substring(prefix.length());
+        if (lowerCaseKey.startsWith(prefix)) {
+          String matchKeyName = lowerCaseKey.substring(prefix.length());
           matchKeyName = Inflection.singularize(matchKeyName);
           if (!isBlank(matchKeyName)) {
             keyPrefixes.add(key, matchKeyName);
@@ -112,7 +112,12 @@ public final class DatabaseUtility {
 
   public static long executeSqlForLong(final Connection connection, final String sql)
       throws SQLException {
-    final Object longValue = executeSqlForScalar(connection, sql);
+    return executeSqlForLong(connection, sql, 0);
+  }
+
+  public static long executeSqlForLong(
+      final Connection connection, final String sql, final int queryTimeout) throws SQLException {
+    final Object longValue = executeSqlForScalar(connection, sql, queryTimeout);
     // Error checking
     if (longValue == null || !(longValue instanceof Number)) {
       throw new SQLException("Cannot get a long value result from SQL query");
@@ -123,8 +128,22 @@ public final class DatabaseUtility {
 
   public static Object executeSqlForScalar(final Connection connection, final String sql)
       throws SQLException {
-    try (final Statement statement = createStatement(connection);
-        final ResultSet resultSet = executeSql(statement, sql)) {
+    return executeSqlForScalar(connection, sql, 0);
+  }
+
+  public static Object executeSqlForScalar(
+      final Connection connection, final String sql, final int queryTimeout) throws SQLException {
+    try (final Statement statement = createStatement(connection)) {
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      return executeSqlForScalar(statement, sql);
+    }
+  }
+
+  private static Object executeSqlForScalar(final Statement statement, final String sql)
+      throws SQLException {
+    try (final ResultSet resultSet = executeSql(statement, sql)) {
       if (resultSet == null) {
         return null;
       }
@@ -27,22 +27,34 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Edges are indexed by the vertex they start from, and incoming edges are
+ * counted for each vertex, so that graph algorithms do not need to scan every edge for each vertex.
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
   private final Set<DirectedEdge<T>> edges;
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> outgoingEdges;
+  private final Map<Vertex<T>, Integer> inDegrees;
 
   public DirectedGraph(final String name) {
     this.name = name;
     verticesMap = new LinkedHashMap<>();
     edges = new LinkedHashSet<>();
+    outgoingEdges = new HashMap<>();
+    inDegrees = new HashMap<>();
   }
 
   /**
@@ -54,7 +66,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    */
   public void addEdge(final T from, final T to) {
     if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final DirectedEdge<T> edge = new DirectedEdge<>(addVertex(from), addVertex(to));
+      if (edges.add(edge)) {
+        outgoingEdges.computeIfAbsent(edge.getFrom(), vertex -> new LinkedHashSet<>()).add(edge);
+        inDegrees.merge(edge.getTo(), 1, Integer::sum);
+      }
     }
   }
 
@@ -79,7 +95,9 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     return new LinkedHashSet<>(edges);
   }
 
-  /** @return the name */
+  /**
+   * @return the name
+   */
   public String getName() {
     return name;
   }
@@ -87,13 +105,7 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom) {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
-    final Set<DirectedEdge<T>> outgoingEdges = new LinkedHashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
-      }
-    }
-    return outgoingEdges;
+    return new LinkedHashSet<>(outgoingEdges(vertexFrom));
   }
 
   @Override
@@ -121,4 +133,28 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<Vertex<T>> vertexSet() {
     return new LinkedHashSet<>(verticesMap.values());
   }
+
+  /**
+   * Number of edges that end at a vertex.
+   *
+   * @param vertex Vertex to count incoming edges for
+   * @return Number of incoming edges
+   */
+  int inDegree(final Vertex<T> vertex) {
+    return inDegrees.getOrDefault(vertex, 0);
+  }
+
+  /**
+   * Edges that start from a vertex, without making a copy.
+   *
+   * @param vertexFrom Vertex at the start of the edges
+   * @return Unmodifiable set of outgoing edges
+   */
+  Set<DirectedEdge<T>> outgoingEdges(final Vertex<T> vertexFrom) {
+    final Set<DirectedEdge<T>> vertexEdges = outgoingEdges.get(vertexFrom);
+    if (vertexEdges == null) {
+      return emptySet();
+    }
+    return unmodifiableSet(vertexEdges);
+  }
 }
@@ -27,7 +27,10 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
@@ -83,25 +86,34 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
     return vertices;
   }
 
-  private boolean visitForCyles(final Vertex<T> vertex) {
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+  private boolean visitForCyles(final Vertex<T> startVertex) {
+    // Depth-first search, with an explicit stack so that deep graphs do not overflow the call stack
+    final Deque<Vertex<T>> path = new ArrayDeque<>();
+    final Deque<Iterator<DirectedEdge<T>>> pathEdges = new ArrayDeque<>();
 
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
+    startVertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+    path.push(startVertex);
+    pathEdges.push(graph.outgoingEdges(startVertex).iterator());
+
+    while (!path.isEmpty()) {
+      final Iterator<DirectedEdge<T>> edges = pathEdges.peek();
+      if (edges.hasNext()) {
+        final Vertex<T> to = edges.next().getTo();
         if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
           to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
           return true;
         } else if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-          if (visitForCyles(to)) {
-            return true;
-          }
+          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+          path.push(to);
+          pathEdges.push(graph.outgoingEdges(to).iterator());
         }
+      } else {
+        final Vertex<T> vertex = path.pop();
+        pathEdges.pop();
+        vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
@@ -31,10 +31,19 @@ import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Topological sort of a directed graph, using <a
+ * href="https://en.wikipedia.org/wiki/Topological_sorting#Kahn's_algorithm">Kahn's algorithm</a>.
+ * Vertices are sorted level by level, where each level has the vertices whose incoming edges all
+ * come from earlier levels. Vertices within a level are in natural sort order.
+ *
+ * @param <T> Any comparable class
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>> {
 
   private final DirectedGraph<T> graph;
@@ -44,83 +53,48 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
   }
 
   public List<T> topologicalSort() throws GraphException {
-    if (containsCycle()) {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
     final Collection<Vertex<T>> vertices = graph.vertexSet();
     final int collectionSize = vertices.size();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty()) {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+    final Map<Vertex<T>, Integer> inDegrees = new HashMap<>();
+    List<Vertex<T>> verticesAtLevel = new ArrayList<>();
+    for (final Vertex<T> vertex : vertices) {
+      final int inDegree = graph.inDegree(vertex);
+      if (inDegree == 0) {
+        verticesAtLevel.add(vertex);
+      } else {
+        inDegrees.put(vertex, inDegree);
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
-        }
-      }
+    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    while (!verticesAtLevel.isEmpty()) {
 
-      for (final Vertex<T> vertex : startNodes) {
+      final List<T> nodesAtLevel = new ArrayList<>(verticesAtLevel.size());
+      final List<Vertex<T>> verticesAtNextLevel = new ArrayList<>();
+      for (final Vertex<T> vertex : verticesAtLevel) {
         // Save the vertex value
         nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        // Drop all out edges, and find vertices that have no more incoming edges
+        for (final DirectedEdge<T> edge : graph.outgoingEdges(vertex)) {
+          final Vertex<T> to = edge.getTo();
+          if (inDegrees.merge(to, -1, Integer::sum) == 0) {
+            verticesAtNextLevel.add(to);
+          }
+        }
       }
 
       nodesAtLevel.sort(naturalOrder());
       sortedValues.addAll(nodesAtLevel);
-    }
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle() {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
+      verticesAtLevel = verticesAtNextLevel;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
+    // Vertices on a cycle never run out of incoming edges
+    if (sortedValues.size() < collectionSize) {
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 }
@@ -31,13 +31,16 @@ import static java.time.temporal.ChronoField.HOUR_OF_DAY;
 import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
 import static java.time.temporal.ChronoField.NANO_OF_SECOND;
 import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
@@ -45,6 +48,37 @@ import java.util.function.Supplier;
 
 abstract class AbstractTaskRunner implements TaskRunner {
 
+  /**
+   * Checks that the tasks form a valid task graph. Dependencies on tasks that are not part of the
+   * graph are assumed to have been completed already. Dependencies on tasks that are part of the
+   * graph need to be defined before the tasks that depend on them, which also guarantees that there
+   * are no cycles.
+   *
+   * @param taskDefinitions Tasks to check
+   */
+  static void checkTaskGraph(final TaskDefinition... taskDefinitions) {
+    requireNonNull(taskDefinitions, "Tasks not provided");
+
+    final Set<String> allTaskNames = new HashSet<>();
+    for (final TaskDefinition taskDefinition : taskDefinitions) {
+      requireNonNull(taskDefinition, "Task not provided");
+      allTaskNames.add(taskDefinition.getTaskName());
+    }
+
+    final Set<String> definedTaskNames = new HashSet<>();
+    for (final TaskDefinition taskDefinition : taskDefinitions) {
+      for (final String dependency : taskDefinition.getDependencies()) {
+        if (allTaskNames.contains(dependency) && !definedTaskNames.contains(dependency)) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Task <%s> needs to be defined before task <%s> that depends on it",
+                  dependency, taskDefinition.getTaskName()));
+        }
+      }
+      definedTaskNames.add(taskDefinition.getTaskName());
+    }
+  }
+
   private final String id;
   private final List<TaskInfo> tasks;
 
@@ -46,7 +46,10 @@ final class MainThreadTaskRunner extends AbstractTaskRunner {
   public void run(final TaskDefinition... taskDefinitions) throws Exception {
 
     requireNonNull(taskDefinitions, "Tasks not provided");
+    checkTaskGraph(taskDefinitions);
 
+    // Tasks are defined after their dependencies, so running them
+    // in order honors the task graph
     for (final TaskDefinition taskDefinition : taskDefinitions) {
       taskDefinition.run();
     }
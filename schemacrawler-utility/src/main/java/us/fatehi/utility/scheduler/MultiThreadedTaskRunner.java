@@ -29,7 +29,10 @@ package us.fatehi.utility.scheduler;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -37,10 +40,13 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Runs tasks on a thread pool. Each task is started as soon as all the tasks that it depends on
+ * have completed, so independent tasks do not wait for each other.
+ */
 public final class MultiThreadedTaskRunner extends AbstractTaskRunner {
 
   private static final Logger LOGGER = Logger.getLogger(MultiThreadedTaskRunner.class.getName());
@@ -80,16 +86,34 @@ public final class MultiThreadedTaskRunner extends AbstractTaskRunner {
     }
 
     requireNonNull(taskDefinitions, "Tasks not provided");
+    checkTaskGraph(taskDefinitions);
+
+    final Map<String, CompletableFuture<Void>> taskFutures = new HashMap<>();
+    final List<CompletableFuture<Void>> allTaskFutures = new ArrayList<>();
+    for (final TaskDefinition taskDefinition : taskDefinitions) {
+      final List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+      for (final String dependency : taskDefinition.getDependencies()) {
+        final CompletableFuture<Void> prerequisite = taskFutures.get(dependency);
+        if (prerequisite != null) {
+          prerequisites.add(prerequisite);
+        }
+      }
+
+      final TimedTask timedTask = new TimedTask(getTasks(), taskDefinition);
+      final CompletableFuture<Void> taskFuture;
+      if (prerequisites.isEmpty()) {
+        taskFuture = CompletableFuture.runAsync(timedTask, executorService);
+      } else {
+        taskFuture =
+            CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+                .thenRunAsync(timedTask, executorService);
+      }
+      taskFutures.put(taskDefinition.getTaskName(), taskFuture);
+      allTaskFutures.add(taskFuture);
+    }
 
     final CompletableFuture<Void> completableFuture =
-        CompletableFuture.allOf(
-            Arrays.stream(taskDefinitions)
-                .map(
-                    task ->
-                        CompletableFuture.runAsync(
-                            new TimedTask(getTasks(), task), executorService))
-                .collect(Collectors.toList())
-                .toArray(new CompletableFuture[taskDefinitions.length]));
+        CompletableFuture.allOf(allTaskFutures.toArray(new CompletableFuture[0]));
 
     completableFuture.join();
   }
@@ -31,11 +31,19 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 import static us.fatehi.utility.Utility.toSnakeCase;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * A named task that can be run by a task runner. A task can declare the names of other tasks that
+ * must complete before it can start. Task runners use these dependencies to build a task graph.
+ */
 public class TaskDefinition implements Runnable {
 
   /**
@@ -51,17 +59,38 @@ public class TaskDefinition implements Runnable {
 
   private final String taskName;
   private final TaskRunnable task;
+  private final Set<String> dependencies;
 
   public TaskDefinition(final String taskName) {
     this.taskName = toSnakeCase(requireNotBlank(taskName, "Task name not provided"));
-    this.task = () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName));
+    task = () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName));
+    dependencies = Collections.emptySet();
   }
 
   public TaskDefinition(final String taskName, final TaskRunnable task) {
+    this(taskName, task, Collections.emptySet());
+  }
+
+  public TaskDefinition(
+      final String taskName, final TaskRunnable task, final Collection<String> dependencies) {
     requireNotBlank(taskName, "Task name not provided");
+    requireNonNull(dependencies, "Task dependencies not provided");
 
     this.taskName = toSnakeCase(taskName);
     this.task = requireNonNull(task, "Task not provided");
+    this.dependencies = new LinkedHashSet<>();
+    for (final String dependency : dependencies) {
+      this.dependencies.add(toSnakeCase(requireNotBlank(dependency, "Task name not provided")));
+    }
+  }
+
+  /**
+   * Names of tasks that need to complete before this task can be run.
+   *
+   * @return Names of prerequisite tasks
+   */
+  public Set<String> getDependencies() {
+    return Collections.unmodifiableSet(dependencies);
   }
 
   public String getTaskName() {
@@ -96,4 +125,17 @@ public class TaskDefinition implements Runnable {
   public String toString() {
     return taskName;
   }
+
+  /**
+   * Creates a new task definition for the same task, with additional prerequisite tasks.
+   *
+   * @param additionalDependencies Names of additional prerequisite tasks
+   * @return New task definition
+   */
+  public TaskDefinition withDependencies(final Collection<String> additionalDependencies) {
+    requireNonNull(additionalDependencies, "Task dependencies not provided");
+    final Set<String> allDependencies = new LinkedHashSet<>(dependencies);
+    allDependencies.addAll(additionalDependencies);
+    return new TaskDefinition(taskName, task, allDependencies);
+  }
 }
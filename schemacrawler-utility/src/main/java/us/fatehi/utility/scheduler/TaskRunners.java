@@ -36,12 +36,45 @@ public class TaskRunners {
 
   private static final Logger LOGGER = Logger.getLogger(TaskRunners.class.getName());
 
+  /**
+   * Gets a task runner for tasks that each use their own database connection, or that do not use a
+   * database connection at all. Tasks are run using multiple threads, unless multi-threaded loading
+   * is turned off by setting the SC_EXPERIMENTAL system property or environmental variable to
+   * false.
+   *
+   * @param id Task runner identifier
+   * @param maxThreadsSuggested Maximum number of threads
+   * @return Task runner
+   */
+  public static TaskRunner getConcurrentTaskRunner(final String id, final int maxThreadsSuggested) {
+    final String experimentalFlag = getExperimentalFlag();
+    final boolean isTurnedOff = Boolean.FALSE.toString().equalsIgnoreCase(experimentalFlag);
+    return getTaskRunner(id, maxThreadsSuggested, !isTurnedOff);
+  }
+
+  /**
+   * Gets a task runner for tasks that may share a single database connection. Tasks are run on the
+   * main thread unless multi-threaded loading is turned on with the SC_EXPERIMENTAL system property
+   * or environmental variable, since many JDBC drivers do not support concurrent use of a
+   * connection.
+   *
+   * @param id Task runner identifier
+   * @param maxThreadsSuggested Maximum number of threads, if multi-threaded loading is turned on
+   * @return Task runner
+   */
   public static TaskRunner getTaskRunner(final String id, final int maxThreadsSuggested) {
-    final String experimentalFlag =
-        PropertiesUtility.getSystemConfigurationProperty(
-            "SC_EXPERIMENTAL", Boolean.FALSE.toString());
-    final Boolean isExperimental = Boolean.valueOf(experimentalFlag);
-    if (isExperimental) {
+    final String experimentalFlag = getExperimentalFlag();
+    final boolean isExperimental = Boolean.valueOf(experimentalFlag);
+    return getTaskRunner(id, maxThreadsSuggested, isExperimental);
+  }
+
+  private static String getExperimentalFlag() {
+    return PropertiesUtility.getSystemConfigurationProperty("SC_EXPERIMENTAL", "");
+  }
+
+  private static TaskRunner getTaskRunner(
+      final String id, final int maxThreadsSuggested, final boolean isMultiThreaded) {
+    if (isMultiThreaded && maxThreadsSuggested > MultiThreadedTaskRunner.MIN_THREADS) {
       LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
       return new MultiThreadedTaskRunner(id, maxThreadsSuggested);
     } else {
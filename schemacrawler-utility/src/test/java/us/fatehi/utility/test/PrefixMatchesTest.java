@@ -69,6 +69,23 @@ public class PrefixMatchesTest {
     assertThat(withoutPrefix, containsInAnyOrder("key1"));
   }
 
+  @Test
+  public void prefixMatches_duplicate_keys() {
+    List<String> withoutPrefix;
+
+    final PrefixMatches matchkeys =
+        new PrefixMatches(keys("PFX_key1", "pfx_key2", "pfx_key2", "pfx_key4", "key3", "key3"), "_");
+
+    withoutPrefix = matchkeys.get("key0");
+    assertThat(withoutPrefix, containsInAnyOrder("key0"));
+
+    withoutPrefix = matchkeys.get("PFX_key1");
+    assertThat(withoutPrefix, containsInAnyOrder("key1", "pfx_key1"));
+
+    withoutPrefix = matchkeys.get("pfx_key4");
+    assertThat(withoutPrefix, containsInAnyOrder("key4", "pfx_key4"));
+  }
+
   @Test
   public void prefixMatches_mixed_prefixes() {
     List<String> withoutPrefix;
@@ -0,0 +1,124 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test.graph;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.graph.DirectedGraph;
+import us.fatehi.utility.graph.GraphException;
+import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
+
+public class DirectedGraphLargeTest extends GraphTestBase {
+
+  private static final int SIZE = 100_000;
+
+  @Test
+  public void longChain() throws Exception {
+    final DirectedGraph<Integer> graph = makeChain();
+
+    assertThat(containsCycleSimple(graph), is(false));
+    assertThat(containsCycleTarjan(graph), is(false));
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertThat(sorted, hasSize(SIZE));
+    for (int i = 0; i < SIZE; i++) {
+      assertThat(sorted.get(i), is(i));
+    }
+  }
+
+  @Test
+  public void longCycle() throws Exception {
+    final DirectedGraph<Integer> graph = makeChain();
+    graph.addEdge(SIZE - 1, 0);
+
+    assertThat(containsCycleSimple(graph), is(true));
+
+    final Collection<List<Integer>> sccs =
+        new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+    assertThat(sccs, hasSize(1));
+    assertThat(sccs.iterator().next(), hasSize(SIZE));
+
+    assertThrows(GraphException.class, () -> topologicalSort(graph));
+  }
+
+  @Test
+  public void stronglyConnectedComponents() throws Exception {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+    graph.addEdge("A", "B");
+    graph.addEdge("B", "C");
+    graph.addEdge("C", "A");
+    graph.addEdge("A", "D");
+    graph.addEdge("D", "E");
+    graph.addEdge("E", "D");
+    graph.addEdge("E", "C");
+    graph.addEdge("E", "F");
+
+    final Collection<List<String>> sccs =
+        new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+    final List<List<String>> sortedSccs = new ArrayList<>();
+    for (final List<String> scc : sccs) {
+      final List<String> sortedScc = new ArrayList<>(scc);
+      sortedScc.sort(null);
+      sortedSccs.add(sortedScc);
+    }
+    assertThat(sortedSccs, containsInAnyOrder(Arrays.asList("A", "B", "C", "D", "E")));
+  }
+
+  @Test
+  public void topologicalSortLevels() throws Exception {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+    graph.addEdge("C", "B");
+    graph.addEdge("C", "A");
+    graph.addEdge("B", "A");
+    graph.addEdge("D", "A");
+    graph.addVertex("E");
+
+    assertThat(topologicalSort(graph), contains("C", "D", "E", "B", "A"));
+  }
+
+  private DirectedGraph<Integer> makeChain() {
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("chain");
+    for (int i = 0; i < SIZE - 1; i++) {
+      graph.addEdge(i, i + 1);
+    }
+    return graph;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.test.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+public class TaskRunnerTest {
+
+  @BeforeEach
+  public void multiThreaded() {
+    System.setProperty("SC_EXPERIMENTAL", Boolean.TRUE.toString());
+  }
+
+  @AfterEach
+  public void clearMultiThreaded() {
+    System.clearProperty("SC_EXPERIMENTAL");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5})
+  public void dependencyOrder(final int maxThreads) throws Exception {
+    final List<String> completed = new CopyOnWriteArrayList<>();
+
+    final TaskRunner taskRunner = TaskRunners.getTaskRunner("test", maxThreads);
+    taskRunner.run(
+        new TaskDefinition(
+            "slowTask",
+            () -> {
+              Thread.sleep(200);
+              completed.add("slowTask");
+            }),
+        new TaskDefinition("fastTask", () -> completed.add("fastTask")),
+        new TaskDefinition(
+            "dependentTask",
+            () -> completed.add("dependentTask"),
+            Arrays.asList("slowTask", "fastTask")),
+        new TaskDefinition(
+            "alreadyCompletedDependency",
+            () -> completed.add("alreadyCompletedDependency"),
+            Collections.singletonList("notInGraph")));
+    taskRunner.stop();
+
+    assertThat(
+        completed,
+        containsInAnyOrder("slowTask", "fastTask", "dependentTask", "alreadyCompletedDependency"));
+    assertThat(completed.indexOf("slowTask"), is(lessThan(completed.indexOf("dependentTask"))));
+    assertThat(completed.indexOf("fastTask"), is(lessThan(completed.indexOf("dependentTask"))));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5})
+  public void forwardDependency(final int maxThreads) throws Exception {
+    final TaskRunner taskRunner = TaskRunners.getTaskRunner("test", maxThreads);
+    final IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                taskRunner.run(
+                    new TaskDefinition(
+                        "firstTask", () -> {}, Collections.singletonList("secondTask")),
+                    new TaskDefinition("secondTask", () -> {})));
+    taskRunner.stop();
+
+    assertThat(
+        exception.getMessage(),
+        is("Task <second_task> needs to be defined before task <first_task> that depends on it"));
+  }
+
+  @Test
+  public void concurrentTasksMultiThreadedByDefault() throws Exception {
+    System.clearProperty("SC_EXPERIMENTAL");
+
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    final TaskRunner taskRunner = TaskRunners.getConcurrentTaskRunner("test", 5);
+    taskRunner.run(
+        new TaskDefinition("firstTask", () -> threads.add(Thread.currentThread().getName())),
+        new TaskDefinition("secondTask", () -> threads.add(Thread.currentThread().getName())));
+    taskRunner.stop();
+
+    final String mainThread = Thread.currentThread().getName();
+    assertThat(threads, hasSize(2));
+    assertThat(threads, not(hasItem(mainThread)));
+  }
+
+  @Test
+  public void concurrentTasksOnMainThreadWhenTurnedOff() throws Exception {
+    System.setProperty("SC_EXPERIMENTAL", Boolean.FALSE.toString());
+
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    final TaskRunner taskRunner = TaskRunners.getConcurrentTaskRunner("test", 5);
+    taskRunner.run(
+        new TaskDefinition("firstTask", () -> threads.add(Thread.currentThread().getName())),
+        new TaskDefinition("secondTask", () -> threads.add(Thread.currentThread().getName())));
+    taskRunner.stop();
+
+    final String mainThread = Thread.currentThread().getName();
+    assertThat(threads, contains(mainThread, mainThread));
+  }
+
+  @Test
+  public void mainThreadByDefault() throws Exception {
+    System.clearProperty("SC_EXPERIMENTAL");
+
+    final List<String> threads = new CopyOnWriteArrayList<>();
+    final TaskRunner taskRunner = TaskRunners.getTaskRunner("test", 5);
+    taskRunner.run(
+        new TaskDefinition("firstTask", () -> threads.add(Thread.currentThread().getName())),
+        new TaskDefinition("secondTask", () -> threads.add(Thread.currentThread().getName())));
+    taskRunner.stop();
+
+    final String mainThread = Thread.currentThread().getName();
+    assertThat(threads, contains(mainThread, mainThread));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5})
+  public void independentTasksDoNotWait(final int maxThreads) throws Exception {
+    final List<String> completed = new CopyOnWriteArrayList<>();
+
+    final TaskRunner taskRunner = TaskRunners.getTaskRunner("test", maxThreads);
+    taskRunner.run(
+        new TaskDefinition(
+            "slowTask",
+            () -> {
+              Thread.sleep(200);
+              completed.add("slowTask");
+            }),
+        new TaskDefinition("fastTask", () -> completed.add("fastTask")));
+    taskRunner.stop();
+
+    if (maxThreads == 1) {
+      assertThat(completed, contains("slowTask", "fastTask"));
+    } else {
+      assertThat(completed, contains("fastTask", "slowTask"));
+    }
+  }
+}